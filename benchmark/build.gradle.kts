@@ -0,0 +1,18 @@
+plugins {
+    id(JmhLibs.plugin) version JmhLibs.Version.plugin
+}
+
+dependencies {
+    jmh(project(":schedulerx"))
+    jmh(testFixtures(project(":schedulerx")))
+    jmhCompileOnly(UtilLibs.jetbrainsAnnotations)
+}
+
+jmh {
+    jmhVersion.set(JmhLibs.Version.jmh)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
@@ -0,0 +1,82 @@
+package io.github.zero88.schedulerx;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.zero88.schedulerx.impl.VirtualThreadWorkerExecutor;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+/**
+ * Measures the time to complete a burst of concurrently sleeping jobs, that simulates the blocking I/O jobs, on the
+ * worker thread pool versus the virtual threads.
+ * <p/>
+ * The virtual thread mode falls back to the worker thread pool on Java runtime older than 21, run this benchmark on
+ * Java 21 or later to compare both modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ExecutionModeBenchmark {
+
+    @Param({ "WORKER_THREAD", "VIRTUAL_THREAD" })
+    public ExecutionMode executionMode;
+
+    @Param({ "10000" })
+    public int jobs;
+
+    @Param({ "10" })
+    public long sleepMillis;
+
+    private Vertx vertx;
+    private WorkerExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (executionMode == ExecutionMode.VIRTUAL_THREAD && !VirtualThreadWorkerExecutor.isSupported()) {
+            throw new IllegalStateException("Virtual thread is not supported in the current Java runtime");
+        }
+        vertx    = Vertx.vertx();
+        executor = WorkerExecutorFactory.createExecutionWorker(vertx, TimeoutPolicy.byDefault(), executionMode);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public long sleepingJobs() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(jobs);
+        for (int i = 0; i < jobs; i++) {
+            executor.executeBlocking(promise -> {
+                try {
+                    Thread.sleep(sleepMillis);
+                    promise.complete();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    promise.fail(e);
+                }
+            }, false).onComplete(ignore -> latch.countDown());
+        }
+        latch.await();
+        return latch.getCount();
+    }
+
+}
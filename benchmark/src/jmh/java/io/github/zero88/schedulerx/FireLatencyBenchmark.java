@@ -0,0 +1,214 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.github.zero88.schedulerx.trigger.IntervalTrigger;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * Measures the end-to-end latency of the scheduler lifecycle under a large fleet of schedulers: every scheduler is
+ * fired at once, then the invocation awaits every {@code onEach} result.
+ * <p/>
+ * The system timer is replaced by a manual timer that fires all registered periodic timers on the Vert.x context, and
+ * the clock is a fake clock that is advanced by one interval per fire, then the benchmark measures the scheduler
+ * overhead from the fire to the monitor result without waiting for the real timers. The one-shot timers, e.g. the
+ * evaluation and execution timeouts, are due when the manual timer is advanced past their delay. Divide the score by
+ * the number of schedulers to get the mean latency per fire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FireLatencyBenchmark {
+
+    private static final Duration INTERVAL = Duration.ofMinutes(1);
+
+    @Param({ "1000", "10000" })
+    public int schedulers;
+
+    private final FakeClock clock = new FakeClock();
+    private final ManualTimerService timerService = new ManualTimerService();
+    private final ResultMonitor monitor = new ResultMonitor();
+    private final AtomicLong executions = new AtomicLong();
+    private final List<IntervalScheduler> fleet = new ArrayList<>();
+    private Vertx vertx;
+    private Context context;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        vertx   = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        final CountDownLatch scheduled = monitor.await(schedulers);
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(INTERVAL).build();
+        final Job<Void, Void> job = (jobData, executionContext) -> executions.incrementAndGet();
+        context.runOnContext(ignore -> {
+            for (int i = 0; i < schedulers; i++) {
+                final IntervalScheduler scheduler = IntervalScheduler.<Void, Void>builder()
+                                                                     .setVertx(vertx)
+                                                                     .setClock(clock)
+                                                                     .setTimerService(timerService)
+                                                                     .setMonitor(monitor)
+                                                                     .setTrigger(trigger)
+                                                                     .setJob(job)
+                                                                     .build();
+                fleet.add(scheduler);
+                scheduler.start();
+            }
+        });
+        scheduled.await();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        context.runOnContext(ignore -> {
+            fleet.forEach(IntervalScheduler::cancel);
+            cancelled.countDown();
+        });
+        cancelled.await();
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public long fireToResult() throws InterruptedException {
+        final CountDownLatch finished = monitor.await(schedulers);
+        final long executed = executions.get();
+        clock.advance(INTERVAL);
+        context.runOnContext(ignore -> {
+            timerService.advance(INTERVAL);
+            timerService.fireAll();
+        });
+        finished.await();
+        if (executions.get() - executed != schedulers) {
+            throw new IllegalStateException("Expected " + schedulers + " executions, but " +
+                                            (executions.get() - executed) + " jobs are run and " +
+                                            monitor.misfires.get() + " fires are misfired");
+        }
+        return monitor.misfires.get();
+    }
+
+    /**
+     * The fake clock that is only advanced by the benchmark.
+     */
+    static final class FakeClock implements TimeClock {
+
+        private volatile Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        @Override
+        public @NotNull Instant now() { return now; }
+
+        void advance(Duration duration) { now = now.plus(duration); }
+
+    }
+
+
+    /**
+     * The timer service that keeps the periodic timers until they are fired manually, and the one-shot timers until the
+     * manual time is advanced past their deadline.
+     */
+    static final class ManualTimerService implements TimerService {
+
+        private final AtomicLong ids = new AtomicLong();
+        private final Map<Long, Handler<Long>> periodic = new ConcurrentHashMap<>();
+        private final Map<Long, OneShot> oneShots = new ConcurrentHashMap<>();
+        private volatile long elapsedMillis;
+
+        @Override
+        public long setTimer(long delay, @NotNull Handler<Long> handler) {
+            final long id = ids.incrementAndGet();
+            oneShots.put(id, new OneShot(elapsedMillis + delay, handler));
+            return id;
+        }
+
+        @Override
+        public long setPeriodic(long delay, @NotNull Handler<Long> handler) {
+            final long id = ids.incrementAndGet();
+            periodic.put(id, handler);
+            return id;
+        }
+
+        @Override
+        public boolean cancelTimer(long id) { return periodic.remove(id) != null || oneShots.remove(id) != null; }
+
+        void fireAll() { periodic.forEach((id, handler) -> handler.handle(id)); }
+
+        void advance(Duration duration) {
+            final long now = elapsedMillis += duration.toMillis();
+            oneShots.forEach((id, oneShot) -> {
+                if (oneShot.deadline <= now && oneShots.remove(id, oneShot)) {
+                    oneShot.handler.handle(id);
+                }
+            });
+        }
+
+        private static final class OneShot {
+
+            private final long deadline;
+            private final Handler<Long> handler;
+
+            private OneShot(long deadline, Handler<Long> handler) {
+                this.deadline = deadline;
+                this.handler  = handler;
+            }
+
+        }
+
+    }
+
+
+    /**
+     * The monitor counts down the scheduled and finished results of the current invocation.
+     */
+    static final class ResultMonitor implements SchedulingMonitor<Void> {
+
+        private final AtomicLong misfires = new AtomicLong();
+        private volatile CountDownLatch latch;
+
+        CountDownLatch await(int count) {
+            latch = new CountDownLatch(count);
+            return latch;
+        }
+
+        @Override
+        public void onUnableSchedule(@NotNull ExecutionResult<Void> result) { }
+
+        @Override
+        public void onSchedule(@NotNull ExecutionResult<Void> result) { latch.countDown(); }
+
+        @Override
+        public void onMisfire(@NotNull ExecutionResult<Void> result) {
+            // Unblock the invocation, but it should not happen
+            misfires.incrementAndGet();
+            latch.countDown();
+        }
+
+        @Override
+        public void onEach(@NotNull ExecutionResult<Void> result) { latch.countDown(); }
+
+        @Override
+        public void onCompleted(@NotNull ExecutionResult<Void> result) { }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.zero88.schedulerx.trigger.IntervalTrigger;
+import io.vertx.core.Vertx;
+
+/**
+ * Measures the startup time of many interval schedulers, when they are started one by one from the caller thread
+ * versus when they are started by {@link SchedulerRegistry#startAll()} across the event loops.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SchedulerRegistryBenchmark {
+
+    @Param({ "100000" })
+    public int schedulers;
+
+    private Vertx vertx;
+    private SchedulerRegistry registry;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        vertx = Vertx.vertx();
+    }
+
+    @Setup(Level.Invocation)
+    public void register() {
+        registry = SchedulerRegistry.create(vertx);
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofHours(1)).build();
+        for (int i = 0; i < schedulers; i++) {
+            registry.register(IntervalScheduler.<Void, Void>builder()
+                                               .setVertx(vertx)
+                                               .setTrigger(trigger)
+                                               .setJob(NoopJob.create())
+                                               .setJobData(JobData.empty(i))
+                                               .build());
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void cancel() {
+        registry.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public int sequential() {
+        int started = 0;
+        for (Scheduler<?> scheduler : registry.schedulers()) {
+            scheduler.start(registry.workerExecutor());
+            started++;
+        }
+        return started;
+    }
+
+    @Benchmark
+    public int startAll() {
+        return registry.startAll().toCompletionStage().toCompletableFuture().join();
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.zero88.schedulerx.impl.TimingWheelTimerService;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Compares the Vert.x timer system with the shared timing wheel when a fleet of schedulers registers its timers.
+ * <ul>
+ *     <li>{@code registerAndCancel}: the cost to register then cancel one timer per scheduler</li>
+ *     <li>{@code eventLoopLatency}: the event-loop round trip while every scheduler keeps a periodic timer</li>
+ * </ul>
+ */
+public class TimerServiceBenchmark {
+
+    public enum Backend {
+        VERTX, TIMING_WHEEL;
+
+        TimerService create(Vertx vertx) {
+            return this == VERTX
+                   ? TimerService.vertx(vertx)
+                   : new TimingWheelTimerService(vertx, DefaultOptions.getInstance().timerTickDuration);
+        }
+    }
+
+
+    @State(Scope.Benchmark)
+    public static class Registration {
+
+        @Param({ "1000", "10000", "100000" })
+        public int schedulers;
+
+        @Param({ "VERTX", "TIMING_WHEEL" })
+        public Backend backend;
+
+        Vertx vertx;
+        TimerService timerService;
+        long[] timerIds;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            vertx        = Vertx.vertx();
+            timerService = backend.create(vertx);
+            timerIds     = new long[schedulers];
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+
+    }
+
+
+    @State(Scope.Benchmark)
+    public static class Fleet {
+
+        @Param({ "1000", "10000", "100000" })
+        public int schedulers;
+
+        @Param({ "VERTX", "TIMING_WHEEL" })
+        public Backend backend;
+
+        Vertx vertx;
+        Context context;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            vertx   = Vertx.vertx();
+            context = vertx.getOrCreateContext();
+            final TimerService timerService = backend.create(vertx);
+            final CompletableFuture<Void> registered = new CompletableFuture<>();
+            context.runOnContext(ignore -> {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < schedulers; i++) {
+                    timerService.setPeriodic(1000 + random.nextInt(1000), id -> { });
+                }
+                registered.complete(null);
+            });
+            registered.join();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void registerAndCancel(Registration state, Blackhole blackhole) {
+        final long[] timerIds = state.timerIds;
+        final long delay = Duration.ofMinutes(10).toMillis();
+        for (int i = 0; i < timerIds.length; i++) {
+            timerIds[i] = state.timerService.setTimer(delay, blackhole::consume);
+        }
+        for (long timerId : timerIds) {
+            blackhole.consume(state.timerService.cancelTimer(timerId));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void eventLoopLatency(Fleet state) {
+        final CompletableFuture<Void> pong = new CompletableFuture<>();
+        state.context.runOnContext(ignore -> pong.complete(null));
+        pong.join();
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.github.zero88.schedulerx;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.github.zero88.schedulerx.trigger.BeforeTriggerEvaluator;
+import io.github.zero88.schedulerx.trigger.EventTrigger;
+import io.github.zero88.schedulerx.trigger.TriggerEvaluator;
+import io.github.zero88.schedulerx.trigger.predicate.EventTriggerPredicate;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Measures the latency from the trigger fire to the job start, that covers the trigger evaluation before the job is
+ * offloaded to the worker thread.
+ * <ul>
+ *     <li>{@code NONE}: only the built-in evaluators, they are non-blocking and run inline</li>
+ *     <li>{@code NON_BLOCKING}: a pass-through user evaluator that is declared non-blocking</li>
+ *     <li>{@code BLOCKING}: a pass-through user evaluator that is offloaded to the worker thread</li>
+ * </ul>
+ * The scheduler awaits the job result between invocations, then the next fire is never skipped as the job is running.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TriggerEvaluationBenchmark {
+
+    public enum Evaluation {
+        NONE, NON_BLOCKING, BLOCKING;
+
+        TriggerEvaluator create() {
+            final BeforeTriggerEvaluator passThrough = (trigger, ctx, externalId) -> Future.succeededFuture(ctx);
+            switch (this) {
+                case NON_BLOCKING:
+                    return TriggerEvaluator.nonBlocking(passThrough, null);
+                case BLOCKING:
+                    return TriggerEvaluator.byBefore(passThrough);
+                default:
+                    return null;
+            }
+        }
+    }
+
+    @Param({ "NONE", "NON_BLOCKING", "BLOCKING" })
+    public Evaluation evaluation;
+
+    private final BlockingQueue<Long> started = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Boolean> finished = new LinkedBlockingQueue<>();
+    private final CompletableFuture<Void> scheduled = new CompletableFuture<>();
+    private final String address = "schedulerx.benchmark.trigger-evaluation";
+    private Vertx vertx;
+    private EventScheduler<Object> scheduler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        vertx     = Vertx.vertx();
+        scheduler = EventScheduler.<Void, Void, Object>builder()
+                                  .setVertx(vertx)
+                                  .setTrigger(EventTrigger.builder()
+                                                          .address(address)
+                                                          .predicate(EventTriggerPredicate.any())
+                                                          .build())
+                                  .setTriggerEvaluator(evaluation.create())
+                                  .setMonitor(new FinishedMonitor())
+                                  .setJob((jobData, executionContext) -> started.add(System.nanoTime()))
+                                  .build();
+        scheduler.start();
+        scheduled.join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.cancel();
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Long fireToJobStart() throws InterruptedException {
+        vertx.eventBus().send(address, "fire");
+        return started.take();
+    }
+
+    @TearDown(Level.Invocation)
+    public void awaitFinished() throws InterruptedException {
+        finished.take();
+    }
+
+    private final class FinishedMonitor implements SchedulingMonitor<Void> {
+
+        @Override
+        public void onUnableSchedule(@NotNull ExecutionResult<Void> result) { }
+
+        @Override
+        public void onSchedule(@NotNull ExecutionResult<Void> result) { scheduled.complete(null); }
+
+        @Override
+        public void onMisfire(@NotNull ExecutionResult<Void> result) {
+            // Unblock the invocation, but it should not happen
+            started.add(-1L);
+            finished.add(false);
+        }
+
+        @Override
+        public void onEach(@NotNull ExecutionResult<Void> result) { finished.add(true); }
+
+        @Override
+        public void onCompleted(@NotNull ExecutionResult<Void> result) { }
+
+    }
+
+}
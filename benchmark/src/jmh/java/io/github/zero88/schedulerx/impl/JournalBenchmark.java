@@ -0,0 +1,75 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.github.zero88.schedulerx.SchedulerStateRecord;
+
+/**
+ * Measures the number of the scheduler states that the journal store saves per second, that is the fire throughput
+ * that the durable state can sustain. The journal is committed in group, then the throughput is bounded by the append
+ * to the memory-mapped journal instead of one {@code fsync} per fire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JournalBenchmark {
+
+    @Param({ "10", "1000" })
+    public int schedulers;
+
+    @Param({ "16777216" })
+    public int segmentSize;
+
+    private final AtomicLong tick = new AtomicLong();
+    private Path directory;
+    private JournalSchedulerStateStore store;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("schedulerx-journal");
+        store     = JournalSchedulerStateStore.open(directory, segmentSize, Duration.ofMillis(10),
+                                                    Duration.ofMinutes(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void save() {
+        final long current = tick.incrementAndGet();
+        store.save(new SchedulerStateRecord("scheduler-" + current % schedulers, current, current,
+                                            Instant.ofEpochMilli(current), false, current, null));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void concurrentSave() {
+        save();
+    }
+
+}
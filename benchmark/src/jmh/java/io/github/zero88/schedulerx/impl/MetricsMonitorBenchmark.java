@@ -0,0 +1,84 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.zero88.schedulerx.ExecutionResult;
+import io.github.zero88.schedulerx.SchedulingLogMonitor;
+import io.github.zero88.schedulerx.metrics.InMemoryMetricsRegistry;
+import io.github.zero88.schedulerx.metrics.SchedulingMetricsMonitor;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.github.zero88.schedulerx.trigger.TriggerContext;
+
+/**
+ * Compares the cost of observing one execution result by {@link SchedulingLogMonitor} and
+ * {@link SchedulingMetricsMonitor}, on the executed path and the misfire path.
+ * <p/>
+ * Run with the GC profiler ({@code -prof gc}) to compare the allocation per result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsMonitorBenchmark {
+
+    private SchedulingLogMonitor<String> logMonitor;
+    private SchedulingMetricsMonitor<String> metricsMonitor;
+    private ExecutionResult<String> executed;
+    private ExecutionResult<String> misfire;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        logMonitor     = SchedulingLogMonitor.create();
+        metricsMonitor = SchedulingMetricsMonitor.create(new InMemoryMetricsRegistry());
+        final Instant firedAt = Instant.now();
+        final TriggerContext kickoff = TriggerContextFactory.kickoff("interval", firedAt, 1);
+        executed = ExecutionResultImpl.<String>builder()
+                                      .setTriggerContext(TriggerContextFactory.executed(
+                                          TriggerContextFactory.ready(kickoff)))
+                                      .setTick(1)
+                                      .setRound(1)
+                                      .setFiredAt(firedAt)
+                                      .setTriggeredAt(firedAt.plusNanos(15_000))
+                                      .setExecutedAt(firedAt.plusNanos(40_000))
+                                      .setFinishedAt(firedAt.plusMillis(3))
+                                      .setData("data")
+                                      .build();
+        misfire  = ExecutionResultImpl.<String>builder()
+                                      .setTriggerContext(TriggerContextFactory.skip(kickoff, ReasonCode.JOB_IS_RUNNING))
+                                      .setTick(1)
+                                      .setRound(1)
+                                      .setFiredAt(firedAt)
+                                      .setFinishedAt(firedAt.plusNanos(20_000))
+                                      .build();
+    }
+
+    @Benchmark
+    public void logExecuted() {
+        logMonitor.onEach(executed);
+    }
+
+    @Benchmark
+    public void metricsExecuted() {
+        metricsMonitor.onEach(executed);
+    }
+
+    @Benchmark
+    public void logMisfire() {
+        logMonitor.onMisfire(misfire);
+    }
+
+    @Benchmark
+    public void metricsMisfire() {
+        metricsMonitor.onMisfire(misfire);
+    }
+
+}
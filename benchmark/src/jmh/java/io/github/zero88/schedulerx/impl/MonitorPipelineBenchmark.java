@@ -0,0 +1,85 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.zero88.schedulerx.BatchSchedulingMonitor;
+import io.github.zero88.schedulerx.ExecutionResult;
+import io.github.zero88.schedulerx.MonitorOverflowPolicy;
+import io.vertx.core.Vertx;
+
+/**
+ * Compares the cost of publishing the execution results from many scheduler threads to the per-event monitor
+ * dispatcher, that submits one worker task per result, with the batch monitor pipeline.
+ * <p/>
+ * Run with the GC profiler ({@code -prof gc}) to compare the allocation rate per result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class MonitorPipelineBenchmark {
+
+    public enum Pipeline {PER_EVENT, BATCH}
+
+    @Param({ "PER_EVENT", "BATCH" })
+    public Pipeline pipeline;
+
+    private Vertx vertx;
+    private SchedulingMonitorInternal<Long> monitor;
+    private ExecutionResult<Long> result;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        vertx   = Vertx.vertx();
+        result  = ExecutionResultImpl.<Long>builder().setRound(1).setData(1L).build();
+        final NoopBatchMonitor noop = new NoopBatchMonitor();
+        monitor = pipeline == Pipeline.BATCH
+                  ? new BatchSchedulingMonitorPipeline<>(vertx, noop)
+                  : new SchedulingMonitorImpl<>(vertx, noop);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public void onEach() {
+        monitor.onEach(result);
+    }
+
+    private static final class NoopBatchMonitor implements BatchSchedulingMonitor<Long> {
+
+        @Override
+        public void onBatch(@NotNull List<ExecutionResult<Long>> results) { Blackhole.consumeCPU(results.size()); }
+
+        @Override
+        public void onUnableSchedule(@NotNull ExecutionResult<Long> result) { }
+
+        @Override
+        public void onSchedule(@NotNull ExecutionResult<Long> result) { }
+
+        @Override
+        public void onCompleted(@NotNull ExecutionResult<Long> result) { }
+
+        @Override
+        public @NotNull MonitorOverflowPolicy overflowPolicy() { return MonitorOverflowPolicy.BLOCK; }
+
+    }
+
+}
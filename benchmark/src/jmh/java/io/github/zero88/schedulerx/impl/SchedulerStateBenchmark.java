@@ -0,0 +1,67 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the scheduler state transitions under contention: one thread fires the ticks as the system timer does,
+ * while other threads check whether the scheduler is executing and record the round result.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SchedulerStateBenchmark {
+
+    private SchedulerStateImpl<Long> state;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        state = new SchedulerStateImpl<>(new TimeClockImpl());
+        state.markAvailable();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public boolean fire() {
+        final long tick = state.increaseTick();
+        final boolean executing = state.executing();
+        state.markFinished(tick);
+        return executing;
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public boolean executing() {
+        return state.executing();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public Long result() {
+        final long round = state.increaseRound();
+        return state.addData(round, round);
+    }
+
+    @Benchmark
+    @Group("uncontended")
+    public boolean fireAlone() {
+        final long tick = state.increaseTick();
+        final boolean executing = state.executing();
+        state.markFinished(tick);
+        return executing;
+    }
+
+}
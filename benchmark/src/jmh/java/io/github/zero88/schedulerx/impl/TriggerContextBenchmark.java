@@ -0,0 +1,42 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.github.zero88.schedulerx.trigger.TriggerContext;
+
+/**
+ * Measures the trigger context transitions of one fire: {@code kickoff -> ready -> executed} on the happy path, and
+ * {@code kickoff -> skipped} on the misfire path.
+ * <p/>
+ * Run with the GC profiler ({@code -prof gc}) to observe the allocation per fire.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TriggerContextBenchmark {
+
+    private final Instant firedAt = Instant.now();
+    private long tick;
+
+    @Benchmark
+    public TriggerContext fire() {
+        final TriggerContext kickoff = TriggerContextFactory.kickoff("interval", firedAt, ++tick);
+        return TriggerContextFactory.executed(TriggerContextFactory.ready(kickoff));
+    }
+
+    @Benchmark
+    public TriggerContext misfire() {
+        final TriggerContext kickoff = TriggerContextFactory.kickoff("interval", firedAt, ++tick);
+        return TriggerContextFactory.skip(kickoff, ReasonCode.JOB_IS_RUNNING);
+    }
+
+}
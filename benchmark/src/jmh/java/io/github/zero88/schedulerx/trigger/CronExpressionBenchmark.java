@@ -0,0 +1,82 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the next fire time computation of the legacy {@link CronExpression} with {@link CompiledCronExpression},
+ * and measures the expression parsing that is done once per trigger.
+ * <p/>
+ * Run with the GC profiler ({@code -prof gc}) to compare the allocation rate per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CronExpressionBenchmark {
+
+    @Param({ "0 0/5 9-17 ? * MON-FRI", "0 30 8 15W * ?", "0 0 10 ? * 2#1", "0 0 12 L * ?" })
+    public String expression;
+
+    @Param({ "UTC", "Europe/Paris" })
+    public String timeZone;
+
+    private CronExpression legacy;
+    private CompiledCronExpression compiled;
+    private long start;
+    private long end;
+    private long legacyCursor;
+    private long compiledCursor;
+
+    @Setup(Level.Trial)
+    public void setup() throws ParseException {
+        legacy   = new CronExpression(expression).setTimeZone(TimeZone.getTimeZone(timeZone));
+        compiled = CompiledCronExpression.compile(legacy);
+        start    = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        end      = Instant.parse("2034-01-01T00:00:00Z").toEpochMilli();
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        legacyCursor   = start;
+        compiledCursor = start;
+    }
+
+    @Benchmark
+    public long legacy() {
+        final long next = legacy.getTimeAfter(new Date(legacyCursor)).getTime();
+        // Rewind the cursor before running out of the supported years
+        legacyCursor = next > end ? start : next;
+        return next;
+    }
+
+    @Benchmark
+    public long compiled() {
+        final long next = compiled.nextValidTimeAfter(compiledCursor);
+        compiledCursor = next > end ? start : next;
+        return next;
+    }
+
+    @Benchmark
+    public CronExpression parse() throws ParseException {
+        return new CronExpression(expression).setTimeZone(TimeZone.getTimeZone(timeZone));
+    }
+
+    @Benchmark
+    public CompiledCronExpression parseAndCompile() throws ParseException {
+        return CompiledCronExpression.compile(parse());
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.github.zero88.schedulerx.trigger.predicate;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Measures the conversion then the test of an event message, that is done by the event trigger on each received
+ * message:
+ * <ul>
+ *     <li>{@code any}: the built-in predicate that accepts any message</li>
+ *     <li>{@code autoCast}: the auto-cast converter with a field filter on a JSON message</li>
+ *     <li>{@code convert}: a user converter that extracts a field from a JSON message, with a value filter</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventTriggerPredicateBenchmark {
+
+    private final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    private final JsonObject body = new JsonObject().put("type", "order").put("amount", 42);
+    private EventTriggerPredicate<Object> any;
+    private EventTriggerPredicate<JsonObject> autoCast;
+    private EventTriggerPredicate<Integer> convert;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        any      = EventTriggerPredicate.any();
+        autoCast = EventTriggerPredicate.create(AutoCastMessageBody.create(),
+                                                msg -> msg != null && "order".equals(msg.getString("type")));
+        convert  = EventTriggerPredicate.create((headers, body) -> ((JsonObject) body).getInteger("amount"),
+                                                amount -> amount != null && amount > 10);
+    }
+
+    @Benchmark
+    public boolean any() {
+        return any.test(any.convert(headers, body));
+    }
+
+    @Benchmark
+    public boolean autoCast() {
+        return autoCast.test(autoCast.convert(headers, body));
+    }
+
+    @Benchmark
+    public boolean convert() {
+        return convert.test(convert.convert(headers, body));
+    }
+
+}
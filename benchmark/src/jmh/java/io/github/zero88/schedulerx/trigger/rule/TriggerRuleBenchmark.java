@@ -0,0 +1,64 @@
+package io.github.zero88.schedulerx.trigger.rule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link TriggerRule#satisfy(Instant)} with many timeframes. The timeframes are the short windows that are
+ * spread evenly over the day, and the fired-at time walks through the day by a prime step, then both the satisfied and
+ * the unsatisfied fires are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TriggerRuleBenchmark {
+
+    @Param({ "1", "16", "256" })
+    public int timeframes;
+
+    private TriggerRule rule;
+    private Instant start;
+    private Instant end;
+    private Instant firedAt;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final long gap = Duration.ofDays(1).toSeconds() / timeframes;
+        final List<Timeframe> list = new ArrayList<>(timeframes);
+        for (int i = 0; i < timeframes; i++) {
+            final LocalTime from = LocalTime.ofSecondOfDay(i * gap);
+            list.add(Timeframe.of(from, from.plusSeconds(Math.max(1, gap / 4))));
+        }
+        rule  = TriggerRule.builder().timeframes(list).leeway(Duration.ofSeconds(1)).build();
+        start = Instant.parse("2024-01-01T00:00:00Z");
+        end   = start.plus(Duration.ofDays(1));
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        firedAt = start;
+    }
+
+    @Benchmark
+    public boolean satisfy() {
+        final boolean satisfied = rule.satisfy(firedAt);
+        final Instant next = firedAt.plusSeconds(37);
+        firedAt = next.isAfter(end) ? start : next;
+        return satisfied;
+    }
+
+}
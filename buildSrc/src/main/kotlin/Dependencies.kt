@@ -15,6 +15,18 @@ object PlayioPlugin {
     const val codegen = "cloud.playio.gradle.codegen"
 }
 
+object JmhLibs {
+
+    object Version {
+
+        const val jmh = "1.37"
+        const val plugin = "0.7.2"
+    }
+
+    const val plugin = "me.champeau.jmh"
+    const val core = "org.openjdk.jmh:jmh-core:${Version.jmh}"
+}
+
 object UtilLibs {
 
     object Version {
@@ -0,0 +1,62 @@
+package io.github.zero88.schedulerx;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents for a monitor that receives the execution results in batch.
+ * <p/>
+ * The scheduler buffers the {@code onEach} and {@code onMisfire} results in a bounded ring buffer, then drains them
+ * in order on the monitor worker thread to {@link #onBatch(List)}. The lifecycle results ({@code onUnableSchedule},
+ * {@code onSchedule}, {@code onCompleted}) are dispatched to their own callback in order after the buffered results
+ * before them.
+ *
+ * @param <OUT> Type of job result data
+ * @apiNote The results of one scheduler are delivered sequentially, but the same monitor instance that is shared by
+ *     many schedulers might receive the batches concurrently.
+ * @see MonitorOverflowPolicy
+ * @since 2.0.0
+ */
+public interface BatchSchedulingMonitor<OUT> extends SchedulingMonitor<OUT> {
+
+    /**
+     * This method is invoked with a batch of the {@code onEach} and {@code onMisfire} results.
+     *
+     * @param results the execution results in the order of occurrence, the list is only valid during the call
+     * @see ExecutionResult#triggerContext()
+     */
+    void onBatch(@NotNull List<ExecutionResult<OUT>> results);
+
+    /**
+     * @return the max number of results per batch. Defaults is {@link DefaultOptions#monitorBatchSize}
+     */
+    default int batchSize() { return DefaultOptions.getInstance().monitorBatchSize; }
+
+    /**
+     * @return the capacity of the ring buffer, it is rounded up to the power of 2. Defaults is
+     *     {@link DefaultOptions#monitorBufferSize}
+     */
+    default int bufferSize() { return DefaultOptions.getInstance().monitorBufferSize; }
+
+    /**
+     * @return the overflow policy when the ring buffer is full. Defaults is
+     *     {@link DefaultOptions#monitorOverflowPolicy}
+     */
+    default @NotNull MonitorOverflowPolicy overflowPolicy() {
+        return DefaultOptions.getInstance().monitorOverflowPolicy;
+    }
+
+    /**
+     * @return the sample rate that is used by {@link MonitorOverflowPolicy#SAMPLE}. Defaults is {@code 10}
+     */
+    default int sampleRate() { return 10; }
+
+    @Override
+    default void onMisfire(@NotNull ExecutionResult<OUT> result) { onBatch(Collections.singletonList(result)); }
+
+    @Override
+    default void onEach(@NotNull ExecutionResult<OUT> result) { onBatch(Collections.singletonList(result)); }
+
+}
@@ -0,0 +1,66 @@
+package io.github.zero88.schedulerx;
+
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.impl.LocalClusterMembership;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+/**
+ * Represents for a service provider interface of the cluster membership, that tells the clustered scheduler registry
+ * which nodes are alive in the cluster.
+ * <p/>
+ * An implementation might bridge the Vert.x cluster manager, a service discovery or a static configuration. Every
+ * member must see the same member set eventually, then every member computes the same owner of each scheduler.
+ *
+ * @see ClusteredSchedulerRegistry
+ * @since 2.0.0
+ */
+public interface ClusterMembership {
+
+    /**
+     * Create an in-process membership that is shared by all memberships of the same group in the current JVM. It is a
+     * stand-in of the real cluster membership to run many cluster nodes in one process, e.g. for testing.
+     *
+     * @param group  the group name
+     * @param nodeId the local node id
+     * @return new in-process membership
+     */
+    static @NotNull ClusterMembership local(@NotNull String group, @NotNull String nodeId) {
+        return LocalClusterMembership.create(group, nodeId);
+    }
+
+    /**
+     * @return the local node id, it must be unique in the cluster
+     */
+    @NotNull String nodeId();
+
+    /**
+     * @return the snapshot of the current member ids, including the local node id if the local node joined
+     */
+    @NotNull Set<String> members();
+
+    /**
+     * Set the listener that is notified with the new member set when a node joins or leaves the cluster.
+     *
+     * @param listener the member set listener
+     */
+    void listen(@NotNull Handler<Set<String>> listener);
+
+    /**
+     * Join the local node into the cluster.
+     *
+     * @return a future that is completed when the local node joined
+     */
+    @NotNull Future<Void> join();
+
+    /**
+     * Leave the local node from the cluster.
+     *
+     * @return a future that is completed when the local node left
+     */
+    @NotNull Future<Void> leave();
+
+}
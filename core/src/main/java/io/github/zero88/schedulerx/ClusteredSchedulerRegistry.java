@@ -0,0 +1,112 @@
+package io.github.zero88.schedulerx;
+
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.impl.ClusteredSchedulerRegistryImpl;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Represents for a registry that partitions the schedulers across the cluster nodes, then each scheduler fires on only
+ * one node, and the total fire rate scales with the number of nodes.
+ * <p/>
+ * Every node registers the same scheduler definitions, that are keyed by the {@link JobData#externalId()}. The owner of
+ * each scheduler is chosen by the consistent hashing of the external id over the {@link ClusterMembership members},
+ * then only the owner builds and starts the scheduler in its {@link #local() local registry}.
+ * <p/>
+ * When a node joins or leaves, only the schedulers whose owner changes are migrated. The previous owner cancels the
+ * scheduler, then hands over the saved scheduler state to the new owner over the Vert.x event bus, and the new owner
+ * restores the {@code tick} and {@code round} counters on start. To hand over the state, the scheduler definition must
+ * build the scheduler with the {@link #stateStore() state store} of the registry. A round that is still running when
+ * the scheduler is cancelled is not handed over.
+ * <p/>
+ * If the previous owner is gone without the hand over, the new owner restores the state from its own store.
+ * <pre>{@code
+ * ClusteredSchedulerRegistry registry = ClusteredSchedulerRegistry.create(vertx, membership, stateStore);
+ * registry.register("report", () -> CronScheduler.builder()
+ *                                                 .setVertx(vertx)
+ *                                                 .setStateStore(registry.stateStore())
+ *                                                 .setJobData(JobData.empty("report"))
+ *                                                 ...
+ *                                                 .build());
+ * registry.start();
+ * }</pre>
+ *
+ * @see ClusterMembership
+ * @see DefaultOptions#clusterVirtualNodes
+ * @see DefaultOptions#clusterHandoverTimeout
+ * @since 2.0.0
+ */
+public interface ClusteredSchedulerRegistry extends HasVertx {
+
+    /**
+     * Create a clustered registry.
+     *
+     * @param vertx      Vert.x, it should be a clustered Vert.x if the members are in many processes
+     * @param membership the cluster membership
+     * @param stateStore the state store of the local node
+     * @return new clustered registry
+     */
+    static @NotNull ClusteredSchedulerRegistry create(@NotNull Vertx vertx, @NotNull ClusterMembership membership,
+                                                      @NotNull SchedulerStateStore stateStore) {
+        return new ClusteredSchedulerRegistryImpl(vertx, membership, stateStore,
+                                                  DefaultOptions.getInstance().clusterVirtualNodes,
+                                                  DefaultOptions.getInstance().clusterHandoverTimeout);
+    }
+
+    /**
+     * @return the local node id
+     */
+    @NotNull String nodeId();
+
+    /**
+     * @return the state store of the local node
+     */
+    @NotNull SchedulerStateStore stateStore();
+
+    /**
+     * Register the scheduler definition. The scheduler is built and started when the local node owns the external id.
+     *
+     * @param externalId the job external id, the built scheduler must have the same external id
+     * @param factory    the scheduler factory
+     * @throws IllegalArgumentException if another scheduler definition is registered with the same external id
+     */
+    void register(@NotNull Object externalId, @NotNull Supplier<? extends Scheduler<?>> factory);
+
+    /**
+     * Unregister the scheduler definition, then the scheduler is cancelled if it is running on the local node.
+     *
+     * @param externalId the job external id
+     * @return {@code true} if the scheduler definition is found
+     */
+    boolean unregister(@NotNull Object externalId);
+
+    /**
+     * @param externalId the job external id
+     * @return the owner node id of the given external id, or {@code null} if no node joined
+     */
+    @Nullable String ownerOf(@NotNull Object externalId);
+
+    /**
+     * @return the registry of the schedulers that are running on the local node
+     */
+    @NotNull SchedulerRegistry local();
+
+    /**
+     * Join the local node into the cluster, then start the owned schedulers.
+     *
+     * @return a future that is completed when the local node joined
+     */
+    @NotNull Future<Void> start();
+
+    /**
+     * Hand over the owned schedulers to the remaining nodes, then leave the cluster and close the local registry.
+     *
+     * @return a future that is completed when the local node left
+     */
+    @NotNull Future<Void> close();
+
+}
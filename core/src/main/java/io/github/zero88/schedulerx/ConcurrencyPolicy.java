@@ -0,0 +1,150 @@
+package io.github.zero88.schedulerx;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.vertx.core.json.JsonObject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Represents the policy to handle the trigger that is fired while the previous execution rounds are still running.
+ * <p/>
+ * Each execution round has its own {@link ExecutionContext}. The {@link SchedulingMonitor#onEach(ExecutionResult)} is
+ * invoked in the round order in {@link Strategy#SKIP} and {@link Strategy#QUEUE}, because the rounds never overlap. In
+ * {@link Strategy#ALLOW_CONCURRENT}, it is invoked in the order the rounds finish, then the
+ * {@link ExecutionResult#round()} identifies the round, and the scheduler last data is the data of the latest round.
+ *
+ * @see SchedulerBuilder#setConcurrencyPolicy(ConcurrencyPolicy)
+ * @since 2.0.0
+ */
+public final class ConcurrencyPolicy {
+
+    private static final ConcurrencyPolicy DEFAULT = new ConcurrencyPolicy(Strategy.SKIP, 1);
+
+    /**
+     * The strategy to handle the overlapping execution rounds
+     */
+    public enum Strategy {
+
+        /**
+         * Skips the fire while the previous round is running, the fire is reported as a misfire with
+         * {@link ReasonCode#JOB_IS_RUNNING}.
+         */
+        SKIP,
+        /**
+         * Runs at most {@link ConcurrencyPolicy#maxConcurrent()} rounds at the same time, the fire is skipped as
+         * {@link #SKIP} if the limit is reached.
+         */
+        ALLOW_CONCURRENT,
+        /**
+         * Runs one round at a time, the fire is queued while the previous round is running, at most
+         * {@link ConcurrencyPolicy#maxPending()} fires are queued. If the queue is full, the latest queued fire is
+         * coalesced into the new fire, and it is reported as a misfire with {@link ReasonCode#COALESCED}.
+         */
+        QUEUE,
+
+    }
+
+    private final Strategy strategy;
+    private final int limit;
+
+    private ConcurrencyPolicy(Strategy strategy, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Invalid concurrency limit value");
+        }
+        this.strategy = Objects.requireNonNull(strategy, "Concurrency strategy is required");
+        this.limit    = limit;
+    }
+
+    /**
+     * The default concurrency policy is {@link Strategy#SKIP}.
+     *
+     * @return the default concurrency policy
+     */
+    public static @NotNull ConcurrencyPolicy byDefault() { return DEFAULT; }
+
+    /**
+     * @return the concurrency policy that skips the fire while the previous round is running
+     * @see Strategy#SKIP
+     */
+    public static @NotNull ConcurrencyPolicy skip() { return DEFAULT; }
+
+    /**
+     * @param maxConcurrent the max number of the rounds that run at the same time
+     * @return the concurrency policy that allows the overlapping rounds
+     * @throws IllegalArgumentException if the max concurrent value is not positive
+     * @see Strategy#ALLOW_CONCURRENT
+     */
+    public static @NotNull ConcurrencyPolicy allowConcurrent(int maxConcurrent) {
+        return new ConcurrencyPolicy(Strategy.ALLOW_CONCURRENT, maxConcurrent);
+    }
+
+    /**
+     * @param maxPending the max number of the queued fires
+     * @return the concurrency policy that queues the fire while the previous round is running
+     * @throws IllegalArgumentException if the max pending value is not positive
+     * @see Strategy#QUEUE
+     */
+    public static @NotNull ConcurrencyPolicy queue(int maxPending) {
+        return new ConcurrencyPolicy(Strategy.QUEUE, maxPending);
+    }
+
+    /**
+     * Create a new concurrency policy
+     *
+     * @param strategy the concurrency strategy
+     * @param limit    the max concurrent rounds in {@link Strategy#ALLOW_CONCURRENT}, or the max queued fires in
+     *                 {@link Strategy#QUEUE}
+     * @return a new concurrency policy
+     * @throws IllegalArgumentException if the limit value is invalid
+     */
+    @JsonCreator
+    public static @NotNull ConcurrencyPolicy create(@JsonProperty("strategy") Strategy strategy,
+                                                    @JsonProperty("limit") Integer limit) {
+        if (strategy == null || strategy == Strategy.SKIP) {
+            return DEFAULT;
+        }
+        return new ConcurrencyPolicy(strategy, limit == null ? 1 : limit);
+    }
+
+    public @NotNull Strategy strategy() { return strategy; }
+
+    /**
+     * @return the max number of the rounds that run at the same time, it is always {@code 1} if the strategy is not
+     *     {@link Strategy#ALLOW_CONCURRENT}
+     */
+    public int maxConcurrent() { return strategy == Strategy.ALLOW_CONCURRENT ? limit : 1; }
+
+    /**
+     * @return the max number of the queued fires, it is always {@code 0} if the strategy is not
+     *     {@link Strategy#QUEUE}
+     */
+    public int maxPending() { return strategy == Strategy.QUEUE ? limit : 0; }
+
+    @JsonValue
+    public JsonObject toJson() {
+        final JsonObject json = JsonObject.of("strategy", strategy.name());
+        if (strategy != Strategy.SKIP) { json.put("limit", limit); }
+        return json;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        ConcurrencyPolicy that = (ConcurrencyPolicy) o;
+        return strategy == that.strategy && limit == that.limit;
+    }
+
+    @Override
+    public int hashCode() { return 31 * strategy.hashCode() + limit; }
+
+    @Override
+    public String toString() { return "ConcurrencyPolicy(strategy=" + strategy + ", limit=" + limit + ')'; }
+
+}
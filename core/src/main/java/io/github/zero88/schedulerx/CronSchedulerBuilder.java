@@ -50,6 +50,30 @@ public interface CronSchedulerBuilder<IN, OUT>
     @GenIgnore(GenIgnore.PERMITTED_TYPE)
     @NotNull CronSchedulerBuilder<IN, OUT> setTimeoutPolicy(@NotNull TimeoutPolicy timeoutPolicy);
 
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull CronSchedulerBuilder<IN, OUT> setTimerService(@NotNull TimerService timerService);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull CronSchedulerBuilder<IN, OUT> setClock(@NotNull TimeClock clock);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull CronSchedulerBuilder<IN, OUT> setExecutionMode(@NotNull ExecutionMode executionMode);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull CronSchedulerBuilder<IN, OUT> setStateStore(@NotNull SchedulerStateStore stateStore);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull CronSchedulerBuilder<IN, OUT> setStateDataCodec(@NotNull StateDataCodec<OUT> stateDataCodec);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull CronSchedulerBuilder<IN, OUT> setConcurrencyPolicy(@NotNull ConcurrencyPolicy concurrencyPolicy);
+
     @NotNull CronScheduler build();
 
 }
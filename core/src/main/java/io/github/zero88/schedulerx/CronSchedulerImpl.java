@@ -2,6 +2,7 @@ package io.github.zero88.schedulerx;
 
 import static io.github.zero88.schedulerx.impl.Utils.brackets;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
@@ -11,28 +12,32 @@ import io.github.zero88.schedulerx.impl.AbstractScheduler;
 import io.github.zero88.schedulerx.impl.AbstractSchedulerBuilder;
 import io.github.zero88.schedulerx.impl.TriggerContextFactory;
 import io.github.zero88.schedulerx.trigger.CronTrigger;
-import io.github.zero88.schedulerx.trigger.TriggerEvaluator;
 import io.vertx.core.Future;
-import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 
 final class CronSchedulerImpl<IN, OUT> extends AbstractScheduler<IN, OUT, CronTrigger> implements CronScheduler {
 
     private long nextTimerId;
 
-    CronSchedulerImpl(Vertx vertx, TimeClock clock, SchedulingMonitor<OUT> monitor, Job<IN, OUT> job,
-                      JobData<IN> jobData, TimeoutPolicy timeoutPolicy, CronTrigger trigger,
-                      TriggerEvaluator evaluator) {
-        super(vertx, clock, monitor, job, jobData, timeoutPolicy, trigger, evaluator);
+    CronSchedulerImpl(CronSchedulerBuilderImpl<IN, OUT> builder) {
+        super(builder, builder.triggerEvaluator());
     }
 
     @Override
     protected @NotNull Future<Long> registerTimer(WorkerExecutor workerExecutor) {
         try {
             final Instant now = clock().now();
-            final Instant nextTriggerTime = trigger().nextTriggerTime(now);
-            nextTimerId = vertx().setTimer(ChronoUnit.MILLIS.between(now, nextTriggerTime), tId -> {
-                onProcess(workerExecutor, TriggerContextFactory.kickoff(trigger().type(), clock().now(), onFire(tId)));
+            final Instant nextTriggerTime = nextSatisfiableFireTime(trigger().nextTriggerTime(now),
+                                                                    trigger()::nextTriggerTime);
+            nextTimerId = timerService().setTimer(ChronoUnit.MILLIS.between(now, nextTriggerTime), tId -> {
+                final Instant firedAt = clock().now();
+                // The timer is late by a JVM pause or a blocked event loop, then the next fire times might be missed
+                final boolean late = Duration.between(nextTriggerTime, firedAt)
+                                             .compareTo(trigger().misfirePolicy().threshold()) > 0;
+                if (!late || !onMissedFires(workerExecutor, tId, nextTriggerTime.minusMillis(1), firedAt)) {
+                    onProcess(workerExecutor, TriggerContextFactory.kickoff(trigger().type(), firedAt, nextTriggerTime,
+                                                                                         onFire(tId)));
+                }
                 doStart(workerExecutor);
             });
             log(now, "Next schedule at" + brackets(nextTriggerTime) + " by timerId" + brackets(nextTimerId));
@@ -44,7 +49,7 @@ final class CronSchedulerImpl<IN, OUT> extends AbstractScheduler<IN, OUT, CronTr
 
     @Override
     protected void unregisterTimer(long timerId) {
-        boolean result = vertx().cancelTimer(nextTimerId);
+        boolean result = timerService().cancelTimer(nextTimerId);
         log(clock().now(), "Unregistered timerId" + brackets(nextTimerId) + brackets(result));
     }
 
@@ -53,8 +58,7 @@ final class CronSchedulerImpl<IN, OUT> extends AbstractScheduler<IN, OUT, CronTr
         implements CronSchedulerBuilder<IN, OUT> {
 
         public @NotNull CronScheduler build() {
-            return new CronSchedulerImpl<>(vertx(), clock(), monitor(), job(), jobData(), timeoutPolicy(), trigger(),
-                                           triggerEvaluator());
+            return new CronSchedulerImpl<>(this);
         }
 
     }
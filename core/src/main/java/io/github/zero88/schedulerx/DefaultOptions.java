@@ -2,6 +2,7 @@ package io.github.zero88.schedulerx;
 
 import java.time.Duration;
 import java.time.format.DateTimeParseException;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 import io.github.zero88.schedulerx.impl.Utils;
@@ -19,13 +20,29 @@ public final class DefaultOptions {
     public static final String PROP_EXECUTION_MAX_TIMEOUT = "schedulerx.default_execution_max_timeout";
     public static final String PROP_EXECUTION_THREAD_PREFIX = "schedulerx.default_execution_thread_prefix";
     public static final String PROP_EXECUTION_THREAD_POOL_SIZE = "schedulerx.default_execution_thread_pool_size";
+    public static final String PROP_EXECUTION_MODE = "schedulerx.default_execution_mode";
 
     public static final String PROP_MONITOR_MAX_TIMEOUT = "schedulerx.default_monitor_max_timeout";
     public static final String PROP_MONITOR_THREAD_PREFIX = "schedulerx.default_monitor_thread_prefix";
     public static final String PROP_MONITOR_THREAD_POOL_SIZE = "schedulerx.default_monitor_thread_pool_size";
+    public static final String PROP_MONITOR_BUFFER_SIZE = "schedulerx.default_monitor_buffer_size";
+    public static final String PROP_MONITOR_BATCH_SIZE = "schedulerx.default_monitor_batch_size";
+    public static final String PROP_MONITOR_OVERFLOW_POLICY = "schedulerx.default_monitor_overflow_policy";
 
     public static final String PROP_TRIGGER_RULE_PROP_MAX_LEEWAY = "schedulerx.default_trigger_rule_max_leeway";
     public static final String PROP_TRIGGER_PREVIEW_MAX_COUNT = "schedulerx.default_trigger_preview_max_count";
+    public static final String PROP_CRON_CACHE_MAX_SIZE = "schedulerx.default_cron_cache_max_size";
+    public static final String PROP_TRIGGER_MISFIRE_THRESHOLD = "schedulerx.default_trigger_misfire_threshold";
+
+    public static final String PROP_TIMER_TICK_DURATION = "schedulerx.default_timer_tick_duration";
+
+    public static final String PROP_JOURNAL_SEGMENT_SIZE = "schedulerx.default_journal_segment_size";
+    public static final String PROP_JOURNAL_COMMIT_INTERVAL = "schedulerx.default_journal_commit_interval";
+    public static final String PROP_JOURNAL_SNAPSHOT_INTERVAL = "schedulerx.default_journal_snapshot_interval";
+
+    public static final String PROP_CLUSTER_VIRTUAL_NODES = "schedulerx.default_cluster_virtual_nodes";
+    public static final String PROP_CLUSTER_HANDOVER_TIMEOUT = "schedulerx.default_cluster_handover_timeout";
+    public static final String PROP_LEASE_TTL = "schedulerx.default_lease_ttl";
 
 
     private static class Holder {
@@ -67,6 +84,23 @@ public final class DefaultOptions {
      */
     public final int triggerPreviewMaxCount;
 
+    /**
+     * Declares the default max lateness of a trigger fire time before it is considered as missed. Defaults is
+     * {@code 1 second}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_TRIGGER_MISFIRE_THRESHOLD}
+     * @see io.github.zero88.schedulerx.trigger.MisfirePolicy
+     */
+    public final Duration triggerMisfireThreshold;
+
+    /**
+     * Declares the default max number of the compiled cron expressions in the shared cache. Defaults is {@code 1000}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_CRON_CACHE_MAX_SIZE}
+     * @see io.github.zero88.schedulerx.trigger.CronExpressionCache
+     */
+    public final int cronCacheMaxSize;
+
     /**
      * Declares the default worker thread name prefix for the execution operation. Defaults is
      * {@code scheduler.x-worker-thread}.
@@ -82,6 +116,15 @@ public final class DefaultOptions {
      */
     public final int executionThreadPoolSize;
 
+    /**
+     * Declares the default execution mode on which the job and the blocking trigger evaluator run. Defaults is
+     * {@link ExecutionMode#WORKER_THREAD}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_EXECUTION_MODE}
+     * @see ExecutionMode
+     */
+    public final ExecutionMode executionMode;
+
     /**
      * Declares the default max scheduling monitor timeout. Defaults is
      * {@link VertxOptions#DEFAULT_MAX_EVENT_LOOP_EXECUTE_TIME}
@@ -105,12 +148,104 @@ public final class DefaultOptions {
      */
     public final int monitorThreadPoolSize;
 
+    /**
+     * Declares the default ring buffer capacity of the batch monitor pipeline. Defaults is {@code 1024}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_MONITOR_BUFFER_SIZE}
+     * @see BatchSchedulingMonitor#bufferSize()
+     */
+    public final int monitorBufferSize;
+
+    /**
+     * Declares the default max number of execution results per batch of the batch monitor pipeline. Defaults is
+     * {@code 64}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_MONITOR_BATCH_SIZE}
+     * @see BatchSchedulingMonitor#batchSize()
+     */
+    public final int monitorBatchSize;
+
+    /**
+     * Declares the default overflow policy of the batch monitor pipeline. Defaults is
+     * {@link MonitorOverflowPolicy#DROP_OLDEST}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_MONITOR_OVERFLOW_POLICY}
+     * @see BatchSchedulingMonitor#overflowPolicy()
+     */
+    public final MonitorOverflowPolicy monitorOverflowPolicy;
+
+    /**
+     * Declares the default tick duration of the shared timing wheel timer service. Defaults is
+     * {@code 10 milliseconds}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_TIMER_TICK_DURATION}
+     * @see TimerService#timingWheel(io.vertx.core.Vertx)
+     */
+    public final Duration timerTickDuration;
+
+    /**
+     * Declares the default size in bytes of each of the two memory-mapped journal segments of the scheduler state
+     * store. Defaults is {@code 16 MiB}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_JOURNAL_SEGMENT_SIZE}
+     * @see SchedulerStateStore#journal(java.nio.file.Path)
+     */
+    public final int journalSegmentSize;
+
+    /**
+     * Declares the default interval to commit the journal of the scheduler state store to the storage device. Defaults
+     * is {@code 10 milliseconds}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_JOURNAL_COMMIT_INTERVAL}
+     * @see SchedulerStateStore#journal(java.nio.file.Path)
+     */
+    public final Duration journalCommitInterval;
+
+    /**
+     * Declares the default interval to compact the journal of the scheduler state store into a snapshot. Defaults is
+     * {@code 1 minute}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_JOURNAL_SNAPSHOT_INTERVAL}
+     * @see SchedulerStateStore#journal(java.nio.file.Path)
+     */
+    public final Duration journalSnapshotInterval;
+
+    /**
+     * Declares the default number of virtual nodes per cluster member in the consistent hash ring of the clustered
+     * scheduler registry. Defaults is {@code 128}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_CLUSTER_VIRTUAL_NODES}
+     * @see ClusteredSchedulerRegistry
+     */
+    public final int clusterVirtualNodes;
+
+    /**
+     * Declares the default max time that a cluster member waits for the scheduler state from the previous owner of a
+     * migrated scheduler, before it starts the scheduler with its own saved state. Defaults is {@code 5 seconds}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_CLUSTER_HANDOVER_TIMEOUT}
+     * @see ClusteredSchedulerRegistry
+     */
+    public final Duration clusterHandoverTimeout;
+
+    /**
+     * Declares the default time-to-live of the leases that are acquired by the lease guard, the leases are renewed in
+     * every one third of this time. Defaults is {@code 10 seconds}.
+     *
+     * @apiNote It can be overridden by system property with key {@value #PROP_LEASE_TTL}
+     * @see LeaseGuard
+     */
+    public final Duration leaseTtl;
+
     DefaultOptions() {
-        this.triggerRuleMaxLeeway   = loadDuration(PROP_TRIGGER_RULE_PROP_MAX_LEEWAY, 10, TimeUnit.SECONDS);
-        this.triggerPreviewMaxCount = loadInteger(PROP_TRIGGER_PREVIEW_MAX_COUNT, 30);
+        this.triggerRuleMaxLeeway    = loadDuration(PROP_TRIGGER_RULE_PROP_MAX_LEEWAY, 10, TimeUnit.SECONDS);
+        this.triggerPreviewMaxCount  = loadInteger(PROP_TRIGGER_PREVIEW_MAX_COUNT, 30);
+        this.cronCacheMaxSize        = loadInteger(PROP_CRON_CACHE_MAX_SIZE, 1000);
+        this.triggerMisfireThreshold = loadDuration(PROP_TRIGGER_MISFIRE_THRESHOLD, 1, TimeUnit.SECONDS);
 
         this.executionThreadPrefix   = System.getProperty(PROP_EXECUTION_THREAD_PREFIX, "scheduler.x-worker-thread");
         this.executionThreadPoolSize = loadInteger(PROP_EXECUTION_THREAD_POOL_SIZE, 5);
+        this.executionMode           = loadEnum(PROP_EXECUTION_MODE, ExecutionMode.class, ExecutionMode.WORKER_THREAD);
         this.executionMaxTimeout     = loadDuration(PROP_EXECUTION_MAX_TIMEOUT,
                                                     VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME,
                                                     VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME_UNIT);
@@ -123,6 +258,21 @@ public final class DefaultOptions {
         this.monitorMaxTimeout     = loadDuration(PROP_MONITOR_MAX_TIMEOUT,
                                                   VertxOptions.DEFAULT_MAX_EVENT_LOOP_EXECUTE_TIME,
                                                   VertxOptions.DEFAULT_MAX_EVENT_LOOP_EXECUTE_TIME_UNIT);
+        this.monitorBufferSize     = loadInteger(PROP_MONITOR_BUFFER_SIZE, 1024);
+        this.monitorBatchSize      = loadInteger(PROP_MONITOR_BATCH_SIZE, 64);
+        this.monitorOverflowPolicy = loadEnum(PROP_MONITOR_OVERFLOW_POLICY, MonitorOverflowPolicy.class,
+                                              MonitorOverflowPolicy.DROP_OLDEST);
+
+        this.timerTickDuration = loadDuration(PROP_TIMER_TICK_DURATION, 10, TimeUnit.MILLISECONDS);
+
+        this.journalSegmentSize      = loadInteger(PROP_JOURNAL_SEGMENT_SIZE, 16 * 1024 * 1024);
+        this.journalCommitInterval   = loadDuration(PROP_JOURNAL_COMMIT_INTERVAL, 10, TimeUnit.MILLISECONDS);
+        this.journalSnapshotInterval = loadDuration(PROP_JOURNAL_SNAPSHOT_INTERVAL, 1, TimeUnit.MINUTES);
+
+        this.clusterVirtualNodes    = loadInteger(PROP_CLUSTER_VIRTUAL_NODES, 128);
+        this.clusterHandoverTimeout = loadDuration(PROP_CLUSTER_HANDOVER_TIMEOUT, 5, TimeUnit.SECONDS);
+
+        this.leaseTtl = loadDuration(PROP_LEASE_TTL, 10, TimeUnit.SECONDS);
     }
 
     private static Duration loadDuration(String prop, long defaultTimeout, TimeUnit defaultTimeUnit) {
@@ -133,6 +283,14 @@ public final class DefaultOptions {
         }
     }
 
+    private static <E extends Enum<E>> E loadEnum(String prop, Class<E> enumClass, E defaultValue) {
+        try {
+            return Enum.valueOf(enumClass, System.getProperty(prop).trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            return defaultValue;
+        }
+    }
+
     private static int loadInteger(String prop, int defaultValue) {
         try {
             return Integer.parseInt(System.getProperty(prop));
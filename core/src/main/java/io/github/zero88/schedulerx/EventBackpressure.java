@@ -0,0 +1,171 @@
+package io.github.zero88.schedulerx;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.trigger.EventBatch;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.vertx.core.json.JsonObject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Represents the policy to handle the event messages that arrive while the previous execution round is running.
+ * <p/>
+ * Without backpressure, each message fires the trigger, and the message that arrives while the previous round is
+ * running is skipped with {@link ReasonCode#JOB_IS_RUNNING}. With backpressure, the scheduler pauses its delivery while
+ * a round is running, the matched messages are kept in a bounded per-scheduler queue, then the scheduler fetches the
+ * next messages from the queue when the round is finished.
+ * <p/>
+ * If {@link #maxBatch()} is greater than {@code 1}, the fetched messages are delivered to one job round as an
+ * {@link EventBatch} in {@link io.github.zero88.schedulerx.trigger.TriggerContext#info()}.
+ * <p/>
+ * <em><strong>Note</strong></em>: With backpressure, the event predicate is tested before the message is queued, then
+ * the non-matched message never takes a queue slot. The blocking predicate is tested on the worker thread in the
+ * message order, and only the non-blocking predicate is tested inline on the scheduler context.
+ *
+ * @see io.github.zero88.schedulerx.trigger.predicate.EventTriggerPredicate#isBlocking()
+ *
+ * @see EventSchedulerBuilder#setBackpressure(EventBackpressure)
+ * @since 2.0.0
+ */
+public final class EventBackpressure {
+
+    /**
+     * The strategy to handle the message that arrives when the queue is full
+     */
+    public enum Strategy {
+
+        /**
+         * Drops the new message, it is reported as a misfire with {@link ReasonCode#QUEUE_IS_FULL}.
+         */
+        DROP,
+        /**
+         * Replaces the latest queued message by the new message, the replaced message is reported as a misfire with
+         * {@link ReasonCode#COALESCED}.
+         */
+        COALESCE_LATEST,
+        /**
+         * Delivers all queued messages to the next round as one batch, then the queue is drained in one round. If the
+         * queue is full, the new message is dropped as {@link #DROP}.
+         */
+        BATCH,
+
+    }
+
+    private final Strategy strategy;
+    private final int maxQueued;
+    private final int maxBatch;
+
+    private EventBackpressure(Strategy strategy, int maxQueued, int maxBatch) {
+        if (maxQueued <= 0) {
+            throw new IllegalArgumentException("Invalid max queued messages value");
+        }
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("Invalid max batch messages value");
+        }
+        this.strategy  = Objects.requireNonNull(strategy, "Backpressure strategy is required");
+        this.maxQueued = maxQueued;
+        this.maxBatch  = strategy == Strategy.BATCH ? maxQueued : maxBatch;
+    }
+
+    /**
+     * @param maxQueued the max number of the queued messages
+     * @return the backpressure that drops the new message if the queue is full
+     * @throws IllegalArgumentException if the max queued value is not positive
+     * @see Strategy#DROP
+     */
+    public static @NotNull EventBackpressure drop(int maxQueued) {
+        return new EventBackpressure(Strategy.DROP, maxQueued, 1);
+    }
+
+    /**
+     * @param maxQueued the max number of the queued messages
+     * @return the backpressure that replaces the latest queued message if the queue is full
+     * @throws IllegalArgumentException if the max queued value is not positive
+     * @see Strategy#COALESCE_LATEST
+     */
+    public static @NotNull EventBackpressure coalesceLatest(int maxQueued) {
+        return new EventBackpressure(Strategy.COALESCE_LATEST, maxQueued, 1);
+    }
+
+    /**
+     * @param maxQueued the max number of the queued messages
+     * @return the backpressure that delivers all queued messages to one round
+     * @throws IllegalArgumentException if the max queued value is not positive
+     * @see Strategy#BATCH
+     */
+    public static @NotNull EventBackpressure batch(int maxQueued) {
+        return new EventBackpressure(Strategy.BATCH, maxQueued, maxQueued);
+    }
+
+    /**
+     * Create a new backpressure
+     *
+     * @param strategy  the overflow strategy
+     * @param maxQueued the max number of the queued messages
+     * @param maxBatch  the max number of the messages that are delivered to one round, it is ignored in
+     *                  {@link Strategy#BATCH}
+     * @return a new backpressure
+     * @throws IllegalArgumentException if the limit values are invalid
+     */
+    @JsonCreator
+    public static @NotNull EventBackpressure create(@JsonProperty("strategy") Strategy strategy,
+                                                    @JsonProperty("maxQueued") Integer maxQueued,
+                                                    @JsonProperty("maxBatch") Integer maxBatch) {
+        return new EventBackpressure(strategy == null ? Strategy.DROP : strategy, maxQueued == null ? 1 : maxQueued,
+                                     maxBatch == null ? 1 : maxBatch);
+    }
+
+    /**
+     * @param maxBatch the max number of the messages that are delivered to one round
+     * @return a new backpressure with the same strategy that delivers the queued messages in batch
+     * @throws IllegalArgumentException if the max batch value is not positive
+     */
+    public @NotNull EventBackpressure deliverInBatch(int maxBatch) {
+        return new EventBackpressure(strategy, maxQueued, maxBatch);
+    }
+
+    public @NotNull Strategy strategy() { return strategy; }
+
+    /**
+     * @return the max number of the queued messages
+     */
+    public int maxQueued() { return maxQueued; }
+
+    /**
+     * @return the max number of the messages that are delivered to one round, it is always {@link #maxQueued()} in
+     *     {@link Strategy#BATCH}
+     */
+    public int maxBatch() { return maxBatch; }
+
+    /**
+     * @return {@code true} if the messages are delivered to the job as an {@link EventBatch}
+     */
+    public boolean isBatchDelivery() { return strategy == Strategy.BATCH || maxBatch > 1; }
+
+    @JsonValue
+    public JsonObject toJson() {
+        return JsonObject.of("strategy", strategy.name(), "maxQueued", maxQueued, "maxBatch", maxBatch);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        EventBackpressure that = (EventBackpressure) o;
+        return strategy == that.strategy && maxQueued == that.maxQueued && maxBatch == that.maxBatch;
+    }
+
+    @Override
+    public int hashCode() { return 31 * (31 * strategy.hashCode() + maxQueued) + maxBatch; }
+
+    @Override
+    public String toString() {
+        return "EventBackpressure(strategy=" + strategy + ", maxQueued=" + maxQueued + ", maxBatch=" + maxBatch + ')';
+    }
+
+}
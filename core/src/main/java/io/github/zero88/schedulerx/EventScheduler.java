@@ -1,6 +1,7 @@
 package io.github.zero88.schedulerx;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import io.github.zero88.schedulerx.EventSchedulerImpl.EventSchedulerBuilderImpl;
 import io.github.zero88.schedulerx.trigger.EventTrigger;
@@ -32,6 +33,13 @@ public interface EventScheduler<T> extends Scheduler<EventTrigger<T>> {
     @GenIgnore(GenIgnore.PERMITTED_TYPE)
     @NotNull EventTrigger<T> trigger();
 
+    /**
+     * @return the backpressure, or {@code null} if each event message fires the trigger
+     * @see EventBackpressure
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Nullable EventBackpressure backpressure();
+
     @Override
     void start();
 
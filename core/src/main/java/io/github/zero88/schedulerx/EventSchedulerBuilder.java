@@ -51,6 +51,41 @@ public interface EventSchedulerBuilder<IN, OUT, T>
     @GenIgnore(GenIgnore.PERMITTED_TYPE)
     @NotNull EventSchedulerBuilder<IN, OUT, T> setTimeoutPolicy(@NotNull TimeoutPolicy timeoutPolicy);
 
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull EventSchedulerBuilder<IN, OUT, T> setTimerService(@NotNull TimerService timerService);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull EventSchedulerBuilder<IN, OUT, T> setClock(@NotNull TimeClock clock);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull EventSchedulerBuilder<IN, OUT, T> setExecutionMode(@NotNull ExecutionMode executionMode);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull EventSchedulerBuilder<IN, OUT, T> setStateStore(@NotNull SchedulerStateStore stateStore);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull EventSchedulerBuilder<IN, OUT, T> setStateDataCodec(@NotNull StateDataCodec<OUT> stateDataCodec);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull EventSchedulerBuilder<IN, OUT, T> setConcurrencyPolicy(@NotNull ConcurrencyPolicy concurrencyPolicy);
+
+    /**
+     * Set the backpressure that queues the event messages while the previous round is running.
+     *
+     * @param backpressure the backpressure
+     * @return this for fluent API
+     * @see EventBackpressure
+     */
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull EventSchedulerBuilder<IN, OUT, T> setBackpressure(@NotNull EventBackpressure backpressure);
+
     @NotNull EventScheduler<T> build();
 
 }
@@ -2,6 +2,11 @@ package io.github.zero88.schedulerx;
 
 import static io.github.zero88.schedulerx.impl.Utils.brackets;
 
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
@@ -10,70 +15,289 @@ import org.jetbrains.annotations.Nullable;
 import io.github.zero88.schedulerx.impl.AbstractScheduler;
 import io.github.zero88.schedulerx.impl.AbstractSchedulerBuilder;
 import io.github.zero88.schedulerx.impl.DefaultTriggerEvaluator;
+import io.github.zero88.schedulerx.impl.EventBusDispatcher;
+import io.github.zero88.schedulerx.impl.EventBusDispatcher.Subscription;
 import io.github.zero88.schedulerx.impl.TriggerContextFactory;
+import io.github.zero88.schedulerx.trigger.EventBatch;
 import io.github.zero88.schedulerx.trigger.EventTrigger;
+import io.github.zero88.schedulerx.trigger.EventWindow;
 import io.github.zero88.schedulerx.trigger.Trigger;
 import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
 import io.github.zero88.schedulerx.trigger.TriggerContext;
-import io.github.zero88.schedulerx.trigger.TriggerEvaluator;
 import io.github.zero88.schedulerx.trigger.predicate.EventTriggerPredicate.EventTriggerPredicateException;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
-import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.Message;
-import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 
 final class EventSchedulerImpl<IN, OUT, T> extends AbstractScheduler<IN, OUT, EventTrigger<T>>
     implements EventScheduler<T> {
 
-    private MessageConsumer<Object> consumer;
+    private static final Object NULL_EVENT = new Object();
 
-    EventSchedulerImpl(Vertx vertx, TimeClock clock, SchedulingMonitor<OUT> monitor, Job<IN, OUT> job,
-                       JobData<IN> jobData, TimeoutPolicy timeoutPolicy, EventTrigger<T> trigger,
-                       TriggerEvaluator evaluator) {
-        super(vertx, clock, monitor, job, jobData, timeoutPolicy, trigger,
-              new EventTriggerEvaluator<>().andThen(evaluator));
+    private final EventTriggerEvaluator<T> eventEvaluator;
+    private final EventBackpressure backpressure;
+    private final EventWindow window;
+    // the queued events or windows in the backpressure mode, it is guarded by itself with the open window
+    private final Deque<Object> queue = new ArrayDeque<>();
+    private boolean paused;
+    private List<Object> windowEvents;
+    private Instant windowOpenedAt;
+    private long windowBytes;
+    private long windowTimerId = -1;
+    private volatile long fetchedTick;
+    private Subscription subscription;
+    private WorkerExecutor workerExecutor;
+    private long timerId;
+
+    EventSchedulerImpl(EventSchedulerBuilderImpl<IN, OUT, T> builder) {
+        this(builder, new EventTriggerEvaluator<>(builder.trigger(), builder.backpressure() != null));
+    }
+
+    private EventSchedulerImpl(EventSchedulerBuilderImpl<IN, OUT, T> builder, EventTriggerEvaluator<T> evaluator) {
+        super(builder, evaluator.andThen(builder.triggerEvaluator()));
+        this.eventEvaluator = evaluator;
+        this.backpressure   = builder.backpressure();
+        this.window         = trigger().getWindow();
     }
 
+    @Override
+    public @Nullable EventBackpressure backpressure() { return backpressure; }
+
+    /**
+     * The scheduler subscribes to the shared consumer of its address, that converts a message once per group of the
+     * equal predicates instead of once per scheduler.
+     */
     @Override
     protected @NotNull Future<Long> registerTimer(WorkerExecutor workerExecutor) {
-        final Promise<Long> promise = Promise.promise();
-        final long timerId = trigger().hashCode();
         final String address = trigger().getAddress();
-        consumer = trigger().isLocalOnly()
-                   ? vertx().eventBus().localConsumer(address)
-                   : vertx().eventBus().consumer(address);
-        consumer.handler(msg -> onProcess(workerExecutor, createKickoffContext(msg, onFire(timerId))))
-                .completionHandler(event -> {
-                    if (event.failed()) {
-                        promise.fail(
-                            new IllegalStateException("Unable to register a subscriber on address" + brackets(address),
-                                                      event.cause()));
-                    } else {
-                        promise.complete(timerId);
-                    }
-                });
-        return promise.future();
+        final EventBusDispatcher dispatcher = EventBusDispatcher.shared(vertx());
+        this.timerId        = trigger().hashCode();
+        this.workerExecutor = workerExecutor;
+        this.subscription   = dispatcher.subscribe(address, trigger().isLocalOnly(), trigger().getPredicate(),
+                                                   this::onEvent);
+        eventEvaluator.subscription = subscription;
+        return subscription.registration().map(timerId).recover(t -> Future.failedFuture(
+            new IllegalStateException("Unable to register a subscriber on address" + brackets(address), t)));
     }
 
     @Override
     protected void unregisterTimer(long timerId) {
-        if (Objects.nonNull(consumer)) {
-            consumer.unregister()
-                    .onComplete(r -> log(clock().now(),
-                                         "Unregistered EventBus subscriber on address" + brackets(consumer.address()) +
-                                         brackets(r.succeeded()) + brackets("Cause: " + r.cause())));
+        if (Objects.nonNull(subscription)) {
+            final String address = subscription.address();
+            subscription.unregister()
+                        .onComplete(r -> log(clock().now(),
+                                             "Unregistered EventBus subscriber on address" + brackets(address) +
+                                             brackets(r.succeeded()) + brackets("Cause: " + r.cause())));
+        }
+        synchronized (queue) {
+            queue.clear();
+            if (windowEvents != null) {
+                timerService().cancelTimer(windowTimerId);
+                windowEvents = null;
+            }
+        }
+    }
+
+    /**
+     * The fetched fire is finished, then the next queued events are fetched on the subscription context, that
+     * serializes the fetch with the event delivery.
+     */
+    @Override
+    protected void onFinish(@NotNull TriggerContext triggerContext) {
+        if (backpressure != null && triggerContext.tick() == fetchedTick) {
+            subscription.context().runOnContext(ignore -> fetch());
+        }
+    }
+
+    private void onEvent(Message<Object> msg, Object event, Throwable error) {
+        if (backpressure == null || error != null) {
+            onProcess(workerExecutor, createKickoffContext(msg, event, error));
+            return;
+        }
+        test(event).onComplete(ar -> onTested(msg, event, ar.succeeded() ? ar.result() : null, ar.cause()));
+    }
+
+    /**
+     * Tests the event before it is queued. The blocking predicate is tested on the worker thread in the message order,
+     * then the result is handled back on the subscription context, whereas the non-blocking predicate is tested inline.
+     */
+    private Future<Boolean> test(Object event) {
+        if (!trigger().getPredicate().isBlocking()) {
+            try {
+                return Future.succeededFuture(subscription.test(event));
+            } catch (Throwable ex) {
+                return Future.failedFuture(ex);
+            }
+        }
+        return workerExecutor == null
+               ? vertx().executeBlocking(p -> p.complete(subscription.test(event)), true)
+               : workerExecutor.executeBlocking(p -> p.complete(subscription.test(event)), true);
+    }
+
+    private void onTested(Message<Object> msg, Object event, Boolean matched, Throwable error) {
+        if (error != null) {
+            onMisfire(createKickoffContext(msg, event, error));
+            return;
+        }
+        if (!matched) {
+            onMisfire(TriggerContextFactory.skip(createKickoffContext(msg, event, null),
+                                                 ReasonCode.CONDITION_IS_NOT_MATCHED));
+            return;
+        }
+        if (window == null) {
+            enqueue(event);
+        } else {
+            accumulate(msg, event);
+        }
+    }
+
+    /**
+     * Adds the matched event to the open window, the window is opened by its first event, and it is closed when it
+     * reaches the count or bytes limit, or by its latency timer.
+     */
+    private void accumulate(Message<Object> msg, Object event) {
+        final EventBatch<Object> closed;
+        final long latencyTimerId;
+        synchronized (queue) {
+            if (windowEvents == null) {
+                windowEvents   = new ArrayList<>();
+                windowOpenedAt = clock().now();
+                windowBytes    = 0;
+                windowTimerId  = -1;
+            }
+            windowEvents.add(event);
+            if (window.maxBytes() > 0) {
+                windowBytes += sizeOf(msg.body());
+            }
+            final boolean full = windowEvents.size() >= window.maxCount() ||
+                                 window.maxBytes() > 0 && windowBytes >= window.maxBytes();
+            if (!full) {
+                // The latency timer is only armed by the window that is not closed by its first event
+                if (windowTimerId == -1) {
+                    windowTimerId = timerService().setTimer(window.maxLatency().toMillis(), this::closeOnContext);
+                }
+                return;
+            }
+            latencyTimerId = windowTimerId;
+            closed         = closeWindow();
+        }
+        if (latencyTimerId != -1) {
+            timerService().cancelTimer(latencyTimerId);
+        }
+        enqueue(closed);
+    }
+
+    /**
+     * The window latency is elapsed, then the window is closed on the subscription context, that serializes it with the
+     * event delivery.
+     */
+    private void closeOnContext(long id) {
+        subscription.context().runOnContext(ignore -> onWindowTimeout(id));
+    }
+
+    private void onWindowTimeout(long id) {
+        final EventBatch<Object> closed;
+        synchronized (queue) {
+            if (windowEvents == null || id != windowTimerId) {
+                return;
+            }
+            closed = closeWindow();
+        }
+        enqueue(closed);
+    }
+
+    private EventBatch<Object> closeWindow() {
+        final EventBatch<Object> closed = new EventBatch<>(windowEvents, windowOpenedAt, clock().now(), windowBytes);
+        windowEvents = null;
+        return closed;
+    }
+
+    /**
+     * Queues the event or the closed window while the delivery is paused, otherwise pauses the delivery then fetches
+     * it right away.
+     */
+    private void enqueue(Object event) {
+        boolean fetchNow = false;
+        Object evicted = null;
+        String reason = null;
+        synchronized (queue) {
+            if (!paused) {
+                paused   = true;
+                fetchNow = true;
+                queue.addLast(mask(event));
+            } else if (queue.size() < backpressure.maxQueued()) {
+                queue.addLast(mask(event));
+            } else if (backpressure.strategy() == EventBackpressure.Strategy.COALESCE_LATEST) {
+                evicted = queue.pollLast();
+                reason  = ReasonCode.COALESCED;
+                queue.addLast(mask(event));
+            } else {
+                evicted = mask(event);
+                reason  = ReasonCode.QUEUE_IS_FULL;
+            }
+        }
+        if (fetchNow) {
+            fetch();
+        } else if (reason != null) {
+            onMisfire(TriggerContextFactory.skip(createKickoffContext(null, unmask(evicted), null), reason));
         }
     }
 
-    private TriggerContext createKickoffContext(Message<Object> msg, long tick) {
-        try {
-            T eventMsg = trigger().getPredicate().convert(msg.headers(), msg.body());
-            return TriggerContextFactory.kickoff(trigger().type(), clock().now(), tick, eventMsg);
-        } catch (Throwable ex) {
-            return handleException(TriggerContextFactory.kickoff(trigger().type(), clock().now(), tick, msg), ex);
+    /**
+     * Fetches the next queued events, the delivery is resumed if the queue is empty.
+     */
+    private void fetch() {
+        final List<Object> events = new ArrayList<>();
+        // Each round receives one window
+        final int maxBatch = window == null ? backpressure.maxBatch() : 1;
+        synchronized (queue) {
+            while (!queue.isEmpty() && events.size() < maxBatch) {
+                events.add(unmask(queue.pollFirst()));
+            }
+            if (events.isEmpty()) {
+                paused = false;
+                return;
+            }
         }
+        final long tick = onFire(timerId);
+        final Object info = window == null && backpressure.isBatchDelivery() ? new EventBatch<>(events) : events.get(0);
+        fetchedTick = tick;
+        onProcess(workerExecutor, TriggerContextFactory.kickoff(trigger().type(), clock().now(), tick, info));
+    }
+
+    private TriggerContext createKickoffContext(@Nullable Message<Object> msg, Object event, Throwable error) {
+        final long tick = onFire(timerId);
+        if (error == null) {
+            return TriggerContextFactory.kickoff(trigger().type(), clock().now(), tick, event);
+        }
+        return handleException(TriggerContextFactory.kickoff(trigger().type(), clock().now(), tick, msg), error);
+    }
+
+    private static Object mask(Object event) { return event == null ? NULL_EVENT : event; }
+
+    private static Object unmask(Object event) { return event == NULL_EVENT ? null : event; }
+
+    /**
+     * Estimates the message body bytes, the json body is encoded, and the unknown body is counted by its string form.
+     */
+    static long sizeOf(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof Buffer) {
+            return ((Buffer) body).length();
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof JsonObject || body instanceof JsonArray) {
+            return Json.encode(body).length();
+        }
+        return String.valueOf(body).length();
     }
 
     static TriggerContext handleException(TriggerContext context, Throwable cause) {
@@ -87,9 +311,26 @@ final class EventSchedulerImpl<IN, OUT, T> extends AbstractScheduler<IN, OUT, Ev
         extends AbstractSchedulerBuilder<IN, OUT, EventTrigger<T>, EventScheduler<T>, EventSchedulerBuilder<IN, OUT, T>>
         implements EventSchedulerBuilder<IN, OUT, T> {
 
+        private EventBackpressure backpressure;
+
+        /**
+         * @return the backpressure, the event window implies the backpressure that queues at most one closed window
+         */
+        @Nullable EventBackpressure backpressure() {
+            if (backpressure == null && trigger() != null && trigger().getWindow() != null) {
+                return EventBackpressure.drop(1);
+            }
+            return backpressure;
+        }
+
+        @Override
+        public @NotNull EventSchedulerBuilder<IN, OUT, T> setBackpressure(@NotNull EventBackpressure backpressure) {
+            this.backpressure = backpressure;
+            return this;
+        }
+
         public @NotNull EventScheduler<T> build() {
-            return new EventSchedulerImpl<>(vertx(), clock(), monitor(), job(), jobData(), timeoutPolicy(), trigger(),
-                                            triggerEvaluator());
+            return new EventSchedulerImpl<>(this);
         }
 
     }
@@ -97,12 +338,31 @@ final class EventSchedulerImpl<IN, OUT, T> extends AbstractScheduler<IN, OUT, Ev
 
     static final class EventTriggerEvaluator<T> extends DefaultTriggerEvaluator {
 
+        private final boolean prefiltered;
+        private volatile Subscription subscription;
+
+        /**
+         * The evaluation invokes the event predicate, then it is blocking unless the predicate is non-blocking, or the
+         * predicate is already tested before the event is queued in the backpressure mode.
+         */
+        EventTriggerEvaluator(EventTrigger<T> trigger, boolean prefiltered) {
+            super(!prefiltered && (trigger == null || trigger.getPredicate().isBlocking()));
+            this.prefiltered = prefiltered;
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         protected Future<TriggerContext> internalBeforeTrigger(@NotNull Trigger trigger, @NotNull TriggerContext ctx,
                                                                @Nullable Object externalId) {
+            if (prefiltered) {
+                return Future.succeededFuture(ctx);
+            }
             try {
-                if (!((EventTrigger<T>) trigger).getPredicate().test((T) ctx.info())) {
+                final Subscription shared = subscription;
+                final boolean matched = shared != null
+                                        ? shared.test(ctx.info())
+                                        : ((EventTrigger<T>) trigger).getPredicate().test((T) ctx.info());
+                if (!matched) {
                     return Future.succeededFuture(TriggerContextFactory.skip(ctx, ReasonCode.CONDITION_IS_NOT_MATCHED));
                 }
             } catch (Throwable ex) {
@@ -0,0 +1,33 @@
+package io.github.zero88.schedulerx;
+
+/**
+ * Represents for the threading mode on which the scheduler executes the job and the blocking trigger evaluator.
+ *
+ * @see SchedulerBuilder#setExecutionMode(ExecutionMode)
+ * @see DefaultOptions#executionMode
+ * @since 2.0.0
+ */
+public enum ExecutionMode {
+
+    /**
+     * The job runs on the shared worker thread pool, the pool size is declared by
+     * {@link DefaultOptions#executionThreadPoolSize}.
+     */
+    WORKER_THREAD,
+    /**
+     * The job runs on a new virtual thread per execution, then the blocking I/O jobs do not queue behind each other.
+     * <p/>
+     * The virtual thread requires Java 21 or later, the scheduler falls back to {@link #WORKER_THREAD} on the older
+     * Java runtime.
+     */
+    VIRTUAL_THREAD,
+    /**
+     * The job and the blocking trigger evaluator run inline on the thread that fires the trigger, then the execution
+     * round is completed before the timer handler returns.
+     * <p/>
+     * It is designed for the deterministic replay on a {@link SimulatedTimeline}, the blocking job must not run in this
+     * mode on the Vert.x timer, because it blocks the event loop.
+     */
+    CALLER_THREAD,
+
+}
@@ -1,11 +1,14 @@
 package io.github.zero88.schedulerx;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
 import org.jetbrains.annotations.Nullable;
 
+import io.github.zero88.schedulerx.trigger.EventBatch;
+import io.github.zero88.schedulerx.trigger.EventWindow;
 import io.github.zero88.schedulerx.trigger.TriggerContext;
 
 /**
@@ -69,6 +72,34 @@ public interface ExecutionResult<OUTPUT> {
      */
     Instant firedAt();
 
+    /**
+     * The drift of the system timer, that is the {@link #firedAt()} minus the fire time that is expected by the trigger
+     * schedule.
+     *
+     * @return the drift, or {@code null} if the trigger does not have the expected fire time
+     * @see TriggerContext#expectedAt()
+     */
+    default @Nullable Duration drift() {
+        final TriggerContext ctx = triggerContext();
+        if (ctx == null || ctx.expectedAt() == null || firedAt() == null) {
+            return null;
+        }
+        return Duration.between(ctx.expectedAt(), firedAt());
+    }
+
+    /**
+     * Identify the time that the first event message of the window waited until the window is closed, it is only
+     * available when the event trigger accumulates the messages by a window.
+     *
+     * @return the window latency, or {@code null} if the trigger context info is not an event window
+     * @see EventWindow
+     * @see EventBatch#latency()
+     */
+    default @Nullable Duration windowLatency() {
+        final TriggerContext ctx = triggerContext();
+        return ctx != null && ctx.info() instanceof EventBatch ? ((EventBatch<?>) ctx.info()).latency() : null;
+    }
+
     /**
      * Identify the trigger is ready to run new execution round at a clock time.
      *
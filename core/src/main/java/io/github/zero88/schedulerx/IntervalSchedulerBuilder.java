@@ -46,6 +46,30 @@ public interface IntervalSchedulerBuilder<IN, OUT>
     @GenIgnore(GenIgnore.PERMITTED_TYPE)
     @NotNull IntervalSchedulerBuilder<IN, OUT> setTimeoutPolicy(@NotNull TimeoutPolicy timeoutPolicy);
 
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull IntervalSchedulerBuilder<IN, OUT> setTimerService(@NotNull TimerService timerService);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull IntervalSchedulerBuilder<IN, OUT> setClock(@NotNull TimeClock clock);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull IntervalSchedulerBuilder<IN, OUT> setExecutionMode(@NotNull ExecutionMode executionMode);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull IntervalSchedulerBuilder<IN, OUT> setStateStore(@NotNull SchedulerStateStore stateStore);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull IntervalSchedulerBuilder<IN, OUT> setStateDataCodec(@NotNull StateDataCodec<OUT> stateDataCodec);
+
+    @Fluent
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @NotNull IntervalSchedulerBuilder<IN, OUT> setConcurrencyPolicy(@NotNull ConcurrencyPolicy concurrencyPolicy);
+
     @NotNull IntervalScheduler build();
 
 }
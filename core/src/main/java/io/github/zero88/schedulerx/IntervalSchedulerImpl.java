@@ -4,6 +4,8 @@ import static io.github.zero88.schedulerx.impl.Utils.brackets;
 import static io.github.zero88.schedulerx.trigger.IntervalTrigger.REPEAT_INDEFINITELY;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -15,27 +17,35 @@ import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
 import io.github.zero88.schedulerx.trigger.TriggerEvaluator;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
-import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 
 final class IntervalSchedulerImpl<IN, OUT> extends AbstractScheduler<IN, OUT, IntervalTrigger>
     implements IntervalScheduler {
 
-    IntervalSchedulerImpl(Vertx vertx, TimeClock clock, SchedulingMonitor<OUT> monitor, Job<IN, OUT> job,
-                          JobData<IN> jobData, TimeoutPolicy timeoutPolicy, IntervalTrigger trigger,
-                          TriggerEvaluator evaluator) {
-        super(vertx, clock, monitor, job, jobData, timeoutPolicy, trigger, createTriggerEvaluator().andThen(evaluator));
+    private Instant lastTickAt;
+    private long nextTimerId = -1;
+    private long timerLead;
+    private boolean stopped;
+
+    IntervalSchedulerImpl(IntervalSchedulerBuilderImpl<IN, OUT> builder) {
+        super(builder, createTriggerEvaluator().andThen(builder.triggerEvaluator()));
     }
 
     protected @NotNull Future<Long> registerTimer(WorkerExecutor workerExecutor) {
         try {
             final Duration delay = trigger().initialDelay();
+            if (trigger().anchor() != null) {
+                final Instant now = clock().now();
+                final Instant first = trigger().nextTriggerTime(now.plus(delay).minusNanos(1));
+                return Future.succeededFuture(createAnchoredTimer(workerExecutor, nextSatisfiableFireTime(
+                    first, trigger()::nextTriggerTime)));
+            }
             if (delay.isZero()) {
-                return Future.succeededFuture(createPeriodicTimer(workerExecutor));
+                return Future.succeededFuture(registerPeriodicTimer(workerExecutor));
             }
             final Promise<Long> promise = Promise.promise();
             log(clock().now(), "Delay " + brackets(delay) + " before registering the trigger in the scheduler");
-            vertx().setTimer(delay.toMillis(), ignore -> promise.complete(createPeriodicTimer(workerExecutor)));
+            timerService().setTimer(delay.toMillis(), ignore -> promise.complete(registerPeriodicTimer(workerExecutor)));
             return promise.future();
         } catch (Exception e) {
             return Future.failedFuture(e);
@@ -44,16 +54,112 @@ final class IntervalSchedulerImpl<IN, OUT> extends AbstractScheduler<IN, OUT, In
 
     @Override
     protected void unregisterTimer(long timerId) {
-        boolean result = vertx().cancelTimer(timerId);
-        log(clock().now(), "Unregistered timerId" + brackets(timerId) + brackets(result));
+        stopped = true;
+        final long id = nextTimerId < 0 ? timerId : nextTimerId;
+        boolean result = timerService().cancelTimer(id);
+        log(clock().now(), "Unregistered timerId" + brackets(id) + brackets(result));
+    }
+
+    /**
+     * In the anchored mode, every fire time is registered by a one-shot timer that is computed from the anchor instead
+     * of the periodic timer, then the fire times do not drift with the system timer latency. The timer is registered
+     * earlier by the lead that is learnt from the observed lateness, and it never fires the trigger before the expected
+     * fire time.
+     */
+    private long createAnchoredTimer(WorkerExecutor executor, Instant expectedAt) {
+        final long delay = ChronoUnit.MILLIS.between(clock().now(), expectedAt) - timerLead;
+        nextTimerId = timerService().setTimer(Math.max(1, delay), id -> onAnchoredFire(executor, id, expectedAt));
+        return nextTimerId;
+    }
+
+    private void onAnchoredFire(WorkerExecutor executor, long timerId, Instant expectedAt) {
+        if (stopped) {
+            return;
+        }
+        final Instant firedAt = clock().now();
+        final long lateness = ChronoUnit.MILLIS.between(expectedAt, firedAt);
+        // Adjust the lead by a half of the observed lateness, that is bounded by a quarter of the interval
+        timerLead = Math.max(0, Math.min(trigger().interval().toMillis() / 4,
+                                         timerLead + (lateness + Long.signum(lateness)) / 2));
+        if (firedAt.isBefore(expectedAt)) {
+            final long remaining = ChronoUnit.MILLIS.between(firedAt, expectedAt);
+            nextTimerId = timerService().setTimer(Math.max(1, remaining),
+                                                  id -> onAnchoredFire(executor, id, expectedAt));
+            return;
+        }
+        final boolean late = Duration.between(expectedAt, firedAt).compareTo(trigger().misfirePolicy().threshold()) > 0;
+        if (!late || !onMissedFires(executor, timerId, expectedAt.minusMillis(1), firedAt)) {
+            onProcess(executor, TriggerContextFactory.kickoff(trigger().type(), firedAt, expectedAt, onFire(timerId)));
+        }
+        if (!stopped) {
+            createAnchoredTimer(executor, nextSatisfiableFireTime(trigger().nextTriggerTime(firedAt),
+                                                                  trigger()::nextTriggerTime));
+        }
+    }
+
+    /**
+     * Registers the periodic timer, or the resume timer if the first fire time is in an unsatisfiable window of the
+     * trigger rule.
+     */
+    private long registerPeriodicTimer(WorkerExecutor executor) {
+        final Instant now = clock().now();
+        final Instant first = now.plus(trigger().interval());
+        final Instant resumeAt = nextSatisfiableFireTime(first, t -> nextPeriodicTime(now, t));
+        return resumeAt.equals(first) ? createPeriodicTimer(executor) : createResumeTimer(executor, resumeAt);
+    }
+
+    /**
+     * In the periodic mode, the periodic timer is cancelled while the trigger rule is unsatisfiable, then a one-shot
+     * timer fires at the resumed fire time and restarts the periodic timer.
+     */
+    private long createResumeTimer(WorkerExecutor executor, Instant resumeAt) {
+        final long delay = ChronoUnit.MILLIS.between(clock().now(), resumeAt);
+        nextTimerId = timerService().setTimer(Math.max(1, delay), id -> {
+            if (stopped) {
+                return;
+            }
+            final Instant firedAt = clock().now();
+            final boolean late = Duration.between(resumeAt, firedAt)
+                                         .compareTo(trigger().misfirePolicy().threshold()) > 0;
+            if (!late || !onMissedFires(executor, id, resumeAt.minusMillis(1), firedAt)) {
+                onProcess(executor, TriggerContextFactory.kickoff(trigger().type(), firedAt, resumeAt, onFire(id)));
+            }
+            if (!stopped) {
+                createPeriodicTimer(executor);
+            }
+        });
+        return nextTimerId;
     }
 
     private long createPeriodicTimer(WorkerExecutor executor) {
         final long millis = trigger().interval().toMillis();
-        return this.vertx()
-                   .setPeriodic(millis, id -> onProcess(executor,
-                                                        TriggerContextFactory.kickoff(trigger().type(), clock().now(),
-                                                                                      onFire(id))));
+        lastTickAt  = clock().now();
+        nextTimerId = this.timerService().setPeriodic(millis, id -> {
+            final Instant firedAt = clock().now();
+            final Instant previous = lastTickAt;
+            lastTickAt = firedAt;
+            // The periodic timer drifts by a JVM pause or a blocked event loop, then some fire times might be missed
+            final boolean late = Duration.between(previous.plus(trigger().interval()), firedAt)
+                                         .compareTo(trigger().misfirePolicy().threshold()) > 0;
+            if (!late || !onMissedFires(executor, id, previous, firedAt)) {
+                onProcess(executor, TriggerContextFactory.kickoff(trigger().type(), firedAt, onFire(id)));
+            }
+            final Instant next = firedAt.plus(trigger().interval());
+            final Instant resumeAt = stopped ? next : nextSatisfiableFireTime(next, t -> nextPeriodicTime(firedAt, t));
+            if (!resumeAt.equals(next)) {
+                timerService().cancelTimer(id);
+                createResumeTimer(executor, resumeAt);
+            }
+        });
+        return nextTimerId;
+    }
+
+    /**
+     * @return the first periodic fire time from the given origin that is after the given time
+     */
+    private Instant nextPeriodicTime(Instant origin, Instant time) {
+        final long step = trigger().interval().toMillis();
+        return origin.plusMillis((Math.floorDiv(ChronoUnit.MILLIS.between(origin, time), step) + 1) * step);
     }
 
     static final class IntervalSchedulerBuilderImpl<IN, OUT>
@@ -61,14 +167,13 @@ final class IntervalSchedulerImpl<IN, OUT> extends AbstractScheduler<IN, OUT, In
         implements IntervalSchedulerBuilder<IN, OUT> {
 
         public @NotNull IntervalScheduler build() {
-            return new IntervalSchedulerImpl<>(vertx(), clock(), monitor(), job(), jobData(), timeoutPolicy(),
-                                               trigger(), triggerEvaluator());
+            return new IntervalSchedulerImpl<>(this);
         }
 
     }
 
     static TriggerEvaluator createTriggerEvaluator() {
-        return TriggerEvaluator.byAfter((trigger, triggerContext, externalId, round) -> {
+        return TriggerEvaluator.nonBlocking(null, (trigger, triggerContext, externalId, round) -> {
             IntervalTrigger interval = (IntervalTrigger) trigger;
             if (interval.getRepeat() != REPEAT_INDEFINITELY && round >= interval.getRepeat()) {
                 return Future.succeededFuture(TriggerContextFactory.stop(triggerContext, ReasonCode.STOP_BY_CONFIG));
@@ -39,4 +39,20 @@ public interface JobExecutorConfig<IN, OUT> {
      */
     @NotNull TimeoutPolicy timeoutPolicy();
 
+    /**
+     * Declares the execution mode on which the job runs
+     *
+     * @return execution mode
+     * @see ExecutionMode
+     */
+    @NotNull ExecutionMode executionMode();
+
+    /**
+     * Declares the concurrency policy to handle the overlapping execution rounds
+     *
+     * @return concurrency policy
+     * @see ConcurrencyPolicy
+     */
+    @NotNull ConcurrencyPolicy concurrencyPolicy();
+
 }
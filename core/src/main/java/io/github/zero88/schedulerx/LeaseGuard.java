@@ -0,0 +1,88 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Duration;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.impl.LeaseGuardImpl;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.github.zero88.schedulerx.trigger.TriggerEvaluator;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Represents for a trigger evaluator that lets only one replica of a job fire, the replica that holds the job lease in
+ * the shared {@link LeaseStore}.
+ * <p/>
+ * One guard is shared by all schedulers of a replica. The guard tracks the lease of each job on its first fire, then it
+ * acquires the leases of the newly tracked jobs in one batch, and it renews all tracked leases in one batch
+ * periodically on the event loop. The before trigger evaluation only checks the local lease expiry, then it takes no
+ * round trip to the store per fire, and it never blocks the scheduler context thread.
+ * <p/>
+ * The lease of a job is renewed between its fires even if the job fires less often than the lease time-to-live, then
+ * the job sticks to the same replica. The lease is only released once its scheduler is completed or cancelled.
+ * <p/>
+ * The fire is skipped with {@link ReasonCode#LEASE_NOT_ACQUIRED} if the lease is held by another replica, or with
+ * {@link ReasonCode#LEASE_LOST} once if the lease was held by this replica then it is lost, e.g. the renewal failed
+ * while the previous round was running.
+ * <pre>{@code
+ * LeaseGuard guard = LeaseGuard.create(vertx, LeaseStore.file(vertx, path), "replica-1");
+ * CronScheduler.builder()
+ *              .setTriggerEvaluator(guard)
+ *              ...
+ * }</pre>
+ * <em><strong>Note</strong></em>: The guard must be the last evaluator of a chain because it is shared by many
+ * schedulers, e.g. {@code myEvaluator.andThen(guard)}.
+ *
+ * @see LeaseStore
+ * @see DefaultOptions#leaseTtl
+ * @since 2.0.0
+ */
+public interface LeaseGuard extends TriggerEvaluator {
+
+    /**
+     * Create a lease guard with the default lease time-to-live.
+     *
+     * @param vertx   Vert.x
+     * @param store   the lease store
+     * @param ownerId the replica id, it must be unique among the replicas
+     * @return new lease guard
+     */
+    static @NotNull LeaseGuard create(@NotNull Vertx vertx, @NotNull LeaseStore store, @NotNull String ownerId) {
+        return create(vertx, store, ownerId, DefaultOptions.getInstance().leaseTtl);
+    }
+
+    /**
+     * Create a lease guard.
+     *
+     * @param vertx   Vert.x
+     * @param store   the lease store
+     * @param ownerId the replica id, it must be unique among the replicas
+     * @param ttl     the lease time-to-live, the leases are renewed in every one third of this time
+     * @return new lease guard
+     */
+    static @NotNull LeaseGuard create(@NotNull Vertx vertx, @NotNull LeaseStore store, @NotNull String ownerId,
+                                      @NotNull Duration ttl) {
+        return new LeaseGuardImpl(vertx, store, ownerId, ttl);
+    }
+
+    /**
+     * @return the replica id
+     */
+    @NotNull String ownerId();
+
+    /**
+     * @param externalId the job external id
+     * @return {@code true} if this replica holds the unexpired lease of the given job
+     */
+    boolean isHeld(@NotNull Object externalId);
+
+    /**
+     * Stop the renewal, then release the held leases to let another replica take over without waiting for the lease
+     * expiry.
+     *
+     * @return a future that is completed when the leases are released
+     */
+    @NotNull Future<Void> close();
+
+}
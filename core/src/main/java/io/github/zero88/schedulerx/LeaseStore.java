@@ -0,0 +1,80 @@
+package io.github.zero88.schedulerx;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.impl.FileLeaseStore;
+import io.github.zero88.schedulerx.impl.InMemoryLeaseStore;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Represents for a store of the time-bound exclusive leases, that is shared by the replicas of the schedulers to elect
+ * one replica per job.
+ * <p/>
+ * A lease is keyed by the job {@link JobData#externalId() external id}, and it is held by one owner until it expires.
+ * The leases are acquired and renewed in batch, then a remote store takes one round trip per batch instead of one
+ * round trip per fire.
+ * <p/>
+ * The store is shared by many lease guards, its implementation must be thread-safe.
+ *
+ * @see LeaseGuard
+ * @since 2.0.0
+ */
+public interface LeaseStore extends AutoCloseable {
+
+    /**
+     * Create a store that keeps the leases in memory, the lease guards of the same store compete in the current JVM.
+     *
+     * @return new in-memory store
+     */
+    static @NotNull LeaseStore inMemory() {
+        return new InMemoryLeaseStore();
+    }
+
+    /**
+     * Create a store that keeps the leases in the given file, the lease guards of the stores on the same file compete
+     * across the processes on the same host. A batch is applied under the lock of the sibling {@code <file>.lock} file,
+     * then the leases are written to a temporary file that atomically replaces the lease file, and the file operations
+     * run on the Vert.x worker threads. The undecodable lease file holds no lease.
+     *
+     * @param vertx Vert.x
+     * @param file  the lease file
+     * @return new file store
+     */
+    static @NotNull LeaseStore file(@NotNull Vertx vertx, @NotNull Path file) {
+        return new FileLeaseStore(vertx, file);
+    }
+
+    /**
+     * Acquire the free or expired leases, and renew the leases that are held by the given owner, then the acquired and
+     * renewed leases expire after the given time-to-live.
+     *
+     * @param ownerId the lease owner
+     * @param keys    the lease keys
+     * @param ttl     the lease time-to-live
+     * @return a future of the keys that are held by the given owner after this operation
+     */
+    @NotNull Future<Set<String>> acquire(@NotNull String ownerId, @NotNull Collection<String> keys,
+                                         @NotNull Duration ttl);
+
+    /**
+     * Release the leases that are held by the given owner.
+     *
+     * @param ownerId the lease owner
+     * @param keys    the lease keys
+     * @return a future that is completed when the leases are released
+     */
+    @NotNull Future<Void> release(@NotNull String ownerId, @NotNull Collection<String> keys);
+
+    /**
+     * Release the store resources, the held leases are kept until they expire.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,33 @@
+package io.github.zero88.schedulerx;
+
+/**
+ * Represents for the policy that is applied when the buffer of the {@link BatchSchedulingMonitor} pipeline is full.
+ * <p/>
+ * The policy only applies to the {@code onEach} and {@code onMisfire} results, the lifecycle results
+ * ({@code onUnableSchedule}, {@code onSchedule}, {@code onCompleted}) are never dropped.
+ *
+ * @see BatchSchedulingMonitor#overflowPolicy()
+ * @since 2.0.0
+ */
+public enum MonitorOverflowPolicy {
+
+    /**
+     * Drop the oldest buffered result to admit the newest one.
+     */
+    DROP_OLDEST,
+    /**
+     * Block the caller thread until the buffer has a free slot.
+     * <p/>
+     * The event loop thread is never blocked, the result that is offered on the event loop thread when the buffer is
+     * full is kept in an unbounded overflow lane instead, then the results are never dropped. Be aware the caller
+     * thread is usually the Vert.x event loop thread, then this policy is only suitable when the monitor is fast enough
+     * to keep up with the fire rate.
+     */
+    BLOCK,
+    /**
+     * Admit only one of every {@link BatchSchedulingMonitor#sampleRate()} results once the buffer is half full, the
+     * other results are dropped. The newest result is dropped if the buffer is full.
+     */
+    SAMPLE,
+
+}
@@ -0,0 +1,71 @@
+package io.github.zero88.schedulerx;
+
+/**
+ * The snapshot of the {@link BatchSchedulingMonitor} pipeline statistics.
+ *
+ * @since 2.0.0
+ */
+public final class MonitorPipelineStats {
+
+    private final long offeredCount;
+    private final long deliveredCount;
+    private final long droppedCount;
+    private final long batchCount;
+    private final int lag;
+    private final int maxLag;
+    private final long lastLagNanos;
+
+    public MonitorPipelineStats(long offeredCount, long deliveredCount, long droppedCount, long batchCount, int lag,
+                                int maxLag, long lastLagNanos) {
+        this.offeredCount   = offeredCount;
+        this.deliveredCount = deliveredCount;
+        this.droppedCount   = droppedCount;
+        this.batchCount     = batchCount;
+        this.lag            = lag;
+        this.maxLag         = maxLag;
+        this.lastLagNanos   = lastLagNanos;
+    }
+
+    /**
+     * @return the number of results that are offered to the pipeline
+     */
+    public long offeredCount()   { return offeredCount; }
+
+    /**
+     * @return the number of results that are delivered to the monitor
+     */
+    public long deliveredCount() { return deliveredCount; }
+
+    /**
+     * @return the number of results that are dropped by the overflow policy
+     */
+    public long droppedCount()   { return droppedCount; }
+
+    /**
+     * @return the number of delivered batches
+     */
+    public long batchCount()     { return batchCount; }
+
+    /**
+     * @return the number of results that are waiting in the buffer
+     */
+    public int lag()             { return lag; }
+
+    /**
+     * @return the max number of results that have been waiting in the buffer at once
+     */
+    public int maxLag()          { return maxLag; }
+
+    /**
+     * @return the time in nanoseconds that the oldest result of the last batch has waited in the buffer
+     */
+    public long lastLagNanos()   { return lastLagNanos; }
+
+    @Override
+    public String toString() {
+        return "MonitorPipelineStats(offeredCount=" + offeredCount + ", deliveredCount=" + deliveredCount +
+               ", droppedCount=" + droppedCount + ", batchCount=" + batchCount + ", lag=" + lag + ", maxLag=" +
+               maxLag + ", lastLagNanos=" + lastLagNanos + ')';
+    }
+
+}
@@ -35,6 +35,18 @@ public interface SchedulerBuilder<IN, OUT, TRIGGER extends Trigger, SCHEDULER ex
 
     @NotNull SELF setTimeoutPolicy(@NotNull TimeoutPolicy timeoutPolicy);
 
+    @NotNull SELF setTimerService(@NotNull TimerService timerService);
+
+    @NotNull SELF setClock(@NotNull TimeClock clock);
+
+    @NotNull SELF setExecutionMode(@NotNull ExecutionMode executionMode);
+
+    @NotNull SELF setStateStore(@NotNull SchedulerStateStore stateStore);
+
+    @NotNull SELF setStateDataCodec(@NotNull StateDataCodec<OUT> stateDataCodec);
+
+    @NotNull SELF setConcurrencyPolicy(@NotNull ConcurrencyPolicy concurrencyPolicy);
+
     @NotNull SCHEDULER build();
 
 }
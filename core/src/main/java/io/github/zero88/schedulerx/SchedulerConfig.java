@@ -19,6 +19,13 @@ import io.github.zero88.schedulerx.trigger.TriggerEvaluator;
 @Internal
 public interface SchedulerConfig<TRIGGER extends Trigger, OUT> extends HasTrigger<TRIGGER> {
 
+    /**
+     * Defines a time clock from which the scheduler reads the current time, the system clock is used if it is not
+     * declared
+     *
+     * @return time clock
+     * @see TimeClock
+     */
     @Nullable TimeClock clock();
 
     /**
@@ -36,4 +43,30 @@ public interface SchedulerConfig<TRIGGER extends Trigger, OUT> extends HasTrigge
      */
     @NotNull TriggerEvaluator triggerEvaluator();
 
+    /**
+     * Defines a timer service on which the scheduler registers its system timers
+     *
+     * @return timer service, or {@code null} to register the timers in the
+     *     {@link TimerService#vertx(io.vertx.core.Vertx) Vert.x timer system}
+     * @see TimerService
+     */
+    @Nullable TimerService timerService();
+
+    /**
+     * Defines a durable store of the scheduler state, the state is saved by the {@link JobData#externalId() job
+     * external id}, then the scheduler that has the state store must declare the job external id.
+     *
+     * @return state store, or {@code null} if the scheduler state is only kept in memory
+     * @see SchedulerStateStore
+     */
+    @Nullable SchedulerStateStore stateStore();
+
+    /**
+     * Defines a codec of the job result data that is saved in the {@link #stateStore() state store}.
+     *
+     * @return state data codec, or {@code null} if the saved data is not restored to the scheduler state
+     * @see StateDataCodec
+     */
+    @Nullable StateDataCodec<OUT> stateDataCodec();
+
 }
@@ -0,0 +1,125 @@
+package io.github.zero88.schedulerx;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.impl.SchedulerRegistryImpl;
+import io.github.zero88.schedulerx.trigger.Trigger;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+/**
+ * Represents for a registry that owns many schedulers, which are indexed by the {@link JobData#externalId()} and the
+ * {@link Trigger#type()}.
+ * <p/>
+ * The bulk operations fan out the schedulers across the Vert.x event loops, then the scheduler timers are spread over
+ * the event loops, and the registered schedulers share the worker executor of the registry. The registry lookup and
+ * iteration are backed by the concurrent indexes, then they never block the running schedulers.
+ *
+ * @since 2.0.0
+ */
+public interface SchedulerRegistry extends HasVertx {
+
+    /**
+     * Create a registry that fans out the bulk operations across all Vert.x event loops.
+     *
+     * @param vertx Vert.x
+     * @return new registry
+     */
+    static @NotNull SchedulerRegistry create(@NotNull Vertx vertx) {
+        return new SchedulerRegistryImpl(vertx, 0);
+    }
+
+    /**
+     * Create a registry that fans out the bulk operations across the given number of event loop contexts.
+     *
+     * @param vertx       Vert.x
+     * @param parallelism the number of event loop contexts, it is capped by the number of Vert.x event loops
+     * @return new registry
+     */
+    static @NotNull SchedulerRegistry create(@NotNull Vertx vertx, int parallelism) {
+        return new SchedulerRegistryImpl(vertx, parallelism);
+    }
+
+    /**
+     * Register the scheduler by its job external id.
+     *
+     * @param scheduler the scheduler
+     * @param <S>       Type of scheduler
+     * @return the given scheduler
+     * @throws IllegalArgumentException if the job external id is missing, or another scheduler is registered with the
+     *                                  same external id
+     */
+    <S extends Scheduler<?>> @NotNull S register(@NotNull S scheduler);
+
+    /**
+     * Unregister the scheduler by the job external id. The scheduler is not cancelled.
+     *
+     * @param externalId the job external id
+     * @return the unregistered scheduler, or {@code null} if not found
+     */
+    @Nullable Scheduler<?> unregister(@NotNull Object externalId);
+
+    /**
+     * @param externalId the job external id
+     * @return the scheduler, or {@code null} if not found
+     */
+    @Nullable Scheduler<?> get(@NotNull Object externalId);
+
+    /**
+     * @return the number of registered schedulers
+     */
+    int size();
+
+    /**
+     * @param triggerType the trigger type
+     * @return the number of registered schedulers of the given trigger type
+     */
+    int count(@NotNull String triggerType);
+
+    /**
+     * @return the weakly consistent view of the registered schedulers
+     */
+    @NotNull Collection<Scheduler<?>> schedulers();
+
+    /**
+     * Iterate the registered schedulers of the given trigger type. The iteration is weakly consistent, it does not
+     * block the concurrent registration.
+     *
+     * @param triggerType the trigger type
+     * @param action      the action
+     */
+    void forEach(@NotNull String triggerType, @NotNull Consumer<Scheduler<?>> action);
+
+    /**
+     * @return the worker executor that is shared by the registered schedulers
+     */
+    @NotNull WorkerExecutor workerExecutor();
+
+    /**
+     * Start all registered schedulers that are not started yet. The schedulers are started on the event loop contexts
+     * of the registry in small batches, then the event loops are not blocked by a large registry.
+     *
+     * @return a future that is completed with the number of started schedulers
+     */
+    @NotNull Future<Integer> startAll();
+
+    /**
+     * Cancel all registered schedulers.
+     *
+     * @return a future that is completed when all schedulers are cancelled
+     */
+    @NotNull Future<Void> cancelAll();
+
+    /**
+     * Cancel all registered schedulers, then close the shared worker executor.
+     *
+     * @return a future that is completed when the registry is closed
+     */
+    @NotNull Future<Void> close();
+
+}
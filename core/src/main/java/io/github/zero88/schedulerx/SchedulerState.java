@@ -58,6 +58,13 @@ public interface SchedulerState<OUT> {
      */
     boolean completed();
 
+    /**
+     * Get the time at which the system timer fires the trigger lastly.
+     *
+     * @return last fired at time, might be {@code null} if the trigger is never fired
+     */
+    @Nullable Instant lastFiredAt();
+
     /**
      * Get the data of latest round.
      *
@@ -0,0 +1,80 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The immutable snapshot of the scheduler state that is kept in {@link SchedulerStateStore}.
+ *
+ * @since 2.0.0
+ */
+public final class SchedulerStateRecord {
+
+    private final String key;
+    private final long tick;
+    private final long round;
+    private final Instant lastFiredAt;
+    private final boolean completed;
+    private final Object lastData;
+    private final String lastError;
+
+    /**
+     * @param key         the state key
+     * @param tick        the number of times that the trigger is fired
+     * @param round       the number of times that the job is executed
+     * @param lastFiredAt the last fire time
+     * @param completed   whether the scheduler is completed by its trigger or its job
+     * @param lastData    the job result data of the latest round, it is encoded by the {@link StateDataCodec} if
+     *                    declared, it must be encodable to JSON to be durable
+     * @param lastError   the job result error message of the latest round
+     */
+    public SchedulerStateRecord(@NotNull String key, long tick, long round, @Nullable Instant lastFiredAt,
+                                boolean completed, @Nullable Object lastData, @Nullable String lastError) {
+        this.key         = Objects.requireNonNull(key, "State key is required");
+        this.tick        = tick;
+        this.round       = round;
+        this.lastFiredAt = lastFiredAt;
+        this.completed   = completed;
+        this.lastData    = lastData;
+        this.lastError   = lastError;
+    }
+
+    public @NotNull String key()           { return key; }
+
+    public long tick()                     { return tick; }
+
+    public long round()                    { return round; }
+
+    public @Nullable Instant lastFiredAt() { return lastFiredAt; }
+
+    public boolean completed()             { return completed; }
+
+    /**
+     * @return the job result data of the latest round. The loaded data is the JSON representation of the saved data
+     *     ({@code String}, {@code Number}, {@code Boolean}, {@code JsonObject} or {@code JsonArray}), it is the encoded
+     *     string if the scheduler declares a {@link StateDataCodec}
+     */
+    public @Nullable Object lastData()     { return lastData; }
+
+    public @Nullable String lastError()    { return lastError; }
+
+    /**
+     * Check whether this state is newer than the given state of the same key.
+     *
+     * @param other the other state
+     * @return {@code true} if newer or same
+     */
+    public boolean supersedes(@Nullable SchedulerStateRecord other) {
+        return other == null || tick > other.tick || tick == other.tick && round >= other.round;
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulerStateRecord(key=" + key + ", tick=" + tick + ", round=" + round + ", lastFiredAt=" +
+               lastFiredAt + ", completed=" + completed + ')';
+    }
+
+}
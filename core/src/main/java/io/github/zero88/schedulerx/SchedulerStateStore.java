@@ -0,0 +1,67 @@
+package io.github.zero88.schedulerx;
+
+import java.nio.file.Path;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.impl.JournalSchedulerStateStore;
+
+/**
+ * Represents for a durable store of the scheduler state, that makes the scheduler counters survive a restart.
+ * <p/>
+ * The scheduler saves its state after each fire, then restores the latest saved state on {@code start()}. The state
+ * is keyed by the job {@link JobData#externalId() external id}, then the external id must be stable between restarts.
+ * <p/>
+ * The store is shared by many schedulers, its implementation must be thread-safe.
+ *
+ * @see SchedulerBuilder#setStateStore(SchedulerStateStore)
+ * @since 2.0.0
+ */
+public interface SchedulerStateStore extends AutoCloseable {
+
+    /**
+     * Load the latest saved state.
+     *
+     * @param key the state key
+     * @return the saved state, or {@code null} if not found
+     */
+    @Nullable SchedulerStateRecord load(@NotNull String key);
+
+    /**
+     * Save the scheduler state. The state might be durable later, then this method does not block the scheduler until
+     * the state is written to the storage device.
+     *
+     * @param record the scheduler state
+     */
+    void save(@NotNull SchedulerStateRecord record);
+
+    /**
+     * Force all saved states to be written to the storage device.
+     */
+    void flush();
+
+    /**
+     * Flush the saved states then release the store resources.
+     */
+    @Override
+    void close();
+
+    /**
+     * Create or open the local store that keeps the states in an append-only memory-mapped journal with the periodic
+     * compacted snapshots in the given directory.
+     * <p/>
+     * The journal is committed in group: many saved states are forced to the storage device at once per
+     * {@link DefaultOptions#journalCommitInterval}, instead of one synchronous {@code fsync} per fire.
+     *
+     * @param directory the store directory
+     * @return the journal store
+     * @throws IllegalStateException if unable to open the store
+     */
+    static @NotNull SchedulerStateStore journal(@NotNull Path directory) {
+        return JournalSchedulerStateStore.open(directory, DefaultOptions.getInstance().journalSegmentSize,
+                                               DefaultOptions.getInstance().journalCommitInterval,
+                                               DefaultOptions.getInstance().journalSnapshotInterval);
+    }
+
+}
@@ -43,6 +43,9 @@ public interface SchedulingMonitor<OUT> {
     /**
      * This method is invoked when the executor finishes each execution round regardless an execution result is success
      * or fail.
+     * <p/>
+     * It is invoked in the round order, unless the scheduler allows the overlapping rounds by
+     * {@link ConcurrencyPolicy.Strategy#ALLOW_CONCURRENT}, then it is invoked in the order the rounds finish.
      *
      * @param result the execution result
      */
@@ -0,0 +1,89 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.impl.SimulatedTimelineImpl;
+
+/**
+ * Represents for a simulated time that is both the clock and the timer backend of the schedulers, the time only moves
+ * forward when the timeline is advanced, then the timers fire event by event in the virtual time without waiting for
+ * the wall clock.
+ * <p/>
+ * The timers fire in the order of their virtual deadline, then in the order of their registration. The timer handler is
+ * dispatched synchronously on the thread that advances the timeline, with the Vert.x context that registers the timer
+ * as its current context, then the handler is completed before the next timer fires. To replay the schedules
+ * deterministically, the schedulers should run in {@link ExecutionMode#CALLER_THREAD} mode, and the timeline
+ * should be advanced on the Vert.x context that starts the schedulers, then every execution round is completed before
+ * the timeline moves to the next timer.
+ * <pre>{@code
+ * SimulatedTimeline timeline = SimulatedTimeline.create(Instant.parse("2024-01-01T00:00:00Z"));
+ * CronScheduler.builder()
+ *              .setVertx(vertx)
+ *              .setClock(timeline)
+ *              .setTimerService(timeline)
+ *              .setExecutionMode(ExecutionMode.CALLER_THREAD)
+ *              ...
+ *              .build()
+ *              .start();
+ * timeline.advanceBy(Duration.ofDays(30));
+ * }</pre>
+ *
+ * @see SchedulerBuilder#setClock(TimeClock)
+ * @see SchedulerBuilder#setTimerService(TimerService)
+ * @since 2.0.0
+ */
+public interface SimulatedTimeline extends TimeClock, TimerService {
+
+    /**
+     * Create a new simulated timeline.
+     *
+     * @param startAt the virtual time when the timeline starts
+     * @return new simulated timeline
+     */
+    static @NotNull SimulatedTimeline create(@NotNull Instant startAt) {
+        return new SimulatedTimelineImpl(startAt);
+    }
+
+    /**
+     * @return the current virtual time
+     */
+    @Override
+    @NotNull Instant now();
+
+    /**
+     * @return the virtual deadline of the next timer, or {@code null} if no timer is registered
+     */
+    @Nullable Instant nextFireTime();
+
+    /**
+     * @return the number of the registered timers
+     */
+    int size();
+
+    /**
+     * Advance the virtual time to the given time, every timer whose deadline is not after the given time is fired in
+     * the deadline order, including the timers that are registered while advancing. The virtual time is set to the
+     * timer deadline before the timer fires.
+     *
+     * @param target the target virtual time
+     * @return the number of the fired timers
+     * @throws IllegalArgumentException if the target time is before the current virtual time
+     */
+    int advanceTo(@NotNull Instant target);
+
+    /**
+     * Advance the virtual time by the given duration.
+     *
+     * @param duration the duration
+     * @return the number of the fired timers
+     * @see #advanceTo(Instant)
+     */
+    default int advanceBy(@NotNull Duration duration) {
+        return advanceTo(now().plus(duration));
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.github.zero88.schedulerx;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.vertx.core.json.Json;
+
+/**
+ * Represents for a codec that converts the job result data to its durable form in {@link SchedulerStateStore}, then
+ * the data restored on start keeps its type.
+ * <p/>
+ * The scheduler without the codec saves the raw job result data, that is only readable as JSON from
+ * {@link SchedulerStateRecord#lastData()}, and it is not restored to the scheduler state.
+ *
+ * @param <OUT> Type of job result data
+ * @see SchedulerBuilder#setStateDataCodec(StateDataCodec)
+ * @since 2.0.0
+ */
+public interface StateDataCodec<OUT> {
+
+    /**
+     * Encode the job result data
+     *
+     * @param data the job result data
+     * @return the encoded data
+     */
+    @NotNull String encode(@NotNull OUT data);
+
+    /**
+     * Decode the job result data
+     *
+     * @param encoded the encoded data
+     * @return the job result data
+     * @throws RuntimeException if the encoded data is invalid
+     */
+    OUT decode(@NotNull String encoded);
+
+    /**
+     * Create the JSON codec of the given type. The type that is not a JSON type ({@code String}, {@code Number},
+     * {@code Boolean}, {@code JsonObject} or {@code JsonArray}) requires Jackson Databind on the classpath.
+     *
+     * @param type  the job result data type
+     * @param <OUT> Type of job result data
+     * @return the JSON codec
+     */
+    static <OUT> @NotNull StateDataCodec<OUT> json(@NotNull Class<OUT> type) {
+        Objects.requireNonNull(type, "Data type is required");
+        return new StateDataCodec<OUT>() {
+            @Override
+            public @NotNull String encode(@NotNull OUT data) { return Json.encode(data); }
+
+            @Override
+            public OUT decode(@NotNull String encoded) { return Json.decodeValue(encoded, type); }
+        };
+    }
+
+}
@@ -6,23 +6,29 @@ import java.util.concurrent.TimeoutException;
 import org.jetbrains.annotations.NotNull;
 
 import io.github.zero88.schedulerx.impl.HumanReadableTimeFormat;
-import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 /**
  * Represents for a helper to create a timeout block.
+ * <p/>
+ * The timeout is enforced by one timer in the given {@link TimerService}, the timer is cancelled as soon as the
+ * wrapped promise is completed.
  *
  * @since 2.0.0
  */
 public final class TimeoutBlock {
 
-    private final Vertx vertx;
+    private final TimerService timerService;
     private final Duration timeout;
 
     public TimeoutBlock(Vertx vertx, Duration timeout) {
-        this.vertx   = vertx;
-        this.timeout = timeout;
+        this(TimerService.vertx(vertx), timeout);
+    }
+
+    public TimeoutBlock(TimerService timerService, Duration timeout) {
+        this.timerService = timerService;
+        this.timeout      = timeout;
     }
 
     /**
@@ -36,12 +42,9 @@ public final class TimeoutBlock {
         if (timeout.isNegative() || timeout.isZero()) {
             return promise;
         }
-        Future<Void> controller = Future.future(p -> vertx.setTimer(timeout.toMillis(), ignore -> p.complete()));
-        Future.any(promise.future(), controller).onSuccess(event -> {
-            if (!event.isComplete(0)) {
-                promise.fail(new NoStackTraceTimeoutException(timeout));
-            }
-        });
+        final long timerId = timerService.setTimer(timeout.toMillis(),
+                                                   ignore -> promise.tryFail(new NoStackTraceTimeoutException(timeout)));
+        promise.future().onComplete(ignore -> timerService.cancelTimer(timerId));
         return promise;
     }
 
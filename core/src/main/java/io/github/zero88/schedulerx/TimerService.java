@@ -0,0 +1,76 @@
+package io.github.zero88.schedulerx;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.impl.TimingWheelTimerService;
+import io.github.zero88.schedulerx.impl.VertxTimerService;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * Represents for a timer backend on which the scheduler registers its system timers.
+ * <p/>
+ * By default, a scheduler registers its timers directly in the {@link #vertx(Vertx) Vert.x timer system} with the
+ * millisecond resolution. The schedulers of a Vert.x instance can opt in to share one {@link #timingWheel(Vertx) timing
+ * wheel} instead, it keeps one Vert.x timer per Vert.x instance no matter how many schedulers are registered, at the
+ * cost of a coarser resolution.
+ * <p/>
+ * The timer handler is always invoked on the Vert.x context that registers the timer.
+ *
+ * @see SchedulerBuilder#setTimerService(TimerService)
+ * @since 2.0.0
+ */
+public interface TimerService {
+
+    /**
+     * Set a one-shot timer to fire after {@code delay} milliseconds, at which point {@code handler} will be called
+     * with the id of the timer.
+     *
+     * @param delay   the delay in milliseconds, after which the timer will fire
+     * @param handler the handler that will be called with the timer ID when the timer fires
+     * @return the unique ID of the timer
+     */
+    long setTimer(long delay, @NotNull Handler<Long> handler);
+
+    /**
+     * Set a periodic timer to fire every {@code delay} milliseconds, at which point {@code handler} will be called
+     * with the id of the timer.
+     *
+     * @param delay   the delay in milliseconds, after which the timer will fire
+     * @param handler the handler that will be called with the timer ID when the timer fires
+     * @return the unique ID of the timer
+     */
+    long setPeriodic(long delay, @NotNull Handler<Long> handler);
+
+    /**
+     * Cancels the timer with the specified {@code id}.
+     *
+     * @param id The id of the timer to cancel
+     * @return {@code true} if the timer was successfully cancelled, or {@code false} if the timer does not exist.
+     */
+    boolean cancelTimer(long id);
+
+    /**
+     * Create a timer service that delegates every timer to the Vert.x timer system.
+     *
+     * @param vertx Vert.x
+     * @return the Vert.x timer service
+     */
+    static @NotNull TimerService vertx(@NotNull Vertx vertx) {
+        return new VertxTimerService(vertx);
+    }
+
+    /**
+     * Obtain the hierarchical timing wheel that is shared between every scheduler of the given Vert.x instance.
+     * <p/>
+     * The timing wheel has a coarse resolution that is declared by {@link DefaultOptions#timerTickDuration}, a timer
+     * never fires before its deadline, but it might fire later than its deadline up to one tick.
+     *
+     * @param vertx Vert.x
+     * @return the shared timing wheel timer service
+     */
+    static @NotNull TimerService timingWheel(@NotNull Vertx vertx) {
+        return TimingWheelTimerService.shared(vertx);
+    }
+
+}
@@ -5,8 +5,11 @@ import java.time.Duration;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
+import io.github.zero88.schedulerx.impl.CallerThreadWorkerExecutor;
+import io.github.zero88.schedulerx.impl.VirtualThreadWorkerExecutor;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.logging.LoggerFactory;
 
 /**
  * A factory to create {@link WorkerExecutor}.
@@ -34,6 +37,36 @@ public interface WorkerExecutorFactory {
                       DefaultOptions.getInstance().executionThreadPoolSize);
     }
 
+    /**
+     * Create a worker executor on which the scheduling execution operation runs in the given execution mode.
+     * <p/>
+     * In {@link ExecutionMode#VIRTUAL_THREAD} mode, each operation runs on a new virtual thread, the worker thread
+     * pool is used instead if the Java runtime does not support virtual thread. In {@link ExecutionMode#CALLER_THREAD}
+     * mode, each operation runs inline on the caller thread.
+     *
+     * @param vertx         Vert.x
+     * @param timeoutPolicy the timeout policy
+     * @param executionMode the execution mode
+     * @return new instance of worker executor
+     * @see #createExecutionWorker(Vertx, TimeoutPolicy)
+     */
+    static @NotNull WorkerExecutor createExecutionWorker(@NotNull Vertx vertx, @NotNull TimeoutPolicy timeoutPolicy,
+                                                         @NotNull ExecutionMode executionMode) {
+        if (executionMode == ExecutionMode.CALLER_THREAD) {
+            return CallerThreadWorkerExecutor.create(vertx);
+        }
+        if (executionMode == ExecutionMode.VIRTUAL_THREAD) {
+            final WorkerExecutor executor = VirtualThreadWorkerExecutor.create(vertx);
+            if (executor != null) {
+                return executor;
+            }
+            LoggerFactory.getLogger(WorkerExecutorFactory.class)
+                         .warn("Virtual thread is not supported in the current Java runtime, " +
+                               "fallback to the worker thread pool");
+        }
+        return createExecutionWorker(vertx, timeoutPolicy);
+    }
+
     /**
      * Create a worker executor on which the scheduling monitor operation runs.
      * <p/>
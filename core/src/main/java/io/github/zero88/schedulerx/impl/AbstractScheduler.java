@@ -5,31 +5,47 @@ import static io.github.zero88.schedulerx.impl.Utils.brackets;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import io.github.zero88.schedulerx.AsyncJob;
+import io.github.zero88.schedulerx.BatchSchedulingMonitor;
+import io.github.zero88.schedulerx.ConcurrencyPolicy;
 import io.github.zero88.schedulerx.ExecutionContext;
+import io.github.zero88.schedulerx.ExecutionMode;
 import io.github.zero88.schedulerx.ExecutionResult;
 import io.github.zero88.schedulerx.Job;
 import io.github.zero88.schedulerx.JobData;
 import io.github.zero88.schedulerx.JobExecutor;
 import io.github.zero88.schedulerx.JobExecutorConfig;
+import io.github.zero88.schedulerx.MonitorPipelineStats;
 import io.github.zero88.schedulerx.Scheduler;
 import io.github.zero88.schedulerx.SchedulerConfig;
+import io.github.zero88.schedulerx.SchedulerStateRecord;
+import io.github.zero88.schedulerx.SchedulerStateStore;
 import io.github.zero88.schedulerx.SchedulingMonitor;
+import io.github.zero88.schedulerx.StateDataCodec;
 import io.github.zero88.schedulerx.TimeClock;
 import io.github.zero88.schedulerx.TimeoutBlock;
 import io.github.zero88.schedulerx.TimeoutPolicy;
+import io.github.zero88.schedulerx.TimerService;
 import io.github.zero88.schedulerx.WorkerExecutorFactory;
+import io.github.zero88.schedulerx.trigger.MisfireDecision;
+import io.github.zero88.schedulerx.trigger.MisfirePolicy;
+import io.github.zero88.schedulerx.trigger.MisfirePolicy.Strategy;
+import io.github.zero88.schedulerx.trigger.TimebasedTrigger;
 import io.github.zero88.schedulerx.trigger.Trigger;
 import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
 import io.github.zero88.schedulerx.trigger.TriggerContext;
@@ -39,6 +55,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 
@@ -55,33 +72,66 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
 
     @SuppressWarnings("java:S3416")
     protected static final Logger LOGGER = LoggerFactory.getLogger(Scheduler.class);
+    private static final int MAX_SUSPENDED_WINDOWS = 1000;
 
     private final @NotNull Vertx vertx;
     private final @NotNull SchedulerStateInternal<OUT> state;
+    // The reusable buffer of the missed fire times, it is only accessed on the timer context
+    private long[] missedTimes;
     private final @NotNull SchedulingMonitorInternal<OUT> monitor;
     private final @NotNull JobData<IN> jobData;
     private final @NotNull Job<IN, OUT> job;
     private final @NotNull T trigger;
-    private final @NotNull TriggerEvaluator evaluator;
+    private final @NotNull InternalTriggerEvaluator evaluator;
     private final @NotNull TimeoutPolicy timeoutPolicy;
+    private final @NotNull ExecutionMode executionMode;
     private final @NotNull TimeClock clock;
+    private final @NotNull TimerService timerService;
+    private final @NotNull TimeoutBlock evaluationTimeout;
+    private final @NotNull TimeoutBlock executionTimeout;
+    private final @Nullable SchedulerStateStore stateStore;
+    private final @Nullable StateDataCodec<OUT> stateDataCodec;
+    private final @NotNull ConcurrencyPolicy concurrencyPolicy;
+    // the queued fires in the queue concurrency policy, it is guarded by itself
+    private final Deque<PendingFire> pendingFires = new ArrayDeque<>();
     private final Lock lock = new ReentrantLock();
-    private boolean didStart = false;
+    private volatile boolean didStart = false;
     private boolean didTriggerValidation = false;
     private IllegalArgumentException invalidTrigger;
 
-    protected AbstractScheduler(Vertx vertx, TimeClock clock, SchedulingMonitor<OUT> monitor, Job<IN, OUT> job,
-                                JobData<IN> jobData, TimeoutPolicy timeoutPolicy, T trigger,
-                                TriggerEvaluator evaluator) {
-        this.vertx         = Objects.requireNonNull(vertx, "Vertx instance is required");
-        this.job           = Objects.requireNonNull(job, "Job is required");
-        this.trigger       = Objects.requireNonNull(trigger, "Trigger is required");
-        this.clock         = Optional.ofNullable(clock).orElseGet(TimeClockImpl::new);
-        this.jobData       = Optional.ofNullable(jobData).orElseGet(JobData::empty);
-        this.timeoutPolicy = Optional.ofNullable(timeoutPolicy).orElseGet(TimeoutPolicy::byDefault);
-        this.monitor       = new SchedulingMonitorImpl<>(vertx, monitor);
-        this.state         = new SchedulerStateImpl<>(this.clock);
-        this.evaluator     = new InternalTriggerEvaluator(this, evaluator);
+    /**
+     * Constructs the scheduler from the given builder
+     *
+     * @param builder   the scheduler builder
+     * @param evaluator the trigger evaluator that overrides the builder evaluator, it is used by the subclass to
+     *                  chain its own evaluator with the builder evaluator
+     */
+    protected AbstractScheduler(@NotNull AbstractSchedulerBuilder<IN, OUT, T, ?, ?> builder,
+                                @Nullable TriggerEvaluator evaluator) {
+        this.vertx             = Objects.requireNonNull(builder.vertx(), "Vertx instance is required");
+        this.job               = Objects.requireNonNull(builder.job(), "Job is required");
+        this.trigger           = Objects.requireNonNull(builder.trigger(), "Trigger is required");
+        this.clock             = Optional.ofNullable(builder.clock()).orElseGet(TimeClockImpl::new);
+        this.jobData           = Optional.ofNullable(builder.jobData()).orElseGet(JobData::empty);
+        this.timeoutPolicy     = Optional.ofNullable(builder.timeoutPolicy()).orElseGet(TimeoutPolicy::byDefault);
+        this.executionMode     = builder.executionMode();
+        this.timerService      = Optional.ofNullable(builder.timerService())
+                                         .orElseGet(() -> TimerService.vertx(vertx));
+        this.evaluationTimeout = new TimeoutBlock(timerService, timeoutPolicy.evaluationTimeout());
+        this.executionTimeout  = new TimeoutBlock(timerService, timeoutPolicy.executionTimeout());
+        this.monitor           = builder.monitor() instanceof BatchSchedulingMonitor
+                                 ? new BatchSchedulingMonitorPipeline<>(vertx,
+                                                                        (BatchSchedulingMonitor<OUT>) builder.monitor())
+                                 : new SchedulingMonitorImpl<>(vertx, builder.monitor());
+        this.stateStore        = builder.stateStore();
+        if (stateStore != null && jobData.externalId() == null) {
+            // The state is saved by the job external id, then it must not be shared between the schedulers
+            throw new IllegalArgumentException("The scheduler state store requires the job external id");
+        }
+        this.stateDataCodec    = builder.stateDataCodec();
+        this.concurrencyPolicy = builder.concurrencyPolicy();
+        this.state             = new SchedulerStateImpl<>(this.clock, concurrencyPolicy.maxConcurrent());
+        this.evaluator         = new InternalTriggerEvaluator(this, evaluator);
     }
 
     @Override
@@ -93,6 +143,12 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
     @Override
     public final @NotNull SchedulingMonitor<OUT> monitor() { return monitor.unwrap(); }
 
+    /**
+     * @return the snapshot of the monitor pipeline statistics, or {@code null} if the scheduling monitor is not a
+     *     {@link BatchSchedulingMonitor}
+     */
+    public final @Nullable MonitorPipelineStats monitorStats() { return monitor.stats(); }
+
     @Override
     public final @NotNull Job<IN, OUT> job() { return job; }
 
@@ -102,9 +158,29 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
     @Override
     public @NotNull TimeoutPolicy timeoutPolicy() { return timeoutPolicy; }
 
+    @Override
+    public final @NotNull ExecutionMode executionMode() { return executionMode; }
+
     @Override
     public @NotNull TriggerEvaluator triggerEvaluator() { return evaluator; }
 
+    @Override
+    public final @NotNull TimerService timerService() { return timerService; }
+
+    @Override
+    public final @Nullable SchedulerStateStore stateStore() { return stateStore; }
+
+    @Override
+    public final @Nullable StateDataCodec<OUT> stateDataCodec() { return stateDataCodec; }
+
+    /**
+     * @return {@code true} if the scheduler is already started
+     */
+    final boolean isStarted() { return didStart; }
+
+    @Override
+    public final @NotNull ConcurrencyPolicy concurrencyPolicy() { return concurrencyPolicy; }
+
     @Override
     @SuppressWarnings({ "java:S1193", "unchecked" })
     public final @NotNull T trigger() {
@@ -148,8 +224,10 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
             if (didStart) {
                 throw new IllegalStateException("The scheduler is already started!");
             }
+            restoreState();
             final WorkerExecutor executor = workerExecutor == null
-                                            ? WorkerExecutorFactory.createExecutionWorker(vertx, timeoutPolicy)
+                                            ? WorkerExecutorFactory.createExecutionWorker(vertx, timeoutPolicy,
+                                                                                          executionMode)
                                             : workerExecutor;
             final Instant now = clock.now();
             final Duration delay = rule.calculateRegisterTime(now);
@@ -158,7 +236,7 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
             } else {
                 log(now, "Wait for " + brackets(delay) + " before registering the trigger " +
                          "in the scheduler at the beginning time in the trigger rule");
-                state.timerId(vertx().setTimer(delay.toMillis(), ignore -> doStart(executor)));
+                state.timerId(timerService.setTimer(delay.toMillis(), ignore -> doStart(executor)));
             }
             didStart = true;
         } finally {
@@ -188,12 +266,25 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
     }
 
     protected final void doStart(WorkerExecutor workerExecutor) {
-        this.registerTimer(workerExecutor).onSuccess(this::onSchedule).onFailure(this::onUnableSchedule);
+        if (state.completed()) {
+            // The trigger might be stopped synchronously by the previous fire
+            return;
+        }
+        this.registerTimer(workerExecutor).onSuccess(timerId -> {
+            final boolean firstSchedule = state.pending();
+            onSchedule(timerId);
+            if (firstSchedule && state.lastFiredAt() != null) {
+                onRestoredMisfire(workerExecutor, timerId);
+            }
+        }).onFailure(this::onUnableSchedule);
     }
 
     protected final void doStop(long timerId, TriggerContext context) {
         if (context.isStopped()) {
-            unregisterTimer(timerId);
+            // The scheduler that is cancelled before start has no timer
+            if (didStart) {
+                unregisterTimer(timerId);
+            }
             onComplete(context);
         }
     }
@@ -222,26 +313,198 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
      * Processing the trigger right away after the system timer fires
      */
     protected final void onProcess(WorkerExecutor workerExecutor, TriggerContext triggerContext) {
-        log(Objects.requireNonNull(triggerContext.firedAt()), "On fire");
-        this.onEvaluationBeforeTrigger(workerExecutor, triggerContext)
-            .onSuccess(ctx -> onTrigger(workerExecutor, ctx))
-            .onFailure(t -> onMisfire(TriggerContextFactory.skip(triggerContext, t instanceof TimeoutException
-                                                                                 ? ReasonCode.EVALUATION_TIMEOUT
-                                                                                 : ReasonCode.UNEXPECTED_ERROR, t)));
+        process(workerExecutor, triggerContext);
     }
 
     protected final void onTrigger(WorkerExecutor workerExecutor, TriggerContext triggerContext) {
+        trigger(workerExecutor, triggerContext);
+    }
+
+    /**
+     * Catches up the fire times that are missed within the time window by the trigger misfire policy, the decision is
+     * reported to the monitor with {@link ReasonCode#MISFIRE}. The {@link Strategy#FIRE_ONCE_NOW} policy just lets the
+     * late fire be processed as usual, then nothing is reported.
+     *
+     * @param workerExecutor the worker executor
+     * @param timerId        the system timer id
+     * @param from           the exclusive start of the time window, that is the last fire time
+     * @param now            the current clock time
+     * @return {@code true} if the missed fire times are handled, then the late fire must not be processed, otherwise
+     *     {@code false} if nothing is missed or the late fire is processed once
+     * @see MisfirePolicy
+     */
+    protected final boolean onMissedFires(WorkerExecutor workerExecutor, long timerId, @NotNull Instant from,
+                                          @NotNull Instant now) {
+        if (!(trigger instanceof TimebasedTrigger)) {
+            return false;
+        }
+        final TimebasedTrigger timebased = (TimebasedTrigger) trigger;
+        final MisfirePolicy policy = timebased.misfirePolicy();
+        if (policy.strategy() == Strategy.FIRE_ONCE_NOW) {
+            return false;
+        }
+        state.timerId(timerId);
+        if (missedTimes == null) {
+            missedTimes = new long[policy.maxCatchUp()];
+        }
+        final long missed = timebased.missedFireTimes(from, now, missedTimes);
+        if (missed == 0) {
+            return false;
+        }
+        final int kept = (int) Math.min(missed, missedTimes.length);
+        final Instant lastMissedAt = Instant.ofEpochMilli(missedTimes[kept - 1]);
+        final int fired = policy.strategy() == Strategy.SKIP_TO_NEXT ? 0 : kept;
+        final MisfireDecision decision = new MisfireDecision(policy.strategy(), missed, fired, lastMissedAt);
+        final TriggerContext ctx = TriggerContextFactory.skip(
+            TriggerContextFactory.kickoff(trigger.type(), now, state.tick(), decision), ReasonCode.MISFIRE);
+        log(now, "On misfire::" + ReasonCode.MISFIRE + brackets(decision));
+        monitor.onMisfire(ExecutionResultImpl.<OUT>builder()
+                                             .setExternalId(jobData.externalId())
+                                             .setAvailableAt(state.availableAt())
+                                             .setTriggerContext(ctx)
+                                             .setTick(ctx.tick())
+                                             .setFiredAt(now)
+                                             .setRound(state.round())
+                                             .setFinishedAt(now)
+                                             .build());
+        if (policy.strategy() == Strategy.SKIP_TO_NEXT) {
+            state.lastFiredAt(lastMissedAt);
+            saveState(false);
+        } else {
+            // Fire the missed times back-to-back, the next fire starts after the previous one is finished
+            Future<Void> batch = Future.succeededFuture();
+            for (int i = 0; i < kept; i++) {
+                final Instant firedAt = Instant.ofEpochMilli(missedTimes[i]);
+                batch = batch.compose(ignore -> process(workerExecutor, TriggerContextFactory.kickoff(
+                    trigger.type(), firedAt, state.increaseTick())));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first fire time that the trigger rule can satisfy, then the scheduler registers its timer at that time
+     * instead of waking up and misfiring on every fire time in the unsatisfiable windows of the rule timeframes. The
+     * fire times after the rule {@link TriggerRule#until()} are skipped to the first fire time that stops the trigger.
+     * <p/>
+     * If any fire time is skipped after the scheduler is scheduled, one aggregated misfire is reported with
+     * {@link ReasonCode#SUSPENDED}, and its trigger context info is the resumed fire time.
+     *
+     * @param fireTime     the next fire time of the trigger schedule
+     * @param nextFireTime the function to compute the first fire time that is after the given time
+     * @return the first satisfiable fire time, or the given fire time if the rule cannot predict the satisfiable time
+     * @see TriggerRule#nextSatisfiableTime(Instant)
+     */
+    protected final @NotNull Instant nextSatisfiableFireTime(@NotNull Instant fireTime,
+                                                             @NotNull UnaryOperator<Instant> nextFireTime) {
+        final TriggerRule rule = trigger.rule();
+        if (rule.timeframes().isEmpty()) {
+            return fireTime;
+        }
+        Instant next = fireTime;
+        // Each iteration jumps over one unsatisfiable window, it is bounded in case of the short windows
+        for (int i = 0; i < MAX_SUSPENDED_WINDOWS && !rule.satisfy(next); i++) {
+            final Instant satisfiable = rule.nextSatisfiableTime(next);
+            if (satisfiable == null && rule.until() != null && !rule.isExceeded(next)) {
+                next = nextFireTime.apply(rule.until().plus(rule.leeway()));
+                break;
+            }
+            if (satisfiable == null || !satisfiable.isAfter(next)) {
+                break;
+            }
+            next = nextFireTime.apply(satisfiable.minusNanos(1));
+        }
+        if (!next.equals(fireTime) && !state.pending()) {
+            final Instant now = clock.now();
+            final TriggerContext ctx = TriggerContextFactory.skip(
+                TriggerContextFactory.kickoff(trigger.type(), now, state.tick(), next), ReasonCode.SUSPENDED);
+            log(now, "On misfire::" + ReasonCode.SUSPENDED + brackets(next));
+            monitor.onMisfire(ExecutionResultImpl.<OUT>builder()
+                                                 .setExternalId(jobData.externalId())
+                                                 .setAvailableAt(state.availableAt())
+                                                 .setTriggerContext(ctx)
+                                                 .setTick(ctx.tick())
+                                                 .setFiredAt(now)
+                                                 .setRound(state.round())
+                                                 .setFinishedAt(now)
+                                                 .build());
+        }
+        return next;
+    }
+
+    private void onRestoredMisfire(WorkerExecutor workerExecutor, long timerId) {
+        final Instant lastFiredAt = Objects.requireNonNull(state.lastFiredAt());
+        if (!(trigger instanceof TimebasedTrigger)) {
+            return;
+        }
+        final TimebasedTrigger timebased = (TimebasedTrigger) trigger;
+        final Instant now = clock.now();
+        try {
+            final Instant expectedAt = timebased.nextTriggerTime(lastFiredAt);
+            if (Duration.between(expectedAt, now).compareTo(timebased.misfirePolicy().threshold()) <= 0) {
+                return;
+            }
+            if (timebased.misfirePolicy().strategy() == Strategy.FIRE_ONCE_NOW) {
+                process(workerExecutor, TriggerContextFactory.kickoff(trigger.type(), now, state.increaseTick()));
+            } else {
+                onMissedFires(workerExecutor, timerId, lastFiredAt, now);
+            }
+        } catch (Exception ex) {
+            LOGGER.warn(genMsg(state.tick(), state.round(), now, "Unable to catch up the missed fire times"), ex);
+        }
+    }
+
+    private Future<Void> process(WorkerExecutor workerExecutor, TriggerContext triggerContext) {
+        if (concurrencyPolicy.maxPending() > 0 && !state.pending() && !state.completed()) {
+            final boolean inFlight = state.inFlight(triggerContext.tick());
+            if (!inFlight || hasPendingFires()) {
+                // Keep the FIFO order: the in-flight slot is handed over to the first queued fire
+                if (inFlight) {
+                    state.markFinished(triggerContext.tick());
+                }
+                enqueue(workerExecutor, triggerContext);
+                dequeue();
+                return Future.succeededFuture();
+            }
+        }
+        return run(workerExecutor, triggerContext);
+    }
+
+    private Future<Void> run(WorkerExecutor workerExecutor, TriggerContext triggerContext) {
+        log(Objects.requireNonNull(triggerContext.firedAt()), "On fire");
+        state.lastFiredAt(triggerContext.firedAt());
+        return this.onEvaluationBeforeTrigger(workerExecutor, triggerContext).transform(ar -> {
+            if (ar.succeeded()) {
+                return trigger(workerExecutor, ar.result());
+            }
+            final Throwable t = ar.cause();
+            onMisfire(TriggerContextFactory.skip(triggerContext, t instanceof TimeoutException
+                                                                 ? ReasonCode.EVALUATION_TIMEOUT
+                                                                 : ReasonCode.UNEXPECTED_ERROR, t));
+            return Future.succeededFuture();
+        });
+    }
+
+    private Future<Void> trigger(WorkerExecutor workerExecutor, TriggerContext triggerContext) {
+        if (triggerContext.isStopped()) {
+            // The trigger is stopped by the rule configuration before the job runs, e.g. the until time is exceeded
+            state.markFinished(triggerContext.tick());
+            doStop(state.timerId(), triggerContext);
+            return Future.succeededFuture();
+        }
         if (!triggerContext.isReady()) {
             onMisfire(triggerContext);
-            return;
+            return Future.succeededFuture();
         }
         final long round = state.increaseRound();
-        final Duration timeout = timeoutPolicy().executionTimeout();
         final ExecutionContextInternal<OUT> exeCtx = new ExecutionContextImpl<>(vertx, clock, triggerContext, round);
         log(exeCtx.triggeredAt(), "On trigger", triggerContext.tick(), round);
-        Future.join(onEvaluationAfterTrigger(workerExecutor, triggerContext, round),
-                    executeBlocking(workerExecutor, p -> executeJob(exeCtx.setup(wrapTimeout(timeout, p)))))
-              .onComplete(ar -> onResult(exeCtx, ar.cause()));
+        return Future.join(onEvaluationAfterTrigger(workerExecutor, triggerContext, round),
+                           executeBlocking(workerExecutor, p -> executeJob(exeCtx.setup(executionTimeout.wrap(p)))))
+                     .transform(ar -> {
+                         onResult(exeCtx, ar.cause());
+                         return Future.succeededFuture();
+                     });
     }
 
     protected final void onSchedule(long timerId) {
@@ -281,25 +544,19 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
     }
 
     protected final Future<TriggerContext> onEvaluationBeforeTrigger(WorkerExecutor worker, TriggerContext ctx) {
-        return executeBlocking(worker, p -> {
-            log(clock.now(), "On before trigger");
-            this.wrapTimeout(timeoutPolicy.evaluationTimeout(), p)
-                .handle(evaluator.beforeTrigger(trigger, ctx, jobData.externalId()));
-        });
+        return evaluate(worker, "On before trigger", () -> evaluator.beforeTrigger(trigger, ctx, jobData.externalId()));
     }
 
     protected final Future<TriggerContext> onEvaluationAfterTrigger(WorkerExecutor worker, TriggerContext ctx,
                                                                     long round) {
-        return executeBlocking(worker, p -> {
-            log(clock.now(), "On after trigger");
-            this.wrapTimeout(timeoutPolicy.evaluationTimeout(), p)
-                .handle(evaluator.afterTrigger(trigger(), ctx, jobData.externalId(), round)
-                                 .onSuccess(c -> doStop(state.timerId(), c))
-                                 .otherwise(t -> {
-                                     LOGGER.error(genMsg(ctx.tick(), round, clock.now(), "On after trigger::error"), t);
-                                     return ctx;
-                                 }));
-        });
+        return evaluate(worker, "On after trigger",
+                        () -> evaluator.afterTrigger(trigger(), ctx, jobData.externalId(), round)
+                                       .onSuccess(c -> doStop(state.timerId(), c))
+                                       .otherwise(t -> {
+                                           LOGGER.error(genMsg(ctx.tick(), round, clock.now(),
+                                                               "On after trigger::error"), t);
+                                           return ctx;
+                                       }));
     }
 
     protected final void onMisfire(@NotNull TriggerContext triggerCtx) {
@@ -320,6 +577,9 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
                                              .setRound(state.round())
                                              .setFinishedAt(finishedAt)
                                              .build());
+        saveState(false);
+        onFinish(triggerCtx);
+        dequeue();
     }
 
     protected final void onResult(@NotNull ExecutionContext<OUT> executionContext, @Nullable Throwable asyncCause) {
@@ -346,11 +606,22 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
                                           .setError(state.addError(ctx.round(),
                                                                    Optional.ofNullable(ctx.error()).orElse(asyncCause)))
                                           .build());
+        saveState(false);
         if (ctx.isForceStop()) {
             doStop(state.timerId(), TriggerContextFactory.stop(triggerContext, ReasonCode.STOP_BY_JOB));
         }
+        onFinish(triggerContext);
+        dequeue();
     }
 
+    /**
+     * Invoked when a fire is finished, either its round is executed or it is misfired, then the subclass might fetch
+     * its next fire.
+     *
+     * @param triggerContext the finished trigger context
+     */
+    protected void onFinish(@NotNull TriggerContext triggerContext) { }
+
     protected final void onComplete(TriggerContext context) {
         final Instant completedAt = state.markCompleted();
         log(completedAt, "On complete");
@@ -364,6 +635,108 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
                                                .setData(state.lastData())
                                                .setError(state.lastError())
                                                .build());
+        // The cancelled scheduler is resumed from its saved state on next start
+        saveState(!ReasonCode.ON_CANCEL.equals(context.condition().reasonCode()));
+        evaluator.onCompleted(jobData.externalId());
+    }
+
+    /**
+     * Queues the fire while the previous round is running. If the queue is full, the latest queued fire is coalesced
+     * into the given fire.
+     */
+    private void enqueue(WorkerExecutor workerExecutor, TriggerContext triggerContext) {
+        final PendingFire coalesced;
+        synchronized (pendingFires) {
+            coalesced = pendingFires.size() < concurrencyPolicy.maxPending() ? null : pendingFires.pollLast();
+            pendingFires.addLast(new PendingFire(workerExecutor, triggerContext));
+        }
+        log(Objects.requireNonNull(triggerContext.firedAt()), "On queue", triggerContext.tick());
+        if (coalesced != null) {
+            onMisfire(TriggerContextFactory.skip(coalesced.triggerContext, ReasonCode.COALESCED));
+        }
+    }
+
+    /**
+     * Processes the first queued fire if an in-flight slot is free.
+     */
+    private void dequeue() {
+        if (concurrencyPolicy.maxPending() == 0) {
+            return;
+        }
+        final PendingFire next;
+        synchronized (pendingFires) {
+            next = pendingFires.peekFirst();
+            if (next == null || !state.markInFlight(next.triggerContext.tick())) {
+                return;
+            }
+            pendingFires.pollFirst();
+        }
+        run(next.workerExecutor, next.triggerContext);
+    }
+
+    private boolean hasPendingFires() {
+        synchronized (pendingFires) {
+            return !pendingFires.isEmpty();
+        }
+    }
+
+    private void restoreState() {
+        if (stateStore == null) {
+            return;
+        }
+        final SchedulerStateRecord record = stateStore.load(String.valueOf(jobData.externalId()));
+        if (record == null || record.completed()) {
+            return;
+        }
+        state.restore(record.tick(), record.round(), record.lastFiredAt());
+        state.addData(record.round(), decodeData(record));
+        state.addError(record.round(),
+                       record.lastError() == null ? null : new NoStackTraceThrowable(record.lastError()));
+        log(clock.now(), "Restore the scheduler state " + brackets(record));
+    }
+
+    private void saveState(boolean completed) {
+        if (stateStore == null) {
+            return;
+        }
+        final Throwable error = state.lastError();
+        try {
+            stateStore.save(new SchedulerStateRecord(String.valueOf(jobData.externalId()), state.tick(), state.round(),
+                                                     state.lastFiredAt(), completed, encodeData(state.lastData()),
+                                                     error == null ? null : error.toString()));
+        } catch (Exception ex) {
+            LOGGER.warn(genMsg(state.tick(), state.round(), clock.now(), "Unable to save the scheduler state"), ex);
+        }
+    }
+
+    private Object encodeData(OUT data) {
+        if (data == null || stateDataCodec == null) {
+            return data;
+        }
+        try {
+            return stateDataCodec.encode(data);
+        } catch (Exception ex) {
+            LOGGER.warn(genMsg(state.tick(), state.round(), clock.now(), "Unable to encode the scheduler state data"),
+                        ex);
+            return null;
+        }
+    }
+
+    /**
+     * The saved data is only restored by the state data codec, the raw saved data is the JSON representation of the job
+     * result data that might not be its type.
+     */
+    private OUT decodeData(SchedulerStateRecord record) {
+        if (!(record.lastData() instanceof String) || stateDataCodec == null) {
+            return null;
+        }
+        try {
+            return stateDataCodec.decode((String) record.lastData());
+        } catch (Exception ex) {
+            LOGGER.warn(genMsg(record.tick(), record.round(), clock.now(), "Unable to decode the scheduler state data"),
+                        ex);
+            return null;
+        }
     }
 
     protected final void log(@NotNull Instant at, @NotNull String event) {
@@ -394,8 +767,56 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
                : workerExecutor.executeBlocking(operation::accept, false);
     }
 
-    private <R> Promise<R> wrapTimeout(Duration timeout, Promise<R> promise) {
-        return new TimeoutBlock(vertx, timeout).wrap(promise);
+    /**
+     * Evaluates the trigger. The blocking evaluator is offloaded to the worker thread, whereas the non-blocking
+     * evaluator runs inline on the current context thread, then the evaluation timeout only applies when its result is
+     * not yet completed.
+     */
+    private Future<TriggerContext> evaluate(WorkerExecutor worker, String event,
+                                            Supplier<Future<TriggerContext>> evaluation) {
+        if (evaluator.isBlocking()) {
+            return executeBlocking(worker, p -> {
+                log(clock.now(), event);
+                final Promise<TriggerContext> promise = evaluationTimeout.wrap(p);
+                relay(evaluation.get(), promise);
+            });
+        }
+        log(clock.now(), event);
+        final Future<TriggerContext> future;
+        try {
+            future = evaluation.get();
+        } catch (Exception ex) {
+            return Future.failedFuture(ex);
+        }
+        if (future.isComplete()) {
+            return future;
+        }
+        final Promise<TriggerContext> promise = evaluationTimeout.wrap(Promise.promise());
+        relay(future, promise);
+        return promise.future();
+    }
+
+    private static <R> void relay(Future<R> future, Promise<R> promise) {
+        // The promise might be already failed by timeout
+        future.onComplete(ar -> {
+            if (ar.succeeded()) {
+                promise.tryComplete(ar.result());
+            } else {
+                promise.tryFail(ar.cause());
+            }
+        });
+    }
+
+    private static final class PendingFire {
+
+        private final WorkerExecutor workerExecutor;
+        private final TriggerContext triggerContext;
+
+        private PendingFire(WorkerExecutor workerExecutor, TriggerContext triggerContext) {
+            this.workerExecutor = workerExecutor;
+            this.triggerContext = triggerContext;
+        }
+
     }
 
     @SuppressWarnings("rawtypes")
@@ -404,8 +825,9 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
         private final @NotNull AbstractScheduler scheduler;
 
         private InternalTriggerEvaluator(@NotNull AbstractScheduler scheduler, TriggerEvaluator evaluator) {
+            super(false);
             this.scheduler = scheduler;
-            andThen(Optional.ofNullable(evaluator).orElseGet(DefaultTriggerEvaluator::new));
+            andThen(Optional.ofNullable(evaluator).orElseGet(() -> DefaultTriggerEvaluator.init(null, null)));
         }
 
         @Override
@@ -421,7 +843,7 @@ public abstract class AbstractScheduler<IN, OUT, T extends Trigger>
             if (scheduler.state.completed()) {
                 return TriggerContextFactory.skip(ctx, ReasonCode.ALREADY_STOPPED);
             }
-            if (scheduler.state.executing()) {
+            if (!scheduler.state.inFlight(ctx.tick())) {
                 return TriggerContextFactory.skip(ctx, ReasonCode.JOB_IS_RUNNING);
             }
             final Instant firedAt = Objects.requireNonNull(ctx.firedAt());
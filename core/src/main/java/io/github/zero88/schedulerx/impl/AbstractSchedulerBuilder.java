@@ -1,9 +1,14 @@
 package io.github.zero88.schedulerx.impl;
 
+import java.util.Optional;
+
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import io.github.zero88.schedulerx.ConcurrencyPolicy;
+import io.github.zero88.schedulerx.DefaultOptions;
+import io.github.zero88.schedulerx.ExecutionMode;
 import io.github.zero88.schedulerx.HasVertx;
 import io.github.zero88.schedulerx.Job;
 import io.github.zero88.schedulerx.JobData;
@@ -11,9 +16,12 @@ import io.github.zero88.schedulerx.JobExecutorConfig;
 import io.github.zero88.schedulerx.Scheduler;
 import io.github.zero88.schedulerx.SchedulerBuilder;
 import io.github.zero88.schedulerx.SchedulerConfig;
+import io.github.zero88.schedulerx.SchedulerStateStore;
+import io.github.zero88.schedulerx.StateDataCodec;
 import io.github.zero88.schedulerx.SchedulingMonitor;
 import io.github.zero88.schedulerx.TimeClock;
 import io.github.zero88.schedulerx.TimeoutPolicy;
+import io.github.zero88.schedulerx.TimerService;
 import io.github.zero88.schedulerx.trigger.Trigger;
 import io.github.zero88.schedulerx.trigger.TriggerEvaluator;
 import io.vertx.core.Vertx;
@@ -34,12 +42,18 @@ public abstract class AbstractSchedulerBuilder<IN, OUT, T extends Trigger, S ext
     private T trigger;
     private TriggerEvaluator evaluator;
     private SchedulingMonitor<OUT> monitor;
+    private TimerService timerService;
+    private TimeClock clock;
+    private ExecutionMode executionMode;
+    private SchedulerStateStore stateStore;
+    private StateDataCodec<OUT> stateDataCodec;
+    private ConcurrencyPolicy concurrencyPolicy;
 
     @Override
     public @NotNull Vertx vertx() { return vertx; }
 
     @Override
-    public @Nullable TimeClock clock() { return null; }
+    public @Nullable TimeClock clock() { return clock; }
 
     @Override
     public @NotNull SchedulingMonitor<OUT> monitor() { return monitor; }
@@ -50,6 +64,15 @@ public abstract class AbstractSchedulerBuilder<IN, OUT, T extends Trigger, S ext
     @Override
     public @NotNull TriggerEvaluator triggerEvaluator() { return evaluator; }
 
+    @Override
+    public @Nullable TimerService timerService() { return timerService; }
+
+    @Override
+    public @Nullable SchedulerStateStore stateStore() { return stateStore; }
+
+    @Override
+    public @Nullable StateDataCodec<OUT> stateDataCodec() { return stateDataCodec; }
+
     @Override
     public @NotNull Job<IN, OUT> job() { return job; }
 
@@ -59,6 +82,16 @@ public abstract class AbstractSchedulerBuilder<IN, OUT, T extends Trigger, S ext
     @Override
     public @NotNull TimeoutPolicy timeoutPolicy() { return timeoutPolicy; }
 
+    @Override
+    public @NotNull ExecutionMode executionMode() {
+        return Optional.ofNullable(executionMode).orElse(DefaultOptions.getInstance().executionMode);
+    }
+
+    @Override
+    public @NotNull ConcurrencyPolicy concurrencyPolicy() {
+        return Optional.ofNullable(concurrencyPolicy).orElseGet(ConcurrencyPolicy::byDefault);
+    }
+
     public @NotNull B setVertx(@NotNull Vertx vertx) {
         this.vertx = vertx;
         return (B) this;
@@ -96,4 +129,40 @@ public abstract class AbstractSchedulerBuilder<IN, OUT, T extends Trigger, S ext
         return (B) this;
     }
 
+    @Override
+    public @NotNull B setTimerService(@NotNull TimerService timerService) {
+        this.timerService = timerService;
+        return (B) this;
+    }
+
+    @Override
+    public @NotNull B setClock(@NotNull TimeClock clock) {
+        this.clock = clock;
+        return (B) this;
+    }
+
+    @Override
+    public @NotNull B setExecutionMode(@NotNull ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+        return (B) this;
+    }
+
+    @Override
+    public @NotNull B setStateStore(@NotNull SchedulerStateStore stateStore) {
+        this.stateStore = stateStore;
+        return (B) this;
+    }
+
+    @Override
+    public @NotNull B setStateDataCodec(@NotNull StateDataCodec<OUT> stateDataCodec) {
+        this.stateDataCodec = stateDataCodec;
+        return (B) this;
+    }
+
+    @Override
+    public @NotNull B setConcurrencyPolicy(@NotNull ConcurrencyPolicy concurrencyPolicy) {
+        this.concurrencyPolicy = concurrencyPolicy;
+        return (B) this;
+    }
+
 }
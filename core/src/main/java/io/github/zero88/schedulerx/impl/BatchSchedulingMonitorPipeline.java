@@ -0,0 +1,271 @@
+package io.github.zero88.schedulerx.impl;
+
+import static io.github.zero88.schedulerx.impl.Utils.brackets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.BatchSchedulingMonitor;
+import io.github.zero88.schedulerx.ExecutionResult;
+import io.github.zero88.schedulerx.MonitorOverflowPolicy;
+import io.github.zero88.schedulerx.MonitorPipelineStats;
+import io.github.zero88.schedulerx.SchedulingMonitor;
+import io.github.zero88.schedulerx.WorkerExecutorFactory;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+/**
+ * The monitor pipeline that buffers the execution results in a bounded ring buffer, then drains them in batch to the
+ * {@link BatchSchedulingMonitor} on the monitor worker thread.
+ * <p/>
+ * The results that are never dropped, the lifecycle results and the {@link MonitorOverflowPolicy#BLOCK} results that
+ * overflow on the event loop thread, go to an unbounded overflow lane instead, then the caller thread never parks on
+ * the event loop. Each result takes a sequence number when it is offered, and the drain task merges both lanes by
+ * the sequence number.
+ * <p/>
+ * Only one drain task runs at a time, then the results are delivered in order. A drain task delivers a limited number
+ * of batches before it yields the worker thread and schedules the next drain task.
+ *
+ * @param <OUT> Type of job result data
+ */
+final class BatchSchedulingMonitorPipeline<OUT> extends SchedulingMonitorAbstract<OUT>
+    implements SchedulingMonitorInternal<OUT> {
+
+    private static final int MAX_BATCHES_PER_DRAIN = 16;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final WorkerExecutor executor;
+    private final BatchSchedulingMonitor<OUT> monitor;
+    private final BoundedRingBuffer<Event<OUT>> buffer;
+    private final Queue<Event<OUT>> overflow = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger overflowSize = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final MonitorOverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final int sampleRate;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final AtomicInteger maxLag = new AtomicInteger();
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private volatile long lastLagNanos;
+    // The result that is polled from the ring buffer but is not yet delivered, it is only accessed by the drain task
+    private volatile Event<OUT> stashed;
+
+    BatchSchedulingMonitorPipeline(@NotNull Vertx vertx, @NotNull BatchSchedulingMonitor<OUT> monitor) {
+        this.executor       = WorkerExecutorFactory.createMonitorWorker(vertx);
+        this.monitor        = monitor;
+        this.buffer         = new BoundedRingBuffer<>(monitor.bufferSize());
+        this.overflowPolicy = monitor.overflowPolicy();
+        this.batchSize      = Math.max(1, monitor.batchSize());
+        this.sampleRate     = Math.max(1, monitor.sampleRate());
+    }
+
+    @Override
+    protected Logger logger() {
+        return LoggerFactory.getLogger(SchedulingMonitorInternal.class);
+    }
+
+    @Override
+    public void onUnableSchedule(@NotNull ExecutionResult<OUT> result) {
+        offer(new Event<>(Kind.UNABLE_SCHEDULE, result, sequence.incrementAndGet()));
+    }
+
+    @Override
+    public void onSchedule(@NotNull ExecutionResult<OUT> result) {
+        offer(new Event<>(Kind.SCHEDULE, result, sequence.incrementAndGet()));
+    }
+
+    @Override
+    public void onMisfire(@NotNull ExecutionResult<OUT> result) {
+        offer(new Event<>(Kind.MISFIRE, result, sequence.incrementAndGet()));
+    }
+
+    @Override
+    public void onEach(@NotNull ExecutionResult<OUT> result) {
+        offer(new Event<>(Kind.EACH, result, sequence.incrementAndGet()));
+    }
+
+    @Override
+    public void onCompleted(@NotNull ExecutionResult<OUT> result) {
+        offer(new Event<>(Kind.COMPLETED, result, sequence.incrementAndGet()));
+    }
+
+    @Override
+    public SchedulingMonitor<OUT> unwrap() {
+        return monitor;
+    }
+
+    @Override
+    public @NotNull MonitorPipelineStats stats() {
+        return new MonitorPipelineStats(offered.sum(), delivered.sum(), dropped.sum(), batches.sum(), lag(),
+                                        maxLag.get(), lastLagNanos);
+    }
+
+    private void offer(Event<OUT> event) {
+        offered.increment();
+        if (event.kind.lifecycle) {
+            // The lifecycle result is never dropped
+            overflow(event);
+        } else if (overflowPolicy == MonitorOverflowPolicy.BLOCK) {
+            while (!buffer.offer(event)) {
+                if (Context.isOnEventLoopThread()) {
+                    // Never block the event loop
+                    overflow(event);
+                    break;
+                }
+                scheduleDrain();
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        } else if (overflowPolicy == MonitorOverflowPolicy.DROP_OLDEST) {
+            while (!buffer.offer(event)) {
+                if (buffer.poll() != null) {
+                    dropped.increment();
+                }
+            }
+        } else {
+            final boolean admitted = (buffer.size() < buffer.capacity() / 2 ||
+                                      sampleCounter.getAndIncrement() % sampleRate == 0) && buffer.offer(event);
+            if (!admitted) {
+                dropped.increment();
+            }
+        }
+        maxLag.accumulateAndGet(lag(), Math::max);
+        scheduleDrain();
+    }
+
+    private void overflow(Event<OUT> event) {
+        overflowSize.incrementAndGet();
+        overflow.offer(event);
+    }
+
+    private int lag() {
+        return buffer.size() + overflowSize.get() + (stashed == null ? 0 : 1);
+    }
+
+    /**
+     * Retrieves the next result in the sequence order of both lanes. Must be called by the drain task.
+     */
+    private Event<OUT> next() {
+        if (stashed == null) {
+            stashed = buffer.poll();
+        }
+        final Event<OUT> head = overflow.peek();
+        if (head != null && (stashed == null || head.sequence < stashed.sequence)) {
+            overflowSize.decrementAndGet();
+            return overflow.poll();
+        }
+        final Event<OUT> next = stashed;
+        stashed = null;
+        return next;
+    }
+
+    private void scheduleDrain() {
+        if (!draining.get() && draining.compareAndSet(false, true)) {
+            executor.executeBlocking(promise -> {
+                drain();
+                promise.complete();
+            }, false);
+        }
+    }
+
+    private void drain() {
+        final List<ExecutionResult<OUT>> batch = new ArrayList<>(batchSize);
+        long oldestAt = 0;
+        int remainingBatches = MAX_BATCHES_PER_DRAIN;
+        Event<OUT> event;
+        while (remainingBatches > 0 && (event = next()) != null) {
+            if (event.kind.lifecycle) {
+                flush(batch, oldestAt);
+                dispatchLifecycle(event);
+                remainingBatches--;
+                continue;
+            }
+            if (batch.isEmpty()) {
+                oldestAt = event.enqueuedAt;
+            }
+            batch.add(event.result);
+            if (batch.size() >= batchSize) {
+                flush(batch, oldestAt);
+                remainingBatches--;
+            }
+        }
+        flush(batch, oldestAt);
+        draining.set(false);
+        if (lag() > 0) {
+            scheduleDrain();
+        }
+    }
+
+    private void flush(List<ExecutionResult<OUT>> batch, long oldestAt) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        lastLagNanos = System.nanoTime() - oldestAt;
+        delivered.add(batch.size());
+        batches.increment();
+        try {
+            monitor.onBatch(Collections.unmodifiableList(batch));
+        } catch (Throwable ex) {
+            logger().warn("Unexpected error in " + brackets(monitor.getClass().getName()) +
+                          " when dispatching the execution result batch", ex);
+        }
+        batch.clear();
+    }
+
+    private void dispatchLifecycle(Event<OUT> event) {
+        delivered.increment();
+        switch (event.kind) {
+            case UNABLE_SCHEDULE:
+                dispatch(monitor.getClass(), monitor::onUnableSchedule, event.result);
+                break;
+            case SCHEDULE:
+                dispatch(monitor.getClass(), monitor::onSchedule, event.result);
+                break;
+            default:
+                dispatch(monitor.getClass(), monitor::onCompleted, event.result);
+        }
+    }
+
+    private enum Kind {
+        UNABLE_SCHEDULE(true), SCHEDULE(true), MISFIRE(false), EACH(false), COMPLETED(true);
+
+        private final boolean lifecycle;
+
+        Kind(boolean lifecycle) { this.lifecycle = lifecycle; }
+    }
+
+
+    private static final class Event<OUT> {
+
+        private final Kind kind;
+        private final ExecutionResult<OUT> result;
+        private final long sequence;
+        private final long enqueuedAt;
+
+        private Event(Kind kind, ExecutionResult<OUT> result, long sequence) {
+            this.kind       = kind;
+            this.result     = result;
+            this.sequence   = sequence;
+            this.enqueuedAt = System.nanoTime();
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The bounded lock-free ring buffer that is based on the Dmitry Vyukov's bounded MPMC queue.
+ * <p/>
+ * Each slot has a sequence number that tells whether the slot is ready to be written or to be read at a given
+ * position, then the producers and the consumers only contend on the tail and the head counter respectively. The
+ * buffer allows many consumers, then a producer can drop the oldest element by polling it.
+ *
+ * @param <E> Type of element
+ */
+final class BoundedRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity the buffer capacity, it is rounded up to the power of 2
+     */
+    BoundedRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("The ring buffer capacity must be greater than 1");
+        }
+        final int size = capacity > (1 << 30) ? 1 << 30 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask      = size - 1;
+        this.buffer    = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Insert the element at the tail of the buffer.
+     *
+     * @param element the element
+     * @return {@code true} if the element is inserted, or {@code false} if the buffer is full
+     */
+    boolean offer(@NotNull E element) {
+        long pos = tail.get();
+        while (true) {
+            final int index = (int) (pos & mask);
+            final long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.lazySet(index, element);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Retrieve and remove the element at the head of the buffer.
+     *
+     * @return the element, or {@code null} if the buffer is empty
+     */
+    @Nullable E poll() {
+        long pos = head.get();
+        while (true) {
+            final int index = (int) (pos & mask);
+            final long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    final E element = buffer.get(index);
+                    buffer.lazySet(index, null);
+                    sequences.set(index, pos + mask + 1);
+                    return element;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    /**
+     * @return the approximate number of elements in the buffer
+     */
+    int size() {
+        final long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+}
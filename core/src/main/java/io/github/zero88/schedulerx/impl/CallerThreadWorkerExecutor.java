@@ -0,0 +1,73 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.future.PromiseInternal;
+
+/**
+ * The worker executor that runs each blocking operation inline on the caller thread.
+ * <p/>
+ * The result is bound to the caller Vert.x context, then the result handlers run inline too when the operation is
+ * called on the context thread. The {@code ordered} flag is ignored, the operations always run in the call order.
+ */
+@Internal
+public final class CallerThreadWorkerExecutor implements WorkerExecutor {
+
+    private final Vertx vertx;
+
+    private CallerThreadWorkerExecutor(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    /**
+     * Create a caller thread worker executor.
+     *
+     * @param vertx Vert.x
+     * @return the caller thread worker executor
+     */
+    public static @NotNull WorkerExecutor create(@NotNull Vertx vertx) {
+        return new CallerThreadWorkerExecutor(Objects.requireNonNull(vertx, "Vertx instance is required"));
+    }
+
+    @Override
+    public <T> void executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered,
+                                   Handler<AsyncResult<T>> resultHandler) {
+        final Future<T> future = executeBlocking(blockingCodeHandler, ordered);
+        if (resultHandler != null) {
+            future.onComplete(resultHandler);
+        }
+    }
+
+    @Override
+    public <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered) {
+        final PromiseInternal<T> promise = ((ContextInternal) vertx.getOrCreateContext()).promise();
+        try {
+            blockingCodeHandler.handle(promise);
+        } catch (Throwable t) {
+            promise.tryFail(t);
+        }
+        return promise.future();
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        close().onComplete(handler);
+    }
+
+    @Override
+    public Future<Void> close() {
+        // No thread is owned by this executor
+        return Future.succeededFuture();
+    }
+
+}
@@ -0,0 +1,325 @@
+package io.github.zero88.schedulerx.impl;
+
+import static io.github.zero88.schedulerx.impl.Utils.brackets;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.ClusterMembership;
+import io.github.zero88.schedulerx.ClusteredSchedulerRegistry;
+import io.github.zero88.schedulerx.JobExecutorConfig;
+import io.github.zero88.schedulerx.Scheduler;
+import io.github.zero88.schedulerx.SchedulerConfig;
+import io.github.zero88.schedulerx.SchedulerRegistry;
+import io.github.zero88.schedulerx.SchedulerStateRecord;
+import io.github.zero88.schedulerx.SchedulerStateStore;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+/**
+ * The clustered registry keeps the cluster view on one event loop context, then the ring, the pending hand over and the
+ * hand over messages are processed in order without locking. The owned schedulers are started by the local registry,
+ * that fans out the schedulers across the event loops.
+ */
+@Internal
+public final class ClusteredSchedulerRegistryImpl implements ClusteredSchedulerRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusteredSchedulerRegistry.class);
+    private static final String ADDRESS_PREFIX = "schedulerx.cluster.handover.";
+    private static final String KEY_HEADER = "key";
+
+    private final Vertx vertx;
+    private final ClusterMembership membership;
+    private final SchedulerStateStore stateStore;
+    private final int virtualNodes;
+    private final Duration handoverTimeout;
+    private final Context context;
+    private final SchedulerRegistryImpl local;
+    private final ConcurrentMap<String, Definition> definitions = new ConcurrentHashMap<>();
+    // The below states are only accessed on the registry context
+    private final Map<String, Long> pendingHandovers = new HashMap<>();
+    private final Set<String> receivedHandovers = new HashSet<>();
+    private final List<Scheduler<?>> pendingStarts = new ArrayList<>();
+    private volatile ConsistentHashRing ring;
+    private MessageConsumer<Buffer> consumer;
+    private boolean closed;
+
+    public ClusteredSchedulerRegistryImpl(@NotNull Vertx vertx, @NotNull ClusterMembership membership,
+                                          @NotNull SchedulerStateStore stateStore, int virtualNodes,
+                                          @NotNull Duration handoverTimeout) {
+        this.vertx           = Objects.requireNonNull(vertx, "Vert.x is required");
+        this.membership      = Objects.requireNonNull(membership, "The cluster membership is required");
+        this.stateStore      = Objects.requireNonNull(stateStore, "The scheduler state store is required");
+        this.virtualNodes    = virtualNodes;
+        this.handoverTimeout = Objects.requireNonNull(handoverTimeout, "The handover timeout is required");
+        this.context         = ((VertxInternal) vertx).createEventLoopContext();
+        this.local           = new SchedulerRegistryImpl(vertx, 0);
+        this.ring            = ConsistentHashRing.create(Collections.emptySet(), virtualNodes);
+    }
+
+    @Override
+    public @NotNull Vertx vertx() { return vertx; }
+
+    @Override
+    public @NotNull String nodeId() { return membership.nodeId(); }
+
+    @Override
+    public @NotNull SchedulerStateStore stateStore() { return stateStore; }
+
+    @Override
+    public void register(@NotNull Object externalId, @NotNull Supplier<? extends Scheduler<?>> factory) {
+        Objects.requireNonNull(externalId, "The external id is required");
+        Objects.requireNonNull(factory, "The scheduler factory is required");
+        final Definition definition = new Definition(externalId, factory);
+        if (definitions.putIfAbsent(definition.key, definition) != null) {
+            throw new IllegalArgumentException("The scheduler " + brackets(externalId) + " is already registered");
+        }
+        context.runOnContext(ignore -> {
+            if (!closed && nodeId().equals(ring.owner(definition.key))) {
+                acquire(definition, null);
+                flushStart();
+            }
+        });
+    }
+
+    @Override
+    public boolean unregister(@NotNull Object externalId) {
+        final Definition definition = definitions.remove(String.valueOf(externalId));
+        if (definition == null) {
+            return false;
+        }
+        context.runOnContext(ignore -> stop(definition));
+        return true;
+    }
+
+    @Override
+    public @Nullable String ownerOf(@NotNull Object externalId) { return ring.owner(String.valueOf(externalId)); }
+
+    @Override
+    public @NotNull SchedulerRegistry local() { return local; }
+
+    @Override
+    public @NotNull Future<Void> start() {
+        return Future.future(promise -> context.runOnContext(ignore -> {
+            consumer = vertx.eventBus().consumer(ADDRESS_PREFIX + nodeId(), this::onHandover);
+            membership.listen(members -> context.runOnContext(v -> rebalance(members)));
+            Future.<Void>future(consumer::completionHandler)
+                  .compose(v -> membership.join())
+                  .onSuccess(v -> context.runOnContext(c -> rebalance(membership.members())))
+                  .onComplete(promise);
+        }));
+    }
+
+    @Override
+    public @NotNull Future<Void> close() {
+        return Future.<Void>future(promise -> context.runOnContext(ignore -> {
+            if (closed) {
+                promise.complete();
+                return;
+            }
+            closed = true;
+            final Set<String> remaining = new TreeSet<>(ring.members());
+            remaining.remove(nodeId());
+            final ConsistentHashRing previous = ring;
+            ring = ConsistentHashRing.create(remaining, virtualNodes);
+            final List<Future<?>> handovers = new ArrayList<>();
+            for (Definition definition : definitions.values()) {
+                if (nodeId().equals(previous.owner(definition.key))) {
+                    handovers.add(release(definition, ring.owner(definition.key)));
+                }
+            }
+            Future.join(handovers)
+                  .eventually(v -> membership.leave())
+                  .eventually(v -> consumer == null ? Future.succeededFuture() : consumer.unregister())
+                  .eventually(v -> local.close())
+                  .<Void>mapEmpty()
+                  .onComplete(promise);
+        }));
+    }
+
+    /**
+     * Compute the new ring, then only the schedulers whose owner changes are acquired or released by the local node.
+     */
+    private void rebalance(Set<String> members) {
+        if (closed) {
+            return;
+        }
+        ConsistentHashRing previous = ring;
+        final ConsistentHashRing next = ConsistentHashRing.create(members, virtualNodes);
+        if (next.members().equals(previous.members())) {
+            return;
+        }
+        if (!previous.members().contains(nodeId())) {
+            // The local node has just joined, the schedulers are owned by the other live members until hand over
+            final Set<String> others = new TreeSet<>(members);
+            others.remove(nodeId());
+            previous = ConsistentHashRing.create(others, virtualNodes);
+        }
+        ring = next;
+        int acquired = 0;
+        int released = 0;
+        for (Definition definition : definitions.values()) {
+            final String previousOwner = previous.owner(definition.key);
+            final String nextOwner = next.owner(definition.key);
+            if (Objects.equals(previousOwner, nextOwner)) {
+                continue;
+            }
+            if (nodeId().equals(previousOwner)) {
+                release(definition, nextOwner);
+                released++;
+            } else if (nodeId().equals(nextOwner)) {
+                acquire(definition, previousOwner != null && members.contains(previousOwner) ? previousOwner : null);
+                acquired++;
+            }
+        }
+        LOGGER.info("Rebalance the schedulers on the cluster members " + brackets(next.members()) + ": acquired " +
+                    brackets(acquired) + ", released " + brackets(released));
+        flushStart();
+    }
+
+    /**
+     * Start the scheduler when its state is handed over by the previous owner, or when the previous owner is gone.
+     */
+    private void acquire(Definition definition, @Nullable String previousOwner) {
+        final boolean received = receivedHandovers.remove(definition.key);
+        if (previousOwner == null || received) {
+            startLocal(definition);
+            return;
+        }
+        final long timerId = vertx.setTimer(handoverTimeout.toMillis(), id -> context.runOnContext(v -> {
+            if (pendingHandovers.remove(definition.key) != null && definitions.containsKey(definition.key)) {
+                LOGGER.warn("No scheduler state is handed over from " + brackets(previousOwner) + " for the " +
+                            "scheduler " + brackets(definition.externalId) + ", start it with the local state");
+                startLocal(definition);
+                flushStart();
+            }
+        }));
+        pendingHandovers.put(definition.key, timerId);
+    }
+
+    /**
+     * Cancel the local scheduler, then hand over its saved state to the new owner.
+     */
+    private Future<?> release(Definition definition, @Nullable String nextOwner) {
+        stop(definition);
+        if (nextOwner == null) {
+            return Future.succeededFuture();
+        }
+        final SchedulerStateRecord record = stateStore.load(definition.key);
+        final Buffer payload = record == null
+                               ? Buffer.buffer()
+                               : Buffer.buffer(JournalSchedulerStateStore.encode(record));
+        final DeliveryOptions options = new DeliveryOptions().addHeader(KEY_HEADER, definition.key)
+                                                             .setSendTimeout(handoverTimeout.toMillis());
+        return vertx.eventBus().request(ADDRESS_PREFIX + nextOwner, payload, options).onFailure(t -> LOGGER.warn(
+            "Unable to hand over the scheduler " + brackets(definition.externalId) + " to " + brackets(nextOwner), t));
+    }
+
+    private void stop(Definition definition) {
+        final Long timerId = pendingHandovers.remove(definition.key);
+        if (timerId != null) {
+            vertx.cancelTimer(timerId);
+        }
+        receivedHandovers.remove(definition.key);
+        final Scheduler<?> scheduler = local.unregister(definition.externalId);
+        if (scheduler != null) {
+            // The cancelled scheduler saves its state to resume on next start
+            scheduler.cancel();
+        }
+    }
+
+    private void onHandover(Message<Buffer> message) {
+        final String key = message.headers().get(KEY_HEADER);
+        if (message.body().length() > 0) {
+            final SchedulerStateRecord record = JournalSchedulerStateStore.decode(message.body().getBytes());
+            if (record.supersedes(stateStore.load(key))) {
+                stateStore.save(record);
+            }
+        }
+        final Long timerId = pendingHandovers.remove(key);
+        final Definition definition = definitions.get(key);
+        if (timerId != null && definition != null) {
+            vertx.cancelTimer(timerId);
+            startLocal(definition);
+            flushStart();
+        } else if (!closed && !nodeId().equals(ring.owner(key))) {
+            // The local node does not see the membership change yet
+            receivedHandovers.add(key);
+        }
+        message.reply(null);
+    }
+
+    private void startLocal(Definition definition) {
+        if (local.get(definition.externalId) != null) {
+            return;
+        }
+        try {
+            final Scheduler<?> scheduler = definition.factory.get();
+            final Object externalId = scheduler instanceof JobExecutorConfig
+                                      ? ((JobExecutorConfig<?, ?>) scheduler).jobData().externalId()
+                                      : null;
+            if (!definition.key.equals(String.valueOf(externalId))) {
+                LOGGER.warn("The scheduler " + brackets(definition.externalId) + " is built with another external id " +
+                            brackets(externalId));
+                return;
+            }
+            if (scheduler instanceof SchedulerConfig &&
+                ((SchedulerConfig<?, ?>) scheduler).stateStore() != stateStore) {
+                LOGGER.warn("The scheduler " + brackets(definition.externalId) + " is not built with the state store " +
+                            "of the clustered registry, its state cannot be handed over");
+            }
+            pendingStarts.add(local.register(scheduler));
+        } catch (Exception ex) {
+            LOGGER.warn("Unable to create the scheduler " + brackets(definition.externalId), ex);
+        }
+    }
+
+    /**
+     * Start the newly acquired schedulers in one batch, then the local registry fans them out across the event loops.
+     */
+    private void flushStart() {
+        if (!pendingStarts.isEmpty()) {
+            final List<Scheduler<?>> batch = new ArrayList<>(pendingStarts);
+            pendingStarts.clear();
+            local.startAll(batch);
+        }
+    }
+
+    private static final class Definition {
+
+        private final Object externalId;
+        private final String key;
+        private final Supplier<? extends Scheduler<?>> factory;
+
+        private Definition(Object externalId, Supplier<? extends Scheduler<?>> factory) {
+            this.externalId = externalId;
+            this.key        = String.valueOf(externalId);
+            this.factory    = factory;
+        }
+
+    }
+
+}
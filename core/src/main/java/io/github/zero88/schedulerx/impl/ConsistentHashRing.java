@@ -0,0 +1,92 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The immutable consistent hash ring. Each member is placed on the ring at many virtual nodes, then a key is owned by
+ * the member of the first virtual node at or after the key hash.
+ * <p/>
+ * When a member joins or leaves, only the keys between the virtual nodes of that member and their predecessors change
+ * their owner, that is about {@code 1 / members} of the keys.
+ */
+@Internal
+public final class ConsistentHashRing {
+
+    private final Set<String> members;
+    private final TreeMap<Long, String> ring;
+
+    private ConsistentHashRing(Set<String> members, TreeMap<Long, String> ring) {
+        this.members = members;
+        this.ring    = ring;
+    }
+
+    /**
+     * Create a ring of the given members.
+     *
+     * @param members      the member ids
+     * @param virtualNodes the number of virtual nodes per member
+     * @return new ring
+     */
+    public static @NotNull ConsistentHashRing create(@NotNull Collection<String> members, int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("The number of virtual nodes must be positive");
+        }
+        final TreeMap<Long, String> ring = new TreeMap<>();
+        // The members are sorted, then a hash collision is resolved in the same way on every member
+        final Set<String> sorted = new TreeSet<>(members);
+        for (String member : sorted) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.putIfAbsent(hash(member + '#' + i), member);
+            }
+        }
+        return new ConsistentHashRing(Collections.unmodifiableSet(sorted), ring);
+    }
+
+    /**
+     * @return the ring members
+     */
+    public @NotNull Set<String> members() { return members; }
+
+    /**
+     * Find the owner of the given key.
+     *
+     * @param key the key
+     * @return the owner member id, or {@code null} if the ring is empty
+     */
+    public @Nullable String owner(@NotNull String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        final Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry == null ? ring.firstEntry().getValue() : entry.getValue();
+    }
+
+    /**
+     * The 64-bit FNV-1a hash of the UTF-8 bytes, then it is finalized by the MurmurHash3 mixer to spread the similar
+     * keys over the ring. The hash must be stable between JVMs.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
@@ -18,17 +18,42 @@ public class DefaultTriggerEvaluator implements TriggerEvaluator {
 
     private BeforeTriggerEvaluator before = (trigger, ctx, externalId) -> Future.succeededFuture(ctx);
     private AfterTriggerEvaluator after = (trigger, ctx, externalId, round) -> Future.succeededFuture(ctx);
+    private final boolean blocking;
     private TriggerEvaluator next;
 
-    public DefaultTriggerEvaluator() { }
+    /**
+     * The subclass evaluation is blocking by default, then it is offloaded to the worker thread.
+     */
+    public DefaultTriggerEvaluator() { this(true); }
 
-    DefaultTriggerEvaluator(BeforeTriggerEvaluator beforeEvaluator, AfterTriggerEvaluator afterEvaluator) {
-        before = Optional.ofNullable(beforeEvaluator).orElse(before);
-        after  = Optional.ofNullable(afterEvaluator).orElse(after);
+    /**
+     * @param blocking whether the subclass evaluation may block the caller thread
+     */
+    protected DefaultTriggerEvaluator(boolean blocking) { this.blocking = blocking; }
+
+    DefaultTriggerEvaluator(BeforeTriggerEvaluator beforeEvaluator, AfterTriggerEvaluator afterEvaluator,
+                            boolean blocking) {
+        this.before   = Optional.ofNullable(beforeEvaluator).orElse(before);
+        this.after    = Optional.ofNullable(afterEvaluator).orElse(after);
+        // The pass-through evaluator never blocks
+        this.blocking = blocking && (beforeEvaluator != null || afterEvaluator != null);
     }
 
     public static TriggerEvaluator init(BeforeTriggerEvaluator beforeEvaluator, AfterTriggerEvaluator afterEvaluator) {
-        return new DefaultTriggerEvaluator(beforeEvaluator, afterEvaluator);
+        return init(beforeEvaluator, afterEvaluator, true);
+    }
+
+    public static TriggerEvaluator init(BeforeTriggerEvaluator beforeEvaluator, AfterTriggerEvaluator afterEvaluator,
+                                        boolean blocking) {
+        return new DefaultTriggerEvaluator(beforeEvaluator, afterEvaluator, blocking);
+    }
+
+    /**
+     * @return {@code true} if this evaluator or one of the chained evaluators is blocking
+     */
+    @Override
+    public final boolean isBlocking() {
+        return blocking || next != null && next.isBlocking();
     }
 
     @Override
@@ -57,6 +82,20 @@ public class DefaultTriggerEvaluator implements TriggerEvaluator {
         return this;
     }
 
+    /**
+     * Notify this evaluator and the chained evaluators that the scheduler of the given job is completed or cancelled.
+     *
+     * @param externalId the job external id
+     */
+    final void onCompleted(@Nullable Object externalId) {
+        internalCompleted(externalId);
+        if (next instanceof DefaultTriggerEvaluator) {
+            ((DefaultTriggerEvaluator) next).onCompleted(externalId);
+        }
+    }
+
+    void internalCompleted(@Nullable Object externalId) { }
+
     protected Future<TriggerContext> internalBeforeTrigger(@NotNull Trigger trigger,
                                                            @NotNull TriggerContext triggerContext,
                                                            @Nullable Object externalId) {
@@ -0,0 +1,358 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.trigger.predicate.EventTriggerPredicate;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+/**
+ * The event bus dispatcher that shares one event bus consumer per address between every event scheduler of the same
+ * Vert.x instance.
+ * <p/>
+ * The subscriptions of an address are grouped by their event predicate equality, then a message is converted once per
+ * group instead of once per scheduler, and the predicate test of a converted message is memoized in its group. Each
+ * shared consumer is registered on its own event loop context that belongs to no deployment, then it outlives the
+ * verticle of its first subscriber, and the contexts are taken in turn from the event loop group, then the addresses
+ * are spread over the event loops. The predicate that declares a {@link EventTriggerPredicate#isConvertBlocking()
+ * blocking conversion} is converted on a worker thread of the consumer context instead of its event loop. The
+ * deliveries of one message are coalesced by the subscription Vert.x context, then each context receives only one task,
+ * and each listener is invoked on its own context.
+ */
+@Internal
+public final class EventBusDispatcher implements Shareable {
+
+    private static final String SHARED_MAP = "__schedulerx.event-dispatcher";
+    private static final String SHARED_KEY = "event-bus";
+
+    private final Vertx vertx;
+    private final Map<String, Channel> channels = new HashMap<>();
+
+    public EventBusDispatcher(@NotNull Vertx vertx) {
+        this.vertx = Objects.requireNonNull(vertx, "Vertx instance is required");
+    }
+
+    /**
+     * Obtain the dispatcher that is shared between every event scheduler of the given Vert.x instance.
+     *
+     * @param vertx Vert.x
+     * @return the shared dispatcher
+     */
+    public static @NotNull EventBusDispatcher shared(@NotNull Vertx vertx) {
+        final LocalMap<String, EventBusDispatcher> map = vertx.sharedData().getLocalMap(SHARED_MAP);
+        final EventBusDispatcher existing = map.get(SHARED_KEY);
+        if (existing != null) {
+            return existing;
+        }
+        final EventBusDispatcher created = new EventBusDispatcher(vertx);
+        final EventBusDispatcher prev = map.putIfAbsent(SHARED_KEY, created);
+        return prev == null ? created : prev;
+    }
+
+    /**
+     * Subscribe a listener on the given address, the listener is invoked on the current Vert.x context.
+     *
+     * @param address   the event bus address
+     * @param localOnly whether the consumer only receives the local messages
+     * @param predicate the event predicate that converts the messages
+     * @param listener  the listener
+     * @return the subscription, it is active immediately, and its consumer registration is completed later
+     */
+    public @NotNull Subscription subscribe(@NotNull String address, boolean localOnly,
+                                           @NotNull EventTriggerPredicate<?> predicate,
+                                           @NotNull EventListener listener) {
+        final Context context = vertx.getOrCreateContext();
+        synchronized (channels) {
+            final String key = (localOnly ? "local::" : "cluster::") + address;
+            Channel channel = channels.get(key);
+            if (channel == null) {
+                channel = new Channel(key, address, localOnly);
+                channels.put(key, channel);
+                channel.listen();
+            }
+            final Group group = channel.groups.computeIfAbsent(predicate, Group::new);
+            final Subscription subscription = new Subscription(channel, group, context, listener);
+            group.add(subscription);
+            channel.refresh();
+            return subscription;
+        }
+    }
+
+    /**
+     * @return the number of the shared event bus consumers
+     */
+    public int size() {
+        synchronized (channels) {
+            return channels.size();
+        }
+    }
+
+    private Future<Void> unsubscribe(Subscription subscription) {
+        synchronized (channels) {
+            final Channel channel = subscription.channel;
+            final Group group = subscription.group;
+            if (!group.remove(subscription)) {
+                return Future.succeededFuture();
+            }
+            if (group.subscriptions.length == 0) {
+                channel.groups.remove(group.predicate);
+            }
+            channel.refresh();
+            if (!channel.groups.isEmpty() || channels.get(channel.key) != channel) {
+                return Future.succeededFuture();
+            }
+            channels.remove(channel.key);
+            return channel.consumer.unregister();
+        }
+    }
+
+    private static void dispatch(Channel channel, Message<Object> msg) {
+        final Map<Context, List<Delivery>> byContext = new IdentityHashMap<>();
+        final List<Group> blocking = new ArrayList<>(0);
+        for (Group group : channel.snapshot) {
+            if (group.predicate.isConvertBlocking()) {
+                blocking.add(group);
+            } else {
+                convert(group, msg, byContext);
+            }
+        }
+        deliver(byContext);
+        if (!blocking.isEmpty()) {
+            // The ordered blocking task keeps the message order of the channel
+            channel.context.<Map<Context, List<Delivery>>>executeBlocking(promise -> {
+                final Map<Context, List<Delivery>> converted = new IdentityHashMap<>();
+                blocking.forEach(group -> convert(group, msg, converted));
+                promise.complete(converted);
+            }, true).onSuccess(EventBusDispatcher::deliver);
+        }
+    }
+
+    private static void convert(Group group, Message<Object> msg, Map<Context, List<Delivery>> byContext) {
+        Object event = null;
+        Throwable error = null;
+        try {
+            event = group.predicate.convert(msg.headers(), msg.body());
+        } catch (Throwable ex) {
+            error = ex;
+        }
+        for (Subscription subscription : group.subscriptions) {
+            byContext.computeIfAbsent(subscription.context, c -> new ArrayList<>())
+                     .add(new Delivery(subscription, msg, event, error));
+        }
+    }
+
+    private static void deliver(Map<Context, List<Delivery>> byContext) {
+        byContext.forEach((ctx, deliveries) -> ctx.runOnContext(ignore -> deliveries.forEach(Delivery::fire)));
+    }
+
+    /**
+     * The listener of the converted message.
+     */
+    public interface EventListener {
+
+        /**
+         * @param msg   the raw message
+         * @param event the converted message
+         * @param error the conversion error, if any
+         */
+        void onEvent(@NotNull Message<Object> msg, @Nullable Object event, @Nullable Throwable error);
+
+    }
+
+
+    /**
+     * The subscription of an event listener.
+     */
+    public final class Subscription {
+
+        private final Channel channel;
+        private final Group group;
+        private final Context context;
+        private final EventListener listener;
+        private volatile boolean active = true;
+
+        Subscription(Channel channel, Group group, Context context, EventListener listener) {
+            this.channel  = channel;
+            this.group    = group;
+            this.context  = context;
+            this.listener = listener;
+        }
+
+        /**
+         * @return the event bus address
+         */
+        public @NotNull String address() { return channel.address; }
+
+        /**
+         * @return the Vert.x context on which the listener is invoked
+         */
+        public @NotNull Context context() { return context; }
+
+        /**
+         * @return a future that is completed when the shared consumer is registered
+         */
+        public @NotNull Future<Void> registration() { return channel.registration; }
+
+        /**
+         * Test the converted message by the subscription predicate, the result is shared by the subscriptions of the
+         * same predicate.
+         * <p/>
+         * The result is memoized by the converted message reference, the message is converted once per group then
+         * every subscription of the group tests the same instance. The converter that returns the same instance for
+         * different messages, e.g. a constant, reuses the last result of that instance, then the predicate must be a
+         * pure function of the converted message.
+         *
+         * @param event the converted message
+         * @return the test result
+         */
+        public boolean test(@Nullable Object event) { return group.test(event); }
+
+        /**
+         * Unsubscribe the listener, the shared consumer is unregistered when its last listener is unsubscribed.
+         *
+         * @return a future that is completed when the listener is unsubscribed
+         */
+        public @NotNull Future<Void> unregister() {
+            active = false;
+            return unsubscribe(this);
+        }
+
+    }
+
+
+    private final class Channel {
+
+        private final String key;
+        private final String address;
+        // The dedicated context of the shared consumer, it is bound to the next event loop of the group
+        private final ContextInternal context;
+        private final MessageConsumer<Object> consumer;
+        private final Future<Void> registration;
+        private final Map<EventTriggerPredicate<?>, Group> groups = new HashMap<>();
+        private volatile Group[] snapshot = new Group[0];
+
+        Channel(String key, String address, boolean localOnly) {
+            this.key          = key;
+            this.address      = address;
+            this.context      = ((VertxInternal) vertx).createEventLoopContext();
+            // The consumer is created then registered on the channel context, then it is bound to that context
+            final ContextInternal previous = context.beginDispatch();
+            try {
+                this.consumer = localOnly
+                                ? vertx.eventBus().localConsumer(address)
+                                : vertx.eventBus().consumer(address);
+                this.consumer.handler(msg -> dispatch(this, msg));
+            } finally {
+                context.endDispatch(previous);
+            }
+            this.registration = Future.future(consumer::completionHandler);
+        }
+
+        void listen() {
+            registration.onFailure(t -> {
+                synchronized (channels) {
+                    channels.remove(key, this);
+                }
+            });
+        }
+
+        void refresh() {
+            snapshot = groups.values().toArray(new Group[0]);
+        }
+
+    }
+
+
+    private static final class Group {
+
+        private final EventTriggerPredicate<Object> predicate;
+        private volatile Subscription[] subscriptions = new Subscription[0];
+        private Object lastEvent;
+        private boolean lastMatched;
+
+        @SuppressWarnings("unchecked")
+        Group(EventTriggerPredicate<?> predicate) {
+            this.predicate = (EventTriggerPredicate<Object>) predicate;
+        }
+
+        void add(Subscription subscription) {
+            final Subscription[] next = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+            next[next.length - 1] = subscription;
+            subscriptions = next;
+        }
+
+        boolean remove(Subscription subscription) {
+            final Subscription[] current = subscriptions;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == subscription) {
+                    final Subscription[] next = new Subscription[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, next.length - i);
+                    subscriptions = next;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Test the converted message, the memo is keyed by the converted message reference.
+         */
+        boolean test(Object event) {
+            synchronized (this) {
+                if (event != null && event == lastEvent) {
+                    return lastMatched;
+                }
+            }
+            // The predicate might block, then it is tested outside the lock
+            final boolean matched = predicate.test(event);
+            synchronized (this) {
+                lastEvent   = event;
+                lastMatched = matched;
+            }
+            return matched;
+        }
+
+    }
+
+
+    private static final class Delivery {
+
+        private final Subscription subscription;
+        private final Message<Object> msg;
+        private final Object event;
+        private final Throwable error;
+
+        Delivery(Subscription subscription, Message<Object> msg, Object event, Throwable error) {
+            this.subscription = subscription;
+            this.msg          = msg;
+            this.event        = event;
+            this.error        = error;
+        }
+
+        void fire() {
+            if (subscription.active) {
+                subscription.listener.onEvent(msg, event, error);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,145 @@
+package io.github.zero88.schedulerx.impl;
+
+import static io.github.zero88.schedulerx.impl.Utils.brackets;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.LeaseStore;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The file lease store keeps all leases in one JSON file. A batch reads and updates the leases, writes them to a
+ * temporary file then atomically moves it over the lease file, then a crash never leaves a partial lease file. The
+ * batch runs under the lock of a sibling lock file, that excludes the other processes, and under the path monitor,
+ * that excludes the other stores of the same file in the current JVM because the file lock is held by the whole JVM.
+ */
+@Internal
+public final class FileLeaseStore implements LeaseStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LeaseStore.class);
+    private static final ConcurrentMap<Path, Object> MONITORS = new ConcurrentHashMap<>();
+    private static final String OWNER = "owner";
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private final Vertx vertx;
+    private final Path file;
+    private final Path lockFile;
+    private final Path tempFile;
+    private final Object monitor;
+
+    public FileLeaseStore(@NotNull Vertx vertx, @NotNull Path file) {
+        this.vertx    = Objects.requireNonNull(vertx, "Vert.x is required");
+        this.file     = Objects.requireNonNull(file, "The lease file is required").toAbsolutePath().normalize();
+        this.lockFile = this.file.resolveSibling(this.file.getFileName() + ".lock");
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        this.monitor  = MONITORS.computeIfAbsent(this.file, k -> new Object());
+    }
+
+    @Override
+    public @NotNull Future<Set<String>> acquire(@NotNull String ownerId, @NotNull Collection<String> keys,
+                                                @NotNull Duration ttl) {
+        return apply(leases -> {
+            final long now = System.currentTimeMillis();
+            final Set<String> held = new HashSet<>();
+            for (String key : keys) {
+                final JsonObject lease = leases.getJsonObject(key);
+                if (lease == null || lease.getLong(EXPIRES_AT, 0L) <= now || ownerId.equals(lease.getString(OWNER))) {
+                    leases.put(key, new JsonObject().put(OWNER, ownerId).put(EXPIRES_AT, now + ttl.toMillis()));
+                    held.add(key);
+                }
+            }
+            return held;
+        });
+    }
+
+    @Override
+    public @NotNull Future<Void> release(@NotNull String ownerId, @NotNull Collection<String> keys) {
+        return apply(leases -> {
+            for (String key : keys) {
+                final JsonObject lease = leases.getJsonObject(key);
+                if (lease != null && ownerId.equals(lease.getString(OWNER))) {
+                    leases.remove(key);
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        // The file is only opened while a batch is applied
+    }
+
+    private <T> Future<T> apply(Function<JsonObject, T> operation) {
+        return vertx.executeBlocking(promise -> {
+            synchronized (monitor) {
+                try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                                                            StandardOpenOption.WRITE)) {
+                    // The file lock is released when the channel is closed
+                    channel.lock();
+                    final JsonObject leases = read(file);
+                    final T result = operation.apply(leases);
+                    write(leases);
+                    promise.complete(result);
+                } catch (IOException ex) {
+                    promise.fail(ex);
+                }
+            }
+        }, false);
+    }
+
+    /**
+     * Read the leases, the missing or undecodable lease file holds no lease.
+     */
+    private static JsonObject read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new JsonObject();
+        }
+        final byte[] content = Files.readAllBytes(file);
+        if (content.length == 0) {
+            return new JsonObject();
+        }
+        try {
+            return new JsonObject(Buffer.buffer(content));
+        } catch (DecodeException ex) {
+            LOGGER.warn("Unable to decode the lease file " + brackets(file) + ", it is considered as no lease", ex);
+            return new JsonObject();
+        }
+    }
+
+    private void write(JsonObject leases) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(leases.toBuffer().getBytes());
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.LeaseStore;
+import io.vertx.core.Future;
+
+/**
+ * The in-memory lease store. A batch is applied atomically under the store lock.
+ */
+@Internal
+public final class InMemoryLeaseStore implements LeaseStore {
+
+    private final Map<String, Lease> leases = new HashMap<>();
+
+    @Override
+    public @NotNull Future<Set<String>> acquire(@NotNull String ownerId, @NotNull Collection<String> keys,
+                                                @NotNull Duration ttl) {
+        final long now = System.currentTimeMillis();
+        final long expiresAt = now + ttl.toMillis();
+        final Set<String> held = new HashSet<>();
+        synchronized (leases) {
+            for (String key : keys) {
+                final Lease lease = leases.get(key);
+                if (lease == null || lease.expiresAt <= now || lease.ownerId.equals(ownerId)) {
+                    leases.put(key, new Lease(ownerId, expiresAt));
+                    held.add(key);
+                }
+            }
+        }
+        return Future.succeededFuture(held);
+    }
+
+    @Override
+    public @NotNull Future<Void> release(@NotNull String ownerId, @NotNull Collection<String> keys) {
+        synchronized (leases) {
+            for (String key : keys) {
+                final Lease lease = leases.get(key);
+                if (lease != null && lease.ownerId.equals(ownerId)) {
+                    leases.remove(key);
+                }
+            }
+        }
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+    static final class Lease {
+
+        final String ownerId;
+        final long expiresAt;
+
+        Lease(String ownerId, long expiresAt) {
+            this.ownerId   = ownerId;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,462 @@
+package io.github.zero88.schedulerx.impl;
+
+import static io.github.zero88.schedulerx.impl.Utils.brackets;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.SchedulerStateRecord;
+import io.github.zero88.schedulerx.SchedulerStateStore;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+/**
+ * The local scheduler state store that appends the saved states to a memory-mapped journal, and compacts the journal
+ * into a snapshot of the latest states.
+ * <p/>
+ * Each journal record is {@code [length][crc32][payload]} and is followed by a zero length marker, then the recovery
+ * replays the journal until the marker or the first torn record. The journal is forced to the storage device in group
+ * by a dedicated thread per commit interval. A state is applied on recovery only if it supersedes the known state, then
+ * replaying a stale journal on a newer snapshot is harmless.
+ * <p/>
+ * The journal file is double-buffered: it has two segments, and the saved states are appended to the active one. When
+ * the active segment is almost full or per snapshot interval, the segments are swapped, then the committer thread
+ * writes the snapshot to a temporary file, atomically renames it, and resets the full segment afterward. Then saving a
+ * state only copies it into the memory-mapped segment, it never waits for the snapshot. If the new active segment is
+ * also full before the snapshot completes, the state is only kept in memory until the next snapshot.
+ */
+public final class JournalSchedulerStateStore implements SchedulerStateStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerStateStore.class);
+    static final String JOURNAL_FILE = "state.journal";
+    static final String SNAPSHOT_FILE = "state.snapshot";
+    private static final int SNAPSHOT_MAGIC = 0x53585353;
+    private static final int HEADER_SIZE = 8;
+    private static final int MARKER_SIZE = 4;
+
+    private final Path directory;
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final ScheduledExecutorService committer;
+    private final ConcurrentMap<String, SchedulerStateRecord> states = new ConcurrentHashMap<>();
+    // It guards the segment positions, the active segment and the compaction flags
+    private final Lock lock = new ReentrantLock();
+    private final AtomicLong appended = new AtomicLong();
+    private volatile long committed;
+    private volatile boolean closed;
+    private int active;
+    // The standby segment is full and is waiting for the snapshot
+    private boolean compacting;
+    // A state is not appended to the journal because both segments are full
+    private boolean overflowed;
+
+    private JournalSchedulerStateStore(Path directory, int segmentSize, Duration commitInterval,
+                                       Duration snapshotInterval) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        readSnapshot();
+        this.channel = FileChannel.open(directory.resolve(JOURNAL_FILE), StandardOpenOption.CREATE,
+                                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.segments = new MappedByteBuffer[] {
+            channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize),
+            channel.map(FileChannel.MapMode.READ_WRITE, segmentSize, segmentSize)
+        };
+        for (MappedByteBuffer segment : segments) {
+            replayJournal(segment);
+        }
+        // Persist the recovered states then discard the replayed journal
+        snapshotAndReset();
+        this.committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "scheduler.x-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long commitMillis = Math.max(1, commitInterval.toMillis());
+        final long snapshotMillis = Math.max(commitMillis, snapshotInterval.toMillis());
+        committer.scheduleWithFixedDelay(this::commit, commitMillis, commitMillis, TimeUnit.MILLISECONDS);
+        committer.scheduleWithFixedDelay(this::compact, snapshotMillis, snapshotMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open the journal store
+     *
+     * @param directory        the store directory
+     * @param segmentSize      the journal segment size in bytes, the journal file has two segments
+     * @param commitInterval   the interval to force the journal to the storage device
+     * @param snapshotInterval the interval to compact the journal into the snapshot
+     * @return the journal store
+     * @throws IllegalStateException if unable to open the store
+     */
+    public static @NotNull JournalSchedulerStateStore open(@NotNull Path directory, int segmentSize,
+                                                           @NotNull Duration commitInterval,
+                                                           @NotNull Duration snapshotInterval) {
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("The journal segment size must be at least 1024 bytes");
+        }
+        try {
+            return new JournalSchedulerStateStore(directory, segmentSize, commitInterval, snapshotInterval);
+        } catch (IOException | UncheckedIOException ex) {
+            throw new IllegalStateException("Unable to open the scheduler state store " + brackets(directory), ex);
+        }
+    }
+
+    @Override
+    public @Nullable SchedulerStateRecord load(@NotNull String key) {
+        return states.get(key);
+    }
+
+    @Override
+    public void save(@NotNull SchedulerStateRecord record) {
+        final byte[] payload = encode(record);
+        final int size = HEADER_SIZE + payload.length;
+        if (size + MARKER_SIZE > segments[0].capacity()) {
+            throw new IllegalArgumentException("The scheduler state " + brackets(record.key()) + " is too large");
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The scheduler state store is closed");
+            }
+            states.merge(record.key(), record, (prev, next) -> next.supersedes(prev) ? next : prev);
+            MappedByteBuffer journal = segments[active];
+            if (journal.position() + size + MARKER_SIZE > journal.capacity() && !compacting) {
+                swapLocked();
+                committer.execute(this::compact);
+                journal = segments[active];
+            }
+            if (journal.position() + size + MARKER_SIZE > journal.capacity()) {
+                // It is kept in memory, then the next snapshot persists it
+                overflowed = true;
+                return;
+            }
+            final int position = journal.position();
+            journal.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+            journal.putInt(position + size, 0);
+            appended.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() {
+        final long sequence = appended.get();
+        if (sequence != committed) {
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+            committed = sequence;
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        committer.shutdown();
+        try {
+            // Wait for the running snapshot, then the final snapshot never races with it
+            if (!committer.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOGGER.warn("The scheduler state journal committer is not terminated " + brackets(directory));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            snapshotAndReset();
+            channel.close();
+        } catch (IOException | UncheckedIOException ex) {
+            LOGGER.warn("Unable to close the scheduler state store " + brackets(directory), ex);
+        }
+    }
+
+    /**
+     * @return the number of the saved states that are not forced to the storage device yet
+     */
+    long uncommitted() { return appended.get() - committed; }
+
+    private void commit() {
+        try {
+            flush();
+        } catch (Exception ex) {
+            LOGGER.warn("Unable to commit the scheduler state journal " + brackets(directory), ex);
+        }
+    }
+
+    /**
+     * Snapshots the states then resets the full segment. It runs on the committer thread, and it swaps the segments
+     * first if it is triggered by the snapshot interval.
+     */
+    private void compact() {
+        boolean again = true;
+        while (again) {
+            final MappedByteBuffer full;
+            lock.lock();
+            try {
+                // Skip if nothing is appended since the last snapshot
+                if (closed || !compacting && segments[active].position() == 0 && !overflowed) {
+                    return;
+                }
+                if (!compacting) {
+                    swapLocked();
+                }
+                full       = segments[1 - active];
+                overflowed = false;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                writeSnapshot();
+            } catch (Exception ex) {
+                // The full segment is kept, then the next compaction retries
+                LOGGER.warn("Unable to compact the scheduler state journal " + brackets(directory), ex);
+                return;
+            }
+            lock.lock();
+            try {
+                reset(full);
+                compacting = false;
+                again      = overflowed;
+            } finally {
+                lock.unlock();
+            }
+            commit();
+        }
+    }
+
+    /**
+     * Swaps the active segment with the empty standby one. Must be called under the lock.
+     */
+    private void swapLocked() {
+        active     = 1 - active;
+        compacting = true;
+    }
+
+    private void snapshotAndReset() {
+        writeSnapshot();
+        for (MappedByteBuffer segment : segments) {
+            reset(segment);
+        }
+        compacting = false;
+        overflowed = false;
+        flush();
+    }
+
+    private static void reset(MappedByteBuffer segment) {
+        segment.position(0);
+        segment.putInt(0, 0);
+    }
+
+    private void writeSnapshot() {
+        final Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        final List<SchedulerStateRecord> snapshot = new ArrayList<>(states.values());
+        try (FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                 StandardOpenOption.TRUNCATE_EXISTING)) {
+            final OutputStream stream = Channels.newOutputStream(file);
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(snapshot.size());
+            final CRC32 crc = new CRC32();
+            for (SchedulerStateRecord record : snapshot) {
+                final byte[] payload = encode(record);
+                crc.reset();
+                crc.update(payload, 0, payload.length);
+                out.writeInt(payload.length);
+                out.writeInt((int) crc.getValue());
+                out.write(payload);
+            }
+            out.flush();
+            file.force(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        try {
+            Files.move(temp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE,
+                       StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Read the snapshot. The corrupted snapshot is dropped, then the states are rebuilt from the journal only, and the
+     * snapshot is rewritten once the journal is replayed.
+     */
+    private void readSnapshot() throws IOException {
+        final Path file = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        final long size = Files.size(file);
+        final List<SchedulerStateRecord> snapshot = new ArrayList<>();
+        try (InputStream stream = Files.newInputStream(file)) {
+            final DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new StreamCorruptedException("Invalid magic number");
+            }
+            final int count = in.readInt();
+            final CRC32 crc = new CRC32();
+            for (int i = 0; i < count; i++) {
+                final int length = in.readInt();
+                if (length < 0 || length > size) {
+                    throw new StreamCorruptedException("Invalid record length");
+                }
+                final byte[] payload = new byte[length];
+                final int checksum = in.readInt();
+                in.readFully(payload);
+                crc.reset();
+                crc.update(payload, 0, payload.length);
+                if ((int) crc.getValue() != checksum) {
+                    throw new StreamCorruptedException("Checksum mismatch");
+                }
+                snapshot.add(decode(payload));
+            }
+        } catch (EOFException | StreamCorruptedException | UncheckedIOException ex) {
+            LOGGER.warn("Drop the corrupted scheduler state snapshot " + brackets(file) + ", the states are rebuilt " +
+                        "from the journal", ex);
+            return;
+        }
+        snapshot.forEach(this::apply);
+    }
+
+    private void replayJournal(MappedByteBuffer journal) {
+        final CRC32 crc = new CRC32();
+        int position = 0;
+        while (position + HEADER_SIZE <= journal.capacity()) {
+            final int length = journal.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > journal.capacity()) {
+                break;
+            }
+            final byte[] payload = new byte[length];
+            journal.duplicate().position(position + HEADER_SIZE).get(payload);
+            crc.reset();
+            crc.update(payload, 0, length);
+            if ((int) crc.getValue() != journal.getInt(position + 4)) {
+                LOGGER.warn("Discard the torn scheduler state journal from position " + brackets(position));
+                break;
+            }
+            apply(decode(payload));
+            position += HEADER_SIZE + length;
+        }
+    }
+
+    private void apply(SchedulerStateRecord record) {
+        states.merge(record.key(), record, (prev, next) -> next.supersedes(prev) ? next : prev);
+    }
+
+    static byte[] encode(SchedulerStateRecord record) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, record.key());
+            out.writeLong(record.tick());
+            out.writeLong(record.round());
+            out.writeBoolean(record.lastFiredAt() != null);
+            if (record.lastFiredAt() != null) {
+                out.writeLong(record.lastFiredAt().getEpochSecond());
+                out.writeInt(record.lastFiredAt().getNano());
+            }
+            out.writeBoolean(record.completed());
+            writeString(out, encodeData(record));
+            writeString(out, record.lastError());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    static SchedulerStateRecord decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            final String key = readString(in);
+            final long tick = in.readLong();
+            final long round = in.readLong();
+            final Instant lastFiredAt = in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+            final boolean completed = in.readBoolean();
+            final String data = readString(in);
+            final String error = readString(in);
+            return new SchedulerStateRecord(key, tick, round, lastFiredAt, completed,
+                                            data == null ? null : Json.decodeValue(data), error);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (DecodeException ex) {
+            throw new UncheckedIOException(new IOException("Invalid scheduler state data", ex));
+        }
+    }
+
+    private static String encodeData(SchedulerStateRecord record) {
+        if (record.lastData() == null) {
+            return null;
+        }
+        try {
+            return Json.encode(record.lastData());
+        } catch (EncodeException ex) {
+            LOGGER.debug("Skip the unencodable scheduler state data " + brackets(record.key()));
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,222 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.LeaseGuard;
+import io.github.zero88.schedulerx.LeaseStore;
+import io.github.zero88.schedulerx.trigger.Trigger;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.github.zero88.schedulerx.trigger.TriggerContext;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+/**
+ * The lease guard keeps the lease state of each tracked job locally. The store is only touched by the batch
+ * acquisition of the newly tracked jobs, by the periodic batch renewal and by the release of the completed jobs, all
+ * run on the guard context.
+ */
+@Internal
+public final class LeaseGuardImpl extends DefaultTriggerEvaluator implements LeaseGuard {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LeaseGuard.class);
+
+    private final Vertx vertx;
+    private final LeaseStore store;
+    private final String ownerId;
+    private final Duration ttl;
+    private final ContextInternal context;
+    private final Map<String, LeaseState> states = new ConcurrentHashMap<>();
+    private Set<String> pendingKeys = new HashSet<>();
+    private Promise<Void> pendingAcquisition;
+    private long timerId = -1;
+    private boolean renewing;
+    private volatile boolean closed;
+
+    public LeaseGuardImpl(@NotNull Vertx vertx, @NotNull LeaseStore store, @NotNull String ownerId,
+                          @NotNull Duration ttl) {
+        super(false);
+        this.vertx   = Objects.requireNonNull(vertx, "Vert.x is required");
+        this.store   = Objects.requireNonNull(store, "The lease store is required");
+        this.ownerId = Objects.requireNonNull(ownerId, "The lease owner is required");
+        this.ttl     = Objects.requireNonNull(ttl, "The lease time-to-live is required");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("The lease time-to-live must be positive");
+        }
+        this.context = ((VertxInternal) vertx).createEventLoopContext();
+        this.context.runOnContext(v -> {
+            if (!closed) {
+                timerId = vertx.setPeriodic(Math.max(1, ttl.toMillis() / 3), id -> renew());
+            }
+        });
+    }
+
+    @Override
+    public @NotNull String ownerId() { return ownerId; }
+
+    @Override
+    public boolean isHeld(@NotNull Object externalId) {
+        final LeaseState state = states.get(String.valueOf(externalId));
+        return state != null && state.isValid();
+    }
+
+    @Override
+    public @NotNull Future<Void> close() {
+        final Promise<Void> promise = Promise.promise();
+        context.runOnContext(v -> {
+            closed = true;
+            vertx.cancelTimer(timerId);
+            final List<String> owned = states.entrySet()
+                                             .stream()
+                                             .filter(e -> e.getValue().owned)
+                                             .map(Map.Entry::getKey)
+                                             .collect(Collectors.toList());
+            states.clear();
+            store.release(ownerId, owned).onComplete(promise);
+        });
+        return promise.future();
+    }
+
+    @Override
+    protected Future<TriggerContext> internalBeforeTrigger(@NotNull Trigger trigger, @NotNull TriggerContext ctx,
+                                                           @Nullable Object externalId) {
+        if (closed) {
+            return Future.succeededFuture(TriggerContextFactory.skip(ctx, ReasonCode.LEASE_NOT_ACQUIRED));
+        }
+        final String key = String.valueOf(externalId);
+        final LeaseState state = states.get(key);
+        if (state != null) {
+            return Future.succeededFuture(evaluate(ctx, state));
+        }
+        final LeaseState tracked = new LeaseState();
+        if (states.putIfAbsent(key, tracked) != null) {
+            return Future.succeededFuture(TriggerContextFactory.skip(ctx, ReasonCode.LEASE_NOT_ACQUIRED));
+        }
+        return track(key).map(v -> evaluate(ctx, tracked));
+    }
+
+    @Override
+    void internalCompleted(@Nullable Object externalId) {
+        final String key = String.valueOf(externalId);
+        context.runOnContext(v -> {
+            final LeaseState state = states.remove(key);
+            if (state != null && state.owned) {
+                release(Collections.singletonList(key));
+            }
+        });
+    }
+
+    private static TriggerContext evaluate(TriggerContext ctx, LeaseState state) {
+        if (state.isValid()) {
+            return ctx;
+        }
+        if (state.owned) {
+            state.owned = false;
+            return TriggerContextFactory.skip(ctx, ReasonCode.LEASE_LOST);
+        }
+        return TriggerContextFactory.skip(ctx, ReasonCode.LEASE_NOT_ACQUIRED);
+    }
+
+    /**
+     * Queue the newly tracked key, the queued keys of the same event loop turn are acquired in one batch.
+     */
+    private Future<Void> track(String key) {
+        synchronized (this) {
+            pendingKeys.add(key);
+            if (pendingAcquisition == null) {
+                pendingAcquisition = Promise.promise();
+                context.runOnContext(v -> flush());
+            }
+            return pendingAcquisition.future();
+        }
+    }
+
+    private void flush() {
+        final Set<String> keys;
+        final Promise<Void> promise;
+        synchronized (this) {
+            keys               = pendingKeys;
+            promise            = pendingAcquisition;
+            pendingKeys        = new HashSet<>();
+            pendingAcquisition = null;
+        }
+        acquire(keys).onComplete(ar -> promise.complete());
+    }
+
+    /**
+     * Renew the leases of all tracked jobs in one batch. A job is tracked until its scheduler is completed, even if it
+     * fires less often than the lease time-to-live, then its lease is kept by the same replica between its fires.
+     */
+    private void renew() {
+        if (renewing || states.isEmpty()) {
+            return;
+        }
+        renewing = true;
+        acquire(new ArrayList<>(states.keySet())).onComplete(ar -> renewing = false);
+    }
+
+    /**
+     * Release the held leases of the completed jobs, then another replica can take them over without waiting for the
+     * lease expiry.
+     */
+    private void release(List<String> keys) {
+        store.release(ownerId, keys)
+             .onFailure(t -> LOGGER.warn("Unable to release " + keys.size() + " lease(s) of [" + ownerId + "]", t));
+    }
+
+    private Future<Void> acquire(Collection<String> keys) {
+        final long requestedAt = System.currentTimeMillis();
+        return store.acquire(ownerId, keys, ttl).map(held -> {
+            final long expiresAt = requestedAt + ttl.toMillis();
+            for (String key : keys) {
+                final LeaseState state = states.get(key);
+                if (state == null) {
+                    continue;
+                }
+                if (held.contains(key)) {
+                    state.owned     = true;
+                    state.expiresAt = expiresAt;
+                } else {
+                    state.expiresAt = 0;
+                }
+            }
+            return (Void) null;
+        }).onFailure(t -> LOGGER.warn("Unable to acquire " + keys.size() + " lease(s) of [" + ownerId + "]", t));
+    }
+
+    static final class LeaseState {
+
+        /**
+         * The lease expiry that is computed from the acquisition request time, then it never outlives the store lease.
+         */
+        volatile long expiresAt;
+        /**
+         * Whether the lease was held by this guard, and its loss is not reported yet.
+         */
+        volatile boolean owned;
+
+        boolean isValid() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.ClusterMembership;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+/**
+ * The in-process cluster membership. The memberships of the same group share one member set, and every member set
+ * change is notified to all memberships of the group in the change order.
+ */
+@Internal
+public final class LocalClusterMembership implements ClusterMembership {
+
+    private static final ConcurrentMap<String, Group> GROUPS = new ConcurrentHashMap<>();
+
+    private final Group group;
+    private final String nodeId;
+    private volatile Handler<Set<String>> listener;
+
+    private LocalClusterMembership(Group group, String nodeId) {
+        this.group  = group;
+        this.nodeId = nodeId;
+    }
+
+    public static @NotNull ClusterMembership create(@NotNull String group, @NotNull String nodeId) {
+        Objects.requireNonNull(group, "The group is required");
+        Objects.requireNonNull(nodeId, "The node id is required");
+        final LocalClusterMembership membership = new LocalClusterMembership(
+            GROUPS.computeIfAbsent(group, k -> new Group()), nodeId);
+        membership.group.memberships.add(membership);
+        return membership;
+    }
+
+    @Override
+    public @NotNull String nodeId() { return nodeId; }
+
+    @Override
+    public @NotNull Set<String> members() { return group.snapshot(); }
+
+    @Override
+    public void listen(@NotNull Handler<Set<String>> listener) { this.listener = listener; }
+
+    @Override
+    public @NotNull Future<Void> join() {
+        group.change(members -> members.add(nodeId));
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public @NotNull Future<Void> leave() {
+        group.change(members -> members.remove(nodeId));
+        return Future.succeededFuture();
+    }
+
+    private static final class Group {
+
+        private final Set<String> members = new TreeSet<>();
+        private final List<LocalClusterMembership> memberships = new CopyOnWriteArrayList<>();
+
+        private synchronized Set<String> snapshot() {
+            return Collections.unmodifiableSet(new TreeSet<>(members));
+        }
+
+        private synchronized void change(Predicate<Set<String>> operation) {
+            if (!operation.test(members)) {
+                return;
+            }
+            final Set<String> snapshot = snapshot();
+            // Notify under the group lock, then every membership sees the changes in the same order
+            for (LocalClusterMembership membership : memberships) {
+                final Handler<Set<String>> handler = membership.listener;
+                if (handler != null) {
+                    handler.handle(snapshot);
+                }
+            }
+        }
+
+    }
+
+}
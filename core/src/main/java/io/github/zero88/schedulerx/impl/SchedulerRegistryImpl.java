@@ -0,0 +1,227 @@
+package io.github.zero88.schedulerx.impl;
+
+import static io.github.zero88.schedulerx.impl.Utils.brackets;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.ExecutionMode;
+import io.github.zero88.schedulerx.JobExecutorConfig;
+import io.github.zero88.schedulerx.Scheduler;
+import io.github.zero88.schedulerx.SchedulerRegistry;
+import io.github.zero88.schedulerx.TimeoutPolicy;
+import io.github.zero88.schedulerx.WorkerExecutorFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+public final class SchedulerRegistryImpl implements SchedulerRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerRegistry.class);
+    // The number of schedulers that are processed per event loop task
+    private static final int BATCH_SIZE = 256;
+
+    private final Vertx vertx;
+    private final List<Context> contexts;
+    private final TimeoutPolicy timeoutPolicy = TimeoutPolicy.byDefault();
+    private final WorkerExecutor workerExecutor;
+    private final ConcurrentMap<Object, Scheduler<?>> byExternalId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Object>> byTriggerType = new ConcurrentHashMap<>();
+
+    public SchedulerRegistryImpl(@NotNull Vertx vertx, int parallelism) {
+        this.vertx          = Objects.requireNonNull(vertx, "Vert.x is required");
+        this.workerExecutor = WorkerExecutorFactory.createExecutionWorker(vertx, timeoutPolicy);
+        this.contexts       = createContexts((VertxInternal) vertx, parallelism);
+    }
+
+    @Override
+    public @NotNull Vertx vertx() { return vertx; }
+
+    @Override
+    public <S extends Scheduler<?>> @NotNull S register(@NotNull S scheduler) {
+        final Object externalId = externalId(scheduler);
+        if (byExternalId.putIfAbsent(externalId, scheduler) != null) {
+            throw new IllegalArgumentException("The scheduler " + brackets(externalId) + " is already registered");
+        }
+        byTriggerType.computeIfAbsent(scheduler.trigger().type(), k -> ConcurrentHashMap.newKeySet()).add(externalId);
+        return scheduler;
+    }
+
+    @Override
+    public @Nullable Scheduler<?> unregister(@NotNull Object externalId) {
+        final Scheduler<?> scheduler = byExternalId.remove(externalId);
+        if (scheduler != null) {
+            final Set<Object> ids = byTriggerType.get(scheduler.trigger().type());
+            if (ids != null) {
+                ids.remove(externalId);
+            }
+        }
+        return scheduler;
+    }
+
+    @Override
+    public @Nullable Scheduler<?> get(@NotNull Object externalId) { return byExternalId.get(externalId); }
+
+    @Override
+    public int size() { return byExternalId.size(); }
+
+    @Override
+    public int count(@NotNull String triggerType) {
+        final Set<Object> ids = byTriggerType.get(triggerType);
+        return ids == null ? 0 : ids.size();
+    }
+
+    @Override
+    public @NotNull Collection<Scheduler<?>> schedulers() {
+        return Collections.unmodifiableCollection(byExternalId.values());
+    }
+
+    @Override
+    public void forEach(@NotNull String triggerType, @NotNull Consumer<Scheduler<?>> action) {
+        final Set<Object> ids = byTriggerType.get(triggerType);
+        if (ids == null) {
+            return;
+        }
+        for (Object id : ids) {
+            final Scheduler<?> scheduler = byExternalId.get(id);
+            if (scheduler != null) {
+                action.accept(scheduler);
+            }
+        }
+    }
+
+    @Override
+    public @NotNull WorkerExecutor workerExecutor() { return workerExecutor; }
+
+    @Override
+    public @NotNull Future<Integer> startAll() {
+        return fanOut(new ArrayList<>(byExternalId.values()), this::start);
+    }
+
+    /**
+     * Start the given schedulers only, then they are fanned out across the event loops like {@link #startAll()}.
+     *
+     * @param schedulers the registered schedulers
+     * @return the number of started schedulers
+     */
+    @NotNull Future<Integer> startAll(@NotNull List<Scheduler<?>> schedulers) {
+        return fanOut(schedulers, this::start);
+    }
+
+    @Override
+    public @NotNull Future<Void> cancelAll() {
+        return fanOut(new ArrayList<>(byExternalId.values()), scheduler -> {
+            scheduler.cancel();
+            return true;
+        }).mapEmpty();
+    }
+
+    @Override
+    public @NotNull Future<Void> close() {
+        return cancelAll().eventually(ignore -> workerExecutor.close());
+    }
+
+    private boolean start(Scheduler<?> scheduler) {
+        if (scheduler instanceof AbstractScheduler && ((AbstractScheduler<?, ?, ?>) scheduler).isStarted()) {
+            return false;
+        }
+        try {
+            scheduler.start(sharesWorker(scheduler) ? workerExecutor : null);
+            return true;
+        } catch (Exception ex) {
+            LOGGER.warn("Unable to start the scheduler " + brackets(externalId(scheduler)), ex);
+            return false;
+        }
+    }
+
+    /**
+     * Only the scheduler that runs on the worker thread pool with the default timeout shares the registry worker, the
+     * other scheduler creates its own executor that matches its execution mode and its timeout policy.
+     */
+    private boolean sharesWorker(Scheduler<?> scheduler) {
+        if (!(scheduler instanceof JobExecutorConfig)) {
+            return true;
+        }
+        final JobExecutorConfig<?, ?> config = (JobExecutorConfig<?, ?>) scheduler;
+        return config.executionMode() == ExecutionMode.WORKER_THREAD && timeoutPolicy.equals(config.timeoutPolicy());
+    }
+
+    /**
+     * Split the schedulers into one partition per event loop context, then each context processes its
+     * partition in batches.
+     */
+    private Future<Integer> fanOut(List<Scheduler<?>> snapshot, Predicate<Scheduler<?>> operation) {
+        final int partitions = Math.min(contexts.size(), Math.max(1, snapshot.size()));
+        final int partitionSize = (snapshot.size() + partitions - 1) / partitions;
+        final AtomicInteger counter = new AtomicInteger();
+        final List<Future<Void>> futures = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            final Promise<Void> promise = Promise.promise();
+            final int from = i * partitionSize;
+            final int to = Math.min(snapshot.size(), from + partitionSize);
+            final Context context = contexts.get(i);
+            context.runOnContext(v -> process(context, snapshot, from, to, operation, counter, promise));
+            futures.add(promise.future());
+        }
+        return Future.all(futures).map(ignore -> counter.get());
+    }
+
+    private static void process(Context context, List<Scheduler<?>> schedulers, int from, int to,
+                                Predicate<Scheduler<?>> operation, AtomicInteger counter, Promise<Void> promise) {
+        final int end = Math.min(to, from + BATCH_SIZE);
+        for (int i = from; i < end; i++) {
+            if (operation.test(schedulers.get(i))) {
+                counter.incrementAndGet();
+            }
+        }
+        if (end < to) {
+            // Yield the event loop between the batches
+            context.runOnContext(v -> process(context, schedulers, end, to, operation, counter, promise));
+        } else {
+            promise.complete();
+        }
+    }
+
+    private static Object externalId(Scheduler<?> scheduler) {
+        final Object externalId = scheduler instanceof JobExecutorConfig
+                                  ? ((JobExecutorConfig<?, ?>) scheduler).jobData().externalId()
+                                  : null;
+        if (externalId == null) {
+            throw new IllegalArgumentException("The scheduler must have the job external id");
+        }
+        return externalId;
+    }
+
+    private static List<Context> createContexts(VertxInternal vertx, int parallelism) {
+        int eventLoops = 0;
+        for (EventExecutor ignored : vertx.getEventLoopGroup()) {
+            eventLoops++;
+        }
+        final int size = parallelism <= 0 ? eventLoops : Math.min(parallelism, eventLoops);
+        final List<Context> contexts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Each new event loop context is assigned to the next event loop in round-robin
+            contexts.add(vertx.createEventLoopContext());
+        }
+        return Collections.unmodifiableList(contexts);
+    }
+
+}
@@ -1,38 +1,74 @@
 package io.github.zero88.schedulerx.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.Instant;
-import java.util.AbstractMap.SimpleEntry;
-import java.util.Comparator;
-import java.util.Map.Entry;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.BinaryOperator;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import io.github.zero88.schedulerx.TimeClock;
 
+/**
+ * The lock-free scheduler state.
+ * <p/>
+ * The lifecycle flags ({@code pending}, {@code completed}) are packed into one state word that is updated by CAS. The
+ * in-flight ticks are kept in the fixed slots that are sized by the max concurrent rounds, each slot is claimed and
+ * released by CAS, then marking a tick as in-flight or finished does not allocate. The last data and the last error
+ * are guarded by their round word, the highest bit of the round word is set while the value is being written.
+ */
 final class SchedulerStateImpl<OUTPUT> implements SchedulerStateInternal<OUTPUT> {
 
-    private final AtomicReference<Instant> availableAt = new AtomicReference<>();
+    private static final long PENDING = 1L << 63;
+    private static final long COMPLETED = 1L << 62;
+    private static final long WRITING = 1L << 63;
+    private static final VarHandle STATE;
+    private static final VarHandle DATA_ROUND;
+    private static final VarHandle ERROR_ROUND;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            STATE       = lookup.findVarHandle(SchedulerStateImpl.class, "state", long.class);
+            DATA_ROUND  = lookup.findVarHandle(SchedulerStateImpl.class, "dataRound", long.class);
+            ERROR_ROUND = lookup.findVarHandle(SchedulerStateImpl.class, "errorRound", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final AtomicLong tick = new AtomicLong(0);
     private final AtomicLong round = new AtomicLong(0);
-    private final AtomicBoolean completed = new AtomicBoolean(false);
-    private final ConcurrentMap<Long, Boolean> inProgress = new ConcurrentHashMap<>();
-    private final AtomicBoolean pending = new AtomicBoolean(true);
-    private final AtomicReference<Entry<Long, OUTPUT>> data = new AtomicReference<>(new SimpleEntry<>(0L, null));
-    private final AtomicReference<Entry<Long, Throwable>> error = new AtomicReference<>(new SimpleEntry<>(0L, null));
     private final TimeClock clock;
+    // the in-flight ticks, 0 if the slot is free
+    private final AtomicLongArray inFlight;
+    // flags in the 2 highest bits
+    private volatile long state = PENDING;
+    private volatile long dataRound;
+    private volatile long errorRound;
+    private volatile Instant availableAt;
+    private volatile Instant lastFiredAt;
+    private OUTPUT data;
+    private Throwable error;
     private long timerId;
 
-    SchedulerStateImpl(TimeClock clock) { this.clock = clock; }
+    SchedulerStateImpl(TimeClock clock) { this(clock, 1); }
+
+    SchedulerStateImpl(TimeClock clock, int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Invalid max concurrent value");
+        }
+        this.clock    = clock;
+        this.inFlight = new AtomicLongArray(maxConcurrent);
+    }
+
+    @Override
+    public Instant availableAt() { return availableAt; }
 
     @Override
-    public Instant availableAt() { return availableAt.get(); }
+    public Instant lastFiredAt() { return lastFiredAt; }
 
     @Override
     public long tick() { return tick.get(); }
@@ -41,29 +77,75 @@ final class SchedulerStateImpl<OUTPUT> implements SchedulerStateInternal<OUTPUT>
     public long round() { return round.get(); }
 
     @Override
-    public boolean pending() { return pending.get(); }
+    public boolean pending() { return (state & PENDING) != 0; }
 
     @Override
-    public boolean executing() { return !inProgress.isEmpty() && !Boolean.TRUE.equals(inProgress.get(tick())); }
+    public boolean executing() {
+        final long current = tick.get();
+        for (int i = 0; i < inFlight.length(); i++) {
+            final long inFlightTick = inFlight.get(i);
+            if (inFlightTick != 0 && inFlightTick != current) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
-    public boolean completed() { return completed.get(); }
+    public boolean completed() { return (state & COMPLETED) != 0; }
 
     @Override
-    public OUTPUT lastData() { return Optional.ofNullable(data.get()).map(Entry::getValue).orElse(null); }
+    public OUTPUT lastData() {
+        while (true) {
+            final long before = awaitWritten(DATA_ROUND);
+            final OUTPUT value = data;
+            VarHandle.acquireFence();
+            if ((long) DATA_ROUND.getVolatile(this) == before) {
+                return value;
+            }
+        }
+    }
 
     @Override
-    public Throwable lastError() { return Optional.ofNullable(error.get()).map(Entry::getValue).orElse(null); }
+    public Throwable lastError() {
+        while (true) {
+            final long before = awaitWritten(ERROR_ROUND);
+            final Throwable value = error;
+            VarHandle.acquireFence();
+            if ((long) ERROR_ROUND.getVolatile(this) == before) {
+                return value;
+            }
+        }
+    }
 
     @Override
     public long increaseTick() {
         final long current = this.tick.incrementAndGet();
-        if (!executing()) {
-            inProgress.put(current, true);
-        }
+        // The current tick is not marked if the in-flight slots are full
+        markInFlight(current);
         return current;
     }
 
+    @Override
+    public boolean markInFlight(long tick) {
+        for (int i = 0; i < inFlight.length(); i++) {
+            if (inFlight.get(i) == 0 && inFlight.compareAndSet(i, 0, tick)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean inFlight(long tick) {
+        for (int i = 0; i < inFlight.length(); i++) {
+            if (inFlight.get(i) == tick) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public long increaseRound() { return round.incrementAndGet(); }
 
@@ -75,41 +157,85 @@ final class SchedulerStateImpl<OUTPUT> implements SchedulerStateInternal<OUTPUT>
         return this;
     }
 
+    @Override
+    public @NotNull SchedulerStateInternal<OUTPUT> lastFiredAt(@NotNull Instant firedAt) {
+        this.lastFiredAt = firedAt;
+        return this;
+    }
+
+    @Override
+    public @NotNull SchedulerStateInternal<OUTPUT> restore(long tick, long round, @Nullable Instant lastFiredAt) {
+        if (!pending()) {
+            throw new IllegalStateException("The scheduler state must be restored before the trigger is registered");
+        }
+        this.tick.set(tick);
+        this.round.set(round);
+        this.lastFiredAt = lastFiredAt;
+        return this;
+    }
+
     @Override
     public @NotNull Instant markAvailable() {
-        pending.set(false);
-        availableAt.set(clock.now());
-        return availableAt();
+        final Instant now = clock.now();
+        availableAt = now;
+        STATE.getAndBitwiseAnd(this, ~PENDING);
+        return now;
     }
 
     @Override
     public @NotNull Instant markFinished(long tick) {
-        inProgress.remove(tick);
+        for (int i = 0; i < inFlight.length(); i++) {
+            if (inFlight.get(i) == tick && inFlight.compareAndSet(i, tick, 0)) {
+                break;
+            }
+        }
         return clock.now();
     }
 
     @Override
     public @NotNull Instant markCompleted() {
-        completed.set(true);
+        STATE.getAndBitwiseOr(this, COMPLETED);
         return clock.now();
     }
 
     @Override
     public OUTPUT addData(long round, OUTPUT d) {
-        return Optional.ofNullable(data.accumulateAndGet(new SimpleEntry<>(round, d), binaryOperator()))
-                       .map(Entry::getValue)
-                       .orElse(null);
+        while (true) {
+            final long current = awaitWritten(DATA_ROUND);
+            if (round <= current) {
+                // keep the data of the latest round
+                return lastData();
+            }
+            if (DATA_ROUND.compareAndSet(this, current, round | WRITING)) {
+                data = d;
+                DATA_ROUND.setVolatile(this, round);
+                return d;
+            }
+        }
     }
 
     @Override
     public Throwable addError(long round, Throwable err) {
-        return Optional.ofNullable(error.accumulateAndGet(new SimpleEntry<>(round, err), binaryOperator()))
-                       .map(Entry::getValue)
-                       .orElse(null);
+        while (true) {
+            final long current = awaitWritten(ERROR_ROUND);
+            if (round <= current) {
+                // keep the error of the latest round
+                return lastError();
+            }
+            if (ERROR_ROUND.compareAndSet(this, current, round | WRITING)) {
+                error = err;
+                ERROR_ROUND.setVolatile(this, round);
+                return err;
+            }
+        }
     }
 
-    private <T> BinaryOperator<Entry<Long, T>> binaryOperator() {
-        return BinaryOperator.maxBy(Comparator.comparingLong(Entry::getKey));
+    private long awaitWritten(VarHandle roundWord) {
+        long value;
+        while (((value = (long) roundWord.getVolatile(this)) & WRITING) != 0) {
+            Thread.onSpinWait();
+        }
+        return value;
     }
 
 }
@@ -17,6 +17,25 @@ interface SchedulerStateInternal<OUTPUT> extends SchedulerState<OUTPUT> {
      */
     @NotNull SchedulerStateInternal<OUTPUT> timerId(long timerId);
 
+    /**
+     * Add the time at which the system timer fires the trigger
+     *
+     * @param firedAt fired at time
+     * @return this for fluent api
+     */
+    @NotNull SchedulerStateInternal<OUTPUT> lastFiredAt(@NotNull Instant firedAt);
+
+    /**
+     * Restore the counters from the durable state, it must be done before the trigger is registered in the system
+     * timer.
+     *
+     * @param tick        the restored tick
+     * @param round       the restored round
+     * @param lastFiredAt the restored last fired at time
+     * @return this for fluent api
+     */
+    @NotNull SchedulerStateInternal<OUTPUT> restore(long tick, long round, @Nullable Instant lastFiredAt);
+
     /**
      * Mark the trigger is already registered in the system timer.
      *
@@ -41,12 +60,28 @@ interface SchedulerStateInternal<OUTPUT> extends SchedulerState<OUTPUT> {
     @NotNull Instant markCompleted();
 
     /**
-     * Increase the tick counter and mark the current tick is in progress
+     * Increase the tick counter and mark the current tick is in progress if an in-flight slot is free
      *
      * @return next tick
      */
     long increaseTick();
 
+    /**
+     * Mark the given tick is in progress
+     *
+     * @param tick the trigger tick
+     * @return {@code true} if an in-flight slot is claimed, otherwise {@code false} if the slots are full
+     */
+    boolean markInFlight(long tick);
+
+    /**
+     * Check whether the given tick is in progress
+     *
+     * @param tick the trigger tick
+     * @return {@code true} if the tick holds an in-flight slot
+     */
+    boolean inFlight(long tick);
+
     /**
      * Increase the round counter
      *
@@ -1,5 +1,8 @@
 package io.github.zero88.schedulerx.impl;
 
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.MonitorPipelineStats;
 import io.github.zero88.schedulerx.SchedulingMonitor;
 
 /**
@@ -12,4 +15,9 @@ interface SchedulingMonitorInternal<OUT> extends SchedulingMonitor<OUT> {
 
     SchedulingMonitor<OUT> unwrap();
 
+    /**
+     * @return the monitor pipeline statistics, or {@code null} if the monitor results are not buffered
+     */
+    default @Nullable MonitorPipelineStats stats() { return null; }
+
 }
@@ -0,0 +1,189 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.SimulatedTimeline;
+import io.github.zero88.schedulerx.TimerService;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+/**
+ * The simulated timeline keeps the timers in a priority queue that is ordered by the virtual deadline then by the
+ * timer id. The cancelled timer is removed lazily when it reaches the queue head.
+ */
+@Internal
+public final class SimulatedTimelineImpl implements SimulatedTimeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerService.class);
+    private static final Comparator<Entry> ORDER = Comparator.<Entry, Instant>comparing(e -> e.deadline)
+                                                             .thenComparingLong(e -> e.id);
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(ORDER);
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private volatile Instant now;
+    private long idGenerator;
+
+    public SimulatedTimelineImpl(@NotNull Instant startAt) {
+        this.now = Objects.requireNonNull(startAt, "The start time is required");
+    }
+
+    @Override
+    public @NotNull Instant now() { return now; }
+
+    @Override
+    public long setTimer(long delay, @NotNull Handler<Long> handler) {
+        return schedule(Math.max(0, delay), 0, handler);
+    }
+
+    @Override
+    public long setPeriodic(long delay, @NotNull Handler<Long> handler) {
+        if (delay < 1) {
+            throw new IllegalArgumentException("Cannot schedule a periodic timer with delay < 1 ms");
+        }
+        return schedule(delay, delay, handler);
+    }
+
+    @Override
+    public boolean cancelTimer(long id) {
+        lock.lock();
+        try {
+            final Entry entry = entries.remove(id);
+            if (entry == null) {
+                return false;
+            }
+            entry.cancelled = true;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable Instant nextFireTime() {
+        lock.lock();
+        try {
+            final Entry head = peek();
+            return head == null ? null : head.deadline;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int advanceTo(@NotNull Instant target) {
+        if (target.isBefore(now)) {
+            throw new IllegalArgumentException("The simulated time cannot go backward");
+        }
+        int fired = 0;
+        Entry entry;
+        while ((entry = poll(target)) != null) {
+            entry.fire();
+            fired++;
+        }
+        return fired;
+    }
+
+    private long schedule(long delay, long period, Handler<Long> handler) {
+        final ContextInternal context = (ContextInternal) Vertx.currentContext();
+        lock.lock();
+        try {
+            final Entry entry = new Entry(++idGenerator, now.plusMillis(delay), period, handler, context);
+            entries.put(entry.id, entry);
+            queue.add(entry);
+            return entry.id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Polls the next timer that is due at the given target time, the periodic timer is re-queued at its next deadline
+     * before it fires. If no timer is due, the virtual time is moved to the target time.
+     */
+    private Entry poll(Instant target) {
+        lock.lock();
+        try {
+            final Entry head = peek();
+            if (head == null || head.deadline.isAfter(target)) {
+                now = target;
+                return null;
+            }
+            queue.poll();
+            now = head.deadline;
+            if (head.period > 0) {
+                head.deadline = head.deadline.plusMillis(head.period);
+                queue.add(head);
+            } else {
+                entries.remove(head.id);
+            }
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry peek() {
+        Entry head;
+        while ((head = queue.peek()) != null && head.cancelled) {
+            queue.poll();
+        }
+        return head;
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private final long period;
+        private final Handler<Long> handler;
+        private final ContextInternal context;
+        private Instant deadline;
+        private volatile boolean cancelled;
+
+        private Entry(long id, Instant deadline, long period, Handler<Long> handler, ContextInternal context) {
+            this.id       = id;
+            this.deadline = deadline;
+            this.period   = period;
+            this.handler  = handler;
+            this.context  = context;
+        }
+
+        private void fire() {
+            if (context != null) {
+                context.dispatch(id, handler);
+                return;
+            }
+            try {
+                handler.handle(id);
+            } catch (Exception ex) {
+                LOGGER.error("Unable to fire the simulated timer " + Utils.brackets(id), ex);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,405 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.DefaultOptions;
+import io.github.zero88.schedulerx.TimerService;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+/**
+ * The hierarchical timing wheel timer service.
+ * <p/>
+ * The wheel has {@code 4} levels of {@code 256} slots, each slot is a doubly linked list of timers then adding and
+ * cancelling a timer are {@code O(1)}. The wheel is driven by a single Vert.x one-shot timer that is armed only while
+ * the wheel has pending timers, it wakes up at the next non-empty slot or at the next cascade boundary. The non-empty
+ * slots of the first level are tracked in a bitmap, then the next wake-up is found by a few bit scans. The expired
+ * timers in one wake-up are coalesced by their registered Vert.x context, then each context receives only one task.
+ * <p/>
+ * The driver timer is armed on a dedicated event loop context that does not belong to any deployment, then undeploying
+ * the verticle that registers a timer never cancels the driver of the shared wheel. A driver that is overdue more than
+ * one second is considered as lost, then it is armed again by the next timer registration.
+ * <p/>
+ * A timer never fires before its deadline, but it might fire later than its deadline up to one tick.
+ */
+@Internal
+public final class TimingWheelTimerService implements TimerService, Shareable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerService.class);
+    private static final String SHARED_MAP = "__schedulerx.timer-service";
+    private static final String SHARED_KEY = "timing-wheel";
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long NO_TICK = Long.MAX_VALUE;
+    private static final long STALE_DRIVER_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Vertx vertx;
+    private final ContextInternal driverContext;
+    private final long tickNanos;
+    private final long startNanos;
+    private final Bucket[][] wheels;
+    // The non-empty slots of the first level wheel
+    private final long[] occupied = new long[WHEEL_SIZE / Long.SIZE];
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final AtomicLong idGenerator = new AtomicLong();
+    private final Lock lock = new ReentrantLock();
+    private long currentTick;
+    private long armedTick = NO_TICK;
+    private long driverId = -1;
+
+    public TimingWheelTimerService(@NotNull Vertx vertx, @NotNull Duration tickDuration) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("The tick duration must be positive");
+        }
+        this.vertx         = Objects.requireNonNull(vertx, "Vertx instance is required");
+        this.driverContext = ((VertxInternal) vertx).createEventLoopContext();
+        this.tickNanos     = tickDuration.toNanos();
+        this.startNanos    = System.nanoTime();
+        this.wheels        = new Bucket[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheels[level][i] = new Bucket(level == 0 ? occupied : null, i);
+            }
+        }
+    }
+
+    /**
+     * Obtain the timing wheel that is shared between every scheduler of the given Vert.x instance.
+     *
+     * @param vertx Vert.x
+     * @return the shared timing wheel
+     */
+    public static @NotNull TimingWheelTimerService shared(@NotNull Vertx vertx) {
+        final LocalMap<String, TimingWheelTimerService> map = vertx.sharedData().getLocalMap(SHARED_MAP);
+        final TimingWheelTimerService existing = map.get(SHARED_KEY);
+        if (existing != null) {
+            return existing;
+        }
+        final TimingWheelTimerService created = new TimingWheelTimerService(vertx, DefaultOptions.getInstance()
+                                                                                                 .timerTickDuration);
+        final TimingWheelTimerService prev = map.putIfAbsent(SHARED_KEY, created);
+        return prev == null ? created : prev;
+    }
+
+    @Override
+    public long setTimer(long delay, @NotNull Handler<Long> handler) {
+        return schedule(delay, 0, handler);
+    }
+
+    @Override
+    public long setPeriodic(long delay, @NotNull Handler<Long> handler) {
+        return schedule(delay, TimeUnit.MILLISECONDS.toNanos(delay), handler);
+    }
+
+    @Override
+    public boolean cancelTimer(long id) {
+        lock.lock();
+        try {
+            final Entry entry = entries.remove(id);
+            if (entry == null) {
+                return false;
+            }
+            entry.cancelled = true;
+            entry.unlink();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of pending timers in the wheel
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long schedule(long delay, long periodNanos, @NotNull Handler<Long> handler) {
+        if (delay < 1) {
+            throw new IllegalArgumentException("Cannot schedule a timer with delay < 1 ms");
+        }
+        Objects.requireNonNull(handler, "Timer handler is required");
+        final Entry entry = new Entry(idGenerator.incrementAndGet(), vertx.getOrCreateContext(), handler, periodNanos);
+        lock.lock();
+        try {
+            final long elapsed = System.nanoTime() - startNanos;
+            if (entries.isEmpty()) {
+                // Nothing is pending, skip the idle ticks instead of replaying them
+                currentTick = Math.max(currentTick, Math.floorDiv(elapsed, tickNanos));
+            }
+            entry.deadlineNanos = elapsed + TimeUnit.MILLISECONDS.toNanos(delay);
+            entry.deadlineTick  = Math.max(ceilDiv(entry.deadlineNanos, tickNanos), currentTick + 1);
+            entries.put(entry.id, entry);
+            place(entry);
+            if (armedTick != NO_TICK && elapsed - armedTick * tickNanos > STALE_DRIVER_NANOS) {
+                LOGGER.warn("The timing wheel driver" + Utils.brackets(driverId) + " is lost, arm it again");
+                vertx.cancelTimer(driverId);
+                driverId  = -1;
+                armedTick = NO_TICK;
+            }
+            if (entry.deadlineTick < armedTick) {
+                arm();
+            }
+            return entry.id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drive(long timerId) {
+        final List<Entry> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            if (timerId != driverId) {
+                return;
+            }
+            driverId  = -1;
+            armedTick = NO_TICK;
+            final long target = Math.floorDiv(System.nanoTime() - startNanos, tickNanos);
+            while (currentTick < target && !entries.isEmpty()) {
+                advance(++currentTick, expired);
+            }
+            arm();
+        } finally {
+            lock.unlock();
+        }
+        dispatch(expired);
+    }
+
+    /**
+     * Advances the wheel to the given tick then collects the expired timers. Must be called under the lock.
+     */
+    private void advance(long tick, List<Entry> expired) {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            final int shift = level * WHEEL_BITS;
+            if ((tick & ((1L << shift) - 1)) == 0) {
+                Entry entry = wheels[level][(int) ((tick >>> shift) & WHEEL_MASK)].detach();
+                while (entry != null) {
+                    final Entry next = entry.next;
+                    entry.next = null;
+                    place(entry);
+                    entry = next;
+                }
+            }
+        }
+        Entry entry = wheels[0][(int) (tick & WHEEL_MASK)].detach();
+        while (entry != null) {
+            final Entry next = entry.next;
+            entry.next = null;
+            if (entry.periodNanos > 0) {
+                entry.deadlineNanos += entry.periodNanos;
+                entry.deadlineTick = Math.max(ceilDiv(entry.deadlineNanos, tickNanos), tick + 1);
+                place(entry);
+            } else {
+                entries.remove(entry.id);
+            }
+            expired.add(entry);
+            entry = next;
+        }
+    }
+
+    /**
+     * Links the timer into the slot that matches its deadline. Must be called under the lock.
+     */
+    private void place(Entry entry) {
+        for (int level = 0; level < LEVELS; level++) {
+            final int shift = level * WHEEL_BITS;
+            final long slot = entry.deadlineTick >>> shift;
+            if (slot - (currentTick >>> shift) < WHEEL_SIZE) {
+                wheels[level][(int) (slot & WHEEL_MASK)].link(entry);
+                return;
+            }
+        }
+        // Beyond the wheel span, park it in the furthest slot then it is cascaded again later
+        final int shift = (LEVELS - 1) * WHEEL_BITS;
+        wheels[LEVELS - 1][(int) (((currentTick >>> shift) + WHEEL_MASK) & WHEEL_MASK)].link(entry);
+    }
+
+    /**
+     * Arms the driver timer at the next tick that needs to be processed. Must be called under the lock.
+     */
+    private void arm() {
+        final long wakeUp = nextTick();
+        if (wakeUp == armedTick) {
+            return;
+        }
+        if (driverId != -1) {
+            vertx.cancelTimer(driverId);
+            driverId = -1;
+        }
+        armedTick = wakeUp;
+        if (wakeUp != NO_TICK) {
+            final long delayNanos = wakeUp * tickNanos - (System.nanoTime() - startNanos);
+            driverId = driverContext.setTimer(Math.max(1, ceilDiv(delayNanos, TimeUnit.MILLISECONDS.toNanos(1))),
+                                              this::drive);
+        }
+    }
+
+    /**
+     * @return the tick of the next non-empty slot of the first level until the end of its rotation, otherwise the next
+     *     cascade boundary. Must be called under the lock.
+     */
+    private long nextTick() {
+        if (entries.isEmpty()) {
+            return NO_TICK;
+        }
+        final int from = (int) ((currentTick + 1) & WHEEL_MASK);
+        if (from == 0) {
+            return currentTick + 1;
+        }
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L << (from & 63));
+        while (bits == 0) {
+            if (++word == occupied.length) {
+                return (currentTick | WHEEL_MASK) + 1;
+            }
+            bits = occupied[word];
+        }
+        return currentTick + 1 + (word << 6) + Long.numberOfTrailingZeros(bits) - from;
+    }
+
+    private static void dispatch(List<Entry> expired) {
+        if (expired.isEmpty()) {
+            return;
+        }
+        final Map<Context, List<Entry>> byContext = new IdentityHashMap<>();
+        for (Entry entry : expired) {
+            byContext.computeIfAbsent(entry.context, c -> new ArrayList<>()).add(entry);
+        }
+        byContext.forEach((context, timers) -> context.runOnContext(ignore -> {
+            for (Entry entry : timers) {
+                entry.fire();
+            }
+        }));
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private static final class Bucket {
+
+        // The occupancy bitmap of the first level wheel, or null for the other levels
+        private final long[] occupied;
+        private final int index;
+        private Entry head;
+
+        Bucket(long[] occupied, int index) {
+            this.occupied = occupied;
+            this.index    = index;
+        }
+
+        void link(Entry entry) {
+            entry.bucket = this;
+            entry.prev   = null;
+            entry.next   = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+            if (occupied != null) {
+                occupied[index >>> 6] |= 1L << index;
+            }
+        }
+
+        Entry detach() {
+            final Entry first = head;
+            head = null;
+            markEmpty();
+            for (Entry e = first; e != null; e = e.next) {
+                e.bucket = null;
+                e.prev   = null;
+            }
+            return first;
+        }
+
+        void markEmpty() {
+            if (occupied != null) {
+                occupied[index >>> 6] &= ~(1L << index);
+            }
+        }
+
+    }
+
+
+    private static final class Entry {
+
+        private final long id;
+        private final Context context;
+        private final Handler<Long> handler;
+        private final long periodNanos;
+        private long deadlineNanos;
+        private long deadlineTick;
+        private Bucket bucket;
+        private Entry prev;
+        private Entry next;
+        private volatile boolean cancelled;
+
+        Entry(long id, Context context, Handler<Long> handler, long periodNanos) {
+            this.id          = id;
+            this.context     = context;
+            this.handler     = handler;
+            this.periodNanos = periodNanos;
+        }
+
+        void unlink() {
+            if (bucket == null) {
+                return;
+            }
+            if (prev == null) {
+                bucket.head = next;
+                if (next == null) {
+                    bucket.markEmpty();
+                }
+            } else {
+                prev.next = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            bucket = null;
+            prev   = null;
+            next   = null;
+        }
+
+        void fire() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                handler.handle(id);
+            } catch (Exception ex) {
+                LOGGER.error("Unable to handle the timer" + Utils.brackets(id), ex);
+            }
+        }
+
+    }
+
+}
@@ -1,6 +1,10 @@
 package io.github.zero88.schedulerx.impl;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import org.jetbrains.annotations.ApiStatus.Internal;
@@ -14,12 +18,41 @@ import io.github.zero88.schedulerx.trigger.TriggerContext;
 
 /**
  * The factory to create trigger context.
+ * <p/>
+ * The conditions without cause of the built-in reason codes are preallocated and shared, then a trigger transition
+ * only allocates the new immutable context.
  *
  * @since 2.0.0
  */
 @Internal
 public final class TriggerContextFactory {
 
+    private static final String[] REASON_CODES = new String[] {
+        ReasonCode.ON_SCHEDULE, ReasonCode.ON_RESCHEDULE, ReasonCode.ON_CANCEL, ReasonCode.FAILED_TO_SCHEDULE,
+        ReasonCode.NOT_YET_SCHEDULED, ReasonCode.ALREADY_STOPPED, ReasonCode.CONDITION_IS_NOT_MATCHED,
+        ReasonCode.EVALUATION_TIMEOUT, ReasonCode.STOP_BY_JOB, ReasonCode.STOP_BY_CONFIG, ReasonCode.JOB_IS_RUNNING,
+        ReasonCode.UNEXPECTED_ERROR, ReasonCode.MISFIRE, ReasonCode.COALESCED, ReasonCode.SUSPENDED,
+        ReasonCode.LEASE_NOT_ACQUIRED, ReasonCode.LEASE_LOST, ReasonCode.QUEUE_IS_FULL
+    };
+    // The immutable conditions without cause are shared, they are indexed by the status ordinal then the reason code
+    private static final TriggerCondition[] NO_REASON_CONDITIONS;
+    private static final Map<TriggerStatus, Map<String, TriggerCondition>> REASON_CONDITIONS;
+
+    static {
+        final TriggerStatus[] statuses = TriggerStatus.values();
+        NO_REASON_CONDITIONS = new TriggerCondition[statuses.length];
+        final Map<TriggerStatus, Map<String, TriggerCondition>> reasonConditions = new EnumMap<>(TriggerStatus.class);
+        for (TriggerStatus status : statuses) {
+            final Map<String, TriggerCondition> byReason = new HashMap<>();
+            for (String reason : REASON_CODES) {
+                byReason.put(reason, new Condition(status, reason, null));
+            }
+            NO_REASON_CONDITIONS[status.ordinal()] = new Condition(status, null, null);
+            reasonConditions.put(status, Collections.unmodifiableMap(byReason));
+        }
+        REASON_CONDITIONS = reasonConditions;
+    }
+
     private TriggerContextFactory() { }
 
     /**
@@ -73,6 +106,20 @@ public final class TriggerContextFactory {
         return kickoff(triggerType, firedAt, tick, null);
     }
 
+    /**
+     * Create trigger context in {@link TriggerStatus#KICKOFF} state
+     *
+     * @param triggerType the trigger type
+     * @param firedAt     the fired at
+     * @param expectedAt  the fire time that is expected by the trigger schedule
+     * @param tick        the tick
+     */
+    public static @NotNull TriggerContext kickoff(@NotNull String triggerType, @NotNull Instant firedAt,
+                                                  @Nullable Instant expectedAt, long tick) {
+        return new Context(triggerType, tick, firedAt, expectedAt, createCondition(TriggerStatus.KICKOFF, null, null),
+                           null);
+    }
+
     /**
      * Create trigger context in {@link TriggerStatus#KICKOFF} state
      *
@@ -83,22 +130,7 @@ public final class TriggerContextFactory {
      */
     public static @NotNull <T> TriggerContext kickoff(@NotNull String triggerType, @NotNull Instant firedAt, long tick,
                                                       @Nullable T info) {
-        final TriggerCondition condition = createCondition(TriggerStatus.KICKOFF, null, null);
-        return new TriggerContext() {
-            @Override
-            public @NotNull String type() { return triggerType; }
-
-            @Override
-            public long tick() { return tick; }
-
-            public @NotNull Instant firedAt() { return firedAt; }
-
-            @Override
-            public @NotNull TriggerCondition condition() { return condition; }
-
-            @Override
-            public T info() { return info; }
-        };
+        return new Context(triggerType, tick, firedAt, null, createCondition(TriggerStatus.KICKOFF, null, null), info);
     }
 
     /**
@@ -165,54 +197,98 @@ public final class TriggerContextFactory {
                                               @Nullable String reason, @Nullable Throwable cause) {
         final Instant firedAt = Objects.requireNonNull(ctx.firedAt(),
                                                        "A fired at time is required in trigger transition");
-        final TriggerCondition condition = createCondition(status, reason, cause);
-        return new TriggerContext() {
+        return new Context(ctx.type(), ctx.tick(), firedAt, ctx.expectedAt(), createCondition(status, reason, cause),
+                           ctx.info());
+    }
 
-            @Override
-            public @NotNull String type() { return ctx.type(); }
+    static @NotNull TriggerContext create(String triggerType, long tick, TriggerCondition condition) {
+        return new Context(triggerType, tick, null, null, condition, null);
+    }
 
-            @Override
-            public long tick() { return ctx.tick(); }
+    static @NotNull TriggerCondition createCondition(@NotNull TriggerStatus status, @Nullable String reason,
+                                                     @Nullable Throwable cause) {
+        if (cause == null) {
+            final TriggerCondition shared = reason == null
+                                            ? NO_REASON_CONDITIONS[status.ordinal()]
+                                            : REASON_CONDITIONS.get(status).get(reason);
+            if (shared != null) {
+                return shared;
+            }
+        }
+        return new Condition(status, reason, cause);
+    }
 
-            @Override
-            public @NotNull Instant firedAt() { return firedAt; }
+    /**
+     * The immutable trigger condition.
+     */
+    private static final class Condition implements TriggerCondition {
 
-            @Override
-            public @NotNull TriggerCondition condition() { return condition; }
+        private final TriggerStatus status;
+        private final String reason;
+        private final Throwable cause;
 
-            @Override
-            public @Nullable Object info() { return ctx.info(); }
-        };
-    }
+        private Condition(TriggerStatus status, String reason, Throwable cause) {
+            this.status = status;
+            this.reason = reason;
+            this.cause  = cause;
+        }
 
-    static @NotNull TriggerContext create(String triggerType, long tick, TriggerCondition condition) {
-        return new TriggerContext() {
-            @Override
-            public long tick() { return tick; }
+        @Override
+        public @NotNull TriggerStatus status() { return status; }
 
-            @Override
-            public @Nullable Instant firedAt() { return null; }
+        @Override
+        public @Nullable String reasonCode() { return reason; }
 
-            @Override
-            public @NotNull String type() { return triggerType; }
+        @Override
+        public @Nullable Throwable cause() { return cause; }
 
-            @Override
-            public @NotNull TriggerCondition condition() { return condition; }
-        };
     }
 
-    static @NotNull TriggerCondition createCondition(@NotNull TriggerStatus status, @Nullable String reason,
-                                                     @Nullable Throwable cause) {
-        return new TriggerCondition() {
-            @Override
-            public @NotNull TriggerStatus status() { return status; }
 
-            @Override
-            public @Nullable String reasonCode() { return reason; }
+    /**
+     * The immutable trigger context.
+     * <p/>
+     * A transition copies the fields of the current context instead of capturing it, then a per-fire chain of
+     * contexts does not retain the previous ones. The context is not transitioned in place because it escapes to the
+     * job execution context and the scheduling monitor, which may read it on another thread.
+     */
+    private static final class Context implements TriggerContext {
+
+        private final String type;
+        private final long tick;
+        private final Instant firedAt;
+        private final Instant expectedAt;
+        private final TriggerCondition condition;
+        private final Object info;
+
+        private Context(String type, long tick, Instant firedAt, Instant expectedAt, TriggerCondition condition,
+                        Object info) {
+            this.type       = type;
+            this.tick       = tick;
+            this.firedAt    = firedAt;
+            this.expectedAt = expectedAt;
+            this.condition  = condition;
+            this.info       = info;
+        }
+
+        @Override
+        public @NotNull String type() { return type; }
+
+        @Override
+        public long tick() { return tick; }
+
+        @Override
+        public @Nullable Instant firedAt() { return firedAt; }
+
+        @Override
+        public @Nullable Instant expectedAt() { return expectedAt; }
+
+        @Override
+        public @NotNull TriggerCondition condition() { return condition; }
+
+        @Override
+        public @Nullable Object info() { return info; }
 
-            @Override
-            public @Nullable Throwable cause() { return cause; }
-        };
     }
 
 }
@@ -0,0 +1,39 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.TimerService;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * The timer service that delegates every timer to the Vert.x timer system.
+ */
+@Internal
+public final class VertxTimerService implements TimerService {
+
+    private final Vertx vertx;
+
+    public VertxTimerService(@NotNull Vertx vertx) {
+        this.vertx = Objects.requireNonNull(vertx, "Vertx instance is required");
+    }
+
+    @Override
+    public long setTimer(long delay, @NotNull Handler<Long> handler) {
+        return vertx.setTimer(delay, handler);
+    }
+
+    @Override
+    public long setPeriodic(long delay, @NotNull Handler<Long> handler) {
+        return vertx.setPeriodic(delay, handler);
+    }
+
+    @Override
+    public boolean cancelTimer(long id) {
+        return vertx.cancelTimer(id);
+    }
+
+}
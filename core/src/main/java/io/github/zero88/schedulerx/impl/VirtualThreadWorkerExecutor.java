@@ -0,0 +1,113 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.DefaultOptions;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.future.PromiseInternal;
+
+/**
+ * The worker executor that runs each blocking operation on a new virtual thread.
+ * <p/>
+ * The blocking operation is dispatched on the caller Vert.x context, then {@link Vertx#currentContext()} is available
+ * in the operation and the result is delivered on the caller context like the Vert.x worker executor does. The
+ * {@code ordered} flag is ignored, the operations always run concurrently.
+ * <p/>
+ * The virtual thread factory is resolved by reflection, because the project still targets Java 11.
+ */
+@Internal
+public final class VirtualThreadWorkerExecutor implements WorkerExecutor {
+
+    private static class Holder {
+
+        private static final ThreadFactory FACTORY = createFactory(DefaultOptions.getInstance().executionThreadPrefix);
+
+    }
+
+    private final Vertx vertx;
+    private final ThreadFactory threadFactory;
+
+    private VirtualThreadWorkerExecutor(Vertx vertx, ThreadFactory threadFactory) {
+        this.vertx         = vertx;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Create a virtual thread worker executor.
+     *
+     * @param vertx Vert.x
+     * @return the virtual thread worker executor, or {@code null} if the Java runtime does not support virtual thread
+     */
+    public static @Nullable WorkerExecutor create(@NotNull Vertx vertx) {
+        return Holder.FACTORY == null
+               ? null
+               : new VirtualThreadWorkerExecutor(Objects.requireNonNull(vertx, "Vertx instance is required"),
+                                                 Holder.FACTORY);
+    }
+
+    /**
+     * @return {@code true} if the Java runtime supports virtual thread
+     */
+    public static boolean isSupported() {
+        return Holder.FACTORY != null;
+    }
+
+    @Override
+    public <T> void executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered,
+                                   Handler<AsyncResult<T>> resultHandler) {
+        final Future<T> future = executeBlocking(blockingCodeHandler, ordered);
+        if (resultHandler != null) {
+            future.onComplete(resultHandler);
+        }
+    }
+
+    @Override
+    public <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered) {
+        final ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+        final PromiseInternal<T> promise = context.promise();
+        threadFactory.newThread(() -> context.dispatch(promise, p -> {
+            try {
+                blockingCodeHandler.handle(p);
+            } catch (Throwable t) {
+                p.tryFail(t);
+            }
+        })).start();
+        return promise.future();
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        close().onComplete(handler);
+    }
+
+    @Override
+    public Future<Void> close() {
+        // Virtual threads are not pooled, then there is nothing to release
+        return Future.succeededFuture();
+    }
+
+    private static ThreadFactory createFactory(String threadPrefix) {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Method name = builderClass.getMethod("name", String.class, long.class);
+            final Object named = name.invoke(builder, threadPrefix + "-virtual-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(named);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+}
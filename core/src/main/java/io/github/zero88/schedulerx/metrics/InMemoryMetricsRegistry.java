@@ -0,0 +1,83 @@
+package io.github.zero88.schedulerx.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The in-memory metrics registry that keeps the timers in {@link LatencyHistogram} and the counters in
+ * {@link LongAdder}.
+ * <p/>
+ * It is the default registry when no metrics backend is provided, and it is used to inspect the metrics in test.
+ *
+ * @since 2.0.0
+ */
+public final class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private final ConcurrentMap<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    @Override
+    public @NotNull LatencyHistogram timer(@NotNull String name, @NotNull String... tags) {
+        return timers.computeIfAbsent(id(name, tags), k -> new LatencyHistogram());
+    }
+
+    @Override
+    public @NotNull Counter counter(@NotNull String name, @NotNull String... tags) {
+        return counters.computeIfAbsent(id(name, tags), k -> new LongAdder())::increment;
+    }
+
+    @Override
+    public void gauge(@NotNull String name, @NotNull LongSupplier value, @NotNull String... tags) {
+        gauges.put(id(name, tags), value);
+    }
+
+    /**
+     * @param name the metric name
+     * @param tags the pairs of tag key and tag value
+     * @return the latency histogram, or {@code null} if the timer is not registered
+     */
+    public @Nullable LatencyHistogram findTimer(@NotNull String name, @NotNull String... tags) {
+        return timers.get(id(name, tags));
+    }
+
+    /**
+     * @param name the metric name
+     * @param tags the pairs of tag key and tag value
+     * @return the counter value, or {@code 0} if the counter is not registered
+     */
+    public long counterValue(@NotNull String name, @NotNull String... tags) {
+        final LongAdder counter = counters.get(id(name, tags));
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * @param name the metric name
+     * @param tags the pairs of tag key and tag value
+     * @return the gauge value, or {@code 0} if the gauge is not registered
+     */
+    public long gaugeValue(@NotNull String name, @NotNull String... tags) {
+        final LongSupplier gauge = gauges.get(id(name, tags));
+        return gauge == null ? 0 : gauge.getAsLong();
+    }
+
+    private static String id(String name, String... tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException("The tags must be the pairs of key and value");
+        }
+        if (tags.length == 0) {
+            return name;
+        }
+        final StringBuilder builder = new StringBuilder(name).append('{');
+        for (int i = 0; i < tags.length; i += 2) {
+            builder.append(i == 0 ? "" : ",").append(tags[i]).append('=').append(tags[i + 1]);
+        }
+        return builder.append('}').toString();
+    }
+
+}
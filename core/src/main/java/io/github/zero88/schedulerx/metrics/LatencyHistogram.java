@@ -0,0 +1,126 @@
+package io.github.zero88.schedulerx.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The lock-free latency histogram in nanoseconds, that is inspired by the HDR histogram.
+ * <p/>
+ * The values are counted in the log-linear buckets: each power of 2 range is split into {@value #SUB_BUCKET_COUNT}
+ * linear sub-buckets, then the relative error of the reported value is lower than {@code 1/64} over the whole
+ * {@code long} range, and the memory footprint is fixed. Recording a value is one atomic increment on the bucket and
+ * does not allocate.
+ *
+ * @since 2.0.0
+ */
+public final class LatencyHistogram implements MetricsRegistry.Timer {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    @Override
+    public void record(long nanos) {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long count() { return count.sum(); }
+
+    /**
+     * @return the max recorded value in nanoseconds
+     */
+    public long max() { return max.get(); }
+
+    /**
+     * @return the mean of the recorded values in nanoseconds, or {@code 0} if no value is recorded
+     */
+    public double mean() {
+        final long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    /**
+     * Compute the value at the given percentile.
+     *
+     * @param percentile the percentile in range {@code [0, 100]}
+     * @return the highest value in nanoseconds that is equivalent to the value at the given percentile, or {@code 0} if
+     *     no value is recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be in range [0, 100]");
+        }
+        long total = 0;
+        final long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Discards all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram(count=" + count() + ", mean=" + mean() + ", p50=" + valueAtPercentile(50) + ", p99=" +
+               valueAtPercentile(99) + ", max=" + max() + ')';
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final long mantissa = value >>> (exponent - SUB_BUCKET_BITS);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + (int) (mantissa & SUB_BUCKET_MASK);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        final long mantissa = (index & SUB_BUCKET_MASK) + SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+}
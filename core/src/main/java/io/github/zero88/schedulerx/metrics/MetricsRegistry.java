@@ -0,0 +1,79 @@
+package io.github.zero88.schedulerx.metrics;
+
+import java.util.function.LongSupplier;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents for the metrics registry SPI, that binds the scheduling metrics to a metrics backend.
+ * <p/>
+ * The meters are resolved once when the metrics monitor is created, then the hot path only invokes the returned meter.
+ * The tags are given as the pairs of key and value, likes the Micrometer convention.
+ * <p/>
+ * The default registry is the first provider that is declared in {@code META-INF/services}, or
+ * {@link InMemoryMetricsRegistry} if no provider is found.
+ *
+ * @see SchedulingMetricsMonitor
+ * @since 2.0.0
+ */
+public interface MetricsRegistry {
+
+    /**
+     * @return the default metrics registry
+     */
+    static @NotNull MetricsRegistry getDefault() {
+        return MetricsRegistryLoader.getInstance();
+    }
+
+    /**
+     * Obtain the timer that records the latency in nanoseconds.
+     *
+     * @param name the metric name
+     * @param tags the pairs of tag key and tag value
+     * @return the timer
+     */
+    @NotNull Timer timer(@NotNull String name, @NotNull String... tags);
+
+    /**
+     * Obtain the monotonic counter.
+     *
+     * @param name the metric name
+     * @param tags the pairs of tag key and tag value
+     * @return the counter
+     */
+    @NotNull Counter counter(@NotNull String name, @NotNull String... tags);
+
+    /**
+     * Register the gauge that is sampled by the registry.
+     *
+     * @param name  the metric name
+     * @param value the gauge value supplier
+     * @param tags  the pairs of tag key and tag value
+     */
+    void gauge(@NotNull String name, @NotNull LongSupplier value, @NotNull String... tags);
+
+    /**
+     * Represents for a meter that records the latency.
+     */
+    @FunctionalInterface
+    interface Timer {
+
+        /**
+         * @param nanos the latency in nanoseconds
+         */
+        void record(long nanos);
+
+    }
+
+
+    /**
+     * Represents for a monotonic counter.
+     */
+    @FunctionalInterface
+    interface Counter {
+
+        void increment();
+
+    }
+
+}
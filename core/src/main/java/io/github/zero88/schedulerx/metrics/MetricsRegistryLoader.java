@@ -0,0 +1,27 @@
+package io.github.zero88.schedulerx.metrics;
+
+import io.vertx.core.ServiceHelper;
+
+/**
+ * Loads the default {@link MetricsRegistry} provider from {@code META-INF/services}.
+ */
+final class MetricsRegistryLoader {
+
+    private static class Holder {
+
+        private static final MetricsRegistry INSTANCE = load();
+
+    }
+
+    static MetricsRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private MetricsRegistryLoader() { }
+
+    private static MetricsRegistry load() {
+        final MetricsRegistry provider = ServiceHelper.loadFactoryOrNull(MetricsRegistry.class);
+        return provider == null ? new InMemoryMetricsRegistry() : provider;
+    }
+
+}
@@ -0,0 +1,183 @@
+package io.github.zero88.schedulerx.metrics;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.BatchSchedulingMonitor;
+import io.github.zero88.schedulerx.ExecutionResult;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+
+/**
+ * The scheduling monitor that records the scheduling metrics into a {@link MetricsRegistry}.
+ * <p/>
+ * The metrics are computed from the {@link ExecutionResult} timestamps:
+ * <ul>
+ *     <li>{@value #TRIGGER_LATENCY}: the latency from {@code firedAt} to {@code triggeredAt}</li>
+ *     <li>{@value #TRIGGER_DRIFT}: the drift from the expected fire time to {@code firedAt}, only if the trigger has
+ *     the expected fire time</li>
+ *     <li>{@value #QUEUE_WAIT}: the latency from {@code triggeredAt} to {@code executedAt}</li>
+ *     <li>{@value #EXECUTION_DURATION}: the latency from {@code executedAt} to {@code finishedAt}</li>
+ *     <li>{@value #MISFIRE}: the number of misfires, that is tagged by {@code reason}</li>
+ *     <li>{@value #TIMEOUT}: the number of timeouts, that is tagged by {@code phase} ({@code evaluation} or
+ *     {@code execution})</li>
+ *     <li>{@value #UNABLE_SCHEDULE}: the number of schedulers that are unable to schedule</li>
+ *     <li>{@value #ACTIVE}, {@value #COMPLETED}: the gauges of the active and completed schedulers</li>
+ * </ul>
+ * The meters are resolved when the monitor is created, then recording a result does not allocate. The monitor is a
+ * {@link BatchSchedulingMonitor}, then the results are recorded on the monitor worker thread in batch instead of on the
+ * scheduler thread.
+ *
+ * @param <OUT> Type of job result data
+ * @apiNote The monitor is thread-safe, one instance can be shared by many schedulers to aggregate their metrics.
+ * @since 2.0.0
+ */
+public final class SchedulingMetricsMonitor<OUT> implements BatchSchedulingMonitor<OUT> {
+
+    public static final String TRIGGER_LATENCY = "schedulerx.trigger.latency";
+    public static final String TRIGGER_DRIFT = "schedulerx.trigger.drift";
+    public static final String QUEUE_WAIT = "schedulerx.queue.wait";
+    public static final String EXECUTION_DURATION = "schedulerx.execution.duration";
+    public static final String MISFIRE = "schedulerx.misfire";
+    public static final String TIMEOUT = "schedulerx.timeout";
+    public static final String UNABLE_SCHEDULE = "schedulerx.unable_schedule";
+    public static final String ACTIVE = "schedulerx.schedulers.active";
+    public static final String COMPLETED = "schedulerx.schedulers.completed";
+
+    private static final List<String> REASON_CODES = Arrays.asList(ReasonCode.NOT_YET_SCHEDULED,
+                                                                   ReasonCode.ALREADY_STOPPED,
+                                                                   ReasonCode.CONDITION_IS_NOT_MATCHED,
+                                                                   ReasonCode.EVALUATION_TIMEOUT,
+                                                                   ReasonCode.JOB_IS_RUNNING,
+                                                                   ReasonCode.UNEXPECTED_ERROR);
+
+    /**
+     * Create the metrics monitor with the default metrics registry
+     *
+     * @param tags the pairs of tag key and tag value that are added to all metrics
+     * @see MetricsRegistry#getDefault()
+     */
+    public static <OUT> SchedulingMetricsMonitor<OUT> create(@NotNull String... tags) {
+        return new SchedulingMetricsMonitor<>(MetricsRegistry.getDefault(), tags);
+    }
+
+    /**
+     * Create the metrics monitor
+     *
+     * @param registry the metrics registry
+     * @param tags     the pairs of tag key and tag value that are added to all metrics
+     */
+    public static <OUT> SchedulingMetricsMonitor<OUT> create(@NotNull MetricsRegistry registry,
+                                                             @NotNull String... tags) {
+        return new SchedulingMetricsMonitor<>(registry, tags);
+    }
+
+    private final MetricsRegistry registry;
+    private final String[] tags;
+    private final MetricsRegistry.Timer triggerLatency;
+    private final MetricsRegistry.Timer triggerDrift;
+    private final MetricsRegistry.Timer queueWait;
+    private final MetricsRegistry.Timer executionDuration;
+    private final MetricsRegistry.Counter evaluationTimeout;
+    private final MetricsRegistry.Counter executionTimeout;
+    private final MetricsRegistry.Counter unableSchedule;
+    private final Map<String, MetricsRegistry.Counter> misfires = new ConcurrentHashMap<>();
+    private final AtomicLong active = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+
+    private SchedulingMetricsMonitor(@NotNull MetricsRegistry registry, @NotNull String... tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException("The tags must be the pairs of key and value");
+        }
+        this.registry          = registry;
+        this.tags              = tags.clone();
+        this.triggerLatency    = registry.timer(TRIGGER_LATENCY, tags);
+        this.triggerDrift      = registry.timer(TRIGGER_DRIFT, tags);
+        this.queueWait         = registry.timer(QUEUE_WAIT, tags);
+        this.executionDuration = registry.timer(EXECUTION_DURATION, tags);
+        this.evaluationTimeout = registry.counter(TIMEOUT, with("phase", "evaluation"));
+        this.executionTimeout  = registry.counter(TIMEOUT, with("phase", "execution"));
+        this.unableSchedule    = registry.counter(UNABLE_SCHEDULE, tags);
+        REASON_CODES.forEach(this::misfireCounter);
+        registry.gauge(ACTIVE, active::get, tags);
+        registry.gauge(COMPLETED, completed::get, tags);
+    }
+
+    @Override
+    public void onBatch(@NotNull List<ExecutionResult<OUT>> results) {
+        for (int i = 0; i < results.size(); i++) {
+            record(results.get(i));
+        }
+    }
+
+    @Override
+    public void onMisfire(@NotNull ExecutionResult<OUT> result) { record(result); }
+
+    @Override
+    public void onEach(@NotNull ExecutionResult<OUT> result) { record(result); }
+
+    @Override
+    public void onUnableSchedule(@NotNull ExecutionResult<OUT> result) {
+        unableSchedule.increment();
+    }
+
+    @Override
+    public void onSchedule(@NotNull ExecutionResult<OUT> result) {
+        if (!result.isReschedule()) {
+            active.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onCompleted(@NotNull ExecutionResult<OUT> result) {
+        active.decrementAndGet();
+        completed.incrementAndGet();
+    }
+
+    private void record(ExecutionResult<OUT> result) {
+        if (!result.triggerContext().isExecuted()) {
+            final String reason = result.triggerContext().condition().reasonCode();
+            misfireCounter(reason == null ? ReasonCode.UNEXPECTED_ERROR : reason).increment();
+            if (result.isTimeout()) {
+                evaluationTimeout.increment();
+            }
+            return;
+        }
+        triggerLatency.record(nanosBetween(result.firedAt(), result.triggeredAt()));
+        if (result.triggerContext().expectedAt() != null) {
+            triggerDrift.record(Math.max(0, nanosBetween(result.triggerContext().expectedAt(), result.firedAt())));
+        }
+        queueWait.record(nanosBetween(result.triggeredAt(), result.executedAt()));
+        executionDuration.record(nanosBetween(result.executedAt(), result.finishedAt()));
+        if (result.isTimeout()) {
+            executionTimeout.increment();
+        }
+    }
+
+    private MetricsRegistry.Counter misfireCounter(String reason) {
+        final MetricsRegistry.Counter counter = misfires.get(reason);
+        return counter != null
+               ? counter
+               : misfires.computeIfAbsent(reason, r -> registry.counter(MISFIRE, with("reason", r)));
+    }
+
+    private String[] with(String key, String value) {
+        final String[] all = Arrays.copyOf(tags, tags.length + 2);
+        all[tags.length]     = key;
+        all[tags.length + 1] = value;
+        return all;
+    }
+
+    private static long nanosBetween(Instant from, Instant to) {
+        if (from == null || to == null) {
+            return 0;
+        }
+        return (to.getEpochSecond() - from.getEpochSecond()) * 1_000_000_000L + (to.getNano() - from.getNano());
+    }
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Provides the low overhead scheduling metrics monitor and the metrics registry SPI.
+ */
+
+package io.github.zero88.schedulerx.metrics;
@@ -0,0 +1,568 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TimeZone;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The compiled form of a {@link CronExpression}.
+ * <p/>
+ * Each cron field is stored as a {@code long} bitmask with a precomputed "next set bit" lookup table, and the next
+ * fire time is computed on primitive local date-time values instead of {@code Calendar}, then it does not allocate
+ * on the hot path. The algorithm is a faithful port of {@link CronExpression#getTimeAfter(Date)}, so it keeps the
+ * same {@code L}, {@code W}, {@code #} and {@code ?} semantics.
+ * <p/>
+ * The time zone offset is resolved once per offset window (the period between two zone transitions) and is cached.
+ * A computation that touches the boundary of a zone transition falls back to {@link CronExpression} to keep the
+ * exact daylight-saving behavior, as well as a time zone that is not backed by the time-zone database.
+ *
+ * @see CronExpression
+ * @see CronExpressionCache
+ * @since 2.0.0
+ */
+public final class CompiledCronExpression {
+
+    /**
+     * The marker is returned by {@link #nextValidTimeAfter(long)} when the expression has no more fire time.
+     */
+    public static final long NONE = -1;
+
+    private static final long SECONDS_PER_DAY = 86400;
+    // Before 1900, the legacy time zone and the time-zone database might disagree on the local mean time
+    private static final long MIN_SAFE_SECOND = -2208988800L;
+    private static final int MAX_SUPPORTED_YEAR = 2999;
+
+    private final CronExpression expression;
+    private final ZoneRules rules;
+    private final long secondMask;
+    private final long minuteMask;
+    private final long hourMask;
+    private final long dayOfMonthMask;
+    private final long monthMask;
+    private final long dayOfWeekMask;
+    private final byte[] nextSecond;
+    private final byte[] nextMinute;
+    private final byte[] nextHour;
+    private final byte[] nextDayOfMonth;
+    private final byte[] nextMonth;
+    private final byte[] nextDayOfWeek;
+    private final int[] years;
+    private final boolean dayOfMonthSpec;
+    private final boolean dayOfWeekSpec;
+    private final boolean lastdayOfWeek;
+    private final int nthdayOfWeek;
+    private final boolean lastdayOfMonth;
+    private final boolean nearestWeekday;
+    private final int lastdayOffset;
+    private volatile OffsetWindow window;
+
+    CompiledCronExpression(@NotNull CronExpression expression) {
+        this.expression     = expression;
+        this.rules          = lookupRules(expression.getTimeZone());
+        this.secondMask     = toMask(expression.seconds);
+        this.minuteMask     = toMask(expression.minutes);
+        this.hourMask       = toMask(expression.hours);
+        this.dayOfMonthMask = toMask(expression.daysOfMonth);
+        this.monthMask      = toMask(expression.months);
+        this.dayOfWeekMask  = toMask(expression.daysOfWeek);
+        this.nextSecond     = toLookup(secondMask, 60);
+        this.nextMinute     = toLookup(minuteMask, 60);
+        this.nextHour       = toLookup(hourMask, 24);
+        this.nextDayOfMonth = toLookup(dayOfMonthMask, 32);
+        this.nextMonth      = toLookup(monthMask, 13);
+        this.nextDayOfWeek  = toLookup(dayOfWeekMask, 8);
+        this.years          = expression.years.stream()
+                                              .mapToInt(Integer::intValue)
+                                              .filter(y -> y != CronExpression.ALL_SPEC_INT &&
+                                                           y != CronExpression.NO_SPEC_INT)
+                                              .sorted()
+                                              .toArray();
+        this.dayOfMonthSpec = !expression.daysOfMonth.contains(CronExpression.NO_SPEC);
+        this.dayOfWeekSpec  = !expression.daysOfWeek.contains(CronExpression.NO_SPEC);
+        this.lastdayOfWeek  = expression.lastdayOfWeek;
+        this.nthdayOfWeek   = expression.nthdayOfWeek;
+        this.lastdayOfMonth = expression.lastdayOfMonth;
+        this.nearestWeekday = expression.nearestWeekday;
+        this.lastdayOffset  = expression.lastdayOffset;
+        this.window         = rules != null && rules.isFixedOffset()
+                              ? OffsetWindow.fixed(rules.getOffset(Instant.EPOCH).getTotalSeconds())
+                              : null;
+    }
+
+    /**
+     * Compile the given cron expression.
+     * <p/>
+     * The compiled form is a snapshot: the further change on the time zone of the given expression is not visible.
+     *
+     * @param expression the cron expression
+     * @return the compiled cron expression
+     */
+    public static @NotNull CompiledCronExpression compile(@NotNull CronExpression expression) {
+        return new CompiledCronExpression(new CronExpression(Objects.requireNonNull(expression)));
+    }
+
+    /**
+     * @return the cron expression in string
+     */
+    public @NotNull String getCronExpression() { return expression.getCronExpression(); }
+
+    /**
+     * @return the time zone for which the cron expression is resolved
+     */
+    public @NotNull TimeZone getTimeZone()     { return (TimeZone) expression.getTimeZone().clone(); }
+
+    /**
+     * Returns the next time after the given time that satisfies the cron expression.
+     *
+     * @param time the given time
+     * @return the next valid time, or {@code null} if the cron expression has no more fire time
+     * @see #nextValidTimeAfter(long)
+     */
+    public @Nullable Instant nextValidTimeAfter(@NotNull Instant time) {
+        final long next = nextValidTimeAfter(time.toEpochMilli());
+        return next == NONE ? null : Instant.ofEpochMilli(next);
+    }
+
+    /**
+     * Returns the next time after the given time that satisfies the cron expression.
+     * <p/>
+     * The result is the same as {@link CronExpression#getNextValidTimeAfter(Date)}, it is always a whole second.
+     *
+     * @param epochMilli the given time in epoch milliseconds
+     * @return the next valid time in epoch milliseconds, or {@link #NONE} if the cron expression has no more fire time
+     */
+    public long nextValidTimeAfter(long epochMilli) {
+        // move ahead one second, since we're computing the time *after* the given time, and drop the milliseconds
+        final long start = Math.floorDiv(epochMilli + 1000, 1000);
+        if (rules == null || start < MIN_SAFE_SECOND) {
+            return fallback(epochMilli);
+        }
+        final OffsetWindow w = window(start);
+        final long startLocal = start + w.offset;
+        if (startLocal < w.localFrom || startLocal >= w.localUntil) {
+            return fallback(epochMilli);
+        }
+        final long next = computeLocal(startLocal, w.localFrom, w.localUntil);
+        if (next == Long.MIN_VALUE) {
+            return fallback(epochMilli);
+        }
+        return next == Long.MAX_VALUE ? NONE : (next - w.offset) * 1000;
+    }
+
+    @Override
+    public String toString() {
+        return expression.getCronExpression();
+    }
+
+    private long fallback(long epochMilli) {
+        final Date next = expression.getTimeAfter(new Date(epochMilli));
+        return next == null ? NONE : next.getTime();
+    }
+
+    private OffsetWindow window(long epochSecond) {
+        final OffsetWindow current = window;
+        if (current != null && current.contains(epochSecond)) {
+            return current;
+        }
+        final OffsetWindow created = OffsetWindow.of(rules, epochSecond);
+        window = created;
+        return created;
+    }
+
+    /**
+     * Computes the next local time that satisfies the cron expression, the computation must not leave the local range
+     * {@code [localFrom, localUntil)} in which the local time and the instant map one-to-one.
+     *
+     * @return the next local epoch second, {@code Long.MAX_VALUE} if none, or {@code Long.MIN_VALUE} if the
+     *     computation leaves the given local range
+     */
+    private long computeLocal(final long startLocal, final long localFrom, final long localUntil) {
+        long cur = startLocal;
+        long lo = startLocal;
+        long hi = startLocal;
+        while (true) {
+            lo = Math.min(lo, cur);
+            hi = Math.max(hi, cur);
+            if (lo < localFrom || hi >= localUntil) {
+                return Long.MIN_VALUE;
+            }
+            long epochDay = Math.floorDiv(cur, SECONDS_PER_DAY);
+            int secOfDay = (int) Math.floorMod(cur, SECONDS_PER_DAY);
+            int ymd = civilFromDays(epochDay);
+            int year = ymd >> 9;
+            if (year > MAX_SUPPORTED_YEAR) { // prevent endless loop...
+                return Long.MAX_VALUE;
+            }
+            int mon = (ymd >> 5) & 0xF;
+            int day = ymd & 0x1F;
+            int hr = secOfDay / 3600;
+            int min = secOfDay / 60 % 60;
+            int sec = secOfDay % 60;
+            int t;
+
+            // get second.................................................
+            int found = nextSecond[sec];
+            if (found >= 0) {
+                sec = found;
+            } else {
+                sec = nextSecond[0];
+                min++;
+            }
+            cur = compose(year, mon, day, hr, min, sec);
+            hi  = Math.max(hi, cur);
+
+            epochDay = Math.floorDiv(cur, SECONDS_PER_DAY);
+            secOfDay = (int) Math.floorMod(cur, SECONDS_PER_DAY);
+            ymd      = civilFromDays(epochDay);
+            year     = ymd >> 9;
+            mon      = (ymd >> 5) & 0xF;
+            day      = ymd & 0x1F;
+            hr       = secOfDay / 3600;
+            min      = secOfDay / 60 % 60;
+            t        = -1;
+
+            // get minute.................................................
+            found = nextMinute[min];
+            if (found >= 0) {
+                t   = min;
+                min = found;
+            } else {
+                min = nextMinute[0];
+                hr++;
+            }
+            if (min != t) {
+                cur = compose(year, mon, day, hr, min, 0);
+                continue;
+            }
+            t = -1;
+
+            // get hour...................................................
+            found = nextHour[hr];
+            if (found >= 0) {
+                t  = hr;
+                hr = found;
+            } else {
+                hr = nextHour[0];
+                day++;
+            }
+            if (hr != t) {
+                cur = compose(year, mon, day, hr, 0, 0);
+                continue;
+            }
+            t = -1;
+            int tmon = mon;
+
+            // get day...................................................
+            if (dayOfMonthSpec && !dayOfWeekSpec) { // get day by day of month rule
+                if (lastdayOfMonth) {
+                    if (!nearestWeekday) {
+                        t   = day;
+                        day = lastDayOfMonth(mon, year) - lastdayOffset;
+                        if (t > day) {
+                            mon++;
+                            if (mon > 12) {
+                                mon  = 1;
+                                tmon = 3333; // ensure test of mon != tmon further below fails
+                                year++;
+                            }
+                            day = 1;
+                        }
+                    } else {
+                        t   = day;
+                        day = nearestWeekday(year, mon, lastDayOfMonth(mon, year) - lastdayOffset);
+                        final long candidate = compose(year, mon, day, hr, min, sec);
+                        lo = Math.min(lo, candidate);
+                        hi = Math.max(hi, candidate);
+                        if (candidate < startLocal) {
+                            day = 1;
+                            mon++;
+                        }
+                    }
+                } else if (nearestWeekday) {
+                    t   = day;
+                    day = nearestWeekday(year, mon, nextDayOfMonth[0]);
+                    final long candidate = compose(year, mon, day, hr, min, sec);
+                    lo = Math.min(lo, candidate);
+                    hi = Math.max(hi, candidate);
+                    if (candidate < startLocal) {
+                        day = nextDayOfMonth[0];
+                        mon++;
+                    }
+                } else if (nextDayOfMonth[day] >= 0) {
+                    t   = day;
+                    day = nextDayOfMonth[day];
+                    // make sure we don't over-run a short month, such as february
+                    if (day > lastDayOfMonth(mon, year)) {
+                        day = nextDayOfMonth[0];
+                        mon++;
+                    }
+                } else {
+                    day = nextDayOfMonth[0];
+                    mon++;
+                }
+
+                if (day != t || mon != tmon) {
+                    cur = compose(year, mon, day, 0, 0, 0);
+                    continue;
+                }
+            } else if (dayOfWeekSpec && !dayOfMonthSpec) { // get day by day of week rule
+                final int cDow = dayOfWeek(epochDay); // current d-o-w
+                if (lastdayOfWeek) { // are we looking for the last XXX day of the month?
+                    int daysToAdd = daysToAdd(cDow, nextDayOfWeek[0]);
+                    final int lDay = lastDayOfMonth(mon, year);
+                    if (day + daysToAdd > lDay) { // did we already miss the last one?
+                        cur = compose(year, mon + 1, 1, 0, 0, 0);
+                        continue;
+                    }
+                    // find date of last occurrence of this day in this month...
+                    while ((day + daysToAdd + 7) <= lDay) {
+                        daysToAdd += 7;
+                    }
+                    if (daysToAdd > 0) {
+                        cur = compose(year, mon, day + daysToAdd, 0, 0, 0);
+                        continue;
+                    }
+                } else if (nthdayOfWeek != 0) { // are we looking for the Nth XXX day in the month?
+                    int daysToAdd = daysToAdd(cDow, nextDayOfWeek[0]);
+                    final boolean dayShifted = daysToAdd > 0;
+                    day += daysToAdd;
+                    int weekOfMonth = day / 7;
+                    if (day % 7 > 0) {
+                        weekOfMonth++;
+                    }
+                    daysToAdd = (nthdayOfWeek - weekOfMonth) * 7;
+                    day += daysToAdd;
+                    if (daysToAdd < 0 || day > lastDayOfMonth(mon, year)) {
+                        cur = compose(year, mon + 1, 1, 0, 0, 0);
+                        continue;
+                    } else if (daysToAdd > 0 || dayShifted) {
+                        cur = compose(year, mon, day, 0, 0, 0);
+                        continue;
+                    }
+                } else {
+                    final int dow = nextDayOfWeek[cDow] >= 0 ? nextDayOfWeek[cDow] : nextDayOfWeek[0];
+                    final int daysToAdd = daysToAdd(cDow, dow);
+                    if (day + daysToAdd > lastDayOfMonth(mon, year)) { // will we pass the end of the month?
+                        cur = compose(year, mon + 1, 1, 0, 0, 0);
+                        continue;
+                    } else if (daysToAdd > 0) { // are we switching days?
+                        cur = compose(year, mon, day + daysToAdd, 0, 0, 0);
+                        continue;
+                    }
+                }
+            } else {
+                throw new UnsupportedOperationException(
+                    "Support for specifying both a day-of-week AND a day-of-month parameter is not implemented.");
+            }
+
+            // test for expressions that never generate a valid fire date, but keep looping...
+            if (year > CronExpression.MAX_YEAR) {
+                return Long.MAX_VALUE;
+            }
+            t = -1;
+
+            // get month...................................................
+            found = nextMonth[mon];
+            if (found >= 0) {
+                t   = mon;
+                mon = found;
+            } else {
+                mon = nextMonth[0];
+                year++;
+            }
+            if (mon != t) {
+                cur = compose(year, mon, 1, 0, 0, 0);
+                continue;
+            }
+
+            // get year...................................................
+            final int idx = Arrays.binarySearch(years, year);
+            final int pos = idx >= 0 ? idx : -idx - 1;
+            if (pos == years.length) {
+                return Long.MAX_VALUE; // ran out of years...
+            }
+            if (years[pos] != year) {
+                cur = compose(years[pos], 1, 1, 0, 0, 0);
+                continue;
+            }
+            return lo < localFrom || hi >= localUntil ? Long.MIN_VALUE : cur;
+        }
+    }
+
+    private static int nearestWeekday(int year, int mon, int day) {
+        final int dow = dayOfWeek(Math.floorDiv(compose(year, mon, day, 0, 0, 0), SECONDS_PER_DAY));
+        if (dow == 7 && day == 1) {
+            return day + 2;
+        }
+        if (dow == 7) {
+            return day - 1;
+        }
+        if (dow == 1 && day == lastDayOfMonth(mon, year)) {
+            return day - 2;
+        }
+        if (dow == 1) {
+            return day + 1;
+        }
+        return day;
+    }
+
+    private static int daysToAdd(int currentDow, int desiredDow) {
+        if (currentDow < desiredDow) {
+            return desiredDow - currentDow;
+        }
+        return currentDow > desiredDow ? desiredDow + (7 - currentDow) : 0;
+    }
+
+    private static int lastDayOfMonth(int month, int year) {
+        switch (month) {
+            case 2:
+                return ((year % 4 == 0 && year % 100 != 0) || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * @return the day of week of the given epoch day, from {@code 1} (Sunday) to {@code 7} (Saturday) as
+     *     {@code Calendar}
+     */
+    private static int dayOfWeek(long epochDay) {
+        return Math.floorMod(epochDay + 4, 7) + 1;
+    }
+
+    /**
+     * Composes the local epoch second from the date-time fields, the overflow fields are normalized as the lenient
+     * {@code Calendar}.
+     */
+    private static long compose(int year, int month, int day, int hour, int minute, int second) {
+        final int m0 = month - 1;
+        final long epochDay = daysFromCivil(year + Math.floorDiv(m0, 12), Math.floorMod(m0, 12) + 1) + day - 1;
+        return epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+    }
+
+    /**
+     * @return the epoch day of the first day of the given month
+     */
+    private static long daysFromCivil(long year, int month) {
+        final long y = month <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yoe = y - era * 400;
+        final long doy = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5;
+        final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    /**
+     * @return the civil date of the given epoch day that is packed as {@code year << 9 | month << 5 | day}
+     */
+    private static int civilFromDays(long epochDay) {
+        final long z = epochDay + 719468;
+        final long era = Math.floorDiv(z, 146097);
+        final long doe = z - era * 146097;
+        final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        final long mp = (5 * doy + 2) / 153;
+        final int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        final int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        final int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+        return year << 9 | month << 5 | day;
+    }
+
+    private static long toMask(Set<Integer> values) {
+        long mask = 0;
+        for (Integer value : values) {
+            if (value >= 0 && value < 64 && value != CronExpression.NO_SPEC_INT) {
+                mask |= 1L << value;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return the lookup table of the smallest set bit that is greater than or equal to the index, or {@code -1}
+     */
+    private static byte[] toLookup(long mask, int size) {
+        final byte[] lookup = new byte[size];
+        for (int i = 0; i < size; i++) {
+            final long remaining = mask & (-1L << i);
+            lookup[i] = (byte) (remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining));
+        }
+        return lookup;
+    }
+
+    private static @Nullable ZoneRules lookupRules(@NotNull TimeZone timeZone) {
+        try {
+            // Only trust the time zone that is backed by the time-zone database, e.g: not a custom SimpleTimeZone
+            if (!TimeZone.getTimeZone(timeZone.getID()).hasSameRules(timeZone)) {
+                return null;
+            }
+            return timeZone.toZoneId().getRules();
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * The period between two zone transitions in which the zone offset is fixed.
+     */
+    private static final class OffsetWindow {
+
+        private final long from;
+        private final long until;
+        private final int offset;
+        // The local range that is safe from the overlap or the gap of the surrounding transitions
+        private final long localFrom;
+        private final long localUntil;
+
+        private OffsetWindow(long from, long until, int offset, long localFrom, long localUntil) {
+            this.from       = from;
+            this.until      = until;
+            this.offset     = offset;
+            this.localFrom  = localFrom;
+            this.localUntil = localUntil;
+        }
+
+        static OffsetWindow fixed(int offset) {
+            return new OffsetWindow(Long.MIN_VALUE, Long.MAX_VALUE, offset, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        static OffsetWindow of(ZoneRules rules, long epochSecond) {
+            final Instant instant = Instant.ofEpochSecond(epochSecond);
+            final int offset = rules.getOffset(instant).getTotalSeconds();
+            final ZoneOffsetTransition prev = rules.previousTransition(instant.plusSeconds(1));
+            final ZoneOffsetTransition next = rules.nextTransition(instant);
+            long from = Long.MIN_VALUE;
+            long localFrom = Long.MIN_VALUE;
+            if (prev != null) {
+                from      = prev.toEpochSecond();
+                localFrom = from + offset + Math.abs(offset - prev.getOffsetBefore().getTotalSeconds());
+            }
+            long until = Long.MAX_VALUE;
+            long localUntil = Long.MAX_VALUE;
+            if (next != null) {
+                until      = next.toEpochSecond();
+                localUntil = until + offset - Math.abs(next.getOffsetAfter().getTotalSeconds() - offset);
+            }
+            return new OffsetWindow(from, until, offset, localFrom, localUntil);
+        }
+
+        boolean contains(long epochSecond) {
+            return epochSecond >= from && epochSecond < until;
+        }
+
+    }
+
+}
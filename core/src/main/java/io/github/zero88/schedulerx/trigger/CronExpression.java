@@ -1116,6 +1116,8 @@ public final class CronExpression implements Serializable {
         // CronTrigger does not deal with milliseconds
         cl.setTime(afterTime);
         cl.set(Calendar.MILLISECOND, 0);
+        // The nearest weekday candidates are compared in whole seconds
+        afterTime = cl.getTime();
 
         boolean gotOne = false;
         // loop until we've computed the next time, or we've past the endTime
@@ -1218,6 +1220,7 @@ public final class CronExpression implements Serializable {
                         day -= lastdayOffset;
 
                         java.util.Calendar tcal = java.util.Calendar.getInstance(getTimeZone());
+                        tcal.set(Calendar.MILLISECOND, 0);
                         tcal.set(Calendar.SECOND, 0);
                         tcal.set(Calendar.MINUTE, 0);
                         tcal.set(Calendar.HOUR_OF_DAY, 0);
@@ -1254,6 +1257,7 @@ public final class CronExpression implements Serializable {
                     day = daysOfMonth.first();
 
                     java.util.Calendar tcal = java.util.Calendar.getInstance(getTimeZone());
+                    tcal.set(Calendar.MILLISECOND, 0);
                     tcal.set(Calendar.SECOND, 0);
                     tcal.set(Calendar.MINUTE, 0);
                     tcal.set(Calendar.HOUR_OF_DAY, 0);
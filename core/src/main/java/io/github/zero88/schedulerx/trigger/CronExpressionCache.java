@@ -0,0 +1,256 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.DefaultOptions;
+
+/**
+ * The bounded and concurrent cache of the immutable {@link CompiledCronExpression}, that is keyed by the cron
+ * expression and the time zone.
+ * <p/>
+ * Many cron triggers usually share a handful of distinct expressions, then the shared cache cuts the parse cost and
+ * the heap usage on a bulk load. A lookup hit is lock-free, a miss compiles the expression then replaces the victim
+ * entry by the {@code CLOCK} (second-chance) policy when the cache is full.
+ *
+ * @apiNote The max size of the shared instance is declared by {@link DefaultOptions#cronCacheMaxSize}
+ * @since 2.0.0
+ */
+public final class CronExpressionCache {
+
+    private static class Holder {
+
+        private static final CronExpressionCache INSTANCE = new CronExpressionCache(
+            DefaultOptions.getInstance().cronCacheMaxSize);
+
+    }
+
+    public static CronExpressionCache getInstance() {
+        return CronExpressionCache.Holder.INSTANCE;
+    }
+
+    private final int maxSize;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Entry[] clock;
+    private final Lock lock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private int occupied;
+    private int hand;
+
+    CronExpressionCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The cache max size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.clock   = new Entry[maxSize];
+    }
+
+    /**
+     * Obtain the compiled cron expression of the given expression and time zone.
+     *
+     * @param expression the cron expression
+     * @param timeZone   the time zone for which the cron expression is resolved
+     * @return the shared compiled cron expression
+     * @throws ParseException if the expression is invalid
+     */
+    public @NotNull CompiledCronExpression get(@NotNull String expression, @NotNull TimeZone timeZone)
+        throws ParseException {
+        final Key key = new Key(normalize(Objects.requireNonNull(expression, "Cron expression is required")),
+                                Objects.requireNonNull(timeZone, "Time zone is required").getID());
+        final Entry entry = entries.get(key);
+        if (entry != null && entry.timeZone.hasSameRules(timeZone)) {
+            hits.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value;
+        }
+        misses.increment();
+        final CompiledCronExpression compiled = new CompiledCronExpression(
+            new CronExpression(key.expression).setTimeZone((TimeZone) timeZone.clone()));
+        // A custom time zone that has the same id of the cached one is not cached
+        return entry == null ? admit(key, compiled) : compiled;
+    }
+
+    /**
+     * @return the number of cached entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the maximum number of cached entries
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the snapshot of the cache statistics
+     */
+    public @NotNull Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    /**
+     * Discards all entries and resets the statistics.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            for (int i = 0; i < clock.length; i++) {
+                clock[i] = null;
+            }
+            occupied = 0;
+            hand     = 0;
+            hits.reset();
+            misses.reset();
+            evictions.reset();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CompiledCronExpression admit(Key key, CompiledCronExpression compiled) {
+        lock.lock();
+        try {
+            final Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing.value;
+            }
+            final Entry entry = new Entry(key, compiled);
+            if (occupied < maxSize) {
+                clock[occupied++] = entry;
+            } else {
+                // Sweep the clock hand, the referenced entry gets the second chance
+                while (clock[hand].referenced) {
+                    clock[hand].referenced = false;
+                    hand = (hand + 1) % maxSize;
+                }
+                entries.remove(clock[hand].key, clock[hand]);
+                evictions.increment();
+                clock[hand] = entry;
+                hand        = (hand + 1) % maxSize;
+            }
+            entries.put(key, entry);
+            return compiled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String normalize(String expression) {
+        return String.join(" ", expression.trim().split("\\s+")).toUpperCase(Locale.US);
+    }
+
+    /**
+     * The snapshot of the cache statistics.
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        Stats(long hitCount, long missCount, long evictionCount, int size) {
+            this.hitCount      = hitCount;
+            this.missCount     = missCount;
+            this.evictionCount = evictionCount;
+            this.size          = size;
+        }
+
+        /**
+         * @return the number of lookups that return a cached entry
+         */
+        public long hitCount()      { return hitCount; }
+
+        /**
+         * @return the number of lookups that compile the cron expression
+         */
+        public long missCount()     { return missCount; }
+
+        /**
+         * @return the number of evicted entries
+         */
+        public long evictionCount() { return evictionCount; }
+
+        /**
+         * @return the number of cached entries
+         */
+        public int size()           { return size; }
+
+        /**
+         * @return the ratio of the cache hit over the total lookups, or {@code 1.0} if no lookup yet
+         */
+        public double hitRate() {
+            final long total = hitCount + missCount;
+            return total == 0 ? 1.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return "CronExpressionCache.Stats(hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" +
+                   evictionCount + ", size=" + size + ')';
+        }
+
+    }
+
+
+    private static final class Key {
+
+        private final String expression;
+        private final String timeZoneId;
+        private final int hash;
+
+        Key(String expression, String timeZoneId) {
+            this.expression = expression;
+            this.timeZoneId = timeZoneId;
+            this.hash       = 31 * expression.hashCode() + timeZoneId.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) { return true; }
+            if (!(o instanceof Key)) { return false; }
+            final Key that = (Key) o;
+            return expression.equals(that.expression) && timeZoneId.equals(that.timeZoneId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+
+    private static final class Entry {
+
+        private final Key key;
+        private final CompiledCronExpression value;
+        private final TimeZone timeZone;
+        private volatile boolean referenced;
+
+        Entry(Key key, CompiledCronExpression value) {
+            this.key      = key;
+            this.value    = value;
+            this.timeZone = value.getTimeZone();
+        }
+
+    }
+
+}
@@ -44,8 +44,11 @@ public interface CronTrigger extends Trigger, TimebasedTrigger {
 
     @Override
     default JsonObject toJson() {
-        return Trigger.super.toJson()
-                            .mergeIn(JsonObject.of("expression", getExpression(), "timeZone", getTimeZone().getID()));
+        final JsonObject json = Trigger.super.toJson()
+                                             .mergeIn(JsonObject.of("expression", getExpression(), "timeZone",
+                                                                    getTimeZone().getID()));
+        if (!misfirePolicy().equals(MisfirePolicy.byDefault())) { json.put("misfirePolicy", misfirePolicy()); }
+        return json;
     }
 
 }
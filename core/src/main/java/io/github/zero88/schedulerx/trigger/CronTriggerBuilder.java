@@ -21,6 +21,7 @@ public final class CronTriggerBuilder {
     private TriggerRule rule;
     private String expression;
     private TimeZone timeZone;
+    private MisfirePolicy misfirePolicy;
 
     CronTriggerBuilder() { }
 
@@ -39,6 +40,14 @@ public final class CronTriggerBuilder {
         return this;
     }
 
-    public CronTrigger build() { return new CronTriggerImpl(expression, timeZone, rule); }
+    /**
+     * @since 2.0.0
+     */
+    public CronTriggerBuilder misfirePolicy(MisfirePolicy misfirePolicy) {
+        this.misfirePolicy = misfirePolicy;
+        return this;
+    }
+
+    public CronTrigger build() { return new CronTriggerImpl(expression, timeZone, rule, misfirePolicy); }
 
 }
@@ -4,10 +4,10 @@ import java.text.ParseException;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.TimeZone;
 
 import org.jetbrains.annotations.NotNull;
@@ -21,13 +21,15 @@ final class CronTriggerImpl implements CronTrigger {
     private final TriggerRule rule;
     private final String expression;
     private final TimeZone timeZone;
+    private final MisfirePolicy misfirePolicy;
     @JsonIgnore
-    CronExpression cronExpression;
+    CompiledCronExpression cronExpression;
 
-    CronTriggerImpl(@NotNull String expression, TimeZone timeZone, TriggerRule rule) {
-        this.expression = Objects.requireNonNull(expression, "Cron expression is required");
-        this.timeZone   = timeZone == null ? TimeZone.getTimeZone(ZoneOffset.UTC.getId()) : timeZone;
-        this.rule       = Optional.ofNullable(rule).orElse(TriggerRule.NOOP);
+    CronTriggerImpl(@NotNull String expression, TimeZone timeZone, TriggerRule rule, MisfirePolicy misfirePolicy) {
+        this.expression    = Objects.requireNonNull(expression, "Cron expression is required");
+        this.timeZone      = timeZone == null ? TimeZone.getTimeZone(ZoneOffset.UTC.getId()) : timeZone;
+        this.rule          = Optional.ofNullable(rule).orElse(TriggerRule.NOOP);
+        this.misfirePolicy = Optional.ofNullable(misfirePolicy).orElseGet(MisfirePolicy::byDefault);
     }
 
     public @NotNull TriggerRule rule()     { return rule; }
@@ -36,16 +38,33 @@ final class CronTriggerImpl implements CronTrigger {
 
     public @NotNull TimeZone getTimeZone() { return this.timeZone; }
 
+    @Override
+    public @NotNull MisfirePolicy misfirePolicy() { return misfirePolicy; }
+
     public @NotNull Instant nextTriggerTime(@NotNull Instant time) {
         validate();
-        return cronExpression.getNextValidTimeAfter(Date.from(time)).toInstant();
+        final long next = cronExpression.nextValidTimeAfter(time.toEpochMilli());
+        if (next == CompiledCronExpression.NONE) {
+            throw new IllegalStateException("Cron expression has no more fire time after " + time);
+        }
+        return Instant.ofEpochMilli(next);
+    }
+
+    @Override
+    public @NotNull PrimitiveIterator.OfLong fireTimes(@NotNull Instant from, @NotNull Instant until) {
+        validate();
+        final CompiledCronExpression compiled = cronExpression;
+        return new FireTimeIterator(rule, from.toEpochMilli(), until.toEpochMilli(), -1, cursor -> {
+            final long next = compiled.nextValidTimeAfter(cursor);
+            return next == CompiledCronExpression.NONE ? FireTimeIterator.NONE : next;
+        });
     }
 
     @Override
     public @NotNull CronTrigger validate() {
         if (Objects.isNull(cronExpression)) {
             try {
-                this.cronExpression = new CronExpression(expression).setTimeZone(timeZone);
+                this.cronExpression = CronExpressionCache.getInstance().get(expression, timeZone);
             } catch (ParseException e) {
                 throw new IllegalArgumentException("Cannot parse cron expression", e);
             }
@@ -65,6 +84,7 @@ final class CronTriggerImpl implements CronTrigger {
         CronTriggerImpl that = (CronTriggerImpl) o;
         if (!expression.equals(that.expression)) { return false; }
         if (!timeZone.equals(that.timeZone)) { return false; }
+        if (!misfirePolicy.equals(that.misfirePolicy)) { return false; }
         return rule().equals(that.rule());
     }
 
@@ -72,6 +92,7 @@ final class CronTriggerImpl implements CronTrigger {
     public int hashCode() {
         int result = expression.hashCode();
         result = 31 * result + timeZone.hashCode();
+        result = 31 * result + misfirePolicy.hashCode();
         result = 31 * result + rule().hashCode();
         return result;
     }
@@ -0,0 +1,79 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents for the event messages that are delivered to one job round, it is the trigger context info of the event
+ * scheduler when the messages are delivered in batch, or when they are accumulated by an {@link EventWindow}.
+ *
+ * @param <T> Type of event message
+ * @see TriggerContext#info()
+ * @since 2.0.0
+ */
+public final class EventBatch<T> implements Iterable<T> {
+
+    private final List<T> events;
+    private final Instant openedAt;
+    private final Instant closedAt;
+    private final long bytes;
+
+    public EventBatch(@NotNull List<T> events) { this(events, null, null, 0); }
+
+    public EventBatch(@NotNull List<T> events, @Nullable Instant openedAt, @Nullable Instant closedAt, long bytes) {
+        this.events   = Collections.unmodifiableList(Objects.requireNonNull(events, "Events are required"));
+        this.openedAt = openedAt;
+        this.closedAt = closedAt;
+        this.bytes    = bytes;
+    }
+
+    /**
+     * @return the event messages in the arrival order
+     */
+    public @NotNull List<T> events() { return events; }
+
+    /**
+     * @return the number of the event messages
+     */
+    public int size() { return events.size(); }
+
+    /**
+     * @return the clock time of the first message of the window, or {@code null} if the batch is not a window
+     */
+    public @Nullable Instant openedAt() { return openedAt; }
+
+    /**
+     * @return the clock time when the window is closed, or {@code null} if the batch is not a window
+     */
+    public @Nullable Instant closedAt() { return closedAt; }
+
+    /**
+     * @return the estimated body bytes of the window messages, or {@code 0} if the batch is not a window or the window
+     *     is not limited by bytes
+     */
+    public long bytes() { return bytes; }
+
+    /**
+     * @return the time that the first message of the window waited until the window is closed, or {@code null} if the
+     *     batch is not a window
+     */
+    public @Nullable Duration latency() {
+        return openedAt == null || closedAt == null ? null : Duration.between(openedAt, closedAt);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() { return events.iterator(); }
+
+    @Override
+    public String toString() {
+        return "EventBatch(size=" + events.size() + (openedAt == null ? "" : ", latency=" + latency()) + ')';
+    }
+
+}
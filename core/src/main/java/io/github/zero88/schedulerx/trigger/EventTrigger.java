@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import io.github.zero88.schedulerx.trigger.predicate.EventTriggerPredicate;
 import io.vertx.core.eventbus.EventBus;
@@ -51,6 +52,14 @@ public interface EventTrigger<T> extends Trigger {
      */
     @NotNull EventTriggerPredicate<T> getPredicate();
 
+    /**
+     * Declares the window that accumulates the matched events into one job round
+     *
+     * @return the window, or {@code null} if each matched event runs one job round
+     * @see EventWindow
+     */
+    default @Nullable EventWindow getWindow() { return null; }
+
     @Override
     default @NotNull EventTrigger<T> validate() { return this; }
 
@@ -61,6 +70,7 @@ public interface EventTrigger<T> extends Trigger {
     default JsonObject toJson() {
         JsonObject self = JsonObject.of("address", getAddress(), "localOnly", isLocalOnly(), "eventTriggerPredicate",
                                         getPredicate().toJson());
+        if (getWindow() != null) { self.put("window", getWindow().toJson()); }
         return Trigger.super.toJson().mergeIn(self);
     }
 
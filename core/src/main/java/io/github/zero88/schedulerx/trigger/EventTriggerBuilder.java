@@ -23,6 +23,7 @@ public final class EventTriggerBuilder<T> {
     private String address;
     private boolean localOnly = false;
     private EventTriggerPredicate<T> predicate;
+    private EventWindow window;
 
     EventTriggerBuilder() { }
 
@@ -47,8 +48,13 @@ public final class EventTriggerBuilder<T> {
         return this;
     }
 
+    public EventTriggerBuilder<T> window(EventWindow window) {
+        this.window = window;
+        return this;
+    }
+
     public EventTrigger<T> build() {
-        return new EventTriggerImpl<>(address, localOnly, predicate, rule);
+        return new EventTriggerImpl<>(address, localOnly, predicate, rule, window);
     }
 
 }
@@ -4,6 +4,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import io.github.zero88.schedulerx.trigger.predicate.EventTriggerPredicate;
 import io.github.zero88.schedulerx.trigger.rule.TriggerRule;
@@ -14,14 +15,17 @@ final class EventTriggerImpl<T> implements EventTrigger<T> {
     private final boolean localOnly;
     private final String address;
     private final EventTriggerPredicate<T> predicate;
+    private final EventWindow window;
 
-    EventTriggerImpl(String address, boolean localOnly, EventTriggerPredicate<T> predicate, TriggerRule rule) {
+    EventTriggerImpl(String address, boolean localOnly, EventTriggerPredicate<T> predicate, TriggerRule rule,
+                     EventWindow window) {
         this.rule      = Optional.ofNullable(rule).orElse(TriggerRule.NOOP);
         this.localOnly = localOnly;
         this.address   = Objects.requireNonNull(
             Optional.ofNullable(address).filter(a -> !a.trim().isEmpty()).orElse(null),
             "The event address is required");
         this.predicate = Objects.requireNonNull(predicate, "The event trigger is required");
+        this.window    = window;
     }
 
     @Override
@@ -36,6 +40,9 @@ final class EventTriggerImpl<T> implements EventTrigger<T> {
     @Override
     public @NotNull EventTriggerPredicate<T> getPredicate() { return predicate; }
 
+    @Override
+    public @Nullable EventWindow getWindow() { return window; }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -46,6 +53,7 @@ final class EventTriggerImpl<T> implements EventTrigger<T> {
         if (localOnly != that.localOnly) { return false; }
         if (!address.equals(that.address)) { return false; }
         if (!predicate.equals(that.predicate)) { return false; }
+        if (!Objects.equals(window, that.window)) { return false; }
         return rule().equals(that.rule());
     }
 
@@ -54,6 +62,7 @@ final class EventTriggerImpl<T> implements EventTrigger<T> {
         int result = (localOnly ? 1 : 0);
         result = 31 * result + address.hashCode();
         result = 31 * result + predicate.hashCode();
+        result = 31 * result + Objects.hashCode(window);
         result = 31 * result + rule().hashCode();
         return result;
     }
@@ -61,7 +70,7 @@ final class EventTriggerImpl<T> implements EventTrigger<T> {
     @Override
     public String toString() {
         return "EventTrigger(address='" + address + '\'' + ", localOnly=" + localOnly + ", predicate='" + predicate +
-               '\'' + ')';
+               '\'' + (window == null ? "" : ", window=" + window) + ')';
     }
 
 }
@@ -0,0 +1,135 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.vertx.core.json.JsonObject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Represents the window that accumulates the event messages passing the event predicate, then the messages of a window
+ * are delivered to one job round as an {@link EventBatch} in {@link TriggerContext#info()}.
+ * <p/>
+ * A window is opened by its first message, and it is closed when it reaches {@link #maxCount()} messages, or
+ * {@link #maxBytes()} estimated body bytes, or when {@link #maxLatency()} elapses since its first message.
+ * <p/>
+ * The closed windows respect the scheduler backpressure, each queued entry is a window, and each round receives one
+ * window. Without backpressure, at most one closed window is queued while the previous round is running, the next
+ * closed window is dropped then.
+ *
+ * @see EventTriggerBuilder#window(EventWindow)
+ * @since 2.0.0
+ */
+public final class EventWindow {
+
+    private final int maxCount;
+    private final Duration maxLatency;
+    private final long maxBytes;
+
+    private EventWindow(int maxCount, Duration maxLatency, long maxBytes) {
+        if (maxCount <= 0) {
+            throw new IllegalArgumentException("Invalid window max count value");
+        }
+        if (maxLatency == null || maxLatency.isNegative() || maxLatency.toMillis() < 1) {
+            throw new IllegalArgumentException("Invalid window max latency value");
+        }
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Invalid window max bytes value");
+        }
+        this.maxCount   = maxCount;
+        this.maxLatency = maxLatency;
+        this.maxBytes   = maxBytes;
+    }
+
+    /**
+     * @param maxCount   the max number of the messages in a window
+     * @param maxLatency the max time since the first message of a window, it must be at least 1 millisecond
+     * @return a new window without bytes limit
+     * @throws IllegalArgumentException if any value is invalid
+     */
+    public static @NotNull EventWindow of(int maxCount, @NotNull Duration maxLatency) {
+        return new EventWindow(maxCount, maxLatency, 0);
+    }
+
+    /**
+     * Create a new window
+     *
+     * @param maxCount   the max number of the messages in a window
+     * @param maxLatency the max time since the first message of a window in ISO-8601 duration format
+     * @param maxBytes   the max estimated body bytes of a window, {@code 0} is unlimited
+     * @return a new window
+     * @throws IllegalArgumentException if any value is invalid
+     */
+    @JsonCreator
+    public static @NotNull EventWindow create(@JsonProperty("maxCount") Integer maxCount,
+                                              @JsonProperty("maxLatency") String maxLatency,
+                                              @JsonProperty("maxBytes") Long maxBytes) {
+        try {
+            return new EventWindow(maxCount == null ? 1 : maxCount,
+                                   maxLatency == null ? null : Duration.parse(maxLatency),
+                                   maxBytes == null ? 0 : maxBytes);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid window max latency value", ex);
+        }
+    }
+
+    /**
+     * Create a copy of this window with the given bytes limit
+     *
+     * @param maxBytes the max estimated body bytes of a window, {@code 0} is unlimited
+     * @return a new window
+     */
+    public @NotNull EventWindow withMaxBytes(long maxBytes) {
+        return new EventWindow(maxCount, maxLatency, maxBytes);
+    }
+
+    /**
+     * @return the max number of the messages in a window
+     */
+    public int maxCount() { return maxCount; }
+
+    /**
+     * @return the max time since the first message of a window
+     */
+    public @NotNull Duration maxLatency() { return maxLatency; }
+
+    /**
+     * @return the max estimated body bytes of a window, {@code 0} is unlimited
+     */
+    public long maxBytes() { return maxBytes; }
+
+    @JsonValue
+    public JsonObject toJson() {
+        final JsonObject json = JsonObject.of("maxCount", maxCount, "maxLatency", maxLatency.toString());
+        if (maxBytes > 0) { json.put("maxBytes", maxBytes); }
+        return json;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        EventWindow that = (EventWindow) o;
+        return maxCount == that.maxCount && maxBytes == that.maxBytes && maxLatency.equals(that.maxLatency);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxCount;
+        result = 31 * result + maxLatency.hashCode();
+        result = 31 * result + Long.hashCode(maxBytes);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "EventWindow(maxCount=" + maxCount + ", maxLatency=" + maxLatency + ", maxBytes=" + maxBytes + ')';
+    }
+
+}
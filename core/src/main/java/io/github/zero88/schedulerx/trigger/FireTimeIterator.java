@@ -0,0 +1,125 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.time.Instant;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongUnaryOperator;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.trigger.rule.TriggerRule;
+
+/**
+ * The lazy iterator of the trigger fire times in epoch milliseconds within a time window.
+ * <p/>
+ * The iterator jumps between the candidates that are computed by the trigger, then it applies the trigger rule: the
+ * pending candidates are skipped, the iteration stops at the first exceeded candidate, and the candidate that does not
+ * satisfy the rule timeframes is filtered out.
+ */
+final class FireTimeIterator implements PrimitiveIterator.OfLong {
+
+    /**
+     * The marker is returned by the candidate function when the trigger has no more fire time.
+     */
+    static final long NONE = Long.MIN_VALUE;
+
+    private final TriggerRule rule;
+    private final LongUnaryOperator nextCandidate;
+    private final long end;
+    private final boolean checkTimeframes;
+    private long remaining;
+    private long cursor;
+    private long next;
+    private boolean fetched;
+
+    /**
+     * @param rule          the trigger rule
+     * @param start         the exclusive start of the time window in epoch milliseconds
+     * @param until         the inclusive end of the time window in epoch milliseconds
+     * @param limit         the max number of fire times, or a negative value if unlimited
+     * @param nextCandidate the function computes the first candidate that is strictly after the given epoch
+     *                      milliseconds, or {@link #NONE}
+     */
+    FireTimeIterator(@NotNull TriggerRule rule, long start, long until, long limit,
+                     @NotNull LongUnaryOperator nextCandidate) {
+        this.rule            = rule;
+        this.nextCandidate   = nextCandidate;
+        this.checkTimeframes = !rule.timeframes().isEmpty();
+        this.remaining       = limit < 0 ? Long.MAX_VALUE : limit;
+        // The candidate before the rule begin time is pending, then jump straight to the begin time
+        this.cursor          = rule.beginTime() == null ? start : Math.max(start, rule.beginTime().toEpochMilli() - 1);
+        this.end             = rule.until() == null
+                               ? until
+                               : Math.min(until, rule.until().plus(rule.leeway()).toEpochMilli());
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!fetched) {
+            next    = fetch();
+            fetched = true;
+        }
+        return next != NONE;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        fetched = false;
+        remaining--;
+        return next;
+    }
+
+    /**
+     * Drains the fire times into the ring buffer, that keeps the latest fire times in ascending order.
+     *
+     * @param iterator the fire times
+     * @param buffer   the buffer
+     * @return the total number of fire times
+     */
+    static long collectLatest(@NotNull PrimitiveIterator.OfLong iterator, long @NotNull [] buffer) {
+        final int capacity = buffer.length;
+        long total = 0;
+        while (iterator.hasNext()) {
+            final long fireTime = iterator.nextLong();
+            if (capacity > 0) {
+                buffer[(int) (total % capacity)] = fireTime;
+            }
+            total++;
+        }
+        if (total > capacity && capacity > 1) {
+            // The oldest kept fire time is at the ring head, rotate it to the buffer start
+            final int head = (int) (total % capacity);
+            reverse(buffer, 0, head);
+            reverse(buffer, head, capacity);
+            reverse(buffer, 0, capacity);
+        }
+        return total;
+    }
+
+    private static void reverse(long[] buffer, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            final long tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    private long fetch() {
+        while (remaining > 0 && cursor < end) {
+            final long candidate = nextCandidate.applyAsLong(cursor);
+            if (candidate == NONE || candidate > end) {
+                break;
+            }
+            cursor = candidate;
+            if (!checkTimeframes || rule.satisfy(Instant.ofEpochMilli(candidate))) {
+                return candidate;
+            }
+        }
+        cursor = end;
+        return NONE;
+    }
+
+}
@@ -1,10 +1,12 @@
 package io.github.zero88.schedulerx.trigger;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import io.vertx.core.json.JsonObject;
 
@@ -52,6 +54,20 @@ public interface IntervalTrigger extends Trigger, TimebasedTrigger {
      */
     @NotNull Duration interval();
 
+    /**
+     * Get the anchor of the fire times in the anchored mode.
+     * <p/>
+     * In the anchored mode, the fire times are computed from the anchor in absolute time, that is
+     * {@code anchor + N * interval}, instead of being repeated from the previous fire time by the periodic system
+     * timer. Then the fire times do not drift with the system timer latency, and they line up with the wall-clock
+     * boundaries if the anchor is a boundary, e.g. {@link Instant#EPOCH}. The first fire time is the first anchored
+     * fire time after the {@link #initialDelay()}.
+     *
+     * @return the anchor, or {@code null} if the trigger is not in the anchored mode
+     * @since 2.0.0
+     */
+    default @Nullable Instant anchor() { return null; }
+
     /**
      * Get the initial delay time (in {@link #getInitialDelayTimeUnit()}) before emitting trigger in the first time.
      *
@@ -93,6 +109,8 @@ public interface IntervalTrigger extends Trigger, TimebasedTrigger {
     @Override
     default JsonObject toJson() {
         JsonObject self = JsonObject.of("repeat", getRepeat(), "initialDelay", initialDelay(), "interval", interval());
+        if (!misfirePolicy().equals(MisfirePolicy.byDefault())) { self.put("misfirePolicy", misfirePolicy()); }
+        if (anchor() != null) { self.put("anchor", anchor()); }
         return Trigger.super.toJson().mergeIn(self);
     }
 
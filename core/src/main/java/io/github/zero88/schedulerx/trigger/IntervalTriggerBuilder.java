@@ -1,6 +1,7 @@
 package io.github.zero88.schedulerx.trigger;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +30,8 @@ public final class IntervalTriggerBuilder {
     private long intervalLong = 0;
     private long repeat = IntervalTrigger.REPEAT_INDEFINITELY;
     private TriggerRule rule;
+    private MisfirePolicy misfirePolicy;
+    private Instant anchor;
 
     IntervalTriggerBuilder() { }
 
@@ -58,6 +61,24 @@ public final class IntervalTriggerBuilder {
         return this;
     }
 
+    /**
+     * @since 2.0.0
+     */
+    public IntervalTriggerBuilder misfirePolicy(MisfirePolicy misfirePolicy) {
+        this.misfirePolicy = misfirePolicy;
+        return this;
+    }
+
+    /**
+     * @param anchor the anchor of the fire times, {@code null} to disable the anchored mode
+     * @see IntervalTrigger#anchor()
+     * @since 2.0.0
+     */
+    public IntervalTriggerBuilder anchor(Instant anchor) {
+        this.anchor = anchor;
+        return this;
+    }
+
     /**
      * @deprecated Use {@link #initialDelay(Duration)}
      */
@@ -97,7 +118,7 @@ public final class IntervalTriggerBuilder {
                                        Optional.ofNullable(interval)
                                                .orElseGet(() -> Duration.of(intervalLong,
                                                                             Utils.toChronoUnit(intervalTimeUnit))),
-                                       repeat, rule);
+                                       repeat, rule, misfirePolicy, anchor);
     }
 
     static IntervalTrigger create(Map<String, Object> props) {
@@ -106,6 +127,9 @@ public final class IntervalTriggerBuilder {
         TriggerRule rule = Optional.ofNullable(props.get("rule"))
                                    .map(r -> Json.CODEC.fromValue(r, TriggerRule.class))
                                    .orElse(null);
+        MisfirePolicy misfirePolicy = Optional.ofNullable(props.get("misfirePolicy"))
+                                              .map(p -> Json.CODEC.fromValue(p, MisfirePolicy.class))
+                                              .orElse(null);
         return new IntervalTriggerBuilder().initialDelay(parseDuration(initialDelayProp))
                                            .initialDelay(parseLong(initialDelayProp, 0))
                                            .initialDelayTimeUnit(parseTimeUnit(props.get("initialDelayTimeUnit")))
@@ -114,6 +138,8 @@ public final class IntervalTriggerBuilder {
                                            .intervalTimeUnit(parseTimeUnit(props.get("intervalTimeUnit")))
                                            .repeat(parseLong(props.get("repeat"), IntervalTrigger.REPEAT_INDEFINITELY))
                                            .rule(rule)
+                                           .misfirePolicy(misfirePolicy)
+                                           .anchor(parseInstant(props.get("anchor")))
                                            .build();
     }
 
@@ -137,6 +163,20 @@ public final class IntervalTriggerBuilder {
         return null;
     }
 
+    static Instant parseInstant(Object value) {
+        if (value instanceof Instant) {
+            return (Instant) value;
+        }
+        if (value instanceof CharSequence) {
+            try {
+                return Instant.parse((CharSequence) value);
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Invalid anchor value", ex);
+            }
+        }
+        return null;
+    }
+
     static TimeUnit parseTimeUnit(Object value) {
         if (value instanceof TimeUnit) {
             return (TimeUnit) value;
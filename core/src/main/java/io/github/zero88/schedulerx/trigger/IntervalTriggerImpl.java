@@ -7,8 +7,10 @@ import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import io.github.zero88.schedulerx.impl.HumanReadableTimeFormat;
 import io.github.zero88.schedulerx.trigger.rule.TriggerRule;
@@ -19,13 +21,18 @@ final class IntervalTriggerImpl implements IntervalTrigger {
     private final Duration interval;
     private final long repeat;
     private final TriggerRule rule;
-
-    IntervalTriggerImpl(Duration initialDelay, Duration interval, long repeat, TriggerRule rule) {
-        this.repeat       = repeat;
-        this.rule         = Optional.ofNullable(rule).orElse(TriggerRule.NOOP);
-        this.interval     = Objects.requireNonNull(interval, "Interval configuration is required");
-        this.initialDelay = Optional.ofNullable(this.rule.beginTime() == null ? initialDelay : Duration.ZERO)
-                                    .orElse(Duration.ZERO);
+    private final MisfirePolicy misfirePolicy;
+    private final Instant anchor;
+
+    IntervalTriggerImpl(Duration initialDelay, Duration interval, long repeat, TriggerRule rule,
+                        MisfirePolicy misfirePolicy, Instant anchor) {
+        this.repeat        = repeat;
+        this.anchor        = anchor;
+        this.rule          = Optional.ofNullable(rule).orElse(TriggerRule.NOOP);
+        this.misfirePolicy = Optional.ofNullable(misfirePolicy).orElseGet(MisfirePolicy::byDefault);
+        this.interval      = Objects.requireNonNull(interval, "Interval configuration is required");
+        this.initialDelay  = Optional.ofNullable(this.rule.beginTime() == null ? initialDelay : Duration.ZERO)
+                                     .orElse(Duration.ZERO);
     }
 
     @Override
@@ -40,13 +47,20 @@ final class IntervalTriggerImpl implements IntervalTrigger {
     @Override
     public @NotNull Duration interval() { return interval; }
 
+    @Override
+    public @NotNull MisfirePolicy misfirePolicy() { return misfirePolicy; }
+
+    @Override
+    public @Nullable Instant anchor() { return anchor; }
+
     @Override
     @SuppressWarnings("java:S1192")
     public @NotNull IntervalTrigger validate() {
         if (repeat != REPEAT_INDEFINITELY && repeat <= 0) {
             throw new IllegalArgumentException("Invalid repeat value");
         }
-        if (interval.isZero() || interval.isNegative()) {
+        // The fire times are computed in milliseconds, then the sub-millisecond interval is rejected
+        if (interval.isNegative() || interval.toMillis() == 0) {
             throw new IllegalArgumentException("Invalid interval value");
         }
         if (initialDelay.isNegative()) {
@@ -55,9 +69,65 @@ final class IntervalTriggerImpl implements IntervalTrigger {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * In the anchored mode, the next trigger time is the first {@code anchor + N * interval} that is strictly after the
+     * given time, otherwise it is the given time plus the interval.
+     */
     public @NotNull Instant nextTriggerTime(@NotNull Instant time) {
         validate();
-        return time.plus(interval);
+        if (anchor == null) {
+            return time.plus(interval);
+        }
+        return Instant.ofEpochMilli(nextStep(anchor.toEpochMilli(), interval.toMillis(), time.toEpochMilli()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Without the {@link #anchor()}, the interval trigger is anchored at the time when the scheduler starts, then the
+     * start of the time window is considered as the scheduler start time: the fire times are
+     * {@code from + initialDelay + N * interval} with {@code N >= 1}. In the anchored mode, the fire times are
+     * {@code anchor + N * interval} that are strictly after {@code from + initialDelay}. At most {@link #getRepeat()}
+     * fire times are emitted.
+     */
+    @Override
+    public @NotNull PrimitiveIterator.OfLong fireTimes(@NotNull Instant from, @NotNull Instant until) {
+        validate();
+        final long start = from.plus(initialDelay).toEpochMilli();
+        final long origin = anchor == null ? start : anchor.toEpochMilli();
+        final long step = interval.toMillis();
+        return new FireTimeIterator(rule, start, until.toEpochMilli(), repeat,
+                                    cursor -> nextStep(origin, step, Math.max(cursor, start)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Without the {@link #anchor()}, the missed fire times are anchored at the last fire time: they are
+     * {@code from + N * interval} with {@code N >= 1}. In the anchored mode, they are {@code anchor + N * interval}
+     * within the time window. Without the rule constraint, they are computed arithmetically instead of being scanned.
+     */
+    @Override
+    public long missedFireTimes(@NotNull Instant from, @NotNull Instant until, long @NotNull [] buffer) {
+        validate();
+        final long start = from.toEpochMilli();
+        final long origin = anchor == null ? start : anchor.toEpochMilli();
+        final long step = interval.toMillis();
+        if (!rule.timeframes().isEmpty() || rule.beginTime() != null || rule.until() != null) {
+            return FireTimeIterator.collectLatest(new FireTimeIterator(rule, start, until.toEpochMilli(), -1,
+                                                                       cursor -> nextStep(origin, step, cursor)),
+                                                  buffer);
+        }
+        final long first = Math.floorDiv(start - origin, step) + 1;
+        final long last = Math.floorDiv(until.toEpochMilli() - origin, step);
+        final long total = Math.max(0, last - first + 1);
+        final int kept = (int) Math.min(total, buffer.length);
+        for (int i = 0; i < kept; i++) {
+            buffer[i] = origin + (last - kept + 1 + i) * step;
+        }
+        return total;
     }
 
     @Override
@@ -69,6 +139,13 @@ final class IntervalTriggerImpl implements IntervalTrigger {
         return PreviewHelper.preview(this, normalized.setStartedAt(normalized.getStartedAt().plus(initialDelay)));
     }
 
+    /**
+     * Jump straight to the first step from the origin that is strictly after the cursor
+     */
+    private static long nextStep(long origin, long step, long cursor) {
+        return origin + (Math.floorDiv(cursor - origin, step) + 1) * step;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -81,6 +158,8 @@ final class IntervalTriggerImpl implements IntervalTrigger {
         if (repeat != that.repeat) { return false; }
         if (interval.compareTo(that.interval) != 0) { return false; }
         if (initialDelay.compareTo(that.initialDelay) != 0) { return false; }
+        if (!misfirePolicy.equals(that.misfirePolicy)) { return false; }
+        if (!Objects.equals(anchor, that.anchor)) { return false; }
         return rule.equals(that.rule);
     }
 
@@ -90,12 +169,15 @@ final class IntervalTriggerImpl implements IntervalTrigger {
         result = 31 * result + initialDelay.hashCode();
         result = 31 * result + interval.hashCode();
         result = 31 * result + rule.hashCode();
+        result = 31 * result + misfirePolicy.hashCode();
+        result = 31 * result + Objects.hashCode(anchor);
         return result;
     }
 
     public String toString() {
         return "IntervalTrigger(initialDelay=" + HumanReadableTimeFormat.format(initialDelay) + ", interval=" +
-               HumanReadableTimeFormat.format(interval) + ", repeat=" + repeat + ")";
+               HumanReadableTimeFormat.format(interval) + ", repeat=" + repeat +
+               (anchor == null ? "" : ", anchor=" + anchor) + ")";
     }
 
 }
@@ -0,0 +1,59 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.github.zero88.schedulerx.trigger.MisfirePolicy.Strategy;
+
+/**
+ * The decision of the {@link MisfirePolicy} on the missed fire times, that is given in the trigger context info of the
+ * misfire result with the {@link TriggerCondition.ReasonCode#MISFIRE} reason code.
+ *
+ * @since 2.0.0
+ */
+public final class MisfireDecision {
+
+    private final Strategy strategy;
+    private final long missed;
+    private final int fired;
+    private final Instant lastMissedAt;
+
+    /**
+     * @param strategy     the applied misfire strategy
+     * @param missed       the number of the missed fire times
+     * @param fired        the number of the fires to catch up the missed fire times
+     * @param lastMissedAt the latest missed fire time
+     */
+    public MisfireDecision(@NotNull Strategy strategy, long missed, int fired, @NotNull Instant lastMissedAt) {
+        this.strategy     = Objects.requireNonNull(strategy);
+        this.missed       = missed;
+        this.fired        = fired;
+        this.lastMissedAt = Objects.requireNonNull(lastMissedAt);
+    }
+
+    public @NotNull Strategy strategy()    { return strategy; }
+
+    /**
+     * @return the number of the missed fire times
+     */
+    public long missed()                  { return missed; }
+
+    /**
+     * @return the number of the fires to catch up the missed fire times, {@code 0} if they are skipped
+     */
+    public int fired()                    { return fired; }
+
+    /**
+     * @return the latest missed fire time
+     */
+    public @NotNull Instant lastMissedAt() { return lastMissedAt; }
+
+    @Override
+    public String toString() {
+        return "MisfireDecision(strategy=" + strategy + ", missed=" + missed + ", fired=" + fired + ", lastMissedAt=" +
+               lastMissedAt + ')';
+    }
+
+}
@@ -0,0 +1,180 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.github.zero88.schedulerx.DefaultOptions;
+import io.vertx.core.json.JsonObject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Represents the policy to catch up the trigger fire times that are missed, when the system timer is delayed by a JVM
+ * pause or a blocked event loop, or when the scheduler is restored after a downtime.
+ * <p/>
+ * A fire time is missed when the system timer fires it later than the {@link #threshold()}. Each decision, except
+ * {@link Strategy#FIRE_ONCE_NOW} that just processes the late fire as usual, is reported to
+ * {@code SchedulingMonitor#onMisfire} with the {@link TriggerCondition.ReasonCode#MISFIRE} reason code, and the
+ * {@link MisfireDecision} in the trigger context info.
+ *
+ * @since 2.0.0
+ */
+public final class MisfirePolicy {
+
+    private static final MisfirePolicy DEFAULT = new MisfirePolicy(Strategy.FIRE_ONCE_NOW, 1, null);
+
+    /**
+     * The strategy to handle the missed fire times
+     */
+    public enum Strategy {
+
+        /**
+         * Fires the job once right now for all missed fire times, then continues the trigger schedule. The decision is
+         * not reported to the monitor.
+         */
+        FIRE_ONCE_NOW,
+        /**
+         * Fires the job for each missed fire time back-to-back in one batch, at most
+         * {@link MisfirePolicy#maxCatchUp()} latest missed fire times are fired, then continues the trigger schedule.
+         */
+        FIRE_ALL_MISSED,
+        /**
+         * Skips all missed fire times, then waits for the next fire time of the trigger schedule.
+         */
+        SKIP_TO_NEXT,
+
+    }
+
+    private final Strategy strategy;
+    private final int maxCatchUp;
+    private final Duration threshold;
+
+    private MisfirePolicy(Strategy strategy, int maxCatchUp, Duration threshold) {
+        if (maxCatchUp <= 0) {
+            throw new IllegalArgumentException("Invalid max catch-up value");
+        }
+        if (threshold != null && threshold.isNegative()) {
+            throw new IllegalArgumentException("Invalid misfire threshold value");
+        }
+        this.strategy   = Objects.requireNonNull(strategy, "Misfire strategy is required");
+        this.maxCatchUp = maxCatchUp;
+        this.threshold  = threshold;
+    }
+
+    /**
+     * The default misfire policy is {@link Strategy#FIRE_ONCE_NOW}, that fires the late trigger once as the scheduler
+     * does without the misfire policy.
+     *
+     * @return the default misfire policy
+     */
+    public static @NotNull MisfirePolicy byDefault() { return DEFAULT; }
+
+    /**
+     * @return the misfire policy that fires the job once right now for all missed fire times
+     * @see Strategy#FIRE_ONCE_NOW
+     */
+    public static @NotNull MisfirePolicy fireOnceNow() { return DEFAULT; }
+
+    /**
+     * @return the misfire policy that skips all missed fire times
+     * @see Strategy#SKIP_TO_NEXT
+     */
+    public static @NotNull MisfirePolicy skipToNext() { return new MisfirePolicy(Strategy.SKIP_TO_NEXT, 1, null); }
+
+    /**
+     * @param maxCatchUp the max number of the latest missed fire times to fire
+     * @return the misfire policy that fires the job for each missed fire time
+     * @throws IllegalArgumentException if the max catch-up value is not positive
+     * @see Strategy#FIRE_ALL_MISSED
+     */
+    public static @NotNull MisfirePolicy fireAllMissed(int maxCatchUp) {
+        return new MisfirePolicy(Strategy.FIRE_ALL_MISSED, maxCatchUp, null);
+    }
+
+    /**
+     * Create a new misfire policy
+     *
+     * @param strategy   the misfire strategy
+     * @param maxCatchUp the max number of the latest missed fire times to fire, only used by
+     *                   {@link Strategy#FIRE_ALL_MISSED}
+     * @param threshold  the misfire threshold in ISO-8601 duration format
+     * @return a new misfire policy
+     * @throws IllegalArgumentException if any value is invalid
+     */
+    @JsonCreator
+    public static @NotNull MisfirePolicy create(@JsonProperty("strategy") Strategy strategy,
+                                                @JsonProperty("maxCatchUp") Integer maxCatchUp,
+                                                @JsonProperty("threshold") String threshold) {
+        try {
+            return new MisfirePolicy(strategy == null ? Strategy.FIRE_ONCE_NOW : strategy,
+                                     maxCatchUp == null ? 1 : maxCatchUp,
+                                     threshold == null ? null : Duration.parse(threshold));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid misfire threshold value", ex);
+        }
+    }
+
+    /**
+     * Create a copy of this policy with the given threshold
+     *
+     * @param threshold the max lateness of a fire time before it is considered as missed
+     * @return a new misfire policy
+     */
+    public @NotNull MisfirePolicy withThreshold(@Nullable Duration threshold) {
+        return new MisfirePolicy(strategy, maxCatchUp, threshold);
+    }
+
+    public @NotNull Strategy strategy() { return strategy; }
+
+    /**
+     * @return the max number of the latest missed fire times to fire, it is always {@code 1} if the strategy is not
+     *     {@link Strategy#FIRE_ALL_MISSED}
+     */
+    public int maxCatchUp() { return strategy == Strategy.FIRE_ALL_MISSED ? maxCatchUp : 1; }
+
+    /**
+     * @return the max lateness of a fire time before it is considered as missed. Defaults is
+     *     {@link DefaultOptions#triggerMisfireThreshold}
+     */
+    public @NotNull Duration threshold() {
+        return threshold == null ? DefaultOptions.getInstance().triggerMisfireThreshold : threshold;
+    }
+
+    @JsonValue
+    public JsonObject toJson() {
+        final JsonObject json = JsonObject.of("strategy", strategy.name());
+        if (strategy == Strategy.FIRE_ALL_MISSED) { json.put("maxCatchUp", maxCatchUp); }
+        if (threshold != null) { json.put("threshold", threshold.toString()); }
+        return json;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        MisfirePolicy that = (MisfirePolicy) o;
+        return strategy == that.strategy && maxCatchUp() == that.maxCatchUp() &&
+               Objects.equals(threshold, that.threshold);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = strategy.hashCode();
+        result = 31 * result + maxCatchUp();
+        result = 31 * result + Objects.hashCode(threshold);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "MisfirePolicy(strategy=" + strategy + ", maxCatchUp=" + maxCatchUp() + ", threshold=" + threshold() +
+               ')';
+    }
+
+}
@@ -1,10 +1,20 @@
 package io.github.zero88.schedulerx.trigger;
 
 import java.time.Instant;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jetbrains.annotations.NotNull;
 
-interface TimebasedTrigger {
+/**
+ * Represents for the trigger that fires at the computed times.
+ *
+ * @since 2.0.0
+ */
+public interface TimebasedTrigger {
 
     /**
      * Calculates the next valid trigger time from a given time and the trigger configuration
@@ -14,4 +24,58 @@ interface TimebasedTrigger {
      */
     @NotNull Instant nextTriggerTime(@NotNull Instant time);
 
+    /**
+     * Lazily computes the trigger fire times within the time window, that also satisfy the trigger rule.
+     * <p/>
+     * Unlike {@link Trigger#preview(PreviewParameter)}, the result is bounded by the time window instead of a count,
+     * and each fire time is computed on demand without boxing.
+     *
+     * @param from  the exclusive start of the time window
+     * @param until the inclusive end of the time window
+     * @return the fire times in epoch milliseconds in ascending order
+     * @since 2.0.0
+     */
+    @NotNull PrimitiveIterator.OfLong fireTimes(@NotNull Instant from, @NotNull Instant until);
+
+    /**
+     * Declares the policy to catch up the missed fire times
+     *
+     * @return the misfire policy
+     * @see MisfirePolicy
+     * @since 2.0.0
+     */
+    default @NotNull MisfirePolicy misfirePolicy() { return MisfirePolicy.byDefault(); }
+
+    /**
+     * Computes in bulk the fire times that are missed within the time window, that also satisfy the trigger rule.
+     * <p/>
+     * The window is scanned once and only the latest {@code buffer.length} missed fire times are kept, then a long
+     * downtime does not allocate per missed fire time.
+     *
+     * @param from   the exclusive start of the time window, that is the last fire time
+     * @param until  the inclusive end of the time window
+     * @param buffer the buffer is filled by the latest missed fire times in epoch milliseconds in ascending order
+     * @return the total number of missed fire times, it might be greater than the buffer length
+     * @since 2.0.0
+     */
+    default long missedFireTimes(@NotNull Instant from, @NotNull Instant until, long @NotNull [] buffer) {
+        return FireTimeIterator.collectLatest(fireTimes(from, until), buffer);
+    }
+
+    /**
+     * Lazily computes the trigger fire times within the time window, that also satisfy the trigger rule.
+     *
+     * @param from  the exclusive start of the time window
+     * @param until the inclusive end of the time window
+     * @return the stream of fire times in ascending order
+     * @see #fireTimes(Instant, Instant)
+     * @since 2.0.0
+     */
+    default @NotNull Stream<Instant> fireTimeStream(@NotNull Instant from, @NotNull Instant until) {
+        final int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED |
+                                    Spliterator.NONNULL;
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(fireTimes(from, until), characteristics),
+                                        false).mapToObj(Instant::ofEpochMilli);
+    }
+
 }
@@ -78,6 +78,12 @@ public interface TriggerCondition {
         public static final String STOP_BY_CONFIG = "StopByTriggerConfig";
         public static final String JOB_IS_RUNNING = "JobIsRunning";
         public static final String UNEXPECTED_ERROR = "UnexpectedError";
+        public static final String MISFIRE = "TriggerIsMisfired";
+        public static final String COALESCED = "TriggerIsCoalesced";
+        public static final String SUSPENDED = "TriggerIsSuspended";
+        public static final String LEASE_NOT_ACQUIRED = "LeaseIsNotAcquired";
+        public static final String LEASE_LOST = "LeaseIsLost";
+        public static final String QUEUE_IS_FULL = "TriggerQueueIsFull";
 
         private ReasonCode() { }
 
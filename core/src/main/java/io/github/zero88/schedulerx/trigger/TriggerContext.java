@@ -24,6 +24,13 @@ public interface TriggerContext extends HasTriggerType {
      */
     @Nullable Instant firedAt();
 
+    /**
+     * @return The time that the trigger schedule expects the system timer to fire the trigger, or {@code null} if the
+     *     trigger does not have the expected fire time, e.g. the event-based trigger.
+     * @since 2.0.0
+     */
+    default @Nullable Instant expectedAt() { return null; }
+
     /**
      * The current trigger condition
      *
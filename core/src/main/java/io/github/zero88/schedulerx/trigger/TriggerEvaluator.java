@@ -45,6 +45,32 @@ public interface TriggerEvaluator extends BeforeTriggerEvaluator, AfterTriggerEv
         return DefaultTriggerEvaluator.init(beforeEvaluator, afterEvaluator);
     }
 
+    /**
+     * Create a non-blocking trigger evaluator with the before and after evaluator.
+     * <p/>
+     * The given evaluators must not block the caller thread, because they are invoked directly on the scheduler
+     * context thread.
+     *
+     * @return new trigger evaluator instance
+     * @see #isBlocking()
+     * @since 2.0.0
+     */
+    static TriggerEvaluator nonBlocking(BeforeTriggerEvaluator beforeEvaluator,
+                                        AfterTriggerEvaluator afterEvaluator) {
+        return DefaultTriggerEvaluator.init(beforeEvaluator, afterEvaluator, false);
+    }
+
+    /**
+     * Declares whether this evaluator may block the caller thread.
+     * <p/>
+     * The blocking evaluator is offloaded to the worker thread with the evaluation timeout, whereas the non-blocking
+     * one is invoked inline on the scheduler context thread.
+     *
+     * @return {@code true} by default
+     * @since 2.0.0
+     */
+    default boolean isBlocking() { return true; }
+
     /**
      * Chain with another trigger evaluator.
      *
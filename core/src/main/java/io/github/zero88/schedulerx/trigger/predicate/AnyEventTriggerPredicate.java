@@ -18,6 +18,9 @@ public final class AnyEventTriggerPredicate implements EventTriggerPredicate<Obj
     @Override
     public boolean test(@Nullable Object eventMessage) { return true; }
 
+    @Override
+    public boolean isBlocking() { return false; }
+
     @Override
     public @NotNull JsonObject toJson() {
         return JsonObject.of(JsonKey.EVENT_PREDICATE,
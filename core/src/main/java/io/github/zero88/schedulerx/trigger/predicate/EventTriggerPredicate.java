@@ -44,6 +44,28 @@ public interface EventTriggerPredicate<T> extends Predicate<T> {
     @Override
     boolean test(@Nullable T eventMessage);
 
+    /**
+     * Whether the predicate test might block the caller thread, e.g. it does a lookup or an I/O call.
+     * <p/>
+     * The blocking predicate is tested on the worker thread, whereas the non-blocking predicate is tested inline on the
+     * scheduler context. Override this method to return {@code false} if the predicate is a cheap in-memory check.
+     *
+     * @return {@code true} by default
+     */
+    default boolean isBlocking() { return true; }
+
+    /**
+     * Whether the message conversion might block the caller thread, e.g. it decodes a large payload.
+     * <p/>
+     * The message is converted once per group of the equal predicates on the event loop of the shared event bus
+     * consumer, then the blocking conversion delays every message of the same address. The blocking conversion runs on
+     * a worker thread instead, in the message order.
+     *
+     * @return {@code false} by default
+     * @see #convert(MultiMap, Object)
+     */
+    default boolean isConvertBlocking() { return false; }
+
     /**
      * Serialize this predicate to json.
      * <p/>
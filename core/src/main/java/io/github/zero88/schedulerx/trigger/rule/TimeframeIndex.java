@@ -0,0 +1,254 @@
+package io.github.zero88.schedulerx.trigger.rule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The timeframe index precompiles the builtin timeframes of a trigger rule into the sorted non-overlapping ranges per
+ * timeframe type, then a time is matched by one binary search per type instead of checking every timeframe.
+ * <p/>
+ * The local timeframes are matched in the system default zone at the check time, and the zone conversion is done once
+ * per check. The custom timeframes and the {@link OffsetTimeRange} are not indexed, they are checked one by one.
+ */
+@SuppressWarnings("rawtypes")
+final class TimeframeIndex {
+
+    private final boolean unrestricted;
+    private final Duration leeway;
+    private final Ranges<Instant> instants;
+    private final Ranges<LocalDateTime> dateTimes;
+    private final Ranges<LocalDate> dates;
+    private final Ranges<LocalTime> times;
+    private final List<Timeframe> others;
+
+    private TimeframeIndex(boolean unrestricted, Duration leeway, Ranges<Instant> instants,
+                           Ranges<LocalDateTime> dateTimes, Ranges<LocalDate> dates, Ranges<LocalTime> times,
+                           List<Timeframe> others) {
+        this.unrestricted = unrestricted;
+        this.leeway       = leeway;
+        this.instants     = instants;
+        this.dateTimes    = dateTimes;
+        this.dates        = dates;
+        this.times        = times;
+        this.others       = others;
+    }
+
+    static @NotNull TimeframeIndex compile(@NotNull List<Timeframe> timeframes, @NotNull Duration leeway) {
+        final List<Range<Instant>> instants = new ArrayList<>();
+        final List<Range<LocalDateTime>> dateTimes = new ArrayList<>();
+        final List<Range<LocalDate>> dates = new ArrayList<>();
+        final List<Range<LocalTime>> times = new ArrayList<>();
+        final List<Timeframe> others = new ArrayList<>();
+        for (Timeframe timeframe : timeframes) {
+            // Only the exact builtin classes are indexed, a subclass might override the check
+            final Class<?> cls = timeframe.getClass();
+            if (cls == InstantRange.class) {
+                final InstantRange tf = (InstantRange) timeframe;
+                instants.add(new Range<>(tf.from(), tf.to() == null ? null : tf.to().plus(leeway)));
+            } else if (cls == OffsetDateTimeRange.class) {
+                final OffsetDateTimeRange tf = (OffsetDateTimeRange) timeframe;
+                instants.add(new Range<>(tf.from() == null ? null : tf.from().toInstant(),
+                                         tf.to() == null ? null : tf.to().plus(leeway).toInstant()));
+            } else if (cls == LocalDateTimeRange.class) {
+                final LocalDateTimeRange tf = (LocalDateTimeRange) timeframe;
+                dateTimes.add(new Range<>(tf.from(), tf.to() == null ? null : tf.to().plus(leeway)));
+            } else if (cls == LocalDateRange.class) {
+                final LocalDateRange tf = (LocalDateRange) timeframe;
+                dates.add(new Range<>(tf.from(), tf.to()));
+            } else if (cls == LocalTimeRange.class) {
+                final LocalTimeRange tf = (LocalTimeRange) timeframe;
+                // The time of day wraps around midnight, then the leeway end might wrap too
+                final LocalTime end = tf.to() == null ? null : tf.to().plus(leeway);
+                if (tf.from() != null && tf.to() != null && tf.from().isAfter(tf.to())) {
+                    times.add(new Range<>(tf.from(), null));
+                    times.add(new Range<>(null, end));
+                } else {
+                    times.add(new Range<>(tf.from(), end));
+                }
+            } else {
+                others.add(timeframe);
+            }
+        }
+        return new TimeframeIndex(timeframes.isEmpty(), leeway, Ranges.merge(instants), Ranges.merge(dateTimes),
+                                  Ranges.merge(dates), Ranges.merge(times), others);
+    }
+
+    /**
+     * Check whether the given time is satisfied to at least one timeframe.
+     *
+     * @param instant the given time
+     * @return {@code true} if the given time is satisfied
+     */
+    boolean test(@NotNull Instant instant) {
+        if (unrestricted || instants.contains(instant)) {
+            return true;
+        }
+        if (!dateTimes.isEmpty() || !dates.isEmpty() || !times.isEmpty()) {
+            final LocalDateTime local = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+            if (dateTimes.contains(local) || dates.contains(local.toLocalDate()) ||
+                times.contains(local.toLocalTime())) {
+                return true;
+            }
+        }
+        for (Timeframe timeframe : others) {
+            if (timeframe.check(instant, leeway)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the earliest time that is not before the given time and is satisfied to at least one timeframe.
+     *
+     * @param instant the given time
+     * @return the earliest satisfied time, the given time if the index has a timeframe that is not indexed, or
+     *     {@code null} if no timeframe is satisfied from the given time
+     */
+    @Nullable Instant ceiling(@NotNull Instant instant) {
+        if (!others.isEmpty() || test(instant)) {
+            return instant;
+        }
+        Instant next = instants.ceiling(instant);
+        if (!dateTimes.isEmpty() || !dates.isEmpty() || !times.isEmpty()) {
+            final ZonedDateTime zoned = instant.atZone(ZoneId.systemDefault());
+            final LocalDateTime local = zoned.toLocalDateTime();
+            final LocalDateTime nextDateTime = dateTimes.ceiling(local);
+            final LocalDate nextDate = dates.ceiling(local.toLocalDate());
+            next = earliest(next, toInstant(nextDateTime, zoned));
+            next = earliest(next, nextDate == null ? null : toInstant(nextDate.atStartOfDay(), zoned));
+            if (!times.isEmpty()) {
+                final LocalTime nextTime = times.ceiling(local.toLocalTime());
+                next = earliest(next, nextTime == null
+                                      ? toInstant(local.toLocalDate().plusDays(1).atTime(times.first(LocalTime.MIN)),
+                                                  zoned)
+                                      : toInstant(local.toLocalDate().atTime(nextTime), zoned));
+            }
+        }
+        return next;
+    }
+
+    private static Instant toInstant(LocalDateTime local, ZonedDateTime reference) {
+        if (local == null) {
+            return null;
+        }
+        // Prefer the offset of the reference time if the local time is in a daylight saving overlap
+        final ZoneOffset offset = reference.getOffset();
+        return ZonedDateTime.ofLocal(local, reference.getZone(), offset).toInstant();
+    }
+
+    private static Instant earliest(Instant t1, Instant t2) {
+        if (t1 == null) { return t2; }
+        if (t2 == null) { return t1; }
+        return t1.isBefore(t2) ? t1 : t2;
+    }
+
+    /**
+     * A half-open range {@code [from, to)}, the {@code null} bound is unbounded.
+     */
+    private static final class Range<C extends Comparable<? super C>> {
+
+        private final C from;
+        private C to;
+
+        private Range(C from, C to) {
+            this.from = from;
+            this.to   = to;
+        }
+
+        private boolean isEmpty() { return from != null && to != null && from.compareTo(to) >= 0; }
+
+    }
+
+
+    /**
+     * The sorted non-overlapping ranges.
+     */
+    private static final class Ranges<C extends Comparable<? super C>> {
+
+        private final List<Range<C>> ranges;
+
+        private Ranges(List<Range<C>> ranges) { this.ranges = ranges; }
+
+        static <C extends Comparable<? super C>> Ranges<C> merge(List<Range<C>> ranges) {
+            final List<Range<C>> merged = new ArrayList<>();
+            ranges.stream()
+                  .filter(r -> !r.isEmpty())
+                  .sorted(Comparator.comparing(r -> r.from, Comparator.nullsFirst(Comparator.naturalOrder())))
+                  .forEach(r -> {
+                      final Range<C> last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+                      if (last != null && (last.to == null || r.from == null || r.from.compareTo(last.to) <= 0)) {
+                          last.to = last.to == null || r.to == null ? null : max(last.to, r.to);
+                      } else {
+                          merged.add(new Range<>(r.from, r.to));
+                      }
+                  });
+            return new Ranges<>(merged);
+        }
+
+        boolean isEmpty() { return ranges.isEmpty(); }
+
+        C first(C unbounded) { return ranges.get(0).from == null ? unbounded : ranges.get(0).from; }
+
+        boolean contains(C value) {
+            final int idx = floor(value);
+            if (idx < 0) {
+                return false;
+            }
+            final C to = ranges.get(idx).to;
+            return to == null || value.compareTo(to) < 0;
+        }
+
+        /**
+         * @return the given value if it is in range, otherwise the start of the next range, or {@code null}
+         */
+        C ceiling(C value) {
+            final int idx = floor(value);
+            if (idx >= 0) {
+                final C to = ranges.get(idx).to;
+                if (to == null || value.compareTo(to) < 0) {
+                    return value;
+                }
+            }
+            return idx + 1 < ranges.size() ? ranges.get(idx + 1).from : null;
+        }
+
+        /**
+         * @return the index of the last range that starts at or before the given value, or {@code -1}
+         */
+        private int floor(C value) {
+            int lo = 0;
+            int hi = ranges.size() - 1;
+            int found = -1;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                final C from = ranges.get(mid).from;
+                if (from == null || from.compareTo(value) <= 0) {
+                    found = mid;
+                    lo    = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return found;
+        }
+
+        private static <C extends Comparable<? super C>> C max(C c1, C c2) {
+            return c1.compareTo(c2) >= 0 ? c1 : c2;
+        }
+
+    }
+
+}
@@ -5,6 +5,7 @@ import java.time.Instant;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import io.github.zero88.schedulerx.DefaultOptions;
 
@@ -92,6 +93,24 @@ public interface TriggerRule {
                timeframes().stream().anyMatch(timeframe -> timeframe.check(firedAt, leeway()));
     }
 
+    /**
+     * Find the next time at which the rule becomes satisfiable, then the scheduler can skip the dead periods instead of
+     * firing and misfiring the trigger.
+     * <p/>
+     * The next time is the earliest time that is not before the given time nor the {@link #beginTime()}, and is
+     * satisfied to at least one timeframe. If the rule has a custom timeframe that cannot be predicted, the next time is
+     * the given time, then the caller still evaluates the rule on each fire.
+     *
+     * @param time a given time
+     * @return the next satisfiable time, or {@code null} if the rule is never satisfied after the given time or the
+     *     next satisfiable time exceeds the {@link #until()} time
+     * @see #satisfy(Instant)
+     */
+    default @Nullable Instant nextSatisfiableTime(@NotNull Instant time) {
+        final Instant from = isPending(time) ? beginTime() : time;
+        return isExceeded(from) ? null : from;
+    }
+
     /**
      * Check whether the fired-at time is exceeded the registered {@link #until()} time.
      *
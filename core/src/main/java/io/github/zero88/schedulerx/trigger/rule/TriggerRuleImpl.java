@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import io.github.zero88.schedulerx.DefaultOptions;
 
@@ -18,6 +19,7 @@ final class TriggerRuleImpl implements TriggerRule {
     private final Instant beginTime;
     private final Instant until;
     private final Duration leeway;
+    private final TimeframeIndex index;
     private final int hashCode;
 
     TriggerRuleImpl(Instant beginTime, Instant until, List<Timeframe> timeframes, Duration leeway) {
@@ -26,6 +28,7 @@ final class TriggerRuleImpl implements TriggerRule {
         this.until      = until;
         this.timeframes = Optional.ofNullable(timeframes).orElseGet(Collections::emptyList);
         this.leeway     = validateLeewayTime(leeway);
+        this.index      = TimeframeIndex.compile(this.timeframes, this.leeway);
         this.hashCode   = computeHashCode();
     }
 
@@ -41,6 +44,15 @@ final class TriggerRuleImpl implements TriggerRule {
     @Override
     public @NotNull Duration leeway() { return leeway; }
 
+    @Override
+    public boolean satisfy(@NotNull Instant firedAt) { return index.test(firedAt); }
+
+    @Override
+    public @Nullable Instant nextSatisfiableTime(@NotNull Instant time) {
+        final Instant next = index.ceiling(isPending(time) ? beginTime : time);
+        return next == null || isExceeded(next) ? null : next;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) { return true; }
@@ -0,0 +1,184 @@
+package io.github.zero88.schedulerx;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.zero88.schedulerx.trigger.IntervalTrigger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class ClusteredSchedulerRegistryTest {
+
+    @Test
+    void test_rebalance_only_affected_schedulers(Vertx vertx, VertxTestContext testContext, @TempDir Path dir) {
+        final int total = 300;
+        final IntervalTrigger hourly = IntervalTrigger.builder().interval(Duration.ofHours(1)).build();
+        final String group = UUID.randomUUID().toString();
+        final List<ClusteredSchedulerRegistry> nodes = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            final ClusteredSchedulerRegistry node = ClusteredSchedulerRegistry.create(
+                vertx, ClusterMembership.local(group, "node-" + i),
+                SchedulerStateStore.journal(dir.resolve("node-" + i)));
+            for (int j = 0; j < total; j++) {
+                final String externalId = "job-" + j;
+                node.register(externalId, () -> IntervalScheduler.<Void, Void>builder()
+                                                                 .setVertx(vertx)
+                                                                 .setStateStore(node.stateStore())
+                                                                 .setTrigger(hourly)
+                                                                 .setJob(NoopJob.create())
+                                                                 .setJobData(JobData.empty(externalId))
+                                                                 .build());
+            }
+            nodes.add(node);
+        }
+        final ClusteredSchedulerRegistry node1 = nodes.get(0);
+        final ClusteredSchedulerRegistry node2 = nodes.get(1);
+        final ClusteredSchedulerRegistry node3 = nodes.get(2);
+        final Map<String, String> owners = new HashMap<>();
+        Future.all(node1.start(), node2.start())
+              .compose(ignore -> awaitBalanced(vertx, total, node1, node2))
+              .onSuccess(ignore -> testContext.verify(() -> {
+                  Assertions.assertTrue(node1.local().size() > 0);
+                  Assertions.assertTrue(node2.local().size() > 0);
+                  owners.putAll(ownersOf(total, node1, node2));
+              }))
+              .compose(ignore -> node3.start())
+              .compose(ignore -> awaitBalanced(vertx, total, node1, node2, node3))
+              .onSuccess(ignore -> testContext.verify(() -> {
+                  final Map<String, String> next = ownersOf(total, node1, node2, node3);
+                  // A scheduler either keeps its owner or moves to the new node
+                  next.forEach((id, owner) -> Assertions.assertTrue(
+                      owner.equals(owners.get(id)) || owner.equals(node3.nodeId()), id));
+                  Assertions.assertTrue(node3.local().size() > 0);
+                  owners.clear();
+                  owners.putAll(next);
+              }))
+              .compose(ignore -> node1.close())
+              .compose(ignore -> awaitBalanced(vertx, total, node2, node3))
+              .onSuccess(ignore -> testContext.verify(() -> {
+                  // Only the schedulers of the left node are moved
+                  ownersOf(total, node2, node3).forEach((id, owner) -> {
+                      if (!owners.get(id).equals(node1.nodeId())) {
+                          Assertions.assertEquals(owners.get(id), owner, id);
+                      }
+                  });
+                  Assertions.assertEquals(0, node1.local().size());
+              }))
+              .compose(ignore -> Future.all(node2.close(), node3.close()))
+              .onSuccess(ignore -> {
+                  nodes.forEach(node -> node.stateStore().close());
+                  testContext.completeNow();
+              })
+              .onFailure(testContext::failNow);
+    }
+
+    @Test
+    void test_hand_over_scheduler_state_on_migration(Vertx vertx, VertxTestContext testContext, @TempDir Path dir) {
+        final String group = UUID.randomUUID().toString();
+        final AtomicLong lastRound = new AtomicLong();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(100)).build();
+        final List<ClusteredSchedulerRegistry> nodes = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            final ClusteredSchedulerRegistry node = ClusteredSchedulerRegistry.create(
+                vertx, ClusterMembership.local(group, "node-" + i),
+                SchedulerStateStore.journal(dir.resolve("node-" + i)));
+            node.register("singleton", () -> IntervalScheduler.<Void, Void>builder()
+                                                              .setVertx(vertx)
+                                                              .setStateStore(node.stateStore())
+                                                              .setTrigger(trigger)
+                                                              .setJob((jobData, ctx) -> lastRound.set(ctx.round()))
+                                                              .setJobData(JobData.empty("singleton"))
+                                                              .build());
+            nodes.add(node);
+        }
+        final ClusteredSchedulerRegistry node1 = nodes.get(0);
+        final ClusteredSchedulerRegistry node2 = nodes.get(1);
+        Future.all(node1.start(), node2.start())
+              .compose(ignore -> awaitBalanced(vertx, 1, node1, node2))
+              .compose(ignore -> await(vertx, () -> lastRound.get() >= 3))
+              .compose(ignore -> {
+                  final ClusteredSchedulerRegistry owner = node1.local().size() == 1 ? node1 : node2;
+                  final ClusteredSchedulerRegistry remaining = owner == node1 ? node2 : node1;
+                  return owner.close().map(remaining);
+              })
+              .compose(remaining -> {
+                  final long roundBeforeMigration = lastRound.get();
+                  return awaitBalanced(vertx, 1, remaining)
+                      .compose(v -> await(vertx, () -> lastRound.get() > roundBeforeMigration))
+                      .onSuccess(v -> testContext.verify(() -> {
+                          // The new owner continues the round counter of the previous owner instead of restarting at 1
+                          Assertions.assertTrue(lastRound.get() > roundBeforeMigration);
+                      }))
+                      .compose(v -> remaining.close());
+              })
+              .onSuccess(ignore -> {
+                  nodes.forEach(node -> node.stateStore().close());
+                  testContext.completeNow();
+              })
+              .onFailure(testContext::failNow);
+    }
+
+    /**
+     * Wait until all nodes see the same owner of each scheduler, and each scheduler runs on only its owner node.
+     */
+    private static Future<Void> awaitBalanced(Vertx vertx, int total, ClusteredSchedulerRegistry... nodes) {
+        return await(vertx, () -> {
+            for (int j = 0; j < total; j++) {
+                final String externalId = total == 1 ? "singleton" : "job-" + j;
+                final String owner = nodes[0].ownerOf(externalId);
+                for (ClusteredSchedulerRegistry node : nodes) {
+                    final boolean running = node.local().get(externalId) != null;
+                    if (!Objects.equals(owner, node.ownerOf(externalId)) || running != node.nodeId().equals(owner)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        });
+    }
+
+    private static Map<String, String> ownersOf(int total, ClusteredSchedulerRegistry... nodes) {
+        final Map<String, String> owners = new HashMap<>();
+        for (int j = 0; j < total; j++) {
+            for (ClusteredSchedulerRegistry node : nodes) {
+                if (node.local().get("job-" + j) != null) {
+                    owners.put("job-" + j, node.nodeId());
+                }
+            }
+        }
+        return owners;
+    }
+
+    private static Future<Void> await(Vertx vertx, BooleanSupplier condition) {
+        final Promise<Void> promise = Promise.promise();
+        final long startedAt = System.currentTimeMillis();
+        vertx.setPeriodic(20, id -> {
+            if (condition.getAsBoolean()) {
+                vertx.cancelTimer(id);
+                promise.tryComplete();
+            } else if (System.currentTimeMillis() - startedAt > 10_000) {
+                vertx.cancelTimer(id);
+                promise.tryFail("Timeout to wait for the condition");
+            }
+        });
+        return promise.future();
+    }
+
+}
@@ -0,0 +1,44 @@
+package io.github.zero88.schedulerx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.zero88.schedulerx.ConcurrencyPolicy.Strategy;
+import io.vertx.core.json.JsonObject;
+
+class ConcurrencyPolicyTest {
+
+    @Test
+    void test_default_policy() {
+        final ConcurrencyPolicy policy = ConcurrencyPolicy.byDefault();
+        Assertions.assertEquals(Strategy.SKIP, policy.strategy());
+        Assertions.assertEquals(1, policy.maxConcurrent());
+        Assertions.assertEquals(0, policy.maxPending());
+        Assertions.assertEquals(JsonObject.of("strategy", "SKIP"), policy.toJson());
+    }
+
+    @Test
+    void test_limit_by_strategy() {
+        Assertions.assertEquals(3, ConcurrencyPolicy.allowConcurrent(3).maxConcurrent());
+        Assertions.assertEquals(0, ConcurrencyPolicy.allowConcurrent(3).maxPending());
+        Assertions.assertEquals(1, ConcurrencyPolicy.queue(5).maxConcurrent());
+        Assertions.assertEquals(5, ConcurrencyPolicy.queue(5).maxPending());
+    }
+
+    @Test
+    void test_serialize_deserialize() {
+        final ConcurrencyPolicy policy = ConcurrencyPolicy.queue(10);
+        final JsonObject json = JsonObject.of("strategy", "QUEUE", "limit", 10);
+        Assertions.assertEquals(json, policy.toJson());
+        Assertions.assertEquals(policy, json.mapTo(ConcurrencyPolicy.class));
+        Assertions.assertEquals(ConcurrencyPolicy.skip(),
+                                JsonObject.of("strategy", "SKIP", "limit", 5).mapTo(ConcurrencyPolicy.class));
+    }
+
+    @Test
+    void test_invalid_policy() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConcurrencyPolicy.allowConcurrent(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConcurrencyPolicy.queue(-1));
+    }
+
+}
@@ -1,5 +1,10 @@
 package io.github.zero88.schedulerx;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Assertions;
@@ -7,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import io.github.zero88.schedulerx.trigger.CronTrigger;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.github.zero88.schedulerx.trigger.rule.Timeframe;
+import io.github.zero88.schedulerx.trigger.rule.TriggerRule;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -92,4 +100,54 @@ class CronSchedulerTest {
                      .start();
     }
 
+    @Test
+    void test_cron_should_sleep_through_unsatisfiable_windows(Vertx vertx, VertxTestContext testContext) {
+        final SimulatedTimeline timeline = SimulatedTimeline.create(Instant.parse("2024-01-01T00:00:00Z"));
+        final List<Instant> suspendedUntil = new ArrayList<>();
+        final Consumer<ExecutionResult<Void>> onMisfire = result -> {
+            Assertions.assertEquals(ReasonCode.SUSPENDED, result.triggerContext().condition().reasonCode());
+            suspendedUntil.add((Instant) result.triggerContext().info());
+        };
+        final Consumer<ExecutionResult<Void>> onCompleted = result -> {
+            Assertions.assertEquals(24 + 12, result.round());
+            Assertions.assertEquals(ReasonCode.STOP_BY_CONFIG, result.triggerContext().condition().reasonCode());
+            // The last window is followed by the first fire time after the until time, that stops the trigger
+            Assertions.assertEquals(List.of(Instant.parse("2024-01-05T00:00:00Z"),
+                                            Instant.parse("2024-01-06T00:30:00Z")), suspendedUntil);
+        };
+        final TriggerRule rule = TriggerRule.builder()
+                                            .timeframes(Timeframe.of(Instant.parse("2024-01-03T00:00:00Z"),
+                                                                     Instant.parse("2024-01-03T12:00:00Z")),
+                                                        Timeframe.of(Instant.parse("2024-01-05T00:00:00Z"),
+                                                                     Instant.parse("2024-01-05T06:00:00Z")))
+                                            .until(Instant.parse("2024-01-06T00:00:00Z"))
+                                            .build();
+        final CronTrigger trigger = CronTrigger.builder()
+                                               .expression("0 0/30 * ? * *")
+                                               .timeZone(TimeZone.getTimeZone("UTC"))
+                                               .rule(rule)
+                                               .build();
+        vertx.getOrCreateContext().runOnContext(ignore -> {
+            CronScheduler.<Void, Void>builder()
+                         .setVertx(vertx)
+                         .setClock(timeline)
+                         .setTimerService(timeline)
+                         .setExecutionMode(ExecutionMode.CALLER_THREAD)
+                         .setMonitor(SchedulingAsserter.<Void>builder()
+                                                       .setTestContext(testContext)
+                                                       .setMisfire(onMisfire)
+                                                       .setCompleted(onCompleted)
+                                                       .build())
+                         .setTrigger(trigger)
+                         .setJob(NoopJob.create())
+                         .build()
+                         .start();
+            final int fired = timeline.advanceBy(Duration.ofDays(7));
+            testContext.verify(() -> {
+                Assertions.assertEquals(24 + 12 + 1, fired);
+                Assertions.assertEquals(0, timeline.size());
+            });
+        });
+    }
+
 }
@@ -5,25 +5,41 @@ import java.time.Duration;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
-import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junitpioneer.jupiter.SetSystemProperty;
 
-@Execution(ExecutionMode.SAME_THREAD)
+@Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
 class DefaultOptionsTest {
 
     @Test
     void test_default_options() {
         Assertions.assertEquals(30, DefaultOptions.getInstance().triggerPreviewMaxCount);
         Assertions.assertEquals(Duration.ofSeconds(10), DefaultOptions.getInstance().triggerRuleMaxLeeway);
+        Assertions.assertEquals(1000, DefaultOptions.getInstance().cronCacheMaxSize);
+        Assertions.assertEquals(Duration.ofSeconds(1), DefaultOptions.getInstance().triggerMisfireThreshold);
 
         Assertions.assertEquals(Duration.ofSeconds(2), DefaultOptions.getInstance().evaluationMaxTimeout);
         Assertions.assertEquals(Duration.ofSeconds(60), DefaultOptions.getInstance().executionMaxTimeout);
         Assertions.assertEquals("scheduler.x-worker-thread", DefaultOptions.getInstance().executionThreadPrefix);
         Assertions.assertEquals(5, DefaultOptions.getInstance().executionThreadPoolSize);
+        Assertions.assertEquals(ExecutionMode.WORKER_THREAD, DefaultOptions.getInstance().executionMode);
 
         Assertions.assertEquals(Duration.ofSeconds(2), DefaultOptions.getInstance().monitorMaxTimeout);
         Assertions.assertEquals("scheduler.x-monitor-thread", DefaultOptions.getInstance().monitorThreadPrefix);
         Assertions.assertEquals(3, DefaultOptions.getInstance().monitorThreadPoolSize);
+        Assertions.assertEquals(1024, DefaultOptions.getInstance().monitorBufferSize);
+        Assertions.assertEquals(64, DefaultOptions.getInstance().monitorBatchSize);
+        Assertions.assertEquals(MonitorOverflowPolicy.DROP_OLDEST, DefaultOptions.getInstance().monitorOverflowPolicy);
+
+        Assertions.assertEquals(Duration.ofMillis(10), DefaultOptions.getInstance().timerTickDuration);
+
+        Assertions.assertEquals(16 * 1024 * 1024, DefaultOptions.getInstance().journalSegmentSize);
+        Assertions.assertEquals(Duration.ofMillis(10), DefaultOptions.getInstance().journalCommitInterval);
+        Assertions.assertEquals(Duration.ofMinutes(1), DefaultOptions.getInstance().journalSnapshotInterval);
+
+        Assertions.assertEquals(128, DefaultOptions.getInstance().clusterVirtualNodes);
+        Assertions.assertEquals(Duration.ofSeconds(5), DefaultOptions.getInstance().clusterHandoverTimeout);
+
+        Assertions.assertEquals(Duration.ofSeconds(10), DefaultOptions.getInstance().leaseTtl);
     }
 
     @Test
@@ -44,12 +60,24 @@ class DefaultOptionsTest {
         Assertions.assertEquals(12, new DefaultOptions().triggerPreviewMaxCount);
     }
 
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_cron_cache_max_size", value = "50")
+    void test_override_cron_cache_max_size() {
+        Assertions.assertEquals(50, new DefaultOptions().cronCacheMaxSize);
+    }
+
     @Test
     @SetSystemProperty(key = "schedulerx.default_trigger_rule_max_leeway", value = "PT3S")
     void test_override_max_trigger_rule_leeway() {
         Assertions.assertEquals(Duration.ofSeconds(3), new DefaultOptions().triggerRuleMaxLeeway);
     }
 
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_trigger_misfire_threshold", value = "PT0.5S")
+    void test_override_trigger_misfire_threshold() {
+        Assertions.assertEquals(Duration.ofMillis(500), new DefaultOptions().triggerMisfireThreshold);
+    }
+
     @Test
     @SetSystemProperty(key = "schedulerx.default_execution_thread_prefix", value = "hello-there")
     void test_override_execution_thread_prefix() {
@@ -62,6 +90,12 @@ class DefaultOptionsTest {
         Assertions.assertEquals(10, new DefaultOptions().executionThreadPoolSize);
     }
 
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_execution_mode", value = "virtual_thread")
+    void test_override_execution_mode() {
+        Assertions.assertEquals(ExecutionMode.VIRTUAL_THREAD, new DefaultOptions().executionMode);
+    }
+
     @Test
     @SetSystemProperty(key = "schedulerx.default_monitor_thread_prefix", value = "monitor-there")
     void test_override_monitor_thread_prefix() {
@@ -74,4 +108,46 @@ class DefaultOptionsTest {
         Assertions.assertEquals(5, new DefaultOptions().monitorThreadPoolSize);
     }
 
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_monitor_buffer_size", value = "4096")
+    void test_override_monitor_buffer_size() {
+        Assertions.assertEquals(4096, new DefaultOptions().monitorBufferSize);
+    }
+
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_monitor_batch_size", value = "16")
+    void test_override_monitor_batch_size() {
+        Assertions.assertEquals(16, new DefaultOptions().monitorBatchSize);
+    }
+
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_monitor_overflow_policy", value = "block")
+    void test_override_monitor_overflow_policy() {
+        Assertions.assertEquals(MonitorOverflowPolicy.BLOCK, new DefaultOptions().monitorOverflowPolicy);
+    }
+
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_timer_tick_duration", value = "PT0.05S")
+    void test_override_timer_tick_duration() {
+        Assertions.assertEquals(Duration.ofMillis(50), new DefaultOptions().timerTickDuration);
+    }
+
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_journal_segment_size", value = "1048576")
+    void test_override_journal_segment_size() {
+        Assertions.assertEquals(1048576, new DefaultOptions().journalSegmentSize);
+    }
+
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_journal_commit_interval", value = "PT0.1S")
+    void test_override_journal_commit_interval() {
+        Assertions.assertEquals(Duration.ofMillis(100), new DefaultOptions().journalCommitInterval);
+    }
+
+    @Test
+    @SetSystemProperty(key = "schedulerx.default_journal_snapshot_interval", value = "PT5M")
+    void test_override_journal_snapshot_interval() {
+        Assertions.assertEquals(Duration.ofMinutes(5), new DefaultOptions().journalSnapshotInterval);
+    }
+
 }
@@ -0,0 +1,41 @@
+package io.github.zero88.schedulerx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.zero88.schedulerx.EventBackpressure.Strategy;
+import io.vertx.core.json.JsonObject;
+
+class EventBackpressureTest {
+
+    @Test
+    void test_limit_by_strategy() {
+        Assertions.assertEquals(1, EventBackpressure.drop(5).maxBatch());
+        Assertions.assertFalse(EventBackpressure.drop(5).isBatchDelivery());
+        Assertions.assertEquals(3, EventBackpressure.coalesceLatest(5).deliverInBatch(3).maxBatch());
+        Assertions.assertTrue(EventBackpressure.coalesceLatest(5).deliverInBatch(3).isBatchDelivery());
+        Assertions.assertEquals(5, EventBackpressure.batch(5).maxBatch());
+        Assertions.assertEquals(5, EventBackpressure.batch(5).deliverInBatch(2).maxBatch());
+        Assertions.assertTrue(EventBackpressure.batch(1).isBatchDelivery());
+    }
+
+    @Test
+    void test_serialize_deserialize() {
+        final EventBackpressure backpressure = EventBackpressure.coalesceLatest(10).deliverInBatch(4);
+        final JsonObject json = JsonObject.of("strategy", "COALESCE_LATEST", "maxQueued", 10, "maxBatch", 4);
+        Assertions.assertEquals(json, backpressure.toJson());
+        Assertions.assertEquals(backpressure, json.mapTo(EventBackpressure.class));
+        Assertions.assertEquals(EventBackpressure.drop(3), JsonObject.of("maxQueued", 3).mapTo(EventBackpressure.class));
+        Assertions.assertEquals(Strategy.BATCH, JsonObject.of("strategy", "BATCH", "maxQueued", 3)
+                                                          .mapTo(EventBackpressure.class)
+                                                          .strategy());
+    }
+
+    @Test
+    void test_invalid_backpressure() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EventBackpressure.drop(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EventBackpressure.batch(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EventBackpressure.drop(1).deliverInBatch(0));
+    }
+
+}
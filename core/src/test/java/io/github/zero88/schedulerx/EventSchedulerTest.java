@@ -3,9 +3,12 @@ package io.github.zero88.schedulerx;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -18,13 +21,21 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import io.github.zero88.schedulerx.impl.EventBusDispatcher;
+import io.github.zero88.schedulerx.trigger.EventBatch;
 import io.github.zero88.schedulerx.trigger.EventTrigger;
+import io.github.zero88.schedulerx.trigger.EventWindow;
 import io.github.zero88.schedulerx.trigger.TriggerCondition;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
 import io.github.zero88.schedulerx.trigger.predicate.EventTriggerPredicate;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 
@@ -80,6 +91,16 @@ class EventSchedulerTest {
         return Stream.of(arg1, arg2, arg3, arg4);
     }
 
+    private static Stream<Arguments> provide_backpressure() {
+        return Stream.of(arguments(EventBackpressure.drop(2), Arrays.asList("0", "1", "2"),
+                                   Arrays.asList(ReasonCode.QUEUE_IS_FULL, ReasonCode.QUEUE_IS_FULL)),
+                         arguments(EventBackpressure.coalesceLatest(2), Arrays.asList("0", "1", "4"),
+                                   Arrays.asList(ReasonCode.COALESCED, ReasonCode.COALESCED)),
+                         arguments(EventBackpressure.drop(4).deliverInBatch(3),
+                                   Arrays.asList("[0]", "[1, 2, 3]", "[4]"), List.of()),
+                         arguments(EventBackpressure.batch(10), Arrays.asList("[0]", "[1, 2, 3, 4]"), List.of()));
+    }
+
     @ParameterizedTest
     @MethodSource("provide_predicate")
     void test_event_trigger_misfire(EventTriggerPredicate<String> predicate, List<Object> data,
@@ -203,4 +224,330 @@ class EventSchedulerTest {
         });
     }
 
+    @Test
+    void test_schedulers_share_one_consumer_per_address(Vertx vertx, VertxTestContext testContext) {
+        final String address = "schedulerx.event.4";
+        final int totalScheduler = 50;
+        final int totalEvent = 5;
+        final AtomicInteger converted = new AtomicInteger();
+        final AtomicInteger tested = new AtomicInteger();
+        final AtomicInteger executed = new AtomicInteger();
+        final EventTriggerPredicate<String> predicate = new EventTriggerPredicate<>() {
+            @Override
+            public String convert(@NotNull MultiMap headers, @Nullable Object body) {
+                converted.incrementAndGet();
+                return (String) body;
+            }
+
+            @Override
+            public boolean test(@Nullable String eventMessage) {
+                tested.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public @NotNull JsonObject toJson() { return new JsonObject(); }
+        };
+        final EventTrigger<String> trigger = EventTrigger.<String>builder()
+                                                         .localOnly(true)
+                                                         .address(address)
+                                                         .predicate(predicate)
+                                                         .build();
+        final List<EventScheduler<String>> schedulers = new ArrayList<>();
+        for (int i = 0; i < totalScheduler; i++) {
+            final EventScheduler<String> scheduler = EventScheduler.<Void, Void, String>builder()
+                                                                   .setVertx(vertx)
+                                                                   .setTrigger(trigger)
+                                                                   .setJob((jobData, ctx) -> executed.incrementAndGet())
+                                                                   .build();
+            scheduler.start();
+            schedulers.add(scheduler);
+        }
+        TestUtils.block(Duration.ofMillis(500), testContext);
+        final EventBusDispatcher dispatcher = EventBusDispatcher.shared(vertx);
+        testContext.verify(() -> Assertions.assertEquals(1, dispatcher.size()));
+        for (int i = 0; i < totalEvent; i++) {
+            vertx.eventBus().publish(address, "event-" + i);
+            TestUtils.block(Duration.ofMillis(300), testContext);
+        }
+        testContext.verify(() -> {
+            Assertions.assertEquals(totalScheduler * totalEvent, executed.get());
+            // Each message is converted and tested once for all schedulers of the same predicate
+            Assertions.assertEquals(totalEvent, converted.get());
+            Assertions.assertEquals(totalEvent, tested.get());
+            schedulers.forEach(Scheduler::cancel);
+            Assertions.assertEquals(0, dispatcher.size());
+        });
+        testContext.completeNow();
+    }
+
+    @Test
+    void test_blocking_conversion_runs_off_the_event_loop(Vertx vertx, VertxTestContext testContext) {
+        final List<String> converted = new CopyOnWriteArrayList<>();
+        final List<Boolean> onWorker = new CopyOnWriteArrayList<>();
+        final AtomicInteger executed = new AtomicInteger();
+        final EventTriggerPredicate<String> blockingPredicate = new EventTriggerPredicate<>() {
+            @Override
+            public String convert(@NotNull MultiMap headers, @Nullable Object body) {
+                onWorker.add(Context.isOnWorkerThread());
+                TestUtils.block(Duration.ofMillis(200), testContext);
+                converted.add((String) body);
+                return (String) body;
+            }
+
+            @Override
+            public boolean test(@Nullable String eventMessage) { return true; }
+
+            @Override
+            public boolean isConvertBlocking() { return true; }
+
+            @Override
+            public @NotNull JsonObject toJson() { return new JsonObject(); }
+        };
+        final EventTrigger<String> slowTrigger = EventTrigger.<String>builder()
+                                                             .localOnly(true)
+                                                             .address("schedulerx.event.slow")
+                                                             .predicate(blockingPredicate)
+                                                             .build();
+        final EventTrigger<Object> fastTrigger = EventTrigger.builder()
+                                                             .localOnly(true)
+                                                             .address("schedulerx.event.fast")
+                                                             .predicate(EventTriggerPredicate.any())
+                                                             .build();
+        final EventScheduler<String> blocking = EventScheduler.<Void, Void, String>builder()
+                                                              .setVertx(vertx)
+                                                              .setTrigger(slowTrigger)
+                                                              .setJob((jobData, ctx) -> {
+                                                                  if (executed.incrementAndGet() < 3) {
+                                                                      return;
+                                                                  }
+                                                                  testContext.verify(() -> {
+                                                                      // The blocking conversions keep the order
+                                                                      Assertions.assertEquals(List.of("e-0", "e-1",
+                                                                                                      "e-2"),
+                                                                                              converted);
+                                                                      Assertions.assertEquals(List.of(true, true, true),
+                                                                                              onWorker);
+                                                                  });
+                                                                  testContext.completeNow();
+                                                              })
+                                                              .build();
+        // The other address is not delayed by the slow conversion
+        final EventScheduler<Object> fast = EventScheduler.<Void, Void, Object>builder()
+                                                          .setVertx(vertx)
+                                                          .setTrigger(fastTrigger)
+                                                          .setJob((jobData, ctx) -> testContext.verify(
+                                                              () -> Assertions.assertTrue(converted.size() < 3)))
+                                                          .build();
+        blocking.start();
+        fast.start();
+        vertx.setTimer(300, id -> {
+            for (int i = 0; i < 3; i++) {
+                vertx.eventBus().publish("schedulerx.event.slow", "e-" + i);
+            }
+            vertx.eventBus().publish("schedulerx.event.fast", "now");
+        });
+    }
+
+    @Test
+    void test_shared_consumer_outlives_the_verticle_of_its_first_subscriber(Vertx vertx,
+                                                                            VertxTestContext testContext) {
+        final String address = "schedulerx.event.shared";
+        final EventTrigger<String> trigger = EventTrigger.<String>builder()
+                                                         .localOnly(true)
+                                                         .address(address)
+                                                         .predicate(EventTriggerPredicate.create(s -> true))
+                                                         .build();
+        final AbstractVerticle verticle = new AbstractVerticle() {
+            @Override
+            public void start() {
+                EventScheduler.<Void, Void, String>builder()
+                              .setVertx(vertx)
+                              .setTrigger(trigger)
+                              .setJob(NoopJob.create())
+                              .build()
+                              .start();
+            }
+        };
+        final EventScheduler<String> scheduler = EventScheduler.<Void, Void, String>builder()
+                                                               .setVertx(vertx)
+                                                               .setTrigger(trigger)
+                                                               .setJob((jobData, ctx) -> testContext.completeNow())
+                                                               .build();
+        vertx.deployVerticle(verticle)
+             .onSuccess(ignore -> scheduler.start())
+             .compose(vertx::undeploy)
+             .onSuccess(ignore -> vertx.setTimer(300, id -> vertx.eventBus().publish(address, "event")))
+             .onFailure(testContext::failNow);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provide_backpressure")
+    void test_event_backpressure_queues_messages_while_job_is_running(EventBackpressure backpressure,
+                                                                      List<String> expectedExecutions,
+                                                                      List<String> expectedMisfires, Vertx vertx,
+                                                                      VertxTestContext testContext) {
+        final String address = "schedulerx.event.5";
+        final List<String> executions = new CopyOnWriteArrayList<>();
+        final List<String> misfires = new CopyOnWriteArrayList<>();
+        final EventTrigger<String> trigger = EventTrigger.<String>builder()
+                                                         .localOnly(true)
+                                                         .address(address)
+                                                         .predicate(EventTriggerPredicate.create(s -> !"x".equals(s)))
+                                                         .build();
+        final SchedulingMonitor<Void> asserter = SchedulingAsserter.<Void>builder()
+                                                                   .setTestContext(testContext)
+                                                                   .setMisfire(r -> misfires.add(
+                                                                       r.triggerContext().condition().reasonCode()))
+                                                                   .disableAutoCompleteTest()
+                                                                   .build();
+        final Job<Void, Void> job = (jobData, ctx) -> {
+            final Object info = ctx.triggerContext().info();
+            executions.add(info instanceof EventBatch ? ((EventBatch<?>) info).events().toString() : (String) info);
+            if (ctx.round() == 1) {
+                TestUtils.block(Duration.ofMillis(500), testContext);
+            }
+        };
+        final EventScheduler<String> scheduler = EventScheduler.<Void, Void, String>builder()
+                                                               .setVertx(vertx)
+                                                               .setMonitor(asserter)
+                                                               .setTrigger(trigger)
+                                                               .setBackpressure(backpressure)
+                                                               .setJob(job)
+                                                               .build();
+        scheduler.start();
+        TestUtils.block(Duration.ofMillis(500), testContext);
+        // The non-matched message never takes a queue slot
+        Arrays.asList("0", "x", "1", "2", "3", "4").forEach(d -> vertx.eventBus().publish(address, d));
+        TestUtils.block(Duration.ofMillis(1500), testContext);
+        testContext.verify(() -> {
+            Assertions.assertEquals(backpressure, scheduler.backpressure());
+            Assertions.assertEquals(expectedExecutions, executions);
+            Assertions.assertEquals(ReasonCode.CONDITION_IS_NOT_MATCHED, misfires.get(0));
+            Assertions.assertEquals(expectedMisfires, misfires.subList(1, misfires.size()));
+        });
+        scheduler.cancel();
+        testContext.completeNow();
+    }
+
+    @Test
+    void test_event_backpressure_tests_blocking_predicate_off_the_event_loop(Vertx vertx,
+                                                                             VertxTestContext testContext) {
+        final String address = "schedulerx.event.blocking-predicate";
+        final List<Boolean> onEventLoop = new CopyOnWriteArrayList<>();
+        final EventTriggerPredicate<String> predicate = new EventTriggerPredicate<>() {
+            @Override
+            public String convert(@NotNull MultiMap headers, @Nullable Object body) { return (String) body; }
+
+            @Override
+            public boolean test(@Nullable String eventMessage) {
+                onEventLoop.add(Context.isOnEventLoopThread());
+                return true;
+            }
+
+            @Override
+            public @NotNull JsonObject toJson() { return new JsonObject(); }
+        };
+        final EventTrigger<String> trigger = EventTrigger.<String>builder()
+                                                         .localOnly(true)
+                                                         .address(address)
+                                                         .predicate(predicate)
+                                                         .build();
+        final EventScheduler<String> scheduler = EventScheduler.<Void, Void, String>builder()
+                                                               .setVertx(vertx)
+                                                               .setTrigger(trigger)
+                                                               .setBackpressure(EventBackpressure.coalesceLatest(1))
+                                                               .setJob((jobData, ctx) -> testContext.verify(() -> {
+                                                                   Assertions.assertEquals(List.of(false), onEventLoop);
+                                                                   testContext.completeNow();
+                                                               }))
+                                                               .build();
+        scheduler.start();
+        vertx.setTimer(300, id -> vertx.eventBus().publish(address, "event"));
+    }
+
+    @Test
+    void test_event_window_accumulates_messages_into_one_round(Vertx vertx, VertxTestContext testContext) {
+        final String address = "schedulerx.event.6";
+        final List<String> executions = new CopyOnWriteArrayList<>();
+        final List<Duration> latencies = new CopyOnWriteArrayList<>();
+        final EventTrigger<String> trigger = EventTrigger.<String>builder()
+                                                         .localOnly(true)
+                                                         .address(address)
+                                                         .predicate(EventTriggerPredicate.create(s -> !"x".equals(s)))
+                                                         .window(EventWindow.of(3, Duration.ofMillis(300)))
+                                                         .build();
+        final SchedulingMonitor<Void> asserter = SchedulingAsserter.<Void>builder()
+                                                                   .setTestContext(testContext)
+                                                                   .setEach(r -> latencies.add(r.windowLatency()))
+                                                                   .disableAutoCompleteTest()
+                                                                   .build();
+        final Job<Void, Void> job = (jobData, ctx) -> {
+            final EventBatch<?> window = (EventBatch<?>) ctx.triggerContext().info();
+            executions.add(window.events().toString());
+        };
+        final EventScheduler<String> scheduler = EventScheduler.<Void, Void, String>builder()
+                                                               .setVertx(vertx)
+                                                               .setMonitor(asserter)
+                                                               .setTrigger(trigger)
+                                                               .setJob(job)
+                                                               .build();
+        scheduler.start();
+        TestUtils.block(Duration.ofMillis(500), testContext);
+        // The first window is closed by its count, the second one is closed by its latency
+        Arrays.asList("0", "x", "1", "2", "3", "4").forEach(d -> vertx.eventBus().publish(address, d));
+        TestUtils.block(Duration.ofMillis(1000), testContext);
+        testContext.verify(() -> {
+            Assertions.assertEquals(EventBackpressure.drop(1), scheduler.backpressure());
+            Assertions.assertEquals(Arrays.asList("[0, 1, 2]", "[3, 4]"), executions);
+            Assertions.assertEquals(2, latencies.size());
+            Assertions.assertTrue(latencies.get(0).compareTo(Duration.ofMillis(300)) < 0);
+            Assertions.assertTrue(latencies.get(1).compareTo(Duration.ofMillis(300)) >= 0);
+        });
+        scheduler.cancel();
+        testContext.completeNow();
+    }
+
+    @Test
+    void test_event_window_of_one_event_never_arms_latency_timer(Vertx vertx, VertxTestContext testContext) {
+        final String address = "schedulerx.event.single-window";
+        final Duration maxLatency = Duration.ofSeconds(30);
+        final List<Long> delays = new CopyOnWriteArrayList<>();
+        final TimerService timerService = new TimerService() {
+            @Override
+            public long setTimer(long delay, @NotNull Handler<Long> handler) {
+                delays.add(delay);
+                return vertx.setTimer(delay, handler);
+            }
+
+            @Override
+            public long setPeriodic(long delay, @NotNull Handler<Long> handler) {
+                return vertx.setPeriodic(delay, handler);
+            }
+
+            @Override
+            public boolean cancelTimer(long id) { return vertx.cancelTimer(id); }
+        };
+        final EventTrigger<String> trigger = EventTrigger.<String>builder()
+                                                         .localOnly(true)
+                                                         .address(address)
+                                                         .predicate(EventTriggerPredicate.create(s -> true))
+                                                         .window(EventWindow.of(1, maxLatency))
+                                                         .build();
+        final Checkpoint checkpoint = testContext.checkpoint(2);
+        final EventScheduler<String> scheduler = EventScheduler.<Void, Void, String>builder()
+                                                               .setVertx(vertx)
+                                                               .setTimerService(timerService)
+                                                               .setTrigger(trigger)
+                                                               .setJob((jobData, ctx) -> checkpoint.flag())
+                                                               .build();
+        scheduler.start();
+        TestUtils.block(Duration.ofMillis(300), testContext);
+        vertx.eventBus().publish(address, "0");
+        vertx.eventBus().publish(address, "1");
+        TestUtils.block(Duration.ofMillis(500), testContext);
+        testContext.verify(() -> Assertions.assertFalse(delays.contains(maxLatency.toMillis())));
+        scheduler.cancel();
+    }
+
 }
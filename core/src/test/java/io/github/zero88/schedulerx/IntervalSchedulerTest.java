@@ -2,21 +2,37 @@ package io.github.zero88.schedulerx;
 
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junitpioneer.jupiter.RetryingTest;
 
 import io.github.zero88.schedulerx.trigger.IntervalTrigger;
+import io.github.zero88.schedulerx.trigger.MisfireDecision;
+import io.github.zero88.schedulerx.trigger.MisfirePolicy;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.github.zero88.schedulerx.trigger.rule.Timeframe;
+import io.github.zero88.schedulerx.trigger.rule.TriggerRule;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.junit5.Checkpoint;
@@ -186,4 +202,455 @@ class IntervalSchedulerTest {
                          .start();
     }
 
+    @Test
+    void test_scheduler_should_resume_from_saved_state(Vertx vertx, VertxTestContext context, @TempDir Path dir) {
+        final SchedulerStateStore store = SchedulerStateStore.journal(dir);
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(100)).build();
+        final IntervalScheduler first = IntervalScheduler.<Void, Long>builder()
+                                                                     .setVertx(vertx)
+                                                                     .setTrigger(trigger)
+                                                                     .setStateStore(store)
+                                                                     .setJobData(JobData.empty("restored"))
+                                                                     .setJob((jobData, ctx) -> ctx.complete(
+                                                                         ctx.round()))
+                                                                     .build();
+        first.start();
+        vertx.setPeriodic(50, timerId -> {
+            final SchedulerStateRecord saved = store.load("restored");
+            if (saved == null || saved.round() < 2) {
+                return;
+            }
+            vertx.cancelTimer(timerId);
+            first.cancel();
+            final AtomicReference<IntervalScheduler> second = new AtomicReference<>();
+            final Consumer<ExecutionResult<Long>> onEach = result -> {
+                // The round counter continues from the saved state instead of restarting at 1
+                Assertions.assertTrue(result.round() > 2);
+                Assertions.assertEquals(result.round(), result.data());
+                second.get().cancel();
+            };
+            final Consumer<ExecutionResult<Long>> onCompleted = result -> {
+                Assertions.assertFalse(store.load("restored").completed());
+                store.close();
+            };
+            second.set(IntervalScheduler.<Void, Long>builder()
+                                        .setVertx(vertx)
+                                        .setMonitor(SchedulingAsserter.<Long>builder()
+                                                                      .setTestContext(context)
+                                                                      .setEach(onEach)
+                                                                      .setCompleted(onCompleted)
+                                                                      .build())
+                                        .setTrigger(trigger)
+                                        .setStateStore(store)
+                                        .setJobData(JobData.empty("restored"))
+                                        .setJob((jobData, ctx) -> ctx.complete(ctx.round()))
+                                        .build());
+            second.get().start();
+        });
+    }
+
+    @Test
+    void test_restore_typed_data_by_state_data_codec(Vertx vertx, VertxTestContext context, @TempDir Path dir) {
+        final SchedulerStateStore store = SchedulerStateStore.journal(dir);
+        final StateDataCodec<Long> codec = StateDataCodec.json(Long.class);
+        store.save(new SchedulerStateRecord("typed", 2, 2, Instant.now(), false, codec.encode(2L), null));
+        final Consumer<ExecutionResult<Long>> onCompleted = result -> {
+            // The raw JSON number is decoded as an Integer, the codec keeps the job result data type
+            Assertions.assertEquals(Long.valueOf(2), result.data());
+            store.close();
+        };
+        final IntervalScheduler scheduler = IntervalScheduler.<Void, Long>builder()
+                                                             .setVertx(vertx)
+                                                             .setMonitor(SchedulingAsserter.<Long>builder()
+                                                                                           .setTestContext(context)
+                                                                                           .setCompleted(onCompleted)
+                                                                                           .build())
+                                                             .setTrigger(IntervalTrigger.builder()
+                                                                                        .interval(Duration.ofHours(1))
+                                                                                        .build())
+                                                             .setStateStore(store)
+                                                             .setStateDataCodec(codec)
+                                                             .setJobData(JobData.empty("typed"))
+                                                             .setJob((jobData, ctx) -> ctx.complete(ctx.round()))
+                                                             .build();
+        scheduler.start();
+        scheduler.cancel();
+    }
+
+    @Test
+    void test_not_restore_raw_data_without_state_data_codec(Vertx vertx, VertxTestContext context, @TempDir Path dir) {
+        final SchedulerStateStore store = SchedulerStateStore.journal(dir);
+        store.save(new SchedulerStateRecord("raw", 2, 2, Instant.now(), false, 2L, null));
+        final Consumer<ExecutionResult<Long>> onCompleted = result -> {
+            Assertions.assertEquals(2, result.round());
+            // The raw JSON data might not be the job result data type, then it is not restored
+            Assertions.assertNull(result.data());
+            store.close();
+        };
+        final IntervalScheduler scheduler = IntervalScheduler.<Void, Long>builder()
+                                                             .setVertx(vertx)
+                                                             .setMonitor(SchedulingAsserter.<Long>builder()
+                                                                                           .setTestContext(context)
+                                                                                           .setCompleted(onCompleted)
+                                                                                           .build())
+                                                             .setTrigger(IntervalTrigger.builder()
+                                                                                        .interval(Duration.ofHours(1))
+                                                                                        .build())
+                                                             .setStateStore(store)
+                                                             .setJobData(JobData.empty("raw"))
+                                                             .setJob((jobData, ctx) -> ctx.complete(ctx.round()))
+                                                             .build();
+        scheduler.start();
+        scheduler.cancel();
+    }
+
+    @Test
+    void test_state_store_requires_external_id(Vertx vertx, @TempDir Path dir) {
+        final SchedulerStateStore store = SchedulerStateStore.journal(dir);
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofSeconds(1)).build();
+        final IntervalSchedulerBuilder<Void, Void> builder = IntervalScheduler.<Void, Void>builder()
+                                                                              .setVertx(vertx)
+                                                                              .setTrigger(trigger)
+                                                                              .setStateStore(store)
+                                                                              // The job data without external id
+                                                                              .setJobData(() -> null)
+                                                                              .setJob(NoopJob.create());
+        final IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class, builder::build);
+        Assertions.assertEquals("The scheduler state store requires the job external id", ex.getMessage());
+        store.close();
+    }
+
+    /**
+     * @return the timer service that blocks the event loop on the second periodic fire
+     */
+    private static TimerService pausingTimer(Vertx vertx, VertxTestContext context) {
+        final AtomicInteger periodicCount = new AtomicInteger();
+        return new TimerService() {
+            @Override
+            public long setTimer(long delay, @NotNull Handler<Long> handler) { return vertx.setTimer(delay, handler); }
+
+            @Override
+            public long setPeriodic(long delay, @NotNull Handler<Long> handler) {
+                return vertx.setPeriodic(delay, id -> {
+                    if (periodicCount.incrementAndGet() == 2) {
+                        TestUtils.block(Duration.ofMillis(1200), context);
+                    }
+                    handler.handle(id);
+                });
+            }
+
+            @Override
+            public boolean cancelTimer(long id) { return vertx.cancelTimer(id); }
+        };
+    }
+
+    @Test
+    void test_late_fire_is_not_reported_by_default_misfire_policy(Vertx vertx, VertxTestContext context) {
+        final SimulatedTimeline timeline = SimulatedTimeline.create(Instant.parse("2024-01-01T00:00:00Z"));
+        // The clock jumps ahead of the timers once, as if the event loop was blocked before the second fire
+        final AtomicReference<Duration> pause = new AtomicReference<>(Duration.ZERO);
+        final TimeClock pausingClock = () -> timeline.now().plus(pause.get());
+        final TimerService pausingTimer = new TimerService() {
+            @Override
+            public long setTimer(long delay, @NotNull Handler<Long> handler) {
+                return timeline.setTimer(delay, handler);
+            }
+
+            @Override
+            public long setPeriodic(long delay, @NotNull Handler<Long> handler) {
+                final AtomicInteger periodicCount = new AtomicInteger();
+                return timeline.setPeriodic(delay, id -> {
+                    if (periodicCount.incrementAndGet() == 2) {
+                        pause.set(Duration.ofMillis(1200));
+                    }
+                    handler.handle(id);
+                });
+            }
+
+            @Override
+            public boolean cancelTimer(long id) { return timeline.cancelTimer(id); }
+        };
+        final List<Instant> firedAt = new ArrayList<>();
+        final Consumer<ExecutionResult<Void>> onMisfire = result -> Assertions.assertNotEquals(
+            ReasonCode.MISFIRE, result.triggerContext().condition().reasonCode());
+        final Consumer<ExecutionResult<Void>> onEach = result -> firedAt.add(result.firedAt());
+        final Consumer<ExecutionResult<Void>> onCompleted = result -> {
+            Assertions.assertEquals(3, result.round());
+            // The late fire is processed once at its late time, then the next fire follows it by the interval
+            Assertions.assertEquals(List.of(Instant.parse("2024-01-01T00:00:00.200Z"),
+                                            Instant.parse("2024-01-01T00:00:01.600Z"),
+                                            Instant.parse("2024-01-01T00:00:01.800Z")), firedAt);
+        };
+        final SchedulingMonitor<Void> asserter = SchedulingAsserter.<Void>builder()
+                                                                   .setTestContext(context)
+                                                                   .setMisfire(onMisfire)
+                                                                   .setEach(onEach)
+                                                                   .setCompleted(onCompleted)
+                                                                   .build();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(200)).build();
+        vertx.getOrCreateContext().runOnContext(ignore -> {
+            final IntervalScheduler scheduler = IntervalScheduler.<Void, Void>builder()
+                                                                 .setVertx(vertx)
+                                                                 .setClock(pausingClock)
+                                                                 .setTimerService(pausingTimer)
+                                                                 .setExecutionMode(ExecutionMode.CALLER_THREAD)
+                                                                 .setMonitor(asserter)
+                                                                 .setTrigger(trigger)
+                                                                 .setJob(NoopJob.create())
+                                                                 .build();
+            scheduler.start();
+            context.verify(() -> Assertions.assertEquals(3, timeline.advanceBy(Duration.ofMillis(600))));
+            scheduler.cancel();
+        });
+    }
+
+    @Test
+    void test_catch_up_missed_fires_after_event_loop_is_blocked(Vertx vertx, VertxTestContext context) {
+        final TimerService pausingTimer = pausingTimer(vertx, context);
+        final AtomicReference<MisfireDecision> decision = new AtomicReference<>();
+        final List<Instant> catchUpFiredAt = new ArrayList<>();
+        final AtomicReference<IntervalScheduler> scheduler = new AtomicReference<>();
+        final Consumer<ExecutionResult<Long>> onMisfire = result -> {
+            if (ReasonCode.MISFIRE.equals(result.triggerContext().condition().reasonCode())) {
+                decision.set((MisfireDecision) result.triggerContext().info());
+            }
+        };
+        final Consumer<ExecutionResult<Long>> onEach = result -> {
+            if (result.round() > 1) {
+                catchUpFiredAt.add(result.firedAt());
+            }
+            if (result.round() == 4) {
+                scheduler.get().cancel();
+            }
+        };
+        final Consumer<ExecutionResult<Long>> onCompleted = result -> {
+            Assertions.assertNotNull(decision.get());
+            Assertions.assertEquals(MisfirePolicy.Strategy.FIRE_ALL_MISSED, decision.get().strategy());
+            Assertions.assertEquals(3, decision.get().fired());
+            Assertions.assertTrue(decision.get().missed() >= 6);
+            Assertions.assertEquals(3, catchUpFiredAt.size());
+            // The missed fire times are fired in ascending order, the latest one is the last missed fire time
+            Assertions.assertTrue(catchUpFiredAt.get(0).isBefore(catchUpFiredAt.get(1)));
+            Assertions.assertTrue(catchUpFiredAt.get(1).isBefore(catchUpFiredAt.get(2)));
+            Assertions.assertEquals(decision.get().lastMissedAt(), catchUpFiredAt.get(2));
+        };
+        final IntervalTrigger trigger = IntervalTrigger.builder()
+                                                       .interval(Duration.ofMillis(200))
+                                                       .misfirePolicy(MisfirePolicy.fireAllMissed(3)
+                                                                                   .withThreshold(
+                                                                                       Duration.ofMillis(500)))
+                                                       .build();
+        scheduler.set(IntervalScheduler.<Void, Long>builder()
+                                       .setVertx(vertx)
+                                       .setTimerService(pausingTimer)
+                                       .setMonitor(SchedulingAsserter.<Long>builder()
+                                                                     .setTestContext(context)
+                                                                     .setMisfire(onMisfire)
+                                                                     .setEach(onEach)
+                                                                     .setCompleted(onCompleted)
+                                                                     .build())
+                                       .setTrigger(trigger)
+                                       .setJob((jobData, ctx) -> ctx.complete(ctx.round()))
+                                       .build());
+        scheduler.get().start();
+    }
+
+    @Test
+    void test_skip_missed_fires_on_restore(Vertx vertx, VertxTestContext context, @TempDir Path dir) {
+        final SchedulerStateStore store = SchedulerStateStore.journal(dir);
+        store.save(new SchedulerStateRecord("skipped", 5, 5, Instant.now().minusSeconds(10), false, null, null));
+        final AtomicReference<IntervalScheduler> scheduler = new AtomicReference<>();
+        final AtomicBoolean misfired = new AtomicBoolean();
+        final Consumer<ExecutionResult<Void>> onMisfire = result -> {
+            Assertions.assertEquals(ReasonCode.MISFIRE, result.triggerContext().condition().reasonCode());
+            final MisfireDecision decision = (MisfireDecision) result.triggerContext().info();
+            Assertions.assertEquals(MisfirePolicy.Strategy.SKIP_TO_NEXT, decision.strategy());
+            Assertions.assertEquals(0, decision.fired());
+            Assertions.assertTrue(decision.missed() >= 9);
+            misfired.set(true);
+        };
+        final Consumer<ExecutionResult<Void>> onEach = result -> {
+            // The missed fire times are skipped, then the round counter continues from the restored state
+            Assertions.assertEquals(6, result.round());
+            scheduler.get().cancel();
+        };
+        final Consumer<ExecutionResult<Void>> onCompleted = result -> {
+            Assertions.assertTrue(misfired.get());
+            store.close();
+        };
+        final IntervalTrigger trigger = IntervalTrigger.builder()
+                                                       .interval(Duration.ofSeconds(1))
+                                                       .misfirePolicy(MisfirePolicy.skipToNext())
+                                                       .build();
+        scheduler.set(IntervalScheduler.<Void, Void>builder()
+                                       .setVertx(vertx)
+                                       .setStateStore(store)
+                                       .setJobData(JobData.empty("skipped"))
+                                       .setMonitor(SchedulingAsserter.<Void>builder()
+                                                                     .setTestContext(context)
+                                                                     .setMisfire(onMisfire)
+                                                                     .setEach(onEach)
+                                                                     .setCompleted(onCompleted)
+                                                                     .build())
+                                       .setTrigger(trigger)
+                                       .setJob(NoopJob.create())
+                                       .build());
+        scheduler.get().start();
+    }
+
+    @Test
+    void test_anchored_interval_should_not_drift(Vertx vertx, VertxTestContext context) {
+        final List<Instant> expectedAt = new ArrayList<>();
+        final Consumer<ExecutionResult<Void>> onEach = result -> {
+            final Instant expected = result.triggerContext().expectedAt();
+            Assertions.assertNotNull(expected);
+            Assertions.assertNotNull(result.drift());
+            // The fire times are lined up with the anchor, and the trigger is never fired before the expected time
+            Assertions.assertEquals(0, expected.toEpochMilli() % 200);
+            Assertions.assertFalse(result.drift().isNegative());
+            Assertions.assertEquals(result.firedAt(), expected.plus(result.drift()));
+            // The next fire time is computed from the anchor, then the drift is not accumulated
+            expectedAt.add(expected);
+            Assertions.assertEquals(expectedAt.get(0).plusMillis(200L * (expectedAt.size() - 1)), expected);
+        };
+        final Consumer<ExecutionResult<Void>> onCompleted = result -> Assertions.assertEquals(4, result.round());
+        final IntervalTrigger trigger = IntervalTrigger.builder()
+                                                       .interval(Duration.ofMillis(200))
+                                                       .anchor(Instant.EPOCH)
+                                                       .repeat(4)
+                                                       .build();
+        IntervalScheduler.<Void, Void>builder()
+                         .setVertx(vertx)
+                         .setMonitor(SchedulingAsserter.<Void>builder()
+                                                       .setTestContext(context)
+                                                       .setEach(onEach)
+                                                       .setCompleted(onCompleted)
+                                                       .build())
+                         .setTrigger(trigger)
+                         .setJob(NoopJob.create())
+                         .build()
+                         .start();
+    }
+
+    @Test
+    void test_allow_concurrent_rounds(Vertx vertx, VertxTestContext context) {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final Consumer<ExecutionResult<Void>> onCompleted = result -> {
+            Assertions.assertEquals(5, result.round());
+            Assertions.assertTrue(maxRunning.get() > 1 && maxRunning.get() <= 3);
+        };
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(100)).repeat(5).build();
+        IntervalScheduler.<Void, Void>builder()
+                         .setVertx(vertx)
+                         .setConcurrencyPolicy(ConcurrencyPolicy.allowConcurrent(3))
+                         .setMonitor(SchedulingAsserter.<Void>builder()
+                                                       .setTestContext(context)
+                                                       .setCompleted(onCompleted)
+                                                       .build())
+                         .setTrigger(trigger)
+                         .setJob((jobData, ctx) -> {
+                             maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                             TestUtils.block(Duration.ofMillis(250), context);
+                             running.decrementAndGet();
+                         })
+                         .build()
+                         .start();
+    }
+
+    @Test
+    void test_queue_and_coalesce_fires(Vertx vertx, VertxTestContext context) {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger coalesced = new AtomicInteger();
+        final AtomicLong lastRound = new AtomicLong();
+        final AtomicLong lastTick = new AtomicLong();
+        final Consumer<ExecutionResult<Void>> onMisfire = result -> {
+            Assertions.assertEquals(ReasonCode.COALESCED, result.triggerContext().condition().reasonCode());
+            coalesced.incrementAndGet();
+        };
+        final Consumer<ExecutionResult<Void>> onEach = result -> {
+            // The rounds never overlap, then they are finished in the round order
+            Assertions.assertEquals(lastRound.get() + 1, result.round());
+            lastRound.set(result.round());
+            // The queued fires are executed in the fire order
+            Assertions.assertTrue(result.tick() > lastTick.get());
+            lastTick.set(result.tick());
+        };
+        final Consumer<ExecutionResult<Void>> onCompleted = result -> {
+            Assertions.assertEquals(4, result.round());
+            Assertions.assertEquals(1, maxRunning.get());
+            Assertions.assertTrue(coalesced.get() > 0);
+        };
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(100)).repeat(4).build();
+        IntervalScheduler.<Void, Void>builder()
+                         .setVertx(vertx)
+                         .setConcurrencyPolicy(ConcurrencyPolicy.queue(1))
+                         .setMonitor(SchedulingAsserter.<Void>builder()
+                                                       .setTestContext(context)
+                                                       .setMisfire(onMisfire)
+                                                       .setEach(onEach)
+                                                       .setCompleted(onCompleted)
+                                                       .build())
+                         .setTrigger(trigger)
+                         .setJob((jobData, ctx) -> {
+                             maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                             TestUtils.block(Duration.ofMillis(250), context);
+                             running.decrementAndGet();
+                         })
+                         .build()
+                         .start();
+    }
+
+    @Test
+    void test_interval_should_sleep_through_unsatisfiable_windows(Vertx vertx, VertxTestContext context) {
+        final SimulatedTimeline timeline = SimulatedTimeline.create(Instant.parse("2024-01-01T00:00:00Z"));
+        final AtomicInteger rounds = new AtomicInteger();
+        final List<Instant> suspendedUntil = new ArrayList<>();
+        final Consumer<ExecutionResult<Void>> onMisfire = result -> {
+            Assertions.assertEquals(ReasonCode.SUSPENDED, result.triggerContext().condition().reasonCode());
+            suspendedUntil.add((Instant) result.triggerContext().info());
+        };
+        final Consumer<ExecutionResult<Void>> onCompleted = result -> {
+            Assertions.assertEquals(2 * 8 * 360, result.round());
+            // One aggregated event per night, the first night is skipped at the registration time
+            Assertions.assertEquals(List.of(Instant.parse("2024-01-02T09:00:00Z"),
+                                            Instant.parse("2024-01-03T09:00:00Z")), suspendedUntil);
+        };
+        final TriggerRule businessHours = TriggerRule.builder()
+                                                     .timeframe(Timeframe.of(LocalTime.parse("09:00"),
+                                                                             LocalTime.parse("17:00")))
+                                                     .build();
+        final IntervalTrigger trigger = IntervalTrigger.builder()
+                                                       .interval(Duration.ofSeconds(10))
+                                                       .rule(businessHours)
+                                                       .build();
+        vertx.getOrCreateContext().runOnContext(ignore -> {
+            final TimeZone systemTimeZone = TimeZone.getDefault();
+            try {
+                TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+                final IntervalScheduler scheduler = IntervalScheduler.<Void, Void>builder()
+                                                                     .setVertx(vertx)
+                                                                     .setClock(timeline)
+                                                                     .setTimerService(timeline)
+                                                                     .setExecutionMode(ExecutionMode.CALLER_THREAD)
+                                                                     .setMonitor(SchedulingAsserter.<Void>builder()
+                                                                                                   .setTestContext(context)
+                                                                                                   .setMisfire(onMisfire)
+                                                                                                   .setCompleted(onCompleted)
+                                                                                                   .build())
+                                                                     .setTrigger(trigger)
+                                                                     .setJob((jobData, ctx) -> rounds.incrementAndGet())
+                                                                     .build();
+                scheduler.start();
+                // Every wake-up in 2 days of 10-second ticks is a round in business hours
+                final int fired = timeline.advanceBy(Duration.ofDays(2));
+                context.verify(() -> Assertions.assertEquals(rounds.get(), fired));
+                scheduler.cancel();
+            } finally {
+                TimeZone.setDefault(systemTimeZone);
+            }
+        });
+    }
+
 }
@@ -0,0 +1,226 @@
+package io.github.zero88.schedulerx;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.zero88.schedulerx.trigger.IntervalTrigger;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class LeaseGuardTest {
+
+    @Test
+    void test_only_lease_owner_executes_then_standby_takes_over(Vertx vertx, VertxTestContext testContext) {
+        final LeaseStore store = LeaseStore.inMemory();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(100)).build();
+        final List<LeaseGuard> guards = new ArrayList<>();
+        final List<AtomicInteger> executions = new ArrayList<>();
+        final Set<String> misfires = ConcurrentHashMap.newKeySet();
+        final List<Scheduler<?>> schedulers = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            final LeaseGuard guard = LeaseGuard.create(vertx, store, "replica-" + i, Duration.ofMillis(600));
+            final AtomicInteger executed = new AtomicInteger();
+            final SchedulingMonitor<Void> monitor = SchedulingAsserter.<Void>builder()
+                                                                      .setTestContext(testContext)
+                                                                      .setMisfire(r -> misfires.add(
+                                                                          r.triggerContext().condition().reasonCode()))
+                                                                      .disableAutoCompleteTest()
+                                                                      .build();
+            final IntervalScheduler scheduler = IntervalScheduler.<Void, Void>builder()
+                                                                 .setVertx(vertx)
+                                                                 .setMonitor(monitor)
+                                                                 .setTrigger(trigger)
+                                                                 .setTriggerEvaluator(guard)
+                                                                 .setJob((jobData, ctx) -> executed.incrementAndGet())
+                                                                 .setJobData(JobData.empty("report"))
+                                                                 .build();
+            guards.add(guard);
+            executions.add(executed);
+            schedulers.add(scheduler);
+        }
+        schedulers.forEach(Scheduler::start);
+        await(vertx, () -> executions.stream().anyMatch(executed -> executed.get() >= 3))
+            .compose(ignore -> {
+                final int owner = executions.get(0).get() >= 3 ? 0 : 1;
+                final int standby = 1 - owner;
+                testContext.verify(() -> {
+                    Assertions.assertEquals(0, executions.get(standby).get());
+                    Assertions.assertTrue(guards.get(owner).isHeld("report"));
+                    Assertions.assertFalse(guards.get(standby).isHeld("report"));
+                    Assertions.assertEquals(Collections.singleton(ReasonCode.LEASE_NOT_ACQUIRED), misfires);
+                });
+                // The released lease is taken over on the next renewal of the standby instead of its expiry
+                return guards.get(owner).close().compose(v -> await(vertx, () -> executions.get(standby).get() >= 2));
+            })
+            .onSuccess(ignore -> {
+                schedulers.forEach(Scheduler::cancel);
+                store.close();
+                testContext.completeNow();
+            })
+            .onFailure(testContext::failNow);
+    }
+
+    @Test
+    void test_release_lease_when_scheduler_is_cancelled(Vertx vertx, VertxTestContext testContext) {
+        final LeaseStore store = LeaseStore.inMemory();
+        final LeaseGuard guard = LeaseGuard.create(vertx, store, "replica-1", Duration.ofSeconds(10));
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(100)).build();
+        final IntervalScheduler scheduler = IntervalScheduler.<Void, Void>builder()
+                                                             .setVertx(vertx)
+                                                             .setTrigger(trigger)
+                                                             .setTriggerEvaluator(guard)
+                                                             .setJob(NoopJob.create())
+                                                             .setJobData(JobData.empty("report"))
+                                                             .build();
+        scheduler.start();
+        await(vertx, () -> guard.isHeld("report"))
+            .compose(ignore -> {
+                scheduler.cancel();
+                return await(vertx, () -> !guard.isHeld("report"));
+            })
+            // The lease is released without waiting for its expiry
+            .compose(ignore -> store.acquire("replica-2", List.of("report"), Duration.ofSeconds(10)))
+            .onSuccess(held -> {
+                testContext.verify(() -> Assertions.assertEquals(Set.of("report"), held));
+                guard.close();
+                store.close();
+                testContext.completeNow();
+            })
+            .onFailure(testContext::failNow);
+    }
+
+    @Test
+    void test_keep_lease_of_job_that_fires_less_often_than_lease_ttl(Vertx vertx, VertxTestContext testContext) {
+        final LeaseStore store = LeaseStore.inMemory();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofSeconds(1)).build();
+        final List<LeaseGuard> guards = new ArrayList<>();
+        final List<AtomicInteger> executions = new ArrayList<>();
+        final List<Scheduler<?>> schedulers = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            // The lease time-to-live is shorter than the job interval
+            final LeaseGuard guard = LeaseGuard.create(vertx, store, "replica-" + i, Duration.ofMillis(300));
+            final AtomicInteger executed = new AtomicInteger();
+            final IntervalScheduler scheduler = IntervalScheduler.<Void, Void>builder()
+                                                                 .setVertx(vertx)
+                                                                 .setTrigger(trigger)
+                                                                 .setTriggerEvaluator(guard)
+                                                                 .setJob((jobData, ctx) -> executed.incrementAndGet())
+                                                                 .setJobData(JobData.empty("report"))
+                                                                 .build();
+            guards.add(guard);
+            executions.add(executed);
+            schedulers.add(scheduler);
+        }
+        schedulers.forEach(Scheduler::start);
+        final AtomicInteger owner = new AtomicInteger();
+        await(vertx, () -> executions.stream().anyMatch(executed -> executed.get() >= 1))
+            .compose(ignore -> {
+                owner.set(executions.get(0).get() >= 1 ? 0 : 1);
+                final Promise<Void> promise = Promise.promise();
+                // Between two fires, the lease is still renewed by its owner
+                vertx.setTimer(600, id -> promise.complete());
+                return promise.future();
+            })
+            .compose(ignore -> {
+                testContext.verify(() -> {
+                    Assertions.assertTrue(guards.get(owner.get()).isHeld("report"));
+                    Assertions.assertFalse(guards.get(1 - owner.get()).isHeld("report"));
+                });
+                return await(vertx, () -> executions.get(owner.get()).get() >= 3);
+            })
+            .onSuccess(ignore -> {
+                testContext.verify(() -> Assertions.assertEquals(0, executions.get(1 - owner.get()).get()));
+                schedulers.forEach(Scheduler::cancel);
+                guards.forEach(LeaseGuard::close);
+                store.close();
+                testContext.completeNow();
+            })
+            .onFailure(testContext::failNow);
+    }
+
+    @Test
+    void test_file_lease_store_is_exclusive_across_stores(Vertx vertx, VertxTestContext testContext,
+                                                          @TempDir Path dir) {
+        final Path file = dir.resolve("leases.json");
+        final LeaseStore store1 = LeaseStore.file(vertx, file);
+        final LeaseStore store2 = LeaseStore.file(vertx, file);
+        final List<String> keys = List.of("job-1", "job-2");
+        final Duration ttl = Duration.ofSeconds(10);
+        store1.acquire("replica-1", List.of("job-1"), ttl)
+              .compose(held -> {
+                  testContext.verify(() -> Assertions.assertEquals(Set.of("job-1"), held));
+                  return store2.acquire("replica-2", keys, ttl);
+              })
+              .compose(held -> {
+                  testContext.verify(() -> Assertions.assertEquals(Set.of("job-2"), held));
+                  return store1.acquire("replica-1", keys, ttl);
+              })
+              .compose(held -> {
+                  // Renew the own lease, and never steal the unexpired lease of another owner
+                  testContext.verify(() -> Assertions.assertEquals(Set.of("job-1"), held));
+                  return store1.release("replica-1", keys);
+              })
+              .compose(ignore -> store2.acquire("replica-2", keys, ttl))
+              .onSuccess(held -> {
+                  testContext.verify(() -> Assertions.assertEquals(Set.copyOf(keys), held));
+                  store1.close();
+                  store2.close();
+                  testContext.completeNow();
+              })
+              .onFailure(testContext::failNow);
+    }
+
+    @Test
+    void test_file_lease_store_treats_undecodable_file_as_no_lease(Vertx vertx, VertxTestContext testContext,
+                                                                   @TempDir Path dir) throws IOException {
+        final Path file = Files.writeString(dir.resolve("leases.json"), "{\"job-1\":{\"owner\":\"replica-1\"");
+        final LeaseStore store = LeaseStore.file(vertx, file);
+        store.acquire("replica-2", List.of("job-1"), Duration.ofSeconds(10))
+             .onSuccess(held -> {
+                 testContext.verify(() -> {
+                     Assertions.assertEquals(Set.of("job-1"), held);
+                     Assertions.assertEquals("replica-2", new JsonObject(Files.readString(file)).getJsonObject("job-1")
+                                                                                                .getString("owner"));
+                 });
+                 store.close();
+                 testContext.completeNow();
+             })
+             .onFailure(testContext::failNow);
+    }
+
+    private static Future<Void> await(Vertx vertx, BooleanSupplier condition) {
+        final Promise<Void> promise = Promise.promise();
+        final long startedAt = System.currentTimeMillis();
+        vertx.setPeriodic(20, id -> {
+            if (condition.getAsBoolean()) {
+                vertx.cancelTimer(id);
+                promise.tryComplete();
+            } else if (System.currentTimeMillis() - startedAt > 10_000) {
+                vertx.cancelTimer(id);
+                promise.tryFail("Timeout to wait for the condition");
+            }
+        });
+        return promise.future();
+    }
+
+}
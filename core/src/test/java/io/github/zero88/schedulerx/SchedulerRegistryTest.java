@@ -0,0 +1,130 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.github.zero88.schedulerx.trigger.CronTrigger;
+import io.github.zero88.schedulerx.trigger.IntervalTrigger;
+import io.github.zero88.schedulerx.trigger.TriggerEvaluator;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class SchedulerRegistryTest {
+
+    @Test
+    void test_register_and_lookup(Vertx vertx) {
+        final SchedulerRegistry registry = SchedulerRegistry.create(vertx);
+        for (int i = 0; i < 10; i++) {
+            registry.register(interval(vertx, "interval-" + i, null));
+        }
+        final CronScheduler cron = registry.register(CronScheduler.<Void, Void>builder()
+                                                                  .setVertx(vertx)
+                                                                  .setTrigger(CronTrigger.builder()
+                                                                                         .expression("0 0 0 * * ?")
+                                                                                         .build())
+                                                                  .setJob(NoopJob.create())
+                                                                  .setJobData(JobData.empty("cron"))
+                                                                  .build());
+        Assertions.assertEquals(11, registry.size());
+        Assertions.assertEquals(10, registry.count(IntervalTrigger.TRIGGER_TYPE));
+        Assertions.assertEquals(1, registry.count(CronTrigger.TRIGGER_TYPE));
+        Assertions.assertSame(cron, registry.get("cron"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> registry.register(interval(vertx, "interval-1", null)));
+        final JobData<Void> noExternalId = () -> null;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.register(
+            IntervalScheduler.<Void, Void>builder()
+                             .setVertx(vertx)
+                             .setTrigger(IntervalTrigger.builder().interval(1).build())
+                             .setJob(NoopJob.create())
+                             .setJobData(noExternalId)
+                             .build()));
+
+        final Set<Object> ids = ConcurrentHashMap.newKeySet();
+        registry.forEach(IntervalTrigger.TRIGGER_TYPE, scheduler -> {
+            ids.add(((JobExecutorConfig<?, ?>) scheduler).jobData().externalId());
+            // The iteration does not block the registration
+            registry.unregister("cron");
+        });
+        Assertions.assertEquals(10, ids.size());
+        Assertions.assertNull(registry.get("cron"));
+        Assertions.assertEquals(0, registry.count(CronTrigger.TRIGGER_TYPE));
+        Assertions.assertEquals(10, registry.schedulers().size());
+        registry.close();
+    }
+
+    @Test
+    void test_start_all_across_event_loops(Vertx vertx, VertxTestContext testContext) {
+        final int total = 200;
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final AtomicInteger evaluated = new AtomicInteger();
+        final TriggerEvaluator evaluator = TriggerEvaluator.nonBlocking((trigger, ctx, externalId) -> {
+            threads.add(Thread.currentThread().getName());
+            evaluated.incrementAndGet();
+            return Future.succeededFuture(ctx);
+        }, null);
+        final SchedulerRegistry registry = SchedulerRegistry.create(vertx);
+        for (int i = 0; i < total; i++) {
+            registry.register(interval(vertx, i, evaluator));
+        }
+        registry.startAll()
+                .onSuccess(started -> testContext.verify(() -> Assertions.assertEquals(total, started)))
+                .flatMap(ignore -> registry.startAll())
+                .onSuccess(started -> testContext.verify(() -> Assertions.assertEquals(0, started)))
+                .onFailure(testContext::failNow);
+        vertx.setTimer(1500, id -> registry.close().onComplete(testContext.succeeding(ignore -> {
+            testContext.verify(() -> {
+                Assertions.assertEquals(total, evaluated.get());
+                Assertions.assertTrue(threads.size() > 1, "Expected many event loops, but " + threads);
+                Assertions.assertTrue(threads.stream().allMatch(t -> t.startsWith("vert.x-eventloop-thread")));
+            });
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    void test_start_all_keeps_the_scheduler_execution_mode(Vertx vertx, VertxTestContext testContext) {
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(100)).repeat(1).build();
+        final Consumer<ExecutionResult<Void>> onCompleted = result -> Assertions.assertTrue(
+            threads.stream().allMatch(t -> t.startsWith("vert.x-eventloop-thread")), "Expected caller, but " + threads);
+        final SchedulingMonitor<Void> asserter = SchedulingAsserter.<Void>builder()
+                                                                   .setTestContext(testContext)
+                                                                   .setCompleted(onCompleted)
+                                                                   .build();
+        final SchedulerRegistry registry = SchedulerRegistry.create(vertx);
+        registry.register(IntervalScheduler.<Void, Void>builder()
+                                           .setVertx(vertx)
+                                           .setMonitor(asserter)
+                                           .setTrigger(trigger)
+                                           .setExecutionMode(ExecutionMode.CALLER_THREAD)
+                                           .setJob((jobData, ctx) -> threads.add(Thread.currentThread().getName()))
+                                           .setJobData(JobData.empty("caller"))
+                                           .build());
+        registry.startAll().onFailure(testContext::failNow);
+    }
+
+    private static IntervalScheduler interval(Vertx vertx, Object externalId, TriggerEvaluator evaluator) {
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(500)).repeat(1).build();
+        final IntervalSchedulerBuilder<Void, Void> builder = IntervalScheduler.<Void, Void>builder()
+                                                                              .setVertx(vertx)
+                                                                              .setTrigger(trigger)
+                                                                              .setJob(NoopJob.create())
+                                                                              .setJobData(JobData.empty(externalId));
+        if (evaluator != null) {
+            builder.setTriggerEvaluator(evaluator);
+        }
+        return builder.build();
+    }
+
+}
@@ -19,12 +19,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import io.github.zero88.schedulerx.impl.DefaultTriggerEvaluator;
+import io.github.zero88.schedulerx.impl.VirtualThreadWorkerExecutor;
 import io.github.zero88.schedulerx.trigger.CronTrigger;
 import io.github.zero88.schedulerx.trigger.EventTrigger;
 import io.github.zero88.schedulerx.trigger.IntervalTrigger;
 import io.github.zero88.schedulerx.trigger.TriggerCondition;
 import io.github.zero88.schedulerx.trigger.TriggerEvaluator;
 import io.github.zero88.schedulerx.trigger.predicate.EventTriggerPredicate;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
@@ -144,6 +147,34 @@ class SchedulerTest {
         vertx.eventBus().publish(address, "test");
     }
 
+    @Test
+    void test_scheduler_should_run_job_in_virtual_thread_mode(Vertx vertx, VertxTestContext testContext) {
+        final String expectedThread = VirtualThreadWorkerExecutor.isSupported()
+                                      ? "scheduler.x-worker-thread-virtual-"
+                                      : "scheduler.x-worker-thread-";
+        final Consumer<ExecutionResult<Object>> completed = result -> Assertions.assertEquals(2, result.round());
+        final SchedulingMonitor<Object> asserter = SchedulingAsserter.builder()
+                                                                     .setTestContext(testContext)
+                                                                     .setEach(r -> Assertions.assertNull(r.error()))
+                                                                     .setCompleted(completed)
+                                                                     .build();
+        final Job<Object, Object> job = (jobData, executionContext) -> {
+            final String threadName = Thread.currentThread().getName();
+            Assertions.assertTrue(threadName.startsWith(expectedThread), threadName);
+            Assertions.assertNotNull(Vertx.currentContext());
+        };
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofSeconds(1)).repeat(2).build();
+        final IntervalScheduler scheduler = IntervalScheduler.builder()
+                                                             .setVertx(vertx)
+                                                             .setMonitor(asserter)
+                                                             .setTrigger(trigger)
+                                                             .setJob(job)
+                                                             .setExecutionMode(ExecutionMode.VIRTUAL_THREAD)
+                                                             .build();
+        Assertions.assertEquals(ExecutionMode.VIRTUAL_THREAD, ((JobExecutorConfig<?, ?>) scheduler).executionMode());
+        scheduler.start();
+    }
+
     @Test
     void test_scheduler_should_monitor_result_in_dedicated_thread(Vertx vertx, VertxTestContext testContext) {
         final WorkerThreadChecker c0 = WorkerThreadChecker.create(v -> null, "scheduler.x-monitor-thread-2s");
@@ -217,6 +248,57 @@ class SchedulerTest {
                          .start();
     }
 
+    @Test
+    void test_non_blocking_evaluator_should_run_on_event_loop(Vertx vertx, VertxTestContext testContext) {
+        final Consumer<ExecutionResult<Object>> completed = result -> {
+            Assertions.assertEquals(2, result.round());
+            Assertions.assertTrue(result.triggerContext().isStopped());
+        };
+        final SchedulingMonitor<Object> asserter = SchedulingAsserter.builder()
+                                                                     .setTestContext(testContext)
+                                                                     .setCompleted(completed)
+                                                                     .build();
+        final TriggerEvaluator evaluator = TriggerEvaluator.nonBlocking((trigger, triggerContext, externalId) -> {
+            testContext.verify(() -> Assertions.assertTrue(Context.isOnEventLoopThread()));
+            return Future.succeededFuture(triggerContext);
+        }, null);
+        Assertions.assertFalse(evaluator.isBlocking());
+        Assertions.assertTrue(TriggerEvaluator.byBefore((t, ctx, id) -> Future.succeededFuture(ctx)).isBlocking());
+        Assertions.assertTrue(new DefaultTriggerEvaluator() { }.isBlocking());
+        IntervalScheduler.builder()
+                         .setVertx(vertx)
+                         .setMonitor(asserter)
+                         .setTrigger(IntervalTrigger.builder().interval(Duration.ofSeconds(1)).repeat(2).build())
+                         .setJob(NoopJob.create())
+                         .setTriggerEvaluator(evaluator)
+                         .build()
+                         .start();
+    }
+
+    @Test
+    void test_non_blocking_evaluator_should_timeout_when_uncompleted(Vertx vertx, VertxTestContext testContext) {
+        final Consumer<ExecutionResult<Object>> timeoutAsserter = result -> {
+            Assertions.assertTrue(result.isTimeout());
+            Assertions.assertEquals("TriggerEvaluationTimeout", result.triggerContext().condition().reasonCode());
+            testContext.completeNow();
+        };
+        final SchedulingMonitor<Object> asserter = SchedulingAsserter.builder()
+                                                                     .setTestContext(testContext)
+                                                                     .setMisfire(timeoutAsserter)
+                                                                     .build();
+        final TriggerEvaluator evaluator = TriggerEvaluator.nonBlocking(
+            (trigger, triggerContext, externalId) -> Future.future(p -> { }), null);
+        IntervalScheduler.builder()
+                         .setVertx(vertx)
+                         .setMonitor(asserter)
+                         .setTrigger(IntervalTrigger.builder().interval(Duration.ofSeconds(5)).build())
+                         .setJob(NoopJob.create())
+                         .setTimeoutPolicy(TimeoutPolicy.create(Duration.ofSeconds(1), null))
+                         .setTriggerEvaluator(evaluator)
+                         .build()
+                         .start();
+    }
+
     @Test
     void test_scheduler_should_able_to_force_stop(Vertx vertx, VertxTestContext testContext) {
         final Consumer<ExecutionResult<Object>> completed = result -> {
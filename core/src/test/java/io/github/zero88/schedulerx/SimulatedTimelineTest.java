@@ -0,0 +1,90 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.github.zero88.schedulerx.trigger.CronTrigger;
+import io.github.zero88.schedulerx.trigger.IntervalTrigger;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class SimulatedTimelineTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void test_timers_fire_in_virtual_deadline_order() {
+        final SimulatedTimeline timeline = SimulatedTimeline.create(START);
+        final List<String> fired = new ArrayList<>();
+        timeline.setTimer(300, id -> fired.add("300@" + timeline.now()));
+        timeline.setTimer(100, id -> fired.add("100@" + timeline.now()));
+        final long periodic = timeline.setPeriodic(150, id -> fired.add("p@" + timeline.now()));
+        final long cancelled = timeline.setTimer(200, id -> fired.add("cancelled"));
+        Assertions.assertTrue(timeline.cancelTimer(cancelled));
+        Assertions.assertFalse(timeline.cancelTimer(cancelled));
+        Assertions.assertEquals(START.plusMillis(100), timeline.nextFireTime());
+
+        Assertions.assertEquals(4, timeline.advanceBy(Duration.ofMillis(310)));
+        Assertions.assertEquals(List.of("100@" + START.plusMillis(100), "p@" + START.plusMillis(150),
+                                        "300@" + START.plusMillis(300), "p@" + START.plusMillis(300)), fired);
+        Assertions.assertEquals(START.plusMillis(310), timeline.now());
+        Assertions.assertEquals(1, timeline.size());
+        Assertions.assertTrue(timeline.cancelTimer(periodic));
+        Assertions.assertEquals(0, timeline.advanceBy(Duration.ofSeconds(1)));
+        Assertions.assertNull(timeline.nextFireTime());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> timeline.advanceTo(START));
+    }
+
+    @Test
+    void test_replay_schedules_in_virtual_time(Vertx vertx, VertxTestContext testContext) {
+        final int nbOfSchedulers = 10;
+        final SimulatedTimeline timeline = SimulatedTimeline.create(START);
+        final AtomicInteger cronRounds = new AtomicInteger();
+        final AtomicInteger intervalRounds = new AtomicInteger();
+        final Context context = vertx.getOrCreateContext();
+        context.runOnContext(ignore -> {
+            for (int i = 0; i < nbOfSchedulers; i++) {
+                CronScheduler.<Void, Void>builder()
+                             .setVertx(vertx)
+                             .setClock(timeline)
+                             .setTimerService(timeline)
+                             .setExecutionMode(ExecutionMode.CALLER_THREAD)
+                             .setTrigger(CronTrigger.builder().expression("0 0 * ? * *").build())
+                             .setJob((jobData, executionContext) -> {
+                                 Assertions.assertSame(context, Vertx.currentContext());
+                                 cronRounds.incrementAndGet();
+                             })
+                             .build()
+                             .start();
+                IntervalScheduler.<Void, Void>builder()
+                                 .setVertx(vertx)
+                                 .setClock(timeline)
+                                 .setTimerService(timeline)
+                                 .setExecutionMode(ExecutionMode.CALLER_THREAD)
+                                 .setTrigger(IntervalTrigger.builder().interval(Duration.ofMinutes(15)).build())
+                                 .setJob((jobData, executionContext) -> intervalRounds.incrementAndGet())
+                                 .build()
+                                 .start();
+            }
+            timeline.advanceBy(Duration.ofDays(30));
+            testContext.verify(() -> {
+                // Every round is completed before the timeline moves to the next timer
+                Assertions.assertEquals(nbOfSchedulers * 30 * 24, cronRounds.get());
+                Assertions.assertEquals(nbOfSchedulers * 30 * 24 * 4, intervalRounds.get());
+                Assertions.assertEquals(START.plus(Duration.ofDays(30)), timeline.now());
+            });
+            testContext.completeNow();
+        });
+    }
+
+}
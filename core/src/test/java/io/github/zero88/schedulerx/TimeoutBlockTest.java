@@ -0,0 +1,73 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.github.zero88.schedulerx.impl.TimingWheelTimerService;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class TimeoutBlockTest {
+
+    @Test
+    void test_no_timer_leak_when_promise_completes_first(Vertx vertx, VertxTestContext testContext) {
+        final TimingWheelTimerService timerService = new TimingWheelTimerService(vertx, Duration.ofMillis(10));
+        final TimeoutBlock timeoutBlock = new TimeoutBlock(timerService, Duration.ofSeconds(5));
+        vertx.runOnContext(ignore -> testContext.verify(() -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                final Promise<Integer> promise = timeoutBlock.wrap(Promise.promise());
+                if (i % 2 == 0) {
+                    promise.complete(i);
+                } else {
+                    promise.fail("error");
+                }
+            }
+            Assertions.assertEquals(0, timerService.size());
+            testContext.completeNow();
+        }));
+    }
+
+    @Test
+    void test_fail_by_timeout(Vertx vertx, VertxTestContext testContext) {
+        final TimingWheelTimerService timerService = new TimingWheelTimerService(vertx, Duration.ofMillis(10));
+        final TimeoutBlock timeoutBlock = new TimeoutBlock(timerService, Duration.ofMillis(100));
+        vertx.runOnContext(ignore -> timeoutBlock.wrap(Promise.promise()).future().onComplete(ar -> {
+            testContext.verify(() -> {
+                Assertions.assertInstanceOf(TimeoutException.class, ar.cause());
+                Assertions.assertEquals("Timeout after 0.1s", ar.cause().getMessage());
+                Assertions.assertEquals(0, timerService.size());
+            });
+            testContext.completeNow();
+        }));
+    }
+
+    @Test
+    void test_late_completion_after_timeout_is_ignored(Vertx vertx, VertxTestContext testContext) {
+        final TimingWheelTimerService timerService = new TimingWheelTimerService(vertx, Duration.ofMillis(10));
+        final TimeoutBlock timeoutBlock = new TimeoutBlock(timerService, Duration.ofMillis(50));
+        vertx.runOnContext(ignore -> {
+            final Promise<String> promise = timeoutBlock.wrap(Promise.promise());
+            vertx.setTimer(200, id -> testContext.verify(() -> {
+                Assertions.assertFalse(promise.tryComplete("late"));
+                Assertions.assertTrue(promise.future().failed());
+                testContext.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    void test_no_timer_when_timeout_is_not_positive(Vertx vertx) {
+        final TimingWheelTimerService timerService = new TimingWheelTimerService(vertx, Duration.ofMillis(10));
+        final Promise<Object> promise = Promise.promise();
+        Assertions.assertSame(promise, new TimeoutBlock(timerService, Duration.ZERO).wrap(promise));
+        Assertions.assertEquals(0, timerService.size());
+    }
+
+}
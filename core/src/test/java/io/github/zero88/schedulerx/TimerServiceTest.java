@@ -0,0 +1,148 @@
+package io.github.zero88.schedulerx;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.github.zero88.schedulerx.impl.TimingWheelTimerService;
+import io.github.zero88.schedulerx.impl.VertxTimerService;
+import io.github.zero88.schedulerx.trigger.IntervalTrigger;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class TimerServiceTest {
+
+    @Test
+    void test_timing_wheel_is_shared_per_vertx(Vertx vertx) {
+        Assertions.assertSame(TimerService.timingWheel(vertx), TimerService.timingWheel(vertx));
+    }
+
+    @Test
+    void test_timer_should_not_fire_before_deadline(Vertx vertx, VertxTestContext testContext) {
+        final TimerService timerService = new TimingWheelTimerService(vertx, Duration.ofMillis(20));
+        final Checkpoint checkpoint = testContext.checkpoint(3);
+        final Context context = vertx.getOrCreateContext();
+        context.runOnContext(ignore -> {
+            for (long delay : new long[] { 1, 55, 310 }) {
+                final long registeredAt = System.nanoTime();
+                timerService.setTimer(delay, id -> testContext.verify(() -> {
+                    final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - registeredAt);
+                    Assertions.assertTrue(elapsed >= delay, "Fired after " + elapsed + "ms, expected " + delay);
+                    Assertions.assertSame(context, Vertx.currentContext());
+                    checkpoint.flag();
+                }));
+            }
+        });
+    }
+
+    @Test
+    void test_timers_fire_in_order_across_wheel_rotations(Vertx vertx, VertxTestContext testContext) {
+        // A 1ms tick wheel rotates every 256ms, then the timers are spread over the slots of several rotations
+        final TimerService timerService = new TimingWheelTimerService(vertx, Duration.ofMillis(1));
+        final long[] delays = { 3, 40, 255, 257, 270, 530, 800 };
+        final List<Long> fired = new ArrayList<>();
+        final Checkpoint checkpoint = testContext.checkpoint(delays.length);
+        vertx.getOrCreateContext().runOnContext(ignore -> {
+            final long registeredAt = System.nanoTime();
+            for (long delay : delays) {
+                timerService.setTimer(delay, id -> testContext.verify(() -> {
+                    final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - registeredAt);
+                    Assertions.assertTrue(elapsed >= delay, "Fired after " + elapsed + "ms, expected " + delay);
+                    fired.add(delay);
+                    Assertions.assertEquals(fired.size(), Arrays.stream(delays).filter(d -> d <= delay).count());
+                    checkpoint.flag();
+                }));
+            }
+        });
+    }
+
+    @Test
+    void test_scheduler_registers_timers_in_vertx_timer_system_by_default(Vertx vertx) {
+        final IntervalScheduler scheduler = IntervalScheduler.<Void, Void>builder()
+                                                             .setVertx(vertx)
+                                                             .setTrigger(IntervalTrigger.builder()
+                                                                                        .interval(Duration.ofSeconds(1))
+                                                                                        .build())
+                                                             .setJob(NoopJob.create())
+                                                             .build();
+        Assertions.assertInstanceOf(VertxTimerService.class, ((SchedulerConfig<?, ?>) scheduler).timerService());
+    }
+
+    @Test
+    void test_cancel_timer(Vertx vertx, VertxTestContext testContext) {
+        final TimingWheelTimerService timerService = new TimingWheelTimerService(vertx, Duration.ofMillis(10));
+        final long timerId = timerService.setTimer(100, id -> testContext.failNow("Cancelled timer is fired"));
+        Assertions.assertEquals(1, timerService.size());
+        Assertions.assertTrue(timerService.cancelTimer(timerId));
+        Assertions.assertFalse(timerService.cancelTimer(timerId));
+        Assertions.assertEquals(0, timerService.size());
+        vertx.setTimer(300, ignore -> testContext.completeNow());
+    }
+
+    @Test
+    void test_periodic_timer(Vertx vertx, VertxTestContext testContext) {
+        final TimingWheelTimerService timerService = new TimingWheelTimerService(vertx, Duration.ofMillis(10));
+        final AtomicInteger counter = new AtomicInteger();
+        timerService.setPeriodic(50, id -> {
+            if (counter.incrementAndGet() == 5) {
+                testContext.verify(() -> {
+                    Assertions.assertTrue(timerService.cancelTimer(id));
+                    Assertions.assertEquals(0, timerService.size());
+                });
+                testContext.completeNow();
+            }
+        });
+    }
+
+    @Test
+    void test_wheel_keeps_driving_after_undeploy_the_verticle_that_arms_it(Vertx vertx,
+                                                                           VertxTestContext testContext) {
+        final TimingWheelTimerService timerService = new TimingWheelTimerService(vertx, Duration.ofMillis(10));
+        final AbstractVerticle verticle = new AbstractVerticle() {
+            @Override
+            public void start() { timerService.setTimer(200, id -> { }); }
+        };
+        vertx.deployVerticle(verticle)
+             .compose(vertx::undeploy)
+             .onSuccess(ignore -> timerService.setTimer(300, id -> testContext.verify(() -> {
+                 Assertions.assertEquals(0, timerService.size());
+                 testContext.completeNow();
+             })))
+             .onFailure(testContext::failNow);
+    }
+
+    @Test
+    void test_scheduler_on_timing_wheel(Vertx vertx, VertxTestContext testContext) {
+        final Consumer<ExecutionResult<Void>> onCompleted = result -> {
+            Assertions.assertEquals(3, result.round());
+            Assertions.assertEquals("StopByTriggerConfig", result.triggerContext().condition().reasonCode());
+        };
+        final SchedulingMonitor<Void> asserter = SchedulingAsserter.<Void>builder()
+                                                                   .setTestContext(testContext)
+                                                                   .setCompleted(onCompleted)
+                                                                   .build();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(500)).repeat(3).build();
+        IntervalScheduler.<Void, Void>builder()
+                         .setVertx(vertx)
+                         .setMonitor(asserter)
+                         .setTrigger(trigger)
+                         .setJob(NoopJob.create())
+                         .setTimerService(TimerService.timingWheel(vertx))
+                         .build()
+                         .start();
+    }
+
+}
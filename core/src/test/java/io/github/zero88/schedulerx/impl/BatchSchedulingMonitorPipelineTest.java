@@ -0,0 +1,212 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.github.zero88.schedulerx.BatchSchedulingMonitor;
+import io.github.zero88.schedulerx.ExecutionResult;
+import io.github.zero88.schedulerx.MonitorOverflowPolicy;
+import io.github.zero88.schedulerx.MonitorPipelineStats;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+
+@ExtendWith(VertxExtension.class)
+class BatchSchedulingMonitorPipelineTest {
+
+    @Test
+    void test_deliver_in_order_by_batch(Vertx vertx) throws InterruptedException {
+        final CollectMonitor monitor = new CollectMonitor(MonitorOverflowPolicy.DROP_OLDEST, 1024, 16, null);
+        final BatchSchedulingMonitorPipeline<String> pipeline = new BatchSchedulingMonitorPipeline<>(vertx, monitor);
+        pipeline.onSchedule(result(0));
+        for (int i = 1; i <= 100; i++) {
+            pipeline.onEach(result(i));
+        }
+        pipeline.onMisfire(result(101));
+        pipeline.onCompleted(result(102));
+        Assertions.assertTrue(monitor.completed.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(103, monitor.rounds.size());
+        for (int i = 0; i <= 102; i++) {
+            Assertions.assertEquals(i, monitor.rounds.get(i));
+        }
+        Assertions.assertTrue(monitor.batchSizes.stream().allMatch(size -> size > 0 && size <= 16));
+        final MonitorPipelineStats stats = pipeline.stats();
+        Assertions.assertEquals(103, stats.offeredCount());
+        Assertions.assertEquals(103, stats.deliveredCount());
+        Assertions.assertEquals(0, stats.droppedCount());
+        Assertions.assertEquals(monitor.batchSizes.size(), stats.batchCount());
+        Assertions.assertTrue(stats.maxLag() > 0);
+    }
+
+    @Test
+    void test_drop_oldest_when_overflow(Vertx vertx) throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CollectMonitor monitor = new CollectMonitor(MonitorOverflowPolicy.DROP_OLDEST, 4, 4, release);
+        final BatchSchedulingMonitorPipeline<String> pipeline = new BatchSchedulingMonitorPipeline<>(vertx, monitor);
+        for (int i = 1; i <= 50; i++) {
+            pipeline.onEach(result(i));
+        }
+        release.countDown();
+        pipeline.onCompleted(result(51));
+        Assertions.assertTrue(monitor.completed.await(5, TimeUnit.SECONDS));
+
+        final MonitorPipelineStats stats = pipeline.stats();
+        Assertions.assertTrue(stats.droppedCount() > 0);
+        Assertions.assertEquals(51, stats.deliveredCount() + stats.droppedCount());
+        Assertions.assertEquals(51, monitor.rounds.get(monitor.rounds.size() - 1));
+        Assertions.assertEquals(50, monitor.rounds.get(monitor.rounds.size() - 2));
+        // The ring buffer keeps at most 4 results, the lifecycle result waits in the overflow lane
+        Assertions.assertTrue(stats.maxLag() == 4 || stats.maxLag() == 5);
+    }
+
+    @Test
+    void test_keep_lifecycle_order_when_overflow(Vertx vertx) throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CollectMonitor monitor = new CollectMonitor(MonitorOverflowPolicy.DROP_OLDEST, 4, 4, release);
+        final BatchSchedulingMonitorPipeline<String> pipeline = new BatchSchedulingMonitorPipeline<>(vertx, monitor);
+        for (int i = 1; i <= 20; i++) {
+            pipeline.onEach(result(i));
+        }
+        pipeline.onSchedule(result(21));
+        for (int i = 22; i <= 40; i++) {
+            pipeline.onEach(result(i));
+        }
+        pipeline.onCompleted(result(41));
+        release.countDown();
+        Assertions.assertTrue(monitor.completed.await(5, TimeUnit.SECONDS));
+
+        final List<Long> rounds = new ArrayList<>(monitor.rounds);
+        Assertions.assertTrue(rounds.contains(21L));
+        Assertions.assertEquals(41, rounds.get(rounds.size() - 1));
+        for (int i = 1; i < rounds.size(); i++) {
+            Assertions.assertTrue(rounds.get(i - 1) < rounds.get(i), "Out of order: " + rounds);
+        }
+    }
+
+    @Test
+    void test_sample_when_overflow(Vertx vertx) throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CollectMonitor monitor = new CollectMonitor(MonitorOverflowPolicy.SAMPLE, 8, 8, release);
+        final BatchSchedulingMonitorPipeline<String> pipeline = new BatchSchedulingMonitorPipeline<>(vertx, monitor);
+        for (int i = 1; i <= 50; i++) {
+            pipeline.onEach(result(i));
+        }
+        release.countDown();
+        pipeline.onCompleted(result(51));
+        Assertions.assertTrue(monitor.completed.await(5, TimeUnit.SECONDS));
+
+        final MonitorPipelineStats stats = pipeline.stats();
+        Assertions.assertTrue(stats.droppedCount() > 0);
+        Assertions.assertEquals(51, stats.deliveredCount() + stats.droppedCount());
+        Assertions.assertEquals(51, monitor.rounds.get(monitor.rounds.size() - 1));
+    }
+
+    @Test
+    void test_block_when_overflow(Vertx vertx) throws InterruptedException {
+        final CollectMonitor monitor = new CollectMonitor(MonitorOverflowPolicy.BLOCK, 4, 2, null);
+        final BatchSchedulingMonitorPipeline<String> pipeline = new BatchSchedulingMonitorPipeline<>(vertx, monitor);
+        for (int i = 1; i <= 500; i++) {
+            pipeline.onEach(result(i));
+        }
+        pipeline.onCompleted(result(501));
+        Assertions.assertTrue(monitor.completed.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(501, monitor.rounds.size());
+        Assertions.assertEquals(0, pipeline.stats().droppedCount());
+        Assertions.assertEquals(501, pipeline.stats().deliveredCount());
+    }
+
+    @Test
+    void test_block_never_parks_the_event_loop(Vertx vertx) throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CollectMonitor monitor = new CollectMonitor(MonitorOverflowPolicy.BLOCK, 4, 2, release);
+        final BatchSchedulingMonitorPipeline<String> pipeline = new BatchSchedulingMonitorPipeline<>(vertx, monitor);
+        final CountDownLatch offered = new CountDownLatch(1);
+        vertx.runOnContext(ignore -> {
+            for (int i = 1; i <= 500; i++) {
+                pipeline.onEach(result(i));
+            }
+            pipeline.onCompleted(result(501));
+            offered.countDown();
+        });
+        // The monitor is still held, then the event loop would be parked forever if it waits for a free slot
+        Assertions.assertTrue(offered.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        Assertions.assertTrue(monitor.completed.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(501, monitor.rounds.size());
+        for (int i = 0; i < 501; i++) {
+            Assertions.assertEquals(i + 1, monitor.rounds.get(i));
+        }
+        Assertions.assertEquals(0, pipeline.stats().droppedCount());
+    }
+
+    private static ExecutionResult<String> result(long round) {
+        return ExecutionResultImpl.<String>builder().setRound(round).setData("r" + round).build();
+    }
+
+    private static final class CollectMonitor implements BatchSchedulingMonitor<String> {
+
+        private final MonitorOverflowPolicy policy;
+        private final int bufferSize;
+        private final int batchSize;
+        private final CountDownLatch release;
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final List<Long> rounds = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        private CollectMonitor(MonitorOverflowPolicy policy, int bufferSize, int batchSize, CountDownLatch release) {
+            this.policy     = policy;
+            this.bufferSize = bufferSize;
+            this.batchSize  = batchSize;
+            this.release    = release;
+        }
+
+        @Override
+        public void onBatch(@NotNull List<ExecutionResult<String>> results) {
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batchSizes.add(results.size());
+            results.forEach(result -> rounds.add(result.round()));
+        }
+
+        @Override
+        public void onUnableSchedule(@NotNull ExecutionResult<String> result) { }
+
+        @Override
+        public void onSchedule(@NotNull ExecutionResult<String> result) { rounds.add(result.round()); }
+
+        @Override
+        public void onCompleted(@NotNull ExecutionResult<String> result) {
+            rounds.add(result.round());
+            completed.countDown();
+        }
+
+        @Override
+        public int batchSize() { return batchSize; }
+
+        @Override
+        public int bufferSize() { return bufferSize; }
+
+        @Override
+        public @NotNull MonitorOverflowPolicy overflowPolicy() { return policy; }
+
+        @Override
+        public int sampleRate() { return 4; }
+
+    }
+
+}
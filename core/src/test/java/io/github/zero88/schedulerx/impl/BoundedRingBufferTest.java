@@ -0,0 +1,72 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BoundedRingBufferTest {
+
+    @Test
+    void test_capacity_is_power_of_two() {
+        Assertions.assertEquals(2, new BoundedRingBuffer<>(2).capacity());
+        Assertions.assertEquals(8, new BoundedRingBuffer<>(5).capacity());
+        Assertions.assertEquals(1024, new BoundedRingBuffer<>(1024).capacity());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedRingBuffer<>(1));
+    }
+
+    @Test
+    void test_fifo_and_full() {
+        final BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(buffer.offer(i));
+        }
+        Assertions.assertFalse(buffer.offer(4));
+        Assertions.assertEquals(4, buffer.size());
+        Assertions.assertEquals(0, buffer.poll());
+        Assertions.assertTrue(buffer.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            Assertions.assertEquals(i, buffer.poll());
+        }
+        Assertions.assertNull(buffer.poll());
+        Assertions.assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void test_concurrent_producers() throws InterruptedException {
+        final int producers = 4;
+        final int perProducer = 50_000;
+        final BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(256);
+        final ExecutorService pool = Executors.newFixedThreadPool(producers);
+        final CountDownLatch latch = new CountDownLatch(producers);
+        final ConcurrentHashMap<Integer, Boolean> received = new ConcurrentHashMap<>();
+        for (int p = 0; p < producers; p++) {
+            final int offset = p * perProducer;
+            pool.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(offset + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        int count = 0;
+        while (count < producers * perProducer) {
+            final Integer value = buffer.poll();
+            if (value != null) {
+                Assertions.assertNull(received.put(value, true));
+                count++;
+            }
+        }
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        Assertions.assertNull(buffer.poll());
+        Assertions.assertEquals(producers * perProducer, received.size());
+    }
+
+}
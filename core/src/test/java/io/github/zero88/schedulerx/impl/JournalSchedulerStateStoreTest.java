@@ -0,0 +1,206 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.zero88.schedulerx.SchedulerStateRecord;
+import io.vertx.core.json.JsonObject;
+
+class JournalSchedulerStateStoreTest {
+
+    private static JournalSchedulerStateStore open(Path dir, int segmentSize) {
+        return JournalSchedulerStateStore.open(dir, segmentSize, Duration.ofMillis(5), Duration.ofMinutes(10));
+    }
+
+    private static SchedulerStateRecord record(String key, long tick, long round) {
+        return new SchedulerStateRecord(key, tick, round, Instant.ofEpochSecond(tick, round), false, null, null);
+    }
+
+    @Test
+    void test_save_and_load(@TempDir Path dir) {
+        try (JournalSchedulerStateStore store = open(dir, 4096)) {
+            Assertions.assertNull(store.load("k1"));
+            store.save(new SchedulerStateRecord("k1", 5, 4, Instant.ofEpochSecond(10, 20), false,
+                                                new JsonObject().put("hello", "there"), "error"));
+            final SchedulerStateRecord loaded = store.load("k1");
+            Assertions.assertNotNull(loaded);
+            Assertions.assertEquals(5, loaded.tick());
+            Assertions.assertEquals(4, loaded.round());
+            Assertions.assertEquals("error", loaded.lastError());
+        }
+    }
+
+    @Test
+    void test_keep_the_superseding_state(@TempDir Path dir) {
+        try (JournalSchedulerStateStore store = open(dir, 4096)) {
+            store.save(record("k1", 5, 4));
+            store.save(record("k1", 3, 3));
+            Assertions.assertEquals(5, store.load("k1").tick());
+            store.save(record("k1", 5, 5));
+            Assertions.assertEquals(5, store.load("k1").round());
+        }
+    }
+
+    @Test
+    void test_recover_on_reopen(@TempDir Path dir) {
+        final JournalSchedulerStateStore store = open(dir, 4096);
+        store.save(new SchedulerStateRecord("k1", 2, 2, Instant.ofEpochSecond(10), false,
+                                            new JsonObject().put("hello", "there"), null));
+        store.save(record("k2", 7, 6));
+        store.save(new SchedulerStateRecord("k3", 1, 1, null, true, "data", null));
+        store.close();
+
+        try (JournalSchedulerStateStore reopened = open(dir, 4096)) {
+            final SchedulerStateRecord k1 = reopened.load("k1");
+            Assertions.assertNotNull(k1);
+            Assertions.assertEquals(Instant.ofEpochSecond(10), k1.lastFiredAt());
+            Assertions.assertEquals(new JsonObject().put("hello", "there"), k1.lastData());
+            Assertions.assertEquals(6, reopened.load("k2").round());
+            Assertions.assertTrue(reopened.load("k3").completed());
+            Assertions.assertNull(reopened.load("k3").lastFiredAt());
+            Assertions.assertEquals("data", reopened.load("k3").lastData());
+        }
+    }
+
+    @Test
+    void test_recover_the_uncompacted_journal(@TempDir Path dir) throws Exception {
+        final JournalSchedulerStateStore store = open(dir, 4096);
+        store.save(record("k1", 1, 1));
+        store.save(record("k1", 2, 2));
+        store.flush();
+        // Simulate a crash: the store is not closed, then the states are only in the journal
+        try (JournalSchedulerStateStore reopened = open(dir, 4096)) {
+            Assertions.assertEquals(2, reopened.load("k1").tick());
+        }
+        store.close();
+    }
+
+    @Test
+    void test_discard_the_torn_journal(@TempDir Path dir) throws IOException {
+        final JournalSchedulerStateStore store = open(dir, 4096);
+        store.save(record("k1", 1, 1));
+        store.save(record("k2", 1, 1));
+        store.flush();
+        final int first = JournalSchedulerStateStore.encode(record("k1", 1, 1)).length + 8;
+        try (FileChannel file = FileChannel.open(dir.resolve(JournalSchedulerStateStore.JOURNAL_FILE),
+                                                 StandardOpenOption.WRITE)) {
+            // Corrupt the payload of the second record
+            file.write(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 }), first + 10);
+        }
+        try (JournalSchedulerStateStore reopened = open(dir, 4096)) {
+            Assertions.assertEquals(1, reopened.load("k1").tick());
+            Assertions.assertNull(reopened.load("k2"));
+        }
+        store.close();
+    }
+
+    @Test
+    void test_drop_the_corrupted_snapshot(@TempDir Path dir) throws IOException {
+        final JournalSchedulerStateStore first = open(dir, 4096);
+        first.save(record("k1", 1, 1));
+        first.close();
+        final JournalSchedulerStateStore store = open(dir, 4096);
+        store.save(record("k2", 2, 2));
+        store.flush();
+        // Simulate a crash: k1 is only in the snapshot, and k2 is only in the journal
+        try (FileChannel file = FileChannel.open(dir.resolve(JournalSchedulerStateStore.SNAPSHOT_FILE),
+                                                 StandardOpenOption.WRITE)) {
+            // Corrupt the payload of the first snapshot record
+            file.write(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 }), 8 + 8 + 4);
+        }
+        try (JournalSchedulerStateStore reopened = open(dir, 4096)) {
+            Assertions.assertNull(reopened.load("k1"));
+            Assertions.assertEquals(2, reopened.load("k2").tick());
+        }
+        // The snapshot is rewritten from the journal
+        try (JournalSchedulerStateStore reopened = open(dir, 4096)) {
+            Assertions.assertEquals(2, reopened.load("k2").tick());
+        }
+        store.close();
+    }
+
+    @Test
+    void test_drop_the_snapshot_with_invalid_magic_number(@TempDir Path dir) throws IOException {
+        try (JournalSchedulerStateStore store = open(dir, 4096)) {
+            store.save(record("k1", 1, 1));
+        }
+        Files.write(dir.resolve(JournalSchedulerStateStore.SNAPSHOT_FILE), new byte[] { 0, 1, 2 });
+        try (JournalSchedulerStateStore reopened = open(dir, 4096)) {
+            Assertions.assertNull(reopened.load("k1"));
+            reopened.save(record("k1", 2, 2));
+        }
+        try (JournalSchedulerStateStore reopened = open(dir, 4096)) {
+            Assertions.assertEquals(2, reopened.load("k1").tick());
+        }
+    }
+
+    @Test
+    void test_compact_when_journal_is_full(@TempDir Path dir) {
+        try (JournalSchedulerStateStore store = open(dir, 1024)) {
+            for (int i = 1; i <= 1000; i++) {
+                store.save(record("k" + i % 10, i, i));
+            }
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertEquals(990 + (i == 0 ? 10 : i), store.load("k" + i).tick());
+            }
+        }
+        try (JournalSchedulerStateStore reopened = open(dir, 1024)) {
+            Assertions.assertEquals(1000, reopened.load("k0").tick());
+            Assertions.assertEquals(999, reopened.load("k9").tick());
+        }
+    }
+
+    @Test
+    void test_recover_after_the_full_segment_is_compacted(@TempDir Path dir) throws InterruptedException {
+        final JournalSchedulerStateStore store = open(dir, 1024);
+        // The first segment is full, then the next states go to the other segment while it is compacted
+        for (int i = 1; i <= 30; i++) {
+            store.save(record("k" + i % 3, i, i));
+        }
+        final long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (store.uncommitted() != 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(100);
+        // Simulate a crash: the states are recovered from the snapshot and the active segment
+        try (JournalSchedulerStateStore reopened = open(dir, 1024)) {
+            Assertions.assertEquals(30, reopened.load("k0").tick());
+            Assertions.assertEquals(29, reopened.load("k2").tick());
+            Assertions.assertEquals(28, reopened.load("k1").tick());
+        }
+        store.close();
+    }
+
+    @Test
+    void test_group_commit(@TempDir Path dir) throws InterruptedException {
+        try (JournalSchedulerStateStore store = open(dir, 4096)) {
+            for (int i = 1; i <= 10; i++) {
+                store.save(record("k1", i, i));
+            }
+            final long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+            while (store.uncommitted() != 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            Assertions.assertEquals(0, store.uncommitted());
+        }
+    }
+
+    @Test
+    void test_reject_the_closed_store(@TempDir Path dir) {
+        final JournalSchedulerStateStore store = open(dir, 4096);
+        store.close();
+        Assertions.assertThrows(IllegalStateException.class, () -> store.save(record("k1", 1, 1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> open(dir, 512));
+    }
+
+}
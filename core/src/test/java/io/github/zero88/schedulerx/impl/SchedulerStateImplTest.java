@@ -0,0 +1,94 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SchedulerStateImplTest {
+
+    @Test
+    void test_lifecycle_flags() {
+        final SchedulerStateImpl<String> state = new SchedulerStateImpl<>(new TimeClockImpl());
+        Assertions.assertTrue(state.pending());
+        Assertions.assertFalse(state.completed());
+        Assertions.assertNotNull(state.markAvailable());
+        Assertions.assertEquals(state.availableAt(), state.availableAt());
+        Assertions.assertFalse(state.pending());
+        state.markCompleted();
+        Assertions.assertTrue(state.completed());
+        Assertions.assertFalse(state.pending());
+    }
+
+    @Test
+    void test_in_flight_tick() {
+        final SchedulerStateImpl<String> state = new SchedulerStateImpl<>(new TimeClockImpl());
+        Assertions.assertEquals(1, state.increaseTick());
+        Assertions.assertFalse(state.executing());
+        Assertions.assertEquals(2, state.increaseTick());
+        Assertions.assertTrue(state.executing());
+        state.markFinished(2);
+        Assertions.assertTrue(state.executing());
+        state.markFinished(1);
+        Assertions.assertFalse(state.executing());
+        Assertions.assertEquals(3, state.increaseTick());
+        Assertions.assertFalse(state.executing());
+    }
+
+    @Test
+    void test_multiple_in_flight_ticks() {
+        final SchedulerStateImpl<String> state = new SchedulerStateImpl<>(new TimeClockImpl(), 2);
+        Assertions.assertEquals(1, state.increaseTick());
+        Assertions.assertEquals(2, state.increaseTick());
+        Assertions.assertEquals(3, state.increaseTick());
+        Assertions.assertTrue(state.inFlight(1));
+        Assertions.assertTrue(state.inFlight(2));
+        Assertions.assertFalse(state.inFlight(3));
+        Assertions.assertTrue(state.executing());
+        state.markFinished(1);
+        Assertions.assertFalse(state.inFlight(1));
+        Assertions.assertTrue(state.markInFlight(3));
+        Assertions.assertFalse(state.markInFlight(4));
+        state.markFinished(2);
+        state.markFinished(3);
+        Assertions.assertFalse(state.executing());
+    }
+
+    @Test
+    void test_keep_data_of_latest_round() {
+        final SchedulerStateImpl<String> state = new SchedulerStateImpl<>(new TimeClockImpl());
+        Assertions.assertNull(state.lastData());
+        Assertions.assertEquals("r2", state.addData(2, "r2"));
+        Assertions.assertEquals("r2", state.addData(1, "r1"));
+        Assertions.assertEquals("r2", state.addData(2, "other"));
+        Assertions.assertEquals("r3", state.addData(3, "r3"));
+        Assertions.assertEquals("r3", state.lastData());
+        final IllegalStateException error = new IllegalStateException();
+        Assertions.assertSame(error, state.addError(3, error));
+        Assertions.assertNull(state.addError(4, null));
+        Assertions.assertNull(state.lastError());
+    }
+
+    @Test
+    void test_concurrent_data() throws InterruptedException {
+        final SchedulerStateImpl<Long> state = new SchedulerStateImpl<>(new TimeClockImpl());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final CountDownLatch latch = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            final int offset = i;
+            executor.execute(() -> {
+                for (long round = 1 + offset; round <= 10_000; round += 4) {
+                    state.addData(round, round);
+                }
+                latch.countDown();
+            });
+        }
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdownNow();
+        Assertions.assertEquals(10_000L, state.lastData());
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.github.zero88.schedulerx.impl;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.TriggerStatus;
+import io.github.zero88.schedulerx.trigger.TriggerContext;
+
+class TriggerContextFactoryTest {
+
+    @Test
+    void test_transition_keeps_the_fire_info() {
+        final Instant firedAt = Instant.parse("2024-01-01T00:00:00Z");
+        final TriggerContext kickoff = TriggerContextFactory.kickoff("interval", firedAt, 5, "info");
+        final TriggerContext ready = TriggerContextFactory.ready(kickoff);
+        final TriggerContext executed = TriggerContextFactory.executed(ready);
+        Assertions.assertTrue(kickoff.isKickoff());
+        Assertions.assertTrue(ready.isReady());
+        Assertions.assertTrue(executed.isExecuted());
+        Assertions.assertEquals("interval", executed.type());
+        Assertions.assertEquals(5, executed.tick());
+        Assertions.assertEquals(firedAt, executed.firedAt());
+        Assertions.assertEquals("info", executed.info());
+    }
+
+    @Test
+    void test_share_condition_without_cause() {
+        final TriggerContext ctx = TriggerContextFactory.kickoff("cron", Instant.now(), 1);
+        Assertions.assertSame(TriggerContextFactory.ready(ctx).condition(),
+                              TriggerContextFactory.ready(ctx).condition());
+        Assertions.assertSame(TriggerContextFactory.skip(ctx, ReasonCode.JOB_IS_RUNNING).condition(),
+                              TriggerContextFactory.skip(ctx, ReasonCode.JOB_IS_RUNNING).condition());
+        Assertions.assertSame(TriggerContextFactory.scheduled("cron").condition(),
+                              TriggerContextFactory.scheduled("cron").condition());
+        Assertions.assertEquals(ReasonCode.JOB_IS_RUNNING,
+                                TriggerContextFactory.skip(ctx, ReasonCode.JOB_IS_RUNNING).condition().reasonCode());
+    }
+
+    @Test
+    void test_custom_reason_and_cause() {
+        final TriggerContext ctx = TriggerContextFactory.kickoff("event", Instant.now(), 1);
+        final RuntimeException cause = new RuntimeException("error");
+        final TriggerContext skipped = TriggerContextFactory.skip(ctx, ReasonCode.UNEXPECTED_ERROR, cause);
+        Assertions.assertSame(cause, skipped.condition().cause());
+        Assertions.assertEquals(TriggerStatus.SKIPPED, skipped.condition().status());
+        Assertions.assertNull(TriggerContextFactory.skip(ctx, ReasonCode.UNEXPECTED_ERROR).condition().cause());
+        final TriggerContext custom = TriggerContextFactory.stop(ctx, "CustomReason");
+        Assertions.assertEquals("CustomReason", custom.condition().reasonCode());
+        Assertions.assertTrue(custom.isStopped());
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.github.zero88.schedulerx.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+/**
+ * The virtual thread is only available since Java 21, then the tests are skipped on the older runtime.
+ */
+@ExtendWith(VertxExtension.class)
+@EnabledIf("io.github.zero88.schedulerx.impl.VirtualThreadWorkerExecutor#isSupported")
+class VirtualThreadWorkerExecutorTest {
+
+    @Test
+    void test_run_on_virtual_thread_with_caller_context(Vertx vertx, VertxTestContext testContext) {
+        final WorkerExecutor executor = VirtualThreadWorkerExecutor.create(vertx);
+        Assertions.assertNotNull(executor);
+        final Context context = vertx.getOrCreateContext();
+        context.runOnContext(ignore -> executor.<Boolean>executeBlocking(promise -> {
+            testContext.verify(() -> Assertions.assertSame(context, Vertx.currentContext()));
+            promise.complete(isVirtual(Thread.currentThread()));
+        }, false).onComplete(testContext.succeeding(virtual -> testContext.verify(() -> {
+            Assertions.assertTrue(virtual);
+            Assertions.assertFalse(isVirtual(Thread.currentThread()));
+            // The result is delivered on the caller context
+            Assertions.assertSame(context, Vertx.currentContext());
+            testContext.completeNow();
+        }))));
+    }
+
+    @Test
+    void test_fail_when_blocking_code_throws(Vertx vertx, VertxTestContext testContext) {
+        final WorkerExecutor executor = VirtualThreadWorkerExecutor.create(vertx);
+        Assertions.assertNotNull(executor);
+        executor.executeBlocking(promise -> { throw new IllegalStateException("error"); }, false)
+                .onComplete(testContext.failing(t -> testContext.verify(() -> {
+                    Assertions.assertInstanceOf(IllegalStateException.class, t);
+                    testContext.completeNow();
+                })));
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            // The project still targets Java 11, then the virtual thread API is invoked by reflection
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
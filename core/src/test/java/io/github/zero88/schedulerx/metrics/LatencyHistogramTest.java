@@ -0,0 +1,63 @@
+package io.github.zero88.schedulerx.metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void test_bucket_index_is_monotonic() {
+        int previous = -1;
+        for (long value = 0; value < 1 << 20; value++) {
+            final int index = LatencyHistogram.indexOf(value);
+            Assertions.assertTrue(index >= previous);
+            Assertions.assertTrue(value <= LatencyHistogram.highestEquivalentValue(index));
+            previous = index;
+        }
+        final int last = LatencyHistogram.indexOf(Long.MAX_VALUE);
+        Assertions.assertEquals(Long.MAX_VALUE, LatencyHistogram.highestEquivalentValue(last));
+    }
+
+    @Test
+    void test_percentile_relative_error() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+        Assertions.assertEquals(100_000, histogram.count());
+        Assertions.assertEquals(100_000_000, histogram.max());
+        Assertions.assertEquals(50_000_500, histogram.mean(), 1);
+        assertNear(50_000_000, histogram.valueAtPercentile(50));
+        assertNear(99_000_000, histogram.valueAtPercentile(99));
+        Assertions.assertEquals(100_000_000, histogram.valueAtPercentile(100));
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.count());
+        Assertions.assertEquals(0, histogram.valueAtPercentile(99));
+    }
+
+    @Test
+    void test_concurrent_record() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        pool.shutdown();
+        Assertions.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(400_000, histogram.count());
+        Assertions.assertEquals(99_999, histogram.max());
+    }
+
+    private static void assertNear(long expected, long actual) {
+        Assertions.assertTrue(Math.abs(actual - expected) <= expected / 64, "Expected ~" + expected + ", was " + actual);
+    }
+
+}
@@ -0,0 +1,91 @@
+package io.github.zero88.schedulerx.metrics;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.github.zero88.schedulerx.IntervalScheduler;
+import io.github.zero88.schedulerx.NoopJob;
+import io.github.zero88.schedulerx.trigger.IntervalTrigger;
+import io.github.zero88.schedulerx.trigger.TriggerCondition.ReasonCode;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class SchedulingMetricsMonitorTest {
+
+    private static final String[] TAGS = { "app", "test" };
+
+    @Test
+    void test_record_execution_metrics(Vertx vertx, VertxTestContext testContext) {
+        final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(100)).repeat(3).build();
+        IntervalScheduler.builder()
+                         .setVertx(vertx)
+                         .setMonitor(SchedulingMetricsMonitor.create(registry, TAGS))
+                         .setTrigger(trigger)
+                         .setJob(NoopJob.create())
+                         .build()
+                         .start();
+        vertx.setPeriodic(50, id -> {
+            if (registry.gaugeValue(SchedulingMetricsMonitor.COMPLETED, TAGS) == 1) {
+                vertx.cancelTimer(id);
+                testContext.verify(() -> {
+                    Assertions.assertEquals(0, registry.gaugeValue(SchedulingMetricsMonitor.ACTIVE, TAGS));
+                    // A slow environment might misfire a round
+                    final long executed = count(registry, SchedulingMetricsMonitor.EXECUTION_DURATION, TAGS);
+                    Assertions.assertTrue(executed > 0 && executed <= 3);
+                    Assertions.assertEquals(executed, count(registry, SchedulingMetricsMonitor.TRIGGER_LATENCY, TAGS));
+                    Assertions.assertEquals(executed, count(registry, SchedulingMetricsMonitor.QUEUE_WAIT, TAGS));
+                    Assertions.assertEquals(0, count(registry, SchedulingMetricsMonitor.TRIGGER_DRIFT, TAGS));
+                    Assertions.assertEquals(0, registry.counterValue(SchedulingMetricsMonitor.TIMEOUT, "app", "test",
+                                                                     "phase", "execution"));
+                });
+                testContext.completeNow();
+            }
+        });
+    }
+
+    @Test
+    void test_count_misfire_by_reason(Vertx vertx, VertxTestContext testContext) {
+        final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMillis(100)).repeat(2).build();
+        IntervalScheduler.<Void, Void>builder()
+                         .setVertx(vertx)
+                         .setMonitor(SchedulingMetricsMonitor.create(registry))
+                         .setTrigger(trigger)
+                         .setJob((jobData, executionContext) -> {
+                             try {
+                                 Thread.sleep(250);
+                             } catch (InterruptedException e) {
+                                 Thread.currentThread().interrupt();
+                             }
+                         })
+                         .build()
+                         .start();
+        vertx.setPeriodic(50, id -> {
+            if (registry.gaugeValue(SchedulingMetricsMonitor.COMPLETED) == 1) {
+                vertx.cancelTimer(id);
+                testContext.verify(() -> {
+                    final long misfire = registry.counterValue(SchedulingMetricsMonitor.MISFIRE, "reason",
+                                                               ReasonCode.JOB_IS_RUNNING);
+                    Assertions.assertTrue(misfire > 0);
+                    Assertions.assertTrue(count(registry, SchedulingMetricsMonitor.EXECUTION_DURATION) > 0);
+                    final LatencyHistogram duration = registry.findTimer(SchedulingMetricsMonitor.EXECUTION_DURATION);
+                    Assertions.assertNotNull(duration);
+                    Assertions.assertTrue(duration.valueAtPercentile(50) >= Duration.ofMillis(250).toNanos());
+                });
+                testContext.completeNow();
+            }
+        });
+    }
+
+    private static long count(InMemoryMetricsRegistry registry, String name, String... tags) {
+        final LatencyHistogram histogram = registry.findTimer(name, tags);
+        return histogram == null ? 0 : histogram.count();
+    }
+
+}
@@ -0,0 +1,95 @@
+package io.github.zero88.schedulerx.trigger;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompiledCronExpressionTest {
+
+    static Stream<Arguments> parityData() {
+        final String[] expressions = {
+            "0 0/5 9-17 ? * MON-FRI", "15 10 2 * * ?", "0/7 */13 1-3 ? * *", "0 0 12 L * ?", "0 0 12 L-3 * ?",
+            "0 0 12 LW * ?", "0 30 8 15W * ?", "0 30 8 1W * ?", "0 0 0 ? * 6L", "0 0 10 ? * 2#1", "0 0 10 ? * 7#5",
+            "0 0 0 29 2 ?", "0 0 0 31 * ?", "0 15 23 ? NOV-FEB SAT,SUN", "0 0 1 1 1 ? 2030-2035", "59 59 23 31 12 ?"
+        };
+        final String[] zones = { "UTC", "America/New_York", "Europe/Paris", "Australia/Lord_Howe", "Asia/Kolkata" };
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        for (String expression : expressions) {
+            for (String zone : zones) {
+                builder.add(arguments(expression, zone));
+            }
+        }
+        return builder.build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("parityData")
+    void test_parity_with_cron_expression(String expression, String zone) throws ParseException {
+        final CronExpression cronExpression = new CronExpression(expression).setTimeZone(TimeZone.getTimeZone(zone));
+        final CompiledCronExpression compiled = CompiledCronExpression.compile(cronExpression);
+        long time = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < 500; i++) {
+            final Date expected = cronExpression.getTimeAfter(new Date(time));
+            final long actual = compiled.nextValidTimeAfter(time);
+            if (expected == null) {
+                Assertions.assertEquals(CompiledCronExpression.NONE, actual);
+                return;
+            }
+            Assertions.assertEquals(expected.toInstant(), Instant.ofEpochMilli(actual),
+                                    "Mismatch after " + Instant.ofEpochMilli(time));
+            time = expected.getTime();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0 0 12 15W * ?", "0 30 8 1W * ?", "0 0 12 LW * ?", "0 0 12 L-2W * ?", "5 0 0 31W * ?" })
+    void test_nearest_weekday_parity_with_sub_second_start(String expression) throws ParseException {
+        final CronExpression cronExpression = new CronExpression(expression).setTimeZone(TimeZone.getTimeZone("UTC"));
+        final CompiledCronExpression compiled = CompiledCronExpression.compile(cronExpression);
+        long fireTime = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < 36; i++) {
+            fireTime = cronExpression.getTimeAfter(new Date(fireTime)).getTime();
+            // Around each fire time, including the starts that fall in the same second as the candidate
+            for (long delta : new long[] { -1999, -1500, -1001, -1000, -999, -500, -1, 0, 1, 500, 999 }) {
+                final long time = fireTime + delta;
+                final Date expected = cronExpression.getTimeAfter(new Date(time));
+                Assertions.assertEquals(expected.toInstant(), Instant.ofEpochMilli(compiled.nextValidTimeAfter(time)),
+                                        "Mismatch after " + Instant.ofEpochMilli(time));
+                Assertions.assertEquals(expected, cronExpression.getTimeAfter(new Date(time)),
+                                        "Not deterministic after " + Instant.ofEpochMilli(time));
+            }
+        }
+    }
+
+    @Test
+    void test_no_more_fire_time() throws ParseException {
+        final CompiledCronExpression compiled = CompiledCronExpression.compile(
+            new CronExpression("0 0 0 1 1 ? 2020").setTimeZone(TimeZone.getTimeZone("UTC")));
+        Assertions.assertEquals(CompiledCronExpression.NONE,
+                                compiled.nextValidTimeAfter(Instant.parse("2023-01-01T00:00:00Z").toEpochMilli()));
+        Assertions.assertNull(compiled.nextValidTimeAfter(Instant.parse("2023-01-01T00:00:00Z")));
+    }
+
+    @Test
+    void test_snapshot_time_zone() throws ParseException {
+        final CronExpression cronExpression = new CronExpression("0 0 12 * * ?").setTimeZone(
+            TimeZone.getTimeZone("Asia/Ho_Chi_Minh"));
+        final CompiledCronExpression compiled = CompiledCronExpression.compile(cronExpression);
+        cronExpression.setTimeZone(TimeZone.getTimeZone("UTC"));
+        Assertions.assertEquals("Asia/Ho_Chi_Minh", compiled.getTimeZone().getID());
+        Assertions.assertEquals(Instant.parse("2023-01-01T05:00:00Z"),
+                                compiled.nextValidTimeAfter(Instant.parse("2023-01-01T00:00:00Z")));
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.text.ParseException;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CronExpressionCacheTest {
+
+    @Test
+    void test_share_compiled_expression() throws ParseException {
+        final CronExpressionCache cache = new CronExpressionCache(10);
+        final TimeZone utc = TimeZone.getTimeZone("UTC");
+        final CompiledCronExpression compiled = cache.get("0 */5 * * * ?", utc);
+        Assertions.assertSame(compiled, cache.get("0 */5 * * * ?", TimeZone.getTimeZone("UTC")));
+        Assertions.assertSame(compiled, cache.get(" 0  */5 * * * ? ", utc));
+        Assertions.assertNotSame(compiled, cache.get("0 */5 * * * ?", TimeZone.getTimeZone("Asia/Ho_Chi_Minh")));
+
+        final CronExpressionCache.Stats stats = cache.stats();
+        Assertions.assertEquals(2, stats.hitCount());
+        Assertions.assertEquals(2, stats.missCount());
+        Assertions.assertEquals(0, stats.evictionCount());
+        Assertions.assertEquals(2, stats.size());
+    }
+
+    @Test
+    void test_share_between_cron_triggers() {
+        final CronTriggerImpl t1 = (CronTriggerImpl) CronTrigger.builder().expression("0 0/3 * * * ?").build().validate();
+        final CronTriggerImpl t2 = (CronTriggerImpl) CronTrigger.builder().expression("0 0/3 * * * ?").build().validate();
+        Assertions.assertSame(t1.cronExpression, t2.cronExpression);
+    }
+
+    @Test
+    void test_evict_when_full() throws ParseException {
+        final CronExpressionCache cache = new CronExpressionCache(3);
+        final TimeZone utc = TimeZone.getTimeZone("UTC");
+        final CompiledCronExpression hot = cache.get("0 0 1 * * ?", utc);
+        cache.get("0 0 2 * * ?", utc);
+        cache.get("0 0 3 * * ?", utc);
+        Assertions.assertSame(hot, cache.get("0 0 1 * * ?", utc));
+        for (int i = 4; i < 10; i++) {
+            cache.get("0 0 " + i + " * * ?", utc);
+            cache.get("0 0 1 * * ?", utc);
+        }
+        Assertions.assertEquals(3, cache.size());
+        Assertions.assertEquals(6, cache.stats().evictionCount());
+        Assertions.assertSame(hot, cache.get("0 0 1 * * ?", utc));
+    }
+
+    @Test
+    void test_invalid_expression() {
+        final CronExpressionCache cache = new CronExpressionCache(3);
+        Assertions.assertThrows(ParseException.class, () -> cache.get("0 0 25 * * ?", TimeZone.getTimeZone("UTC")));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+}
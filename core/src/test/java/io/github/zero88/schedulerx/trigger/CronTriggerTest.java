@@ -4,11 +4,15 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.OffsetTime;
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
 import java.util.TimeZone;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
@@ -54,7 +58,9 @@ class CronTriggerTest {
                          arguments(CronTrigger.builder().expression("0 0/2 0 ? * * *").timeZone(TimeZone.getTimeZone("EST")).build(),
                                    JsonObject.of("type", "cron", "expression", "0 0/2 0 ? * * *", "timeZone", "EST")),
                          arguments(CronTrigger.builder().expression("0 0/2 0 ? * * *").rule(rule).build(),
-                                   JsonObject.of("expression", "0 0/2 0 ? * * *", "timeZone", "GMT", "rule", ruleJson)));
+                                   JsonObject.of("expression", "0 0/2 0 ? * * *", "timeZone", "GMT", "rule", ruleJson)),
+                         arguments(CronTrigger.builder().expression("0 0/2 0 ? * * *").misfirePolicy(MisfirePolicy.fireAllMissed(5)).build(),
+                                   JsonObject.of("expression", "0 0/2 0 ? * * *", "misfirePolicy", JsonObject.of("strategy", "FIRE_ALL_MISSED", "maxCatchUp", 5))));
         // @formatter:on
     }
 
@@ -99,7 +105,7 @@ class CronTriggerTest {
     @Test
     void test_trigger() {
         final CronTrigger trigger = CronTrigger.builder().expression("0 0/2 0 ? * * *").build().validate();
-        final CronExpression cronExpression = ((CronTriggerImpl) trigger).cronExpression;
+        final CompiledCronExpression cronExpression = ((CronTriggerImpl) trigger).cronExpression;
         final Instant parse = Instant.parse("2021-02-25T00:00:00Z");
 
         Assertions.assertEquals("GMT", trigger.getTimeZone().getID());
@@ -159,4 +165,54 @@ class CronTriggerTest {
         Assertions.assertIterableEquals(expected, trigger.preview(parameter));
     }
 
+    @Test
+    void test_fire_times_in_window() {
+        final TriggerRule rule = TriggerRule.builder()
+                                            .beginTime(Instant.parse("2023-07-30T10:12:00Z"))
+                                            .timeframe(Timeframe.of(OffsetTime.parse("10:00:00Z"),
+                                                                    OffsetTime.parse("10:30:00Z")))
+                                            .build();
+        final CronTrigger trigger = CronTrigger.builder().expression("0 0/5 * * * ?").rule(rule).build();
+        final List<Instant> expected = Arrays.asList(Instant.parse("2023-07-30T10:15:00Z"),
+                                                     Instant.parse("2023-07-30T10:20:00Z"),
+                                                     Instant.parse("2023-07-30T10:25:00Z"),
+                                                     Instant.parse("2023-07-31T10:00:00Z"),
+                                                     Instant.parse("2023-07-31T10:05:00Z"));
+        final List<Instant> result = trigger.fireTimeStream(Instant.parse("2023-07-30T10:00:00Z"),
+                                                            Instant.parse("2023-07-31T10:05:00Z"))
+                                            .collect(Collectors.toList());
+        Assertions.assertIterableEquals(expected, result);
+    }
+
+    @Test
+    void test_fire_times_iterator() {
+        final CronTrigger trigger = CronTrigger.builder().expression("0 0 0 ? * MON").build();
+        final PrimitiveIterator.OfLong iterator = trigger.fireTimes(Instant.parse("2023-07-01T00:00:00Z"),
+                                                                    Instant.parse("2023-09-01T00:00:00Z"));
+        long count = 0;
+        long previous = Long.MIN_VALUE;
+        while (iterator.hasNext()) {
+            final long next = iterator.nextLong();
+            Assertions.assertTrue(next > previous);
+            previous = next;
+            count++;
+        }
+        Assertions.assertEquals(9, count);
+        Assertions.assertThrows(NoSuchElementException.class, iterator::nextLong);
+    }
+
+    @Test
+    void test_missed_fire_times_keep_the_latest() {
+        final CronTrigger trigger = CronTrigger.builder().expression("0 0/5 * * * ?").build();
+        final long[] buffer = new long[3];
+        final long missed = trigger.missedFireTimes(Instant.parse("2023-07-30T10:00:00Z"),
+                                                    Instant.parse("2023-07-30T11:02:00Z"), buffer);
+        Assertions.assertEquals(12, missed);
+        Assertions.assertArrayEquals(new long[] { Instant.parse("2023-07-30T10:50:00Z").toEpochMilli(),
+                                                  Instant.parse("2023-07-30T10:55:00Z").toEpochMilli(),
+                                                  Instant.parse("2023-07-30T11:00:00Z").toEpochMilli() }, buffer);
+        Assertions.assertEquals(0, trigger.missedFireTimes(Instant.parse("2023-07-30T10:00:00Z"),
+                                                           Instant.parse("2023-07-30T10:04:59Z"), buffer));
+    }
+
 }
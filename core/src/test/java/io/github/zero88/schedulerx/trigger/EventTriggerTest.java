@@ -2,6 +2,7 @@ package io.github.zero88.schedulerx.trigger;
 
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.time.Duration;
 import java.time.LocalTime;
 import java.util.stream.Stream;
 
@@ -42,6 +43,9 @@ class EventTriggerTest {
             arguments(EventTrigger.builder().address("s1.a2.b3").localOnly(true).predicate(EventTriggerPredicate.any()).rule(rule).build(),
                       new JsonObject("{\"type\":\"event\",\"rule\":{\"timeframes\":[{\"from\":\"02:30:00\",\"type\":\"java.time.LocalTime\"}]}," +
                                      "\"address\":\"s1.a2.b3\",\"localOnly\":true," +
+                                     "\"eventTriggerPredicate\":{\"predicate\":\"io.github.zero88.schedulerx.trigger.predicate.AnyEventTriggerPredicate\"}}")),
+            arguments(EventTrigger.builder().address("s1.a2.b3").predicate(EventTriggerPredicate.any()).window(EventWindow.of(10, Duration.ofSeconds(1)).withMaxBytes(1024)).build(),
+                      new JsonObject("{\"address\":\"s1.a2.b3\",\"window\":{\"maxCount\":10,\"maxLatency\":\"PT1S\",\"maxBytes\":1024}," +
                                      "\"eventTriggerPredicate\":{\"predicate\":\"io.github.zero88.schedulerx.trigger.predicate.AnyEventTriggerPredicate\"}}")));
         // @formatter:on
     }
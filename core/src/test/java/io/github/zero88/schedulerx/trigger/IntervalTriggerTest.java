@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
@@ -66,7 +67,11 @@ class IntervalTriggerTest {
             arguments(IntervalTrigger.builder().interval(Duration.ofHours(1)).initialDelay(Duration.ofSeconds(3)).rule(ruleWithoutBeginTime).build(),
                       JsonObject.of("interval", "PT1H", "initialDelay", "PT3S", "rule", ruleWithoutBeginTimeJson)),
             arguments(IntervalTrigger.builder().interval(Duration.ofHours(1)).initialDelay(Duration.ofSeconds(3)).rule(ruleWithBeginTime).build(),
-                      JsonObject.of("interval", "PT1H", "rule", ruleWithBeginTimeJson)));
+                      JsonObject.of("interval", "PT1H", "rule", ruleWithBeginTimeJson)),
+            arguments(IntervalTrigger.builder().interval(Duration.ofHours(1)).misfirePolicy(MisfirePolicy.skipToNext().withThreshold(Duration.ofSeconds(5))).build(),
+                      JsonObject.of("interval", "PT1H", "misfirePolicy", JsonObject.of("strategy", "SKIP_TO_NEXT", "threshold", "PT5S"))),
+            arguments(IntervalTrigger.builder().interval(Duration.ofSeconds(1)).anchor(Instant.parse("2023-07-30T00:00:00Z")).build(),
+                      JsonObject.of("interval", "PT1S", "anchor", "2023-07-30T00:00:00Z")));
         // @formatter:on
     }
 
@@ -89,7 +94,11 @@ class IntervalTriggerTest {
                          arguments(JsonObject.of("initialDelayTimeUnit", "SECONDS"), IllegalArgumentException.class,
                                    "Invalid interval value"),
                          arguments(JsonObject.of("interval", 10, "initialDelay", -1), IllegalArgumentException.class,
-                                   "Invalid initial delay value"));
+                                   "Invalid initial delay value"),
+                         arguments(JsonObject.of("interval", "PT0.0001S"), IllegalArgumentException.class,
+                                   "Invalid interval value"),
+                         arguments(JsonObject.of("interval", "PT0.0001S", "anchor", "2023-07-30T00:00:00Z"),
+                                   IllegalArgumentException.class, "Invalid interval value"));
     }
 
     @ParameterizedTest
@@ -148,4 +157,93 @@ class IntervalTriggerTest {
         Assertions.assertIterableEquals(expected, trigger.preview(parameter));
     }
 
+    @Test
+    void test_fire_times_in_window() {
+        final IntervalTrigger trigger = IntervalTrigger.builder()
+                                                       .initialDelay(Duration.ofSeconds(10))
+                                                       .interval(Duration.ofMinutes(10))
+                                                       .repeat(3)
+                                                       .build();
+        final List<Instant> expected = Arrays.asList(Instant.parse("2023-07-30T11:11:10Z"),
+                                                     Instant.parse("2023-07-30T11:21:10Z"),
+                                                     Instant.parse("2023-07-30T11:31:10Z"));
+        Assertions.assertIterableEquals(expected, trigger.fireTimeStream(Instant.parse("2023-07-30T11:01:00Z"),
+                                                                         Instant.parse("2023-08-30T00:00:00Z"))
+                                                         .collect(Collectors.toList()));
+    }
+
+    @Test
+    void test_fire_times_with_rule() {
+        final TriggerRule rule = TriggerRule.builder()
+                                            .beginTime(Instant.parse("2023-07-30T12:00:00Z"))
+                                            .until(Instant.parse("2023-07-30T14:00:00Z"))
+                                            .build();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMinutes(30)).rule(rule).build();
+        final List<Instant> expected = Arrays.asList(Instant.parse("2023-07-30T12:01:00Z"),
+                                                     Instant.parse("2023-07-30T12:31:00Z"),
+                                                     Instant.parse("2023-07-30T13:01:00Z"),
+                                                     Instant.parse("2023-07-30T13:31:00Z"));
+        Assertions.assertIterableEquals(expected, trigger.fireTimeStream(Instant.parse("2023-07-30T11:01:00Z"),
+                                                                         Instant.parse("2023-07-31T00:00:00Z"))
+                                                         .collect(Collectors.toList()));
+    }
+
+    @Test
+    void test_missed_fire_times() {
+        final IntervalTrigger trigger = IntervalTrigger.builder()
+                                                       .initialDelay(Duration.ofSeconds(10))
+                                                       .interval(Duration.ofMinutes(10))
+                                                       .build();
+        final Instant from = Instant.parse("2023-07-30T11:00:00Z");
+        final long[] buffer = new long[2];
+        Assertions.assertEquals(5, trigger.missedFireTimes(from, Instant.parse("2023-07-30T11:55:00Z"), buffer));
+        Assertions.assertArrayEquals(new long[] { Instant.parse("2023-07-30T11:40:00Z").toEpochMilli(),
+                                                  Instant.parse("2023-07-30T11:50:00Z").toEpochMilli() }, buffer);
+        Assertions.assertEquals(0, trigger.missedFireTimes(from, Instant.parse("2023-07-30T11:09:59Z"), buffer));
+    }
+
+    @Test
+    void test_missed_fire_times_with_rule() {
+        final TriggerRule rule = TriggerRule.builder().until(Instant.parse("2023-07-30T11:30:00Z")).build();
+        final IntervalTrigger trigger = IntervalTrigger.builder().interval(Duration.ofMinutes(10)).rule(rule).build();
+        final long[] buffer = new long[5];
+        Assertions.assertEquals(3, trigger.missedFireTimes(Instant.parse("2023-07-30T11:00:00Z"),
+                                                           Instant.parse("2023-07-30T12:00:00Z"), buffer));
+        Assertions.assertEquals(Instant.parse("2023-07-30T11:30:00Z").toEpochMilli(), buffer[2]);
+    }
+
+    @Test
+    void test_anchored_fire_times() {
+        final IntervalTrigger trigger = IntervalTrigger.builder()
+                                                       .interval(Duration.ofMinutes(10))
+                                                       .anchor(Instant.EPOCH)
+                                                       .repeat(3)
+                                                       .build();
+        Assertions.assertEquals(Instant.parse("2023-07-30T11:10:00Z"),
+                                trigger.nextTriggerTime(Instant.parse("2023-07-30T11:01:59.999Z")));
+        Assertions.assertEquals(Instant.parse("2023-07-30T11:20:00Z"),
+                                trigger.nextTriggerTime(Instant.parse("2023-07-30T11:10:00Z")));
+        final List<Instant> expected = Arrays.asList(Instant.parse("2023-07-30T11:10:00Z"),
+                                                     Instant.parse("2023-07-30T11:20:00Z"),
+                                                     Instant.parse("2023-07-30T11:30:00Z"));
+        Assertions.assertIterableEquals(expected, trigger.fireTimeStream(Instant.parse("2023-07-30T11:01:00Z"),
+                                                                         Instant.parse("2023-08-30T00:00:00Z"))
+                                                         .collect(Collectors.toList()));
+    }
+
+    @Test
+    void test_anchored_missed_fire_times() {
+        final IntervalTrigger trigger = IntervalTrigger.builder()
+                                                       .interval(Duration.ofMinutes(10))
+                                                       .anchor(Instant.EPOCH)
+                                                       .build();
+        final long[] buffer = new long[2];
+        Assertions.assertEquals(4, trigger.missedFireTimes(Instant.parse("2023-07-30T11:05:00Z"),
+                                                           Instant.parse("2023-07-30T11:45:00Z"), buffer));
+        Assertions.assertArrayEquals(new long[] { Instant.parse("2023-07-30T11:30:00Z").toEpochMilli(),
+                                                  Instant.parse("2023-07-30T11:40:00Z").toEpochMilli() }, buffer);
+        Assertions.assertEquals(0, trigger.missedFireTimes(Instant.parse("2023-07-30T11:00:00Z"),
+                                                           Instant.parse("2023-07-30T11:09:59Z"), buffer));
+    }
+
 }
@@ -0,0 +1,42 @@
+package io.github.zero88.schedulerx.trigger;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.zero88.schedulerx.DefaultOptions;
+import io.github.zero88.schedulerx.trigger.MisfirePolicy.Strategy;
+import io.vertx.core.json.JsonObject;
+
+class MisfirePolicyTest {
+
+    @Test
+    void test_default_policy() {
+        final MisfirePolicy policy = MisfirePolicy.byDefault();
+        Assertions.assertEquals(Strategy.FIRE_ONCE_NOW, policy.strategy());
+        Assertions.assertEquals(1, policy.maxCatchUp());
+        Assertions.assertEquals(DefaultOptions.getInstance().triggerMisfireThreshold, policy.threshold());
+        Assertions.assertEquals(JsonObject.of("strategy", "FIRE_ONCE_NOW"), policy.toJson());
+    }
+
+    @Test
+    void test_serialize_deserialize() {
+        final MisfirePolicy policy = MisfirePolicy.fireAllMissed(10).withThreshold(Duration.ofMillis(500));
+        final JsonObject json = JsonObject.of("strategy", "FIRE_ALL_MISSED", "maxCatchUp", 10, "threshold", "PT0.5S");
+        Assertions.assertEquals(json, policy.toJson());
+        Assertions.assertEquals(policy, json.mapTo(MisfirePolicy.class));
+        Assertions.assertEquals(MisfirePolicy.skipToNext(), JsonObject.of("strategy", "SKIP_TO_NEXT", "maxCatchUp", 5)
+                                                                      .mapTo(MisfirePolicy.class));
+    }
+
+    @Test
+    void test_invalid_policy() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MisfirePolicy.fireAllMissed(0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> MisfirePolicy.skipToNext().withThreshold(Duration.ofSeconds(-1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> JsonObject.of("threshold", "1s").mapTo(MisfirePolicy.class));
+    }
+
+}
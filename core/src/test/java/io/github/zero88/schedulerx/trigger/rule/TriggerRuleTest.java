@@ -9,8 +9,10 @@ import java.time.LocalTime;
 import java.time.OffsetTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.TimeZone;
 import java.util.stream.Stream;
 
@@ -196,4 +198,83 @@ class TriggerRuleTest {
         }
     }
 
+    @Test
+    void test_indexed_timeframes_should_match_every_timeframe_check() {
+        final TimeZone systemTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+            final Random random = new Random(42);
+            final Instant origin = Instant.parse("2023-03-20T00:00:00Z");
+            final Duration leeway = Duration.ofSeconds(5);
+            final List<Timeframe> timeframes = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final LocalTime from = LocalTime.ofSecondOfDay(random.nextInt(86400));
+                timeframes.add(Timeframe.of(from, from.plusMinutes(1 + random.nextInt(120))));
+            }
+            for (int i = 0; i < 30; i++) {
+                final LocalDate from = LocalDate.parse("2023-03-20").plusDays(random.nextInt(60));
+                timeframes.add(Timeframe.of(from, from.plusDays(1 + random.nextInt(3))));
+                final Instant at = origin.plus(Duration.ofMinutes(random.nextInt(60 * 24 * 60)));
+                timeframes.add(Timeframe.of(at, at.plus(Duration.ofMinutes(1 + random.nextInt(90)))));
+            }
+            timeframes.addAll(offsetTimeRanges());
+            final TriggerRule rule = TriggerRule.builder().timeframes(timeframes).leeway(leeway).build();
+            for (int i = 0; i < 20_000; i++) {
+                final Instant firedAt = origin.plusSeconds(random.nextInt(86400 * 90));
+                Assertions.assertEquals(timeframes.stream().anyMatch(tf -> tf.check(firedAt, leeway)),
+                                        rule.satisfy(firedAt), "Fired at " + firedAt);
+            }
+        } finally {
+            TimeZone.setDefault(systemTimeZone);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("nextSatisfiableTimeData")
+    void test_next_satisfiable_time(TriggerRule rule, Instant time, Instant expected) {
+        final TimeZone systemTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            Assertions.assertEquals(expected, rule.nextSatisfiableTime(time));
+        } finally {
+            TimeZone.setDefault(systemTimeZone);
+        }
+    }
+
+    private static Stream<Arguments> nextSatisfiableTimeData() {
+        final TriggerRule businessHours = TriggerRule.builder()
+                                                     .timeframes(Timeframe.of(LocalTime.parse("09:00"),
+                                                                              LocalTime.parse("12:00")),
+                                                                 Timeframe.of(LocalTime.parse("13:00"),
+                                                                              LocalTime.parse("17:00")))
+                                                     .build();
+        final TriggerRule nightShift = TriggerRule.builder()
+                                                  .timeframe(Timeframe.of(LocalTime.parse("22:00"),
+                                                                          LocalTime.parse("02:00")))
+                                                  .until(Instant.parse("2023-09-25T00:00:00Z"))
+                                                  .build();
+        final TriggerRule holidays = TriggerRule.builder()
+                                                .timeframes(Timeframe.of(LocalDate.parse("2023-12-24"),
+                                                                         LocalDate.parse("2023-12-27")),
+                                                            Timeframe.of(Instant.parse("2023-12-01T10:00:00Z"),
+                                                                         Instant.parse("2023-12-01T11:00:00Z")))
+                                                .beginTime(Instant.parse("2023-11-01T00:00:00Z"))
+                                                .build();
+        final TriggerRule custom = TriggerRule.builder().timeframes(new ArrayList<>(offsetTimeRanges())).build();
+        //@formatter:off
+        return Stream.of(
+            arguments(TriggerRule.NOOP, Instant.parse("2023-09-24T10:00:00Z"), Instant.parse("2023-09-24T10:00:00Z")),
+            arguments(businessHours, Instant.parse("2023-09-24T10:00:00Z"), Instant.parse("2023-09-24T10:00:00Z")),
+            arguments(businessHours, Instant.parse("2023-09-24T12:30:00Z"), Instant.parse("2023-09-24T13:00:00Z")),
+            arguments(businessHours, Instant.parse("2023-09-24T18:00:00Z"), Instant.parse("2023-09-25T09:00:00Z")),
+            arguments(nightShift, Instant.parse("2023-09-24T03:00:00Z"), Instant.parse("2023-09-24T22:00:00Z")),
+            arguments(nightShift, Instant.parse("2023-09-25T03:00:00Z"), null),
+            arguments(holidays, Instant.parse("2023-09-24T03:00:00Z"), Instant.parse("2023-12-01T10:00:00Z")),
+            arguments(holidays, Instant.parse("2023-12-01T11:00:00Z"), Instant.parse("2023-12-24T00:00:00Z")),
+            arguments(holidays, Instant.parse("2023-12-27T00:00:00Z"), null),
+            arguments(custom, Instant.parse("2023-09-24T12:00:00Z"), Instant.parse("2023-09-24T12:00:00Z"))
+        );
+        //@formatter:on
+    }
+
 }
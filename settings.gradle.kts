@@ -17,11 +17,12 @@ val profile: String by settings
 val pools = mutableMapOf(
     projectName to arrayOf(":schedulerx", ":event-trigger-jsonschema"),
     "sample" to emptyArray(),
-    "integtest" to emptyArray()
+    "integtest" to emptyArray(),
+    "benchmark" to arrayOf(":benchmark")
 )
 val docs = arrayOf(":docs")
 val excludeCISonar = docs
-val excludeCIBuild = pools["sample"]!! + pools["integtest"]!! + excludeCISonar
+val excludeCIBuild = pools["sample"]!! + pools["integtest"]!! + pools["benchmark"]!! + excludeCISonar
 pools.putAll(
     mapOf(
         "$projectName:docs" to pools[projectName]!!.plus(docs)
@@ -46,5 +47,5 @@ if (gradle is ExtensionAware) {
     val extensions = (gradle as ExtensionAware).extensions
     extensions.add("BASE_NAME", projectName)
     extensions.add("PROJECT_POOL", pools.toMap())
-    extensions.add("SKIP_PUBLISH", excludeCIBuild + arrayOf(":docs", ":sample", ":integtest"))
+    extensions.add("SKIP_PUBLISH", excludeCIBuild + arrayOf(":docs", ":sample", ":integtest", ":benchmark"))
 }